@@ -0,0 +1,92 @@
+package br.com.garage_management;
+
+import com.fasterxml.jackson.databind.JsonNode;
+import com.fasterxml.jackson.databind.ObjectMapper;
+
+import java.io.IOException;
+import java.io.PrintStream;
+import java.nio.file.Path;
+import java.util.LinkedHashMap;
+import java.util.Map;
+import java.util.TreeMap;
+
+public final class BenchmarkBaselineCheck {
+
+    private static final double DEFAULT_TOLERANCE_PERCENT = 25;
+
+    private BenchmarkBaselineCheck() {
+    }
+
+    public static void main(String[] args) throws IOException {
+        if (args.length < 2) {
+            System.err.println("Uso: BenchmarkBaselineCheck <baseline.json> <resultado.json> [tolerancia-percentual]");
+            System.exit(2);
+        }
+
+        double tolerancePercent = args.length > 2 ? Double.parseDouble(args[2]) : DEFAULT_TOLERANCE_PERCENT;
+        int regressions = compare(Path.of(args[0]), Path.of(args[1]), tolerancePercent, System.out);
+        if (regressions > 0) {
+            System.exit(1);
+        }
+    }
+
+    public static int compare(Path baseline, Path current, double tolerancePercent, PrintStream out) throws IOException {
+        Map<String, Score> baselineScores = read(baseline);
+        Map<String, Score> currentScores = read(current);
+        int regressions = 0;
+
+        for (Map.Entry<String, Score> entry : currentScores.entrySet()) {
+            Score expected = baselineScores.get(entry.getKey());
+            Score actual = entry.getValue();
+            if (expected == null) {
+                out.printf("NOVO        %s: %.3f %s%n", entry.getKey(), actual.value(), actual.unit());
+                continue;
+            }
+            if (!expected.unit().equals(actual.unit()) || !expected.mode().equals(actual.mode())) {
+                out.printf("IGNORADO    %s: unidade ou modo diferente da baseline (%s %s x %s %s)%n",
+                        entry.getKey(), expected.mode(), expected.unit(), actual.mode(), actual.unit());
+                continue;
+            }
+
+            double changePercent = (actual.value() - expected.value()) * 100 / expected.value();
+            double worsePercent = actual.higherIsBetter() ? -changePercent : changePercent;
+            boolean regressed = worsePercent > tolerancePercent;
+            if (regressed) {
+                regressions++;
+            }
+            out.printf("%-11s %s: %.3f -> %.3f %s (%+.1f%%)%n", regressed ? "REGRESSAO" : "OK",
+                    entry.getKey(), expected.value(), actual.value(), actual.unit(), changePercent);
+        }
+
+        baselineScores.keySet().stream()
+                .filter(key -> !currentScores.containsKey(key))
+                .forEach(key -> out.printf("AUSENTE     %s%n", key));
+
+        out.printf("%d regressões acima de %.1f%%.%n", regressions, tolerancePercent);
+        return regressions;
+    }
+
+    private static Map<String, Score> read(Path path) throws IOException {
+        Map<String, Score> scores = new LinkedHashMap<>();
+        for (JsonNode result : new ObjectMapper().readTree(path.toFile())) {
+            JsonNode metric = result.path("primaryMetric");
+            String mode = result.path("mode").asText();
+            scores.put(keyOf(result), new Score(mode, metric.path("score").asDouble(), metric.path("scoreUnit").asText()));
+        }
+        return scores;
+    }
+
+    private static String keyOf(JsonNode result) {
+        String benchmark = result.path("benchmark").asText();
+        Map<String, String> params = new TreeMap<>();
+        result.path("params").properties().forEach(param -> params.put(param.getKey(), param.getValue().asText()));
+        return params.isEmpty() ? benchmark : benchmark + params;
+    }
+
+    private record Score(String mode, double value, String unit) {
+
+        private boolean higherIsBetter() {
+            return "thrpt".equals(mode);
+        }
+    }
+}
@@ -0,0 +1,106 @@
+package br.com.garage_management.ingestion;
+
+import br.com.garage_management.domain.dto.EntryEventDto;
+import br.com.garage_management.domain.dto.ExitEventDto;
+import br.com.garage_management.domain.dto.ParkedEventDto;
+import br.com.garage_management.domain.dto.WebhookEvent;
+import com.fasterxml.jackson.databind.DeserializationFeature;
+import com.fasterxml.jackson.databind.ObjectMapper;
+import com.fasterxml.jackson.databind.ObjectReader;
+import com.fasterxml.jackson.databind.ObjectWriter;
+import com.fasterxml.jackson.databind.SerializationFeature;
+import org.openjdk.jmh.annotations.Benchmark;
+import org.openjdk.jmh.annotations.BenchmarkMode;
+import org.openjdk.jmh.annotations.Fork;
+import org.openjdk.jmh.annotations.Measurement;
+import org.openjdk.jmh.annotations.Mode;
+import org.openjdk.jmh.annotations.OutputTimeUnit;
+import org.openjdk.jmh.annotations.Scope;
+import org.openjdk.jmh.annotations.Setup;
+import org.openjdk.jmh.annotations.State;
+import org.openjdk.jmh.annotations.Warmup;
+import org.openjdk.jmh.infra.Blackhole;
+
+import java.io.IOException;
+import java.time.LocalDateTime;
+import java.util.SplittableRandom;
+import java.util.concurrent.TimeUnit;
+
+@State(Scope.Thread)
+@BenchmarkMode(Mode.AverageTime)
+@OutputTimeUnit(TimeUnit.NANOSECONDS)
+@Warmup(iterations = 3, time = 1)
+@Measurement(iterations = 5, time = 1)
+@Fork(1)
+public class WebhookEventCodecBenchmark {
+
+    private static final int SAMPLES = 1024;
+
+    private final WebhookEvent[] events = new WebhookEvent[SAMPLES];
+    private final byte[][] json = new byte[SAMPLES][];
+    private final byte[][] binary = new byte[SAMPLES][];
+    private final ObjectReader[] concreteReaders = new ObjectReader[SAMPLES];
+
+    private ObjectReader polymorphicReader;
+    private ObjectWriter polymorphicWriter;
+
+    @Setup
+    public void setUp() throws IOException {
+        ObjectMapper objectMapper = new ObjectMapper()
+                .findAndRegisterModules()
+                .disable(SerializationFeature.WRITE_DATES_AS_TIMESTAMPS)
+                .disable(DeserializationFeature.FAIL_ON_UNKNOWN_PROPERTIES);
+
+        polymorphicReader = objectMapper.readerFor(WebhookEvent.class);
+        polymorphicWriter = objectMapper.writerFor(WebhookEvent.class);
+
+        SplittableRandom random = new SplittableRandom(42);
+        LocalDateTime baseTime = LocalDateTime.of(2025, 10, 15, 8, 0);
+        for (int i = 0; i < SAMPLES; i++) {
+            String plate = "BEN%04d".formatted(i);
+            events[i] = switch (i % 3) {
+                case 0 -> new EntryEventDto(plate, baseTime.plusSeconds(random.nextInt(86_400)));
+                case 1 -> new ParkedEventDto(plate, -23.561684 + random.nextDouble() / 100, -46.655981 + random.nextDouble() / 100, LocalDateTime.now());
+                default -> new ExitEventDto(plate, baseTime.plusSeconds(random.nextInt(86_400)));
+            };
+            json[i] = polymorphicWriter.writeValueAsBytes(events[i]);
+            binary[i] = EventJournalCodec.encode(events[i]);
+            concreteReaders[i] = objectMapper.readerFor(events[i].getClass());
+        }
+    }
+
+    @Benchmark
+    public void polymorphicJsonRead(Blackhole blackhole) throws IOException {
+        for (int i = 0; i < SAMPLES; i++) {
+            blackhole.consume(polymorphicReader.<WebhookEvent>readValue(json[i]));
+        }
+    }
+
+    @Benchmark
+    public void concreteJsonRead(Blackhole blackhole) throws IOException {
+        for (int i = 0; i < SAMPLES; i++) {
+            blackhole.consume(concreteReaders[i].readValue(json[i]));
+        }
+    }
+
+    @Benchmark
+    public void polymorphicJsonWrite(Blackhole blackhole) throws IOException {
+        for (int i = 0; i < SAMPLES; i++) {
+            blackhole.consume(polymorphicWriter.writeValueAsBytes(events[i]));
+        }
+    }
+
+    @Benchmark
+    public void journalCodecDecode(Blackhole blackhole) throws IOException {
+        for (int i = 0; i < SAMPLES; i++) {
+            blackhole.consume(EventJournalCodec.decode(binary[i]));
+        }
+    }
+
+    @Benchmark
+    public void journalCodecEncode(Blackhole blackhole) {
+        for (int i = 0; i < SAMPLES; i++) {
+            blackhole.consume(EventJournalCodec.encode(events[i]));
+        }
+    }
+}
@@ -0,0 +1,88 @@
+package br.com.garage_management.loadgen;
+
+import org.HdrHistogram.Histogram;
+import org.HdrHistogram.Recorder;
+
+import java.util.concurrent.TimeUnit;
+import java.util.concurrent.atomic.LongAdder;
+
+final class EventTypeStats {
+
+    private static final long HIGHEST_TRACKABLE_MICROS = TimeUnit.MINUTES.toMicros(2);
+    private static final int SIGNIFICANT_DIGITS = 3;
+
+    private final String eventType;
+    private final Recorder recorder = new Recorder(HIGHEST_TRACKABLE_MICROS, SIGNIFICANT_DIGITS);
+    private final LongAdder succeeded = new LongAdder();
+    private final LongAdder rejected = new LongAdder();
+    private final LongAdder failed = new LongAdder();
+
+    private final Histogram total = new Histogram(HIGHEST_TRACKABLE_MICROS, SIGNIFICANT_DIGITS);
+    private Histogram interval;
+    private long totalSucceeded;
+    private long totalRejected;
+    private long totalFailed;
+
+    EventTypeStats(String eventType) {
+        this.eventType = eventType;
+    }
+
+    void record(long latencyNanos, Outcome outcome) {
+        recorder.recordValue(Math.min(HIGHEST_TRACKABLE_MICROS, TimeUnit.NANOSECONDS.toMicros(latencyNanos)));
+        switch (outcome) {
+            case SUCCEEDED -> succeeded.increment();
+            case REJECTED -> rejected.increment();
+            case FAILED -> failed.increment();
+        }
+    }
+
+    synchronized Histogram rollInterval(boolean measured) {
+        interval = recorder.getIntervalHistogram(interval);
+        long intervalSucceeded = succeeded.sumThenReset();
+        long intervalRejected = rejected.sumThenReset();
+        long intervalFailed = failed.sumThenReset();
+
+        if (measured) {
+            total.add(interval);
+            totalSucceeded += intervalSucceeded;
+            totalRejected += intervalRejected;
+            totalFailed += intervalFailed;
+        }
+        return interval;
+    }
+
+    String eventType() {
+        return eventType;
+    }
+
+    Histogram total() {
+        return total;
+    }
+
+    long totalSucceeded() {
+        return totalSucceeded;
+    }
+
+    long totalRejected() {
+        return totalRejected;
+    }
+
+    long totalFailed() {
+        return totalFailed;
+    }
+
+    long totalCount() {
+        return totalSucceeded + totalRejected + totalFailed;
+    }
+
+    double errorRatePercent() {
+        long count = totalCount();
+        return count == 0 ? 0 : (totalRejected + totalFailed) * 100.0 / count;
+    }
+
+    enum Outcome {
+        SUCCEEDED,
+        REJECTED,
+        FAILED
+    }
+}
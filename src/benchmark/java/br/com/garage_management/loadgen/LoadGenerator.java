@@ -0,0 +1,230 @@
+package br.com.garage_management.loadgen;
+
+import br.com.garage_management.domain.dto.EntryEventDto;
+import br.com.garage_management.domain.dto.ExitEventDto;
+import br.com.garage_management.domain.dto.GarageConfigDto;
+import br.com.garage_management.domain.dto.ParkedEventDto;
+import br.com.garage_management.domain.dto.ParkingSpotDto;
+import br.com.garage_management.domain.dto.WebhookEvent;
+import com.fasterxml.jackson.databind.DeserializationFeature;
+import com.fasterxml.jackson.databind.ObjectMapper;
+import com.fasterxml.jackson.databind.ObjectWriter;
+import com.fasterxml.jackson.databind.SerializationFeature;
+import com.fasterxml.jackson.databind.json.JsonMapper;
+import org.HdrHistogram.Histogram;
+
+import java.io.IOException;
+import java.io.PrintStream;
+import java.net.URI;
+import java.net.http.HttpClient;
+import java.net.http.HttpRequest;
+import java.net.http.HttpResponse;
+import java.time.Duration;
+import java.time.LocalDateTime;
+import java.util.ArrayList;
+import java.util.Collections;
+import java.util.List;
+import java.util.Map;
+import java.util.concurrent.ConcurrentLinkedQueue;
+import java.util.concurrent.ExecutorService;
+import java.util.concurrent.Executors;
+import java.util.concurrent.ThreadLocalRandom;
+import java.util.concurrent.TimeUnit;
+import java.util.concurrent.atomic.AtomicLong;
+import java.util.concurrent.locks.LockSupport;
+
+public final class LoadGenerator {
+
+    private static final double[] PERCENTILES = { 50, 90, 99, 99.9, 100 };
+
+    private final HttpClient client;
+    private final URI webhook;
+    private final ObjectWriter writer;
+    private final ConcurrentLinkedQueue<ParkingSpotDto> freeSpots;
+    private final Map<String, EventTypeStats> stats;
+    private final long intervalNanos;
+    private final long minDwellMinutes;
+    private final long maxDwellMinutes;
+    private final AtomicLong nextSendNanos;
+    private volatile boolean running = true;
+
+    private LoadGenerator(HttpClient client, URI webhook, List<ParkingSpotDto> spots, double eventsPerSecond,
+                          long minDwellMinutes, long maxDwellMinutes) {
+        this.client = client;
+        this.webhook = webhook;
+        this.writer = mapper().writerFor(WebhookEvent.class);
+        List<ParkingSpotDto> shuffled = new ArrayList<>(spots);
+        Collections.shuffle(shuffled);
+        this.freeSpots = new ConcurrentLinkedQueue<>(shuffled);
+        this.stats = Map.of(
+                "ENTRY", new EventTypeStats("ENTRY"),
+                "PARKED", new EventTypeStats("PARKED"),
+                "EXIT", new EventTypeStats("EXIT"));
+        this.intervalNanos = (long) (TimeUnit.SECONDS.toNanos(1) / eventsPerSecond);
+        this.minDwellMinutes = minDwellMinutes;
+        this.maxDwellMinutes = maxDwellMinutes;
+        this.nextSendNanos = new AtomicLong(System.nanoTime());
+    }
+
+    public static void main(String[] args) throws IOException, InterruptedException {
+        Arguments arguments = new Arguments(args);
+        URI target = URI.create(arguments.string("target", "http://localhost:3003"));
+        URI garage = URI.create(arguments.string("garage", "http://localhost:3000/garage"));
+        double rate = arguments.decimal("rate", 500);
+        int plates = arguments.integer("plates", 200);
+        long warmupSeconds = arguments.number("warmup-seconds", 10);
+        long durationSeconds = arguments.number("duration-seconds", 60);
+        long reportSeconds = arguments.number("report-seconds", 5);
+
+        HttpClient client = HttpClient.newBuilder()
+                .executor(Executors.newVirtualThreadPerTaskExecutor())
+                .connectTimeout(Duration.ofSeconds(5))
+                .build();
+
+        GarageConfigDto config = fetchGarage(client, garage);
+        if (config.spots().size() < plates) {
+            System.err.printf("Aviso: %d placas para %d vagas, parte das entradas será recusada por lotação.%n",
+                    plates, config.spots().size());
+        }
+
+        LoadGenerator generator = new LoadGenerator(client, target.resolve("/webhook"), config.spots(), rate,
+                arguments.number("min-dwell-minutes", 0), arguments.number("max-dwell-minutes", 240));
+        generator.run(plates, warmupSeconds, durationSeconds, reportSeconds, System.out);
+    }
+
+    private static GarageConfigDto fetchGarage(HttpClient client, URI garage) throws IOException, InterruptedException {
+        HttpResponse<byte[]> response = client.send(HttpRequest.newBuilder(garage).GET().build(),
+                HttpResponse.BodyHandlers.ofByteArray());
+        if (response.statusCode() != 200) {
+            throw new IOException("Falha ao buscar a configuração da garagem em " + garage + ": HTTP " + response.statusCode());
+        }
+        return mapper().readValue(response.body(), GarageConfigDto.class);
+    }
+
+    private static ObjectMapper mapper() {
+        return JsonMapper.builder()
+                .findAndAddModules()
+                .disable(SerializationFeature.WRITE_DATES_AS_TIMESTAMPS)
+                .disable(DeserializationFeature.FAIL_ON_UNKNOWN_PROPERTIES)
+                .build();
+    }
+
+    void run(int plates, long warmupSeconds, long durationSeconds, long reportSeconds, PrintStream out)
+            throws InterruptedException {
+        out.printf("Alvo %s: %.0f eventos/s com %d placas, %ds de aquecimento e %ds de medição.%n",
+                webhook, TimeUnit.SECONDS.toNanos(1) / (double) intervalNanos, plates, warmupSeconds, durationSeconds);
+
+        try (ExecutorService workers = Executors.newVirtualThreadPerTaskExecutor()) {
+            for (int plate = 0; plate < plates; plate++) {
+                int worker = plate;
+                workers.submit(() -> drive(worker));
+            }
+
+            report(warmupSeconds, reportSeconds, false, out);
+            report(durationSeconds, reportSeconds, true, out);
+            running = false;
+        }
+
+        summarize(out);
+    }
+
+    private void report(long seconds, long reportSeconds, boolean measured, PrintStream out) throws InterruptedException {
+        long remaining = seconds;
+        while (remaining > 0) {
+            long step = Math.min(reportSeconds, remaining);
+            TimeUnit.SECONDS.sleep(step);
+            remaining -= step;
+
+            StringBuilder line = new StringBuilder(measured ? "[medição]" : "[aquecimento]");
+            for (String eventType : List.of("ENTRY", "PARKED", "EXIT")) {
+                Histogram interval = stats.get(eventType).rollInterval(measured);
+                line.append(String.format(" %s %.0f/s p99=%dus", eventType,
+                        interval.getTotalCount() / (double) step, interval.getValueAtPercentile(99)));
+            }
+            out.println(line);
+        }
+    }
+
+    private void summarize(PrintStream out) {
+        out.printf("%-7s %10s %8s %10s %10s %10s %10s %10s %10s%n",
+                "evento", "total", "erro%", "p50(us)", "p90(us)", "p99(us)", "p99.9(us)", "max(us)", "recusados");
+        for (String eventType : List.of("ENTRY", "PARKED", "EXIT")) {
+            EventTypeStats eventStats = stats.get(eventType);
+            Histogram total = eventStats.total();
+            StringBuilder line = new StringBuilder(String.format("%-7s %10d %7.2f%%",
+                    eventType, eventStats.totalCount(), eventStats.errorRatePercent()));
+            for (double percentile : PERCENTILES) {
+                line.append(String.format(" %10d", total.getValueAtPercentile(percentile)));
+            }
+            line.append(String.format(" %10d", eventStats.totalRejected()));
+            out.println(line);
+        }
+    }
+
+    private void drive(int worker) {
+        ThreadLocalRandom random = ThreadLocalRandom.current();
+        int generation = 0;
+        while (running) {
+            String licensePlate = "LDG%04d%03d".formatted(worker, generation % 1000);
+            LocalDateTime entryTime = LocalDateTime.now().plusSeconds(1);
+            if (send(new EntryEventDto(licensePlate, entryTime)) != EventTypeStats.Outcome.SUCCEEDED) {
+                continue;
+            }
+
+            ParkingSpotDto spot = freeSpots.poll();
+            if (spot != null) {
+                try {
+                    send(new ParkedEventDto(licensePlate, spot.lat(), spot.lng(), LocalDateTime.now()));
+                } finally {
+                    freeSpots.offer(spot);
+                }
+            }
+
+            long dwellMinutes = random.nextLong(minDwellMinutes, maxDwellMinutes + 1);
+            if (send(new ExitEventDto(licensePlate, entryTime.plusMinutes(dwellMinutes))) != EventTypeStats.Outcome.SUCCEEDED) {
+                generation++;
+            }
+        }
+    }
+
+    private EventTypeStats.Outcome send(WebhookEvent event) {
+        long intended = awaitSlot();
+        EventTypeStats.Outcome outcome;
+        try {
+            HttpRequest request = HttpRequest.newBuilder(webhook)
+                    .header("Content-Type", "application/json")
+                    .POST(HttpRequest.BodyPublishers.ofByteArray(writer.writeValueAsBytes(event)))
+                    .build();
+            int status = client.send(request, HttpResponse.BodyHandlers.discarding()).statusCode();
+            outcome = status < 300 ? EventTypeStats.Outcome.SUCCEEDED
+                    : status < 500 ? EventTypeStats.Outcome.REJECTED
+                    : EventTypeStats.Outcome.FAILED;
+        } catch (IOException e) {
+            outcome = EventTypeStats.Outcome.FAILED;
+        } catch (InterruptedException e) {
+            Thread.currentThread().interrupt();
+            running = false;
+            outcome = EventTypeStats.Outcome.FAILED;
+        }
+
+        stats.get(eventType(event)).record(System.nanoTime() - intended, outcome);
+        return outcome;
+    }
+
+    private long awaitSlot() {
+        long slot = nextSendNanos.getAndAdd(intervalNanos);
+        long wait;
+        while ((wait = slot - System.nanoTime()) > 0) {
+            LockSupport.parkNanos(wait);
+        }
+        return slot;
+    }
+
+    private static String eventType(WebhookEvent event) {
+        return switch (event) {
+            case EntryEventDto ignored -> "ENTRY";
+            case ParkedEventDto ignored -> "PARKED";
+            case ExitEventDto ignored -> "EXIT";
+        };
+    }
+}
@@ -0,0 +1,103 @@
+package br.com.garage_management.loadgen;
+
+import br.com.garage_management.domain.dto.GarageConfigDto;
+import br.com.garage_management.domain.dto.GarageSectorDto;
+import br.com.garage_management.domain.dto.ParkingSpotDto;
+import com.fasterxml.jackson.databind.SerializationFeature;
+import com.fasterxml.jackson.databind.json.JsonMapper;
+import com.sun.net.httpserver.HttpExchange;
+import com.sun.net.httpserver.HttpServer;
+
+import java.io.IOException;
+import java.io.OutputStream;
+import java.net.InetSocketAddress;
+import java.time.LocalTime;
+import java.util.ArrayList;
+import java.util.List;
+import java.util.concurrent.CountDownLatch;
+import java.util.concurrent.Executors;
+
+public final class SimulatorStandIn implements AutoCloseable {
+
+    private static final double ORIGIN_LAT = -23.561684;
+    private static final double ORIGIN_LNG = -46.655981;
+    private static final double SPOT_SPACING = 0.0001;
+    private static final int SPOTS_PER_ROW = 100;
+
+    private final HttpServer server;
+    private final byte[] garageJson;
+
+    public SimulatorStandIn(int port, GarageConfigDto garage) throws IOException {
+        this.garageJson = JsonMapper.builder()
+                .findAndAddModules()
+                .disable(SerializationFeature.WRITE_DATES_AS_TIMESTAMPS)
+                .build()
+                .writeValueAsBytes(garage);
+        this.server = HttpServer.create(new InetSocketAddress(port), 0);
+        this.server.createContext("/garage", this::handleGarage);
+        this.server.setExecutor(Executors.newVirtualThreadPerTaskExecutor());
+        this.server.start();
+    }
+
+    public static void main(String[] args) throws IOException, InterruptedException {
+        Arguments arguments = new Arguments(args);
+        int port = arguments.integer("port", 3000);
+        GarageConfigDto garage = garage(
+                arguments.integer("sectors", 2),
+                arguments.integer("spots-per-sector", 500),
+                arguments.decimal("base-price", 10.0));
+
+        try (SimulatorStandIn ignored = new SimulatorStandIn(port, garage)) {
+            System.err.printf("Simulador servindo %d setores e %d vagas em http://localhost:%d/garage.%n",
+                    garage.garage().size(), garage.spots().size(), port);
+            new CountDownLatch(1).await();
+        }
+    }
+
+    public static GarageConfigDto garage(int sectorCount, int spotsPerSector, double basePrice) {
+        List<GarageSectorDto> sectors = new ArrayList<>(sectorCount);
+        List<ParkingSpotDto> spots = new ArrayList<>(sectorCount * spotsPerSector);
+        long spotId = 1;
+
+        for (int sectorIndex = 0; sectorIndex < sectorCount; sectorIndex++) {
+            String sector = sectorName(sectorIndex);
+            sectors.add(new GarageSectorDto(sector, basePrice, spotsPerSector, LocalTime.MIDNIGHT, LocalTime.of(23, 59), 1440));
+
+            for (int spotIndex = 0; spotIndex < spotsPerSector; spotIndex++, spotId++) {
+                long row = (spotId - 1) / SPOTS_PER_ROW;
+                long column = (spotId - 1) % SPOTS_PER_ROW;
+                spots.add(new ParkingSpotDto(spotId, sector,
+                        ORIGIN_LAT + row * SPOT_SPACING, ORIGIN_LNG + column * SPOT_SPACING));
+            }
+        }
+
+        return new GarageConfigDto(sectors, spots);
+    }
+
+    @Override
+    public void close() {
+        server.stop(0);
+    }
+
+    private void handleGarage(HttpExchange exchange) throws IOException {
+        try (exchange) {
+            if (!"GET".equals(exchange.getRequestMethod())) {
+                exchange.sendResponseHeaders(405, -1);
+                return;
+            }
+            exchange.getResponseHeaders().set("Content-Type", "application/json");
+            exchange.sendResponseHeaders(200, garageJson.length);
+            try (OutputStream body = exchange.getResponseBody()) {
+                body.write(garageJson);
+            }
+        }
+    }
+
+    private static String sectorName(int index) {
+        StringBuilder name = new StringBuilder();
+        for (int value = index; value >= 0; value = value / 26 - 1) {
+            name.insert(0, (char) ('A' + value % 26));
+        }
+        return name.toString();
+    }
+}
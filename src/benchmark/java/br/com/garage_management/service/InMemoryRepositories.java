@@ -0,0 +1,114 @@
+package br.com.garage_management.service;
+
+import br.com.garage_management.domain.model.GarageSector;
+import br.com.garage_management.domain.model.ParkingRecord;
+import br.com.garage_management.domain.model.ParkingSpace;
+import br.com.garage_management.repository.ArchivedParkingRecordRepository;
+import br.com.garage_management.repository.GarageSectorRepository;
+import br.com.garage_management.repository.ParkingRecordRepository;
+import br.com.garage_management.repository.ParkingSpaceRepository;
+import br.com.garage_management.repository.RevenueRollupRepository;
+
+import java.lang.reflect.Method;
+import java.lang.reflect.Proxy;
+import java.util.HashMap;
+import java.util.Map;
+import java.util.Optional;
+import java.util.concurrent.atomic.AtomicLong;
+
+final class InMemoryRepositories {
+
+    private final Map<String, GarageSector> sectors = new HashMap<>();
+    private final Map<Long, ParkingSpace> spaces = new HashMap<>();
+    private final Map<Long, ParkingRecord> records = new HashMap<>();
+    private final Map<String, Integer> occupiedCounts = new HashMap<>();
+    private final AtomicLong recordIds = new AtomicLong();
+
+    void add(GarageSector sector) {
+        sectors.put(sector.getSector(), sector);
+        occupiedCounts.put(sector.getSector(), 0);
+    }
+
+    void add(ParkingSpace space) {
+        spaces.put(space.getId(), space);
+    }
+
+    GarageSectorRepository garageSectors() {
+        return fake(GarageSectorRepository.class, (method, args) -> switch (method.getName()) {
+            case "incrementOccupiedCount" -> adjustOccupiedCount((String) args[0], 1);
+            case "decrementOccupiedCount" -> adjustOccupiedCount((String) args[0], -1);
+            default -> unsupported(method);
+        });
+    }
+
+    ParkingSpaceRepository parkingSpaces() {
+        return fake(ParkingSpaceRepository.class, (method, args) -> switch (method.getName()) {
+            case "findById" -> Optional.ofNullable(spaces.get((Long) args[0]));
+            case "save" -> {
+                ParkingSpace space = (ParkingSpace) args[0];
+                spaces.put(space.getId(), space);
+                yield space;
+            }
+            default -> unsupported(method);
+        });
+    }
+
+    ParkingRecordRepository parkingRecords() {
+        return fake(ParkingRecordRepository.class, (method, args) -> switch (method.getName()) {
+            case "findById" -> Optional.ofNullable(records.get((Long) args[0]));
+            case "save" -> {
+                ParkingRecord record = (ParkingRecord) args[0];
+                if (record.getId() == null) {
+                    record.setId(recordIds.incrementAndGet());
+                }
+                records.put(record.getId(), record);
+                yield record;
+            }
+            default -> unsupported(method);
+        });
+    }
+
+    ArchivedParkingRecordRepository archivedParkingRecords() {
+        return fake(ArchivedParkingRecordRepository.class, (method, args) -> unsupported(method));
+    }
+
+    RevenueRollupRepository revenueRollups() {
+        return fake(RevenueRollupRepository.class, (method, args) -> switch (method.getName()) {
+            case "addRevenue" -> 1;
+            default -> unsupported(method);
+        });
+    }
+
+    private int adjustOccupiedCount(String sector, int delta) {
+        Integer occupied = occupiedCounts.get(sector);
+        if (occupied == null) {
+            return 0;
+        }
+        occupiedCounts.put(sector, occupied + delta);
+        return 1;
+    }
+
+    private static Object unsupported(Method method) {
+        throw new UnsupportedOperationException("Operação não suportada pelo repositório em memória: " + method.getName());
+    }
+
+    private static <T> T fake(Class<T> type, Handler handler) {
+        Object proxy = Proxy.newProxyInstance(type.getClassLoader(), new Class<?>[]{ type }, (self, method, args) -> {
+            if (method.getDeclaringClass() == Object.class) {
+                return switch (method.getName()) {
+                    case "equals" -> self == args[0];
+                    case "hashCode" -> System.identityHashCode(self);
+                    default -> type.getSimpleName() + "(em memória)";
+                };
+            }
+            return handler.handle(method, args);
+        });
+        return type.cast(proxy);
+    }
+
+    @FunctionalInterface
+    private interface Handler {
+
+        Object handle(Method method, Object[] args);
+    }
+}
@@ -0,0 +1,179 @@
+package br.com.garage_management.service;
+
+import br.com.garage_management.GarageManagementApplication;
+import br.com.garage_management.domain.dto.EntryEventDto;
+import br.com.garage_management.domain.dto.ExitEventDto;
+import br.com.garage_management.domain.dto.ParkedEventDto;
+import br.com.garage_management.domain.mapper.ParkingRecordMapperImpl;
+import br.com.garage_management.domain.model.GarageSector;
+import br.com.garage_management.domain.model.ParkingSpace;
+import br.com.garage_management.domain.projection.ParkingSpaceStateProjection;
+import br.com.garage_management.repository.GarageSectorRepository;
+import br.com.garage_management.repository.ParkingSpaceRepository;
+import br.com.garage_management.state.ActiveSession;
+import br.com.garage_management.state.ActiveSessionIndex;
+import br.com.garage_management.state.DailyRevenueCache;
+import br.com.garage_management.state.GarageStateLoader;
+import br.com.garage_management.state.ParkingSpaceAllocator;
+import br.com.garage_management.state.ParkingSpaceSpatialIndex;
+import br.com.garage_management.tariff.TariffEngine;
+import org.openjdk.jmh.annotations.Benchmark;
+import org.openjdk.jmh.annotations.BenchmarkMode;
+import org.openjdk.jmh.annotations.Fork;
+import org.openjdk.jmh.annotations.Level;
+import org.openjdk.jmh.annotations.Measurement;
+import org.openjdk.jmh.annotations.Mode;
+import org.openjdk.jmh.annotations.OutputTimeUnit;
+import org.openjdk.jmh.annotations.Param;
+import org.openjdk.jmh.annotations.Scope;
+import org.openjdk.jmh.annotations.Setup;
+import org.openjdk.jmh.annotations.State;
+import org.openjdk.jmh.annotations.TearDown;
+import org.openjdk.jmh.annotations.Warmup;
+import org.springframework.boot.WebApplicationType;
+import org.springframework.boot.builder.SpringApplicationBuilder;
+import org.springframework.context.ConfigurableApplicationContext;
+
+import java.time.LocalDateTime;
+import java.time.LocalTime;
+import java.util.ArrayList;
+import java.util.HashMap;
+import java.util.List;
+import java.util.Map;
+import java.util.concurrent.TimeUnit;
+
+import static br.com.garage_management.util.TestFactoryUtil.createParkingSpaceState;
+import static br.com.garage_management.util.TestFactoryUtil.createSectorOccupancyTracker;
+
+@State(Scope.Thread)
+@BenchmarkMode(Mode.AverageTime)
+@OutputTimeUnit(TimeUnit.MICROSECONDS)
+@Warmup(iterations = 3, time = 2)
+@Measurement(iterations = 5, time = 2)
+@Fork(1)
+public class ParkingServiceBenchmark {
+
+    private static final String SECTOR = "A";
+    private static final int SPACES = 64;
+    private static final long BASE_PRICE_CENTS = 1000;
+    private static final String STANDING_PLATE = "STAND01";
+
+    @Param({"IN_MEMORY", "H2"})
+    public String backend;
+
+    private final Map<Long, double[]> coordinatesBySpace = new HashMap<>();
+
+    private ConfigurableApplicationContext context;
+    private ParkingService parkingService;
+    private ActiveSessionIndex activeSessionIndex;
+    private ParkedEventDto standingCarParked;
+    private long sequence;
+
+    @Setup(Level.Trial)
+    public void setUp() {
+        switch (backend) {
+            case "IN_MEMORY" -> setUpInMemory();
+            case "H2" -> setUpH2();
+            default -> throw new IllegalArgumentException("Backend desconhecido: " + backend);
+        }
+
+        parkingService.processEntry(new EntryEventDto(STANDING_PLATE, LocalDateTime.now().plusMinutes(1)));
+        standingCarParked = parkedAtAssignedSpace(STANDING_PLATE);
+        parkingService.processParked(standingCarParked);
+    }
+
+    @TearDown(Level.Trial)
+    public void tearDown() {
+        if (context != null) {
+            context.close();
+        }
+    }
+
+    @Benchmark
+    public void entryParkedExitCycle() {
+        String plate = "BEN" + sequence++;
+        LocalDateTime entryTime = LocalDateTime.now().plusMinutes(1);
+
+        parkingService.processEntry(new EntryEventDto(plate, entryTime));
+        parkingService.processParked(parkedAtAssignedSpace(plate));
+        parkingService.processExit(new ExitEventDto(plate, entryTime.plusHours(2)));
+    }
+
+    @Benchmark
+    public void parkedUpdate() {
+        parkingService.processParked(standingCarParked);
+    }
+
+    private ParkedEventDto parkedAtAssignedSpace(String plate) {
+        ActiveSession session = activeSessionIndex.find(plate).orElseThrow();
+        double[] coordinates = coordinatesBySpace.get(session.spaceId());
+        return new ParkedEventDto(plate, coordinates[0], coordinates[1], LocalDateTime.now());
+    }
+
+    private void setUpInMemory() {
+        InMemoryRepositories repositories = new InMemoryRepositories();
+        GarageSector sector = newSector();
+        repositories.add(sector);
+
+        List<ParkingSpaceStateProjection> states = new ArrayList<>();
+        for (long id = 1; id <= SPACES; id++) {
+            ParkingSpace space = newSpace(sector, (int) id);
+            space.setId(id);
+            repositories.add(space);
+            coordinatesBySpace.put(id, new double[]{ space.getLat(), space.getLng() });
+            states.add(createParkingSpaceState(id, SECTOR, false, space.getLat(), space.getLng()));
+        }
+
+        ParkingSpaceAllocator allocator = new ParkingSpaceAllocator();
+        allocator.load(states);
+        ParkingSpaceSpatialIndex spatialIndex = new ParkingSpaceSpatialIndex(0.00001);
+        spatialIndex.load(states);
+        activeSessionIndex = new ActiveSessionIndex();
+
+        RevenueRollupService revenueRollupService = new RevenueRollupService(repositories.revenueRollups(),
+                repositories.parkingRecords(), repositories.archivedParkingRecords(), new DailyRevenueCache(10_000));
+
+        parkingService = new ParkingService(repositories.garageSectors(), repositories.parkingSpaces(),
+                repositories.parkingRecords(), new ParkingRecordMapperImpl(), allocator, activeSessionIndex,
+                spatialIndex, createSectorOccupancyTracker(SECTOR, SPACES, 0), revenueRollupService, new TariffEngine());
+    }
+
+    private void setUpH2() {
+        context = new SpringApplicationBuilder(GarageManagementApplication.class)
+                .web(WebApplicationType.NONE)
+                .run("--spring.datasource.url=jdbc:h2:mem:benchmark;DB_CLOSE_DELAY=-1;DB_CLOSE_ON_EXIT=FALSE",
+                        "--spring.datasource.driver-class-name=org.h2.Driver",
+                        "--spring.datasource.username=sa",
+                        "--spring.datasource.password=",
+                        "--spring.jpa.hibernate.ddl-auto=create-drop",
+                        "--spring.main.banner-mode=off",
+                        "--logging.level.root=WARN",
+                        "--logging.level.br.com.garage_management.service.GarageInitializationService=OFF");
+
+        GarageSector sector = context.getBean(GarageSectorRepository.class).save(newSector());
+        List<ParkingSpace> spaces = new ArrayList<>();
+        for (int i = 1; i <= SPACES; i++) {
+            spaces.add(newSpace(sector, i));
+        }
+        for (ParkingSpace space : context.getBean(ParkingSpaceRepository.class).saveAll(spaces)) {
+            coordinatesBySpace.put(space.getId(), new double[]{ space.getLat(), space.getLng() });
+        }
+
+        context.getBean(GarageStateLoader.class).load();
+        parkingService = context.getBean(ParkingService.class);
+        activeSessionIndex = context.getBean(ActiveSessionIndex.class);
+    }
+
+    private static GarageSector newSector() {
+        return new GarageSector(SECTOR, BASE_PRICE_CENTS, SPACES, 0, LocalTime.MIDNIGHT, LocalTime.of(23, 59), 1440);
+    }
+
+    private static ParkingSpace newSpace(GarageSector sector, int index) {
+        ParkingSpace space = new ParkingSpace();
+        space.setGarageSector(sector);
+        space.setIsOccupied(false);
+        space.setLat(-23.561684 + index * 0.001);
+        space.setLng(-46.655981 + index * 0.001);
+        return space;
+    }
+}
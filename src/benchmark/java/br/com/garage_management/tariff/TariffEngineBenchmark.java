@@ -0,0 +1,92 @@
+package br.com.garage_management.tariff;
+
+import br.com.garage_management.domain.model.SectorTariff;
+import br.com.garage_management.domain.model.TariffTier;
+import br.com.garage_management.state.SectorAdmission;
+import br.com.garage_management.util.MoneyUtil;
+import org.openjdk.jmh.annotations.Benchmark;
+import org.openjdk.jmh.annotations.BenchmarkMode;
+import org.openjdk.jmh.annotations.Fork;
+import org.openjdk.jmh.annotations.Measurement;
+import org.openjdk.jmh.annotations.Mode;
+import org.openjdk.jmh.annotations.OutputTimeUnit;
+import org.openjdk.jmh.annotations.Scope;
+import org.openjdk.jmh.annotations.Setup;
+import org.openjdk.jmh.annotations.State;
+import org.openjdk.jmh.annotations.Warmup;
+import org.openjdk.jmh.infra.Blackhole;
+
+import java.time.LocalDateTime;
+import java.util.List;
+import java.util.SplittableRandom;
+import java.util.concurrent.TimeUnit;
+
+@State(Scope.Thread)
+@BenchmarkMode(Mode.AverageTime)
+@OutputTimeUnit(TimeUnit.NANOSECONDS)
+@Warmup(iterations = 3, time = 1)
+@Measurement(iterations = 5, time = 1)
+@Fork(1)
+public class TariffEngineBenchmark {
+
+    private static final int SAMPLES = 1024;
+    private static final long BASE_PRICE_CENTS = 1000;
+
+    private final SectorAdmission[] admissions = new SectorAdmission[SAMPLES];
+    private final LocalDateTime[] entryTimes = new LocalDateTime[SAMPLES];
+    private final long[] minutesStayed = new long[SAMPLES];
+
+    private TariffEngine tariffEngine;
+
+    @Setup
+    public void setUp() {
+        SplittableRandom random = new SplittableRandom(42);
+        for (int i = 0; i < SAMPLES; i++) {
+            admissions[i] = switch (i % 3) {
+                case 0 -> new SectorAdmission("A", random.nextInt(101), 100);
+                case 1 -> new SectorAdmission("B", random.nextInt(101), 100);
+                default -> new SectorAdmission("C", random.nextInt(251), 250);
+            };
+            entryTimes[i] = LocalDateTime.of(2025, 10, 15, random.nextInt(24), 0);
+            minutesStayed[i] = random.nextInt(3 * 24 * 60);
+        }
+
+        tariffEngine = new TariffEngine();
+        tariffEngine.load(List.of(new SectorTariff("B", 15, 60, 12, 22, 6, 80, List.of(
+                new TariffTier(0, 90), new TariffTier(40, 100), new TariffTier(80, 150)))));
+    }
+
+    @Benchmark
+    public void hardcodedPricing(Blackhole blackhole) {
+        for (int i = 0; i < SAMPLES; i++) {
+            long entryPrice = hardcodedEntryPrice(BASE_PRICE_CENTS, admissions[i]);
+            blackhole.consume(hardcodedExitFee(entryPrice, minutesStayed[i]));
+        }
+    }
+
+    @Benchmark
+    public void tariffEnginePricing(Blackhole blackhole) {
+        for (int i = 0; i < SAMPLES; i++) {
+            SectorAdmission admission = admissions[i];
+            long entryPrice = tariffEngine.entryPriceCents(BASE_PRICE_CENTS, admission, entryTimes[i]);
+            blackhole.consume(tariffEngine.exitFeeCents(admission.sector(), entryPrice, minutesStayed[i]));
+        }
+    }
+
+    private static long hardcodedEntryPrice(long basePriceCents, SectorAdmission admission) {
+        long occupied = admission.occupiedBefore();
+        long capacity = admission.maxCapacity();
+
+        if (occupied * 4 < capacity) return MoneyUtil.basisPointsOf(basePriceCents, 9000);
+        if (occupied * 2 < capacity) return basePriceCents;
+        if (occupied * 4 < capacity * 3) return MoneyUtil.basisPointsOf(basePriceCents, 11000);
+        return MoneyUtil.basisPointsOf(basePriceCents, 12500);
+    }
+
+    private static long hardcodedExitFee(long priceAppliedOnEntryCents, long minutes) {
+        if (minutes <= 30) {
+            return 0;
+        }
+        return (minutes + 59) / 60 * priceAppliedOnEntryCents;
+    }
+}
@@ -1,16 +1,24 @@
 package br.com.garage_management.controller;
 
 import br.com.garage_management.domain.dto.RevenueResponseDto;
+import br.com.garage_management.domain.dto.RevenueRollupRebuildDto;
+import br.com.garage_management.domain.enums.RevenueGranularityEnum;
+import br.com.garage_management.service.RevenueRollupService;
 import br.com.garage_management.service.RevenueService;
 import lombok.RequiredArgsConstructor;
 import org.springframework.format.annotation.DateTimeFormat;
+import org.springframework.http.CacheControl;
+import org.springframework.http.MediaType;
 import org.springframework.http.ResponseEntity;
 import org.springframework.web.bind.annotation.GetMapping;
+import org.springframework.web.bind.annotation.PostMapping;
 import org.springframework.web.bind.annotation.RequestMapping;
 import org.springframework.web.bind.annotation.RequestParam;
 import org.springframework.web.bind.annotation.RestController;
+import org.springframework.web.servlet.mvc.method.annotation.StreamingResponseBody;
 
 import java.time.LocalDate;
+import java.util.List;
 
 @RestController
 @RequestMapping("/revenue")
@@ -18,6 +26,7 @@ import java.time.LocalDate;
 public class RevenueController {
 
     private final RevenueService revenueService;
+    private final RevenueRollupService revenueRollupService;
 
     @GetMapping
     public ResponseEntity<RevenueResponseDto> getRevenue(
@@ -25,6 +34,29 @@ public class RevenueController {
 
         RevenueResponseDto revenueResponseDto = revenueService.calculateDailyRevenue(date, sector);
 
-        return ResponseEntity.ok(revenueResponseDto);
+        return ResponseEntity.ok()
+                .eTag("W/\"" + sector + ":" + date + ":" + revenueResponseDto.amount().toPlainString() + "\"")
+                .cacheControl(CacheControl.noCache())
+                .body(revenueResponseDto);
+    }
+
+    @GetMapping("/range")
+    public ResponseEntity<StreamingResponseBody> getRevenueRange(
+            @RequestParam @DateTimeFormat(iso = DateTimeFormat.ISO.DATE) LocalDate from,
+            @RequestParam @DateTimeFormat(iso = DateTimeFormat.ISO.DATE) LocalDate to,
+            @RequestParam(required = false) List<String> sectors,
+            @RequestParam(defaultValue = "DAY") RevenueGranularityEnum granularity) {
+
+        StreamingResponseBody body = revenueService.streamRevenueRange(from, to, sectors, granularity);
+
+        return ResponseEntity.ok().contentType(MediaType.APPLICATION_JSON).body(body);
+    }
+
+    @PostMapping("/rollups/rebuild")
+    public ResponseEntity<RevenueRollupRebuildDto> rebuildRollups(
+            @RequestParam @DateTimeFormat(iso = DateTimeFormat.ISO.DATE) LocalDate from,
+            @RequestParam @DateTimeFormat(iso = DateTimeFormat.ISO.DATE) LocalDate to) {
+
+        return ResponseEntity.ok(revenueRollupService.rebuild(from, to));
     }
 }
\ No newline at end of file
@@ -0,0 +1,30 @@
+package br.com.garage_management.controller;
+
+import br.com.garage_management.domain.dto.TariffDto;
+import br.com.garage_management.service.TariffService;
+import lombok.RequiredArgsConstructor;
+import org.springframework.http.ResponseEntity;
+import org.springframework.web.bind.annotation.GetMapping;
+import org.springframework.web.bind.annotation.PathVariable;
+import org.springframework.web.bind.annotation.PutMapping;
+import org.springframework.web.bind.annotation.RequestBody;
+import org.springframework.web.bind.annotation.RequestMapping;
+import org.springframework.web.bind.annotation.RestController;
+
+@RestController
+@RequestMapping("/tariffs")
+@RequiredArgsConstructor
+public class TariffController {
+
+    private final TariffService tariffService;
+
+    @GetMapping("/{sector}")
+    public ResponseEntity<TariffDto> getTariff(@PathVariable String sector) {
+        return ResponseEntity.ok(tariffService.findTariff(sector));
+    }
+
+    @PutMapping("/{sector}")
+    public ResponseEntity<TariffDto> putTariff(@PathVariable String sector, @RequestBody TariffDto tariffDto) {
+        return ResponseEntity.ok(tariffService.saveTariff(sector, tariffDto));
+    }
+}
@@ -1,36 +1,89 @@
 package br.com.garage_management.controller;
 
-import br.com.garage_management.domain.dto.EntryEventDto;
-import br.com.garage_management.domain.dto.ExitEventDto;
-import br.com.garage_management.domain.dto.ParkedEventDto;
+import br.com.garage_management.domain.dto.WebhookBatchResponseDto;
 import br.com.garage_management.domain.dto.WebhookEvent;
-import br.com.garage_management.service.ParkingService;
+import br.com.garage_management.domain.dto.WebhookQueueStatsDto;
+import br.com.garage_management.exception.BusinessException;
+import br.com.garage_management.ingestion.AsyncWebhookIngestionService;
+import br.com.garage_management.ingestion.QueuedEvent;
+import br.com.garage_management.ingestion.WebhookEventJournal;
+import br.com.garage_management.jfr.WebhookRequestEvent;
+import br.com.garage_management.metrics.WebhookMetrics;
+import br.com.garage_management.service.WebhookBatchService;
+import br.com.garage_management.service.WebhookEventDispatcher;
+import br.com.garage_management.state.GarageStateGate;
+import br.com.garage_management.util.WebhookEventValidator;
 import lombok.RequiredArgsConstructor;
 import lombok.extern.slf4j.Slf4j;
+import org.springframework.http.MediaType;
 import org.springframework.http.ResponseEntity;
+import org.springframework.web.bind.annotation.GetMapping;
 import org.springframework.web.bind.annotation.PostMapping;
 import org.springframework.web.bind.annotation.RequestBody;
 import org.springframework.web.bind.annotation.RequestMapping;
 import org.springframework.web.bind.annotation.RestController;
 
+import java.io.IOException;
+import java.io.InputStream;
+import java.util.Optional;
+
 @Slf4j
 @RestController
 @RequestMapping("/webhook")
 @RequiredArgsConstructor
 public class WebhookController {
 
-    private final ParkingService parkingService;
+    private final WebhookEventDispatcher webhookEventDispatcher;
+    private final WebhookBatchService webhookBatchService;
+    private final GarageStateGate garageStateGate;
+    private final WebhookEventJournal webhookEventJournal;
+    private final Optional<AsyncWebhookIngestionService> asyncWebhookIngestionService;
 
     @PostMapping
     public ResponseEntity<Void> handleWebhookEvent(@RequestBody WebhookEvent event) {
         log.info("Evento Webhook recebido com o tipo: {}", event.getClass().getSimpleName());
 
-        switch (event) {
-            case EntryEventDto entryEvent -> parkingService.processEntry(entryEvent);
-            case ParkedEventDto parkedEvent -> parkingService.processParked(parkedEvent);
-            case ExitEventDto exitEvent -> parkingService.processExit(exitEvent);
+        WebhookRequestEvent requestEvent = WebhookRequestEvent.start(WebhookMetrics.eventType(event), event.licensePlate());
+        String outcome = WebhookMetrics.UNEXPECTED_ERROR;
+        try {
+            WebhookEventValidator.validate(event);
+
+            if (asyncWebhookIngestionService.isPresent()) {
+                asyncWebhookIngestionService.get().accept(event);
+                outcome = "ACCEPTED";
+                return ResponseEntity.accepted().build();
+            }
+
+            garageStateGate.await();
+            QueuedEvent journaled = webhookEventJournal.append(event);
+            try {
+                webhookEventDispatcher.dispatchAndWait(event);
+            } finally {
+                webhookEventJournal.acknowledge(journaled);
+            }
+
+            outcome = WebhookMetrics.PROCESSED;
+            return ResponseEntity.ok().build();
+        } catch (BusinessException e) {
+            outcome = WebhookMetrics.outcomeOf(e);
+            throw e;
+        } finally {
+            requestEvent.finish(outcome);
         }
+    }
+
+    @PostMapping(path = "/batch", consumes = { "application/x-ndjson", MediaType.APPLICATION_JSON_VALUE })
+    public ResponseEntity<WebhookBatchResponseDto> handleWebhookBatch(InputStream body) throws IOException {
+        log.info("Lote de eventos Webhook recebido.");
+
+        garageStateGate.await();
+        return ResponseEntity.ok(webhookBatchService.process(body));
+    }
 
-        return ResponseEntity.ok().build();
+    @GetMapping("/queue")
+    public ResponseEntity<WebhookQueueStatsDto> getQueueStats() {
+        return asyncWebhookIngestionService
+                .map(service -> ResponseEntity.ok(service.stats()))
+                .orElseGet(() -> ResponseEntity.notFound().build());
     }
-}
\ No newline at end of file
+}
@@ -1,12 +1,15 @@
 package br.com.garage_management.domain.dto;
 
 import com.fasterxml.jackson.annotation.JsonProperty;
+import java.time.LocalDateTime;
 
 public record ParkedEventDto(
 
         @JsonProperty("license_plate")
         String licensePlate,
         Double lat,
-        Double lng
+        Double lng,
+        @JsonProperty("parked_time")
+        LocalDateTime parkedTime
 
 ) implements WebhookEvent {}
\ No newline at end of file
@@ -0,0 +1,26 @@
+package br.com.garage_management.domain.dto;
+
+import br.com.garage_management.util.MoneyUtil;
+import com.fasterxml.jackson.annotation.JsonInclude;
+
+import java.math.BigDecimal;
+import java.time.LocalDate;
+
+@JsonInclude(JsonInclude.Include.NON_NULL)
+public record RevenueBucketDto(
+
+        String sector,
+        LocalDate date,
+        Integer hour,
+        BigDecimal amount,
+        Long completedCount
+) {
+
+    public RevenueBucketDto(String sector, LocalDate date, Integer hour, Long amountCents, Long completedCount) {
+        this(sector, date, hour, MoneyUtil.toAmount(amountCents), completedCount);
+    }
+
+    public RevenueBucketDto(String sector, LocalDate date, Long amountCents, Long completedCount) {
+        this(sector, date, null, amountCents, completedCount);
+    }
+}
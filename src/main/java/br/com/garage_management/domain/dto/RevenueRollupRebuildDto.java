@@ -0,0 +1,10 @@
+package br.com.garage_management.domain.dto;
+
+import java.time.LocalDate;
+
+public record RevenueRollupRebuildDto(
+
+        LocalDate from,
+        LocalDate to,
+        int rows
+) {}
@@ -0,0 +1,18 @@
+package br.com.garage_management.domain.dto;
+
+import com.fasterxml.jackson.annotation.JsonInclude;
+
+import java.util.List;
+
+@JsonInclude(JsonInclude.Include.NON_NULL)
+public record TariffDto(
+
+        String sector,
+        Integer graceMinutes,
+        Integer billingUnitMinutes,
+        Integer maxUnitsPerDay,
+        Integer nightStartHour,
+        Integer nightEndHour,
+        Integer nightPricePercent,
+        List<TariffTierDto> tiers
+) {}
@@ -0,0 +1,7 @@
+package br.com.garage_management.domain.dto;
+
+public record TariffTierDto(
+
+        Integer minOccupancyPercent,
+        Integer pricePercent
+) {}
@@ -0,0 +1,11 @@
+package br.com.garage_management.domain.dto;
+
+import java.util.List;
+
+public record WebhookBatchResponseDto(
+
+        int total,
+        int succeeded,
+        int failed,
+        List<WebhookBatchResultDto> results
+) {}
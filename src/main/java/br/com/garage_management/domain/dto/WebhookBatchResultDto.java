@@ -0,0 +1,15 @@
+package br.com.garage_management.domain.dto;
+
+import com.fasterxml.jackson.annotation.JsonInclude;
+import com.fasterxml.jackson.annotation.JsonProperty;
+
+@JsonInclude(JsonInclude.Include.NON_NULL)
+public record WebhookBatchResultDto(
+
+        int index,
+        @JsonProperty("license_plate")
+        String licensePlate,
+        int status,
+        String message,
+        String description
+) {}
@@ -14,4 +14,6 @@ import com.fasterxml.jackson.annotation.JsonTypeInfo;
         @JsonSubTypes.Type(value = ExitEventDto.class, name = "EXIT")
 })
 public sealed interface WebhookEvent permits EntryEventDto, ParkedEventDto, ExitEventDto {
+
+    String licensePlate();
 }
\ No newline at end of file
@@ -0,0 +1,12 @@
+package br.com.garage_management.domain.dto;
+
+public record WebhookQueueStatsDto(
+
+        long depth,
+        long lagMillis,
+        double drainRatePerSecond,
+        long accepted,
+        long processed,
+        long rejected,
+        long failed
+) {}
@@ -0,0 +1,6 @@
+package br.com.garage_management.domain.enums;
+
+public enum RevenueGranularityEnum {
+    DAY,
+    HOUR
+}
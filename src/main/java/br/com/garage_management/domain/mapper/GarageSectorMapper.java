@@ -2,13 +2,14 @@ package br.com.garage_management.domain.mapper;
 
 import br.com.garage_management.domain.dto.GarageSectorDto;
 import br.com.garage_management.domain.model.GarageSector;
+import br.com.garage_management.util.MoneyUtil;
 import org.mapstruct.Mapper;
 import org.mapstruct.Mapping;
 
-@Mapper(componentModel = "spring")
+@Mapper(componentModel = "spring", imports = { MoneyUtil.class })
 public interface GarageSectorMapper {
 
-    @Mapping(target = "occupiedCount", constant = "0")
+    @Mapping(target = "basePriceCents", expression = "java(MoneyUtil.toCents(dto.basePrice()))")
     GarageSector toEntity(GarageSectorDto dto);
 
 }
\ No newline at end of file
@@ -11,23 +11,21 @@ import org.mapstruct.Mapper;
 import org.mapstruct.Mapping;
 import org.mapstruct.MappingTarget;
 
-import java.math.BigDecimal;
-
 @Mapper(componentModel = "spring", imports = { ParkingStatusEnum.class }
 )public interface ParkingRecordMapper {
 
     @Mapping(target = "id", ignore = true)
     @Mapping(target = "exitTime", ignore = true)
-    @Mapping(target = "finalPrice", ignore = true)
+    @Mapping(target = "finalPriceCents", ignore = true)
     @Mapping(source = "event.licensePlate", target = "licensePlate")
     @Mapping(source = "event.entryTime", target = "entryTime")
     @Mapping(source = "sector", target = "garageSector")
     @Mapping(source = "space", target = "parkingSpace")
-    @Mapping(source = "price", target = "priceAppliedOnEntry")
+    @Mapping(source = "priceCents", target = "priceAppliedOnEntryCents")
     @Mapping(target = "status", expression = "java(ParkingStatusEnum.PARKED)")
     @Mapping(target = "lat", ignore = true)
     @Mapping(target = "lng", ignore = true)
-    ParkingRecord toParkingRecord(EntryEventDto event, GarageSector sector, ParkingSpace space, Double price);
+    ParkingRecord toParkingRecord(EntryEventDto event, GarageSector sector, ParkingSpace space, long priceCents);
 
     @Mapping(target = "id", ignore = true)
     @Mapping(source = "event.lat", target = "lat")
@@ -35,23 +33,23 @@ import java.math.BigDecimal;
     @Mapping(target = "licensePlate", ignore = true)
     @Mapping(target = "entryTime", ignore = true)
     @Mapping(target = "exitTime", ignore = true)
-    @Mapping(target = "finalPrice", ignore = true)
+    @Mapping(target = "finalPriceCents", ignore = true)
     @Mapping(target = "status", ignore = true)
-    @Mapping(target = "priceAppliedOnEntry", ignore = true)
+    @Mapping(target = "priceAppliedOnEntryCents", ignore = true)
     @Mapping(target = "garageSector", ignore = true)
     @Mapping(target = "parkingSpace", ignore = true)
     void updateRecordOnParked(@MappingTarget ParkingRecord record, ParkedEventDto event);
 
     @Mapping(target = "id", ignore = true)
     @Mapping(source = "event.exitTime", target = "exitTime")
-    @Mapping(source = "finalPrice", target = "finalPrice")
+    @Mapping(source = "finalPriceCents", target = "finalPriceCents")
     @Mapping(target = "status", expression = "java(ParkingStatusEnum.COMPLETED)")
     @Mapping(target = "licensePlate", ignore = true)
     @Mapping(target = "entryTime", ignore = true)
     @Mapping(target = "garageSector", ignore = true)
     @Mapping(target = "parkingSpace", ignore = true)
-    @Mapping(target = "priceAppliedOnEntry", ignore = true)
+    @Mapping(target = "priceAppliedOnEntryCents", ignore = true)
     @Mapping(target = "lat", ignore = true)
     @Mapping(target = "lng", ignore = true)
-    void updateRecordOnExit(@MappingTarget ParkingRecord record, ExitEventDto event, BigDecimal finalPrice);
+    void updateRecordOnExit(@MappingTarget ParkingRecord record, ExitEventDto event, long finalPriceCents);
 }
\ No newline at end of file
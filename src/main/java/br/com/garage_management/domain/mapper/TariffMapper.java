@@ -0,0 +1,13 @@
+package br.com.garage_management.domain.mapper;
+
+import br.com.garage_management.domain.dto.TariffDto;
+import br.com.garage_management.domain.model.SectorTariff;
+import org.mapstruct.Mapper;
+
+@Mapper(componentModel = "spring")
+public interface TariffMapper {
+
+    SectorTariff toEntity(TariffDto dto);
+
+    TariffDto toDto(SectorTariff tariff);
+}
@@ -0,0 +1,53 @@
+package br.com.garage_management.domain.model;
+
+import jakarta.persistence.Column;
+import jakarta.persistence.EmbeddedId;
+import jakarta.persistence.Entity;
+import jakarta.persistence.Index;
+import jakarta.persistence.Table;
+import lombok.AllArgsConstructor;
+import lombok.Getter;
+import lombok.NoArgsConstructor;
+import lombok.Setter;
+
+import java.time.LocalDateTime;
+
+@Entity
+@Getter
+@Setter
+@NoArgsConstructor
+@AllArgsConstructor
+@Table(name = ArchivedParkingRecord.TABLE, indexes = {
+        @Index(name = "idx_parking_records_archive_sector_exit_time", columnList = "sector, exit_time")
+})
+public class ArchivedParkingRecord {
+
+    public static final String TABLE = "tb_parking_records_archive";
+
+    @EmbeddedId
+    private ArchivedParkingRecordId id;
+
+    @Column(name = "license_plate", nullable = false)
+    private String licensePlate;
+
+    @Column(name = "entry_time", nullable = false)
+    private LocalDateTime entryTime;
+
+    @Column(name = "sector", nullable = false)
+    private String sector;
+
+    @Column(name = "parking_space_id", nullable = false)
+    private Long parkingSpaceId;
+
+    @Column(name = "price_applied_on_entry_cents")
+    private Long priceAppliedOnEntryCents;
+
+    @Column(name = "final_price_cents")
+    private Long finalPriceCents;
+
+    @Column(name = "latitude")
+    private Double lat;
+
+    @Column(name = "longitude")
+    private Double lng;
+}
@@ -3,14 +3,15 @@ package br.com.garage_management.domain.model;
 import jakarta.persistence.Column;
 import jakarta.persistence.Entity;
 import jakarta.persistence.Id;
-import jakarta.persistence.OneToMany;
 import jakarta.persistence.Table;
+import lombok.AccessLevel;
 import lombok.AllArgsConstructor;
 import lombok.Getter;
 import lombok.NoArgsConstructor;
 import lombok.Setter;
+import org.hibernate.annotations.Cache;
+import org.hibernate.annotations.CacheConcurrencyStrategy;
 import java.time.LocalTime;
-import java.util.List;
 
 @Entity
 @Getter
@@ -18,20 +19,26 @@ import java.util.List;
 @NoArgsConstructor
 @AllArgsConstructor
 @Table(name = "tb_garage_sectors")
+@Cache(usage = CacheConcurrencyStrategy.READ_WRITE, region = GarageSector.CACHE_REGION)
 public class GarageSector {
 
+    public static final String CACHE_REGION = "garage-sectors";
+    public static final String OCCUPANCY_QUERY_SPACE = "tb_garage_sectors_occupancy";
+
     @Id
     @Column(name = "sector")
     private String sector;
 
-    @Column(name = "base_price", nullable = false)
-    private Double basePrice;
+    @Column(name = "base_price_cents", nullable = false)
+    private Long basePriceCents;
 
     @Column(name = "max_capacity", nullable = false)
     private Integer maxCapacity;
 
-    @Column(name = "occupied_count", nullable = false)
-    private Integer occupiedCount;
+    @Getter(AccessLevel.NONE)
+    @Setter(AccessLevel.NONE)
+    @Column(name = "occupied_count", nullable = false, updatable = false)
+    private Integer occupiedCount = 0;
 
     @Column(name = "open_hour", nullable = false)
     private LocalTime openHour;
@@ -41,10 +48,4 @@ public class GarageSector {
 
     @Column(name = "duration_limit_minutes", nullable = false)
     private Integer durationLimitMinutes;
-
-    @OneToMany(mappedBy = "garageSector")
-    private List<ParkingSpace> parkingSpaces;
-
-    @OneToMany(mappedBy = "garageSector")
-    private List<ParkingRecord> parkingRecords;
 }
\ No newline at end of file
@@ -0,0 +1,15 @@
+package br.com.garage_management.domain.model;
+
+public final class IdGenerators {
+
+    public static final String TABLE = "tb_id_generators";
+    public static final String NAME_COLUMN = "generator_name";
+    public static final String VALUE_COLUMN = "next_val";
+    public static final int ALLOCATION_SIZE = 50;
+
+    public static final String PARKING_RECORDS = "parking_records";
+    public static final String PARKING_SPACES = "parking_spaces";
+
+    private IdGenerators() {
+    }
+}
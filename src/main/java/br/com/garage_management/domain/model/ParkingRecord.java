@@ -5,18 +5,20 @@ import jakarta.persistence.Column;
 import jakarta.persistence.Entity;
 import jakarta.persistence.EnumType;
 import jakarta.persistence.Enumerated;
+import jakarta.persistence.FetchType;
 import jakarta.persistence.GeneratedValue;
 import jakarta.persistence.GenerationType;
 import jakarta.persistence.Id;
+import jakarta.persistence.Index;
 import jakarta.persistence.JoinColumn;
 import jakarta.persistence.ManyToOne;
 import jakarta.persistence.Table;
+import jakarta.persistence.TableGenerator;
 import lombok.AllArgsConstructor;
 import lombok.Getter;
 import lombok.NoArgsConstructor;
 import lombok.Setter;
 
-import java.math.BigDecimal;
 import java.time.LocalDateTime;
 
 @Entity
@@ -24,11 +26,21 @@ import java.time.LocalDateTime;
 @Setter
 @NoArgsConstructor
 @AllArgsConstructor
-@Table(name = "tb_parking_records")
+@Table(name = "tb_parking_records", indexes = {
+        @Index(name = "idx_parking_records_status_exit_time", columnList = "status, exit_time")
+})
 public class ParkingRecord {
 
     @Id
-    @GeneratedValue(strategy = GenerationType.IDENTITY)
+    @GeneratedValue(strategy = GenerationType.TABLE, generator = IdGenerators.PARKING_RECORDS)
+    @TableGenerator(
+            name = IdGenerators.PARKING_RECORDS,
+            table = IdGenerators.TABLE,
+            pkColumnName = IdGenerators.NAME_COLUMN,
+            valueColumnName = IdGenerators.VALUE_COLUMN,
+            pkColumnValue = IdGenerators.PARKING_RECORDS,
+            allocationSize = IdGenerators.ALLOCATION_SIZE
+    )
     private Long id;
 
     @Column(name = "license_plate", nullable = false)
@@ -40,19 +52,19 @@ public class ParkingRecord {
     @Column(name = "exit_time")
     private LocalDateTime exitTime;
 
-    @ManyToOne
+    @ManyToOne(fetch = FetchType.LAZY)
     @JoinColumn(name = "sector_id", nullable = false)
     private GarageSector garageSector;
 
-    @ManyToOne
+    @ManyToOne(fetch = FetchType.LAZY)
     @JoinColumn(name = "parking_space_id", nullable = false)
     private ParkingSpace parkingSpace;
 
-    @Column(name = "price_applied_on_entry")
-    private Double priceAppliedOnEntry;
+    @Column(name = "price_applied_on_entry_cents")
+    private Long priceAppliedOnEntryCents;
 
-    @Column(name = "final_price")
-    private BigDecimal finalPrice;
+    @Column(name = "final_price_cents")
+    private Long finalPriceCents;
 
     @Enumerated(EnumType.STRING)
     @Column(name = "status", nullable = false)
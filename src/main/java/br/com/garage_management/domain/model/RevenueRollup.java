@@ -0,0 +1,28 @@
+package br.com.garage_management.domain.model;
+
+import jakarta.persistence.Column;
+import jakarta.persistence.EmbeddedId;
+import jakarta.persistence.Entity;
+import jakarta.persistence.Table;
+import lombok.AllArgsConstructor;
+import lombok.Getter;
+import lombok.NoArgsConstructor;
+import lombok.Setter;
+
+@Entity
+@Getter
+@Setter
+@NoArgsConstructor
+@AllArgsConstructor
+@Table(name = "tb_revenue_rollups")
+public class RevenueRollup {
+
+    @EmbeddedId
+    private RevenueRollupId id;
+
+    @Column(name = "total_amount_cents", nullable = false)
+    private Long totalAmountCents;
+
+    @Column(name = "completed_count", nullable = false)
+    private Long completedCount;
+}
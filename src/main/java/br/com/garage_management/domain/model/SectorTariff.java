@@ -0,0 +1,54 @@
+package br.com.garage_management.domain.model;
+
+import jakarta.persistence.CollectionTable;
+import jakarta.persistence.Column;
+import jakarta.persistence.ElementCollection;
+import jakarta.persistence.Entity;
+import jakarta.persistence.FetchType;
+import jakarta.persistence.Id;
+import jakarta.persistence.JoinColumn;
+import jakarta.persistence.OrderBy;
+import jakarta.persistence.Table;
+import lombok.AllArgsConstructor;
+import lombok.Getter;
+import lombok.NoArgsConstructor;
+import lombok.Setter;
+
+import java.util.ArrayList;
+import java.util.List;
+
+@Entity
+@Getter
+@Setter
+@NoArgsConstructor
+@AllArgsConstructor
+@Table(name = "tb_sector_tariffs")
+public class SectorTariff {
+
+    @Id
+    @Column(name = "sector")
+    private String sector;
+
+    @Column(name = "grace_minutes", nullable = false)
+    private Integer graceMinutes;
+
+    @Column(name = "billing_unit_minutes", nullable = false)
+    private Integer billingUnitMinutes;
+
+    @Column(name = "max_units_per_day")
+    private Integer maxUnitsPerDay;
+
+    @Column(name = "night_start_hour")
+    private Integer nightStartHour;
+
+    @Column(name = "night_end_hour")
+    private Integer nightEndHour;
+
+    @Column(name = "night_price_percent")
+    private Integer nightPricePercent;
+
+    @ElementCollection(fetch = FetchType.EAGER)
+    @CollectionTable(name = "tb_sector_tariff_tiers", joinColumns = @JoinColumn(name = "sector"))
+    @OrderBy("minOccupancyPercent")
+    private List<TariffTier> tiers = new ArrayList<>();
+}
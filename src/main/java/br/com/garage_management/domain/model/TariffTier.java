@@ -0,0 +1,22 @@
+package br.com.garage_management.domain.model;
+
+import jakarta.persistence.Column;
+import jakarta.persistence.Embeddable;
+import lombok.AllArgsConstructor;
+import lombok.Getter;
+import lombok.NoArgsConstructor;
+import lombok.Setter;
+
+@Embeddable
+@Getter
+@Setter
+@NoArgsConstructor
+@AllArgsConstructor
+public class TariffTier {
+
+    @Column(name = "min_occupancy_percent", nullable = false)
+    private Integer minOccupancyPercent;
+
+    @Column(name = "price_percent", nullable = false)
+    private Integer pricePercent;
+}
@@ -0,0 +1,14 @@
+package br.com.garage_management.domain.projection;
+
+public interface ParkingSpaceStateProjection {
+
+    Long getId();
+
+    String getSector();
+
+    Boolean getOccupied();
+
+    Double getLat();
+
+    Double getLng();
+}
@@ -0,0 +1,14 @@
+package br.com.garage_management.domain.projection;
+
+import java.time.LocalDate;
+
+public interface RevenueRollupProjection {
+
+    String getSector();
+
+    LocalDate getRevenueDate();
+
+    Long getTotalAmountCents();
+
+    Long getCompletedCount();
+}
@@ -0,0 +1,10 @@
+package br.com.garage_management.domain.projection;
+
+public interface SectorOccupancyProjection {
+
+    String getSector();
+
+    Integer getMaxCapacity();
+
+    Integer getOccupiedCount();
+}
@@ -32,6 +32,14 @@ public class BusinessException extends RuntimeException {
 
     private String description;
 
+    protected BusinessException(HttpStatus httpStatusCode, String code, String message, String description, boolean writableStackTrace) {
+        super(message, null, false, writableStackTrace);
+        this.httpStatusCode = httpStatusCode;
+        this.code = code;
+        this.message = message;
+        this.description = description;
+    }
+
     public BusinessExceptionBody getOnlyBody() {
         return BusinessExceptionBody.builder().code(this.code).message(this.message).description(this.description)
                 .build();
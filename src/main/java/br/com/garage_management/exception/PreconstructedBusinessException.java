@@ -0,0 +1,69 @@
+package br.com.garage_management.exception;
+
+import org.springframework.http.HttpStatus;
+
+import java.io.Serial;
+
+public class PreconstructedBusinessException extends BusinessException {
+
+    @Serial
+    private static final long serialVersionUID = 1L;
+
+    private final transient BusinessExceptionBody body;
+
+    public PreconstructedBusinessException(HttpStatus httpStatusCode, String code, String message, String description) {
+        super(httpStatusCode, code, message, description, false);
+        this.body = new ImmutableBody(code, message, description);
+    }
+
+    @Override
+    public BusinessExceptionBody getOnlyBody() {
+        return body;
+    }
+
+    @Override
+    public void setHttpStatusCode(HttpStatus httpStatusCode) {
+        throw immutable();
+    }
+
+    @Override
+    public void setCode(String code) {
+        throw immutable();
+    }
+
+    @Override
+    public void setMessage(String message) {
+        throw immutable();
+    }
+
+    @Override
+    public void setDescription(String description) {
+        throw immutable();
+    }
+
+    private static UnsupportedOperationException immutable() {
+        return new UnsupportedOperationException("Exceção pré-construída é compartilhada e não pode ser alterada.");
+    }
+
+    private static final class ImmutableBody extends BusinessExceptionBody {
+
+        private ImmutableBody(String code, String message, String description) {
+            super(code, message, description);
+        }
+
+        @Override
+        public void setCode(String code) {
+            throw immutable();
+        }
+
+        @Override
+        public void setMessage(String message) {
+            throw immutable();
+        }
+
+        @Override
+        public void setDescription(String description) {
+            throw immutable();
+        }
+    }
+}
@@ -0,0 +1,217 @@
+package br.com.garage_management.ingestion;
+
+import br.com.garage_management.domain.dto.WebhookEvent;
+import br.com.garage_management.domain.dto.WebhookQueueStatsDto;
+import br.com.garage_management.exception.BusinessException;
+import br.com.garage_management.service.WebhookEventDispatcher;
+import br.com.garage_management.state.GarageStateLoadedEvent;
+import br.com.garage_management.util.ErrorConstantsEnum;
+import jakarta.annotation.PreDestroy;
+import lombok.extern.slf4j.Slf4j;
+import org.springframework.beans.factory.annotation.Value;
+import org.springframework.boot.autoconfigure.condition.ConditionalOnProperty;
+import org.springframework.context.event.EventListener;
+import org.springframework.stereotype.Service;
+
+import java.io.IOException;
+import java.util.ArrayDeque;
+import java.util.Deque;
+import java.util.concurrent.ArrayBlockingQueue;
+import java.util.concurrent.BlockingQueue;
+import java.util.concurrent.Executors;
+import java.util.concurrent.RejectedExecutionException;
+import java.util.concurrent.ScheduledExecutorService;
+import java.util.concurrent.Semaphore;
+import java.util.concurrent.TimeUnit;
+import java.util.concurrent.atomic.LongAdder;
+
+@Slf4j
+@Service
+@ConditionalOnProperty(name = "garage.webhook.async.enabled", havingValue = "true")
+public class AsyncWebhookIngestionService {
+
+    private static final long POLL_INTERVAL_MILLIS = 200;
+    private static final long RETRY_BACKOFF_MILLIS = 100;
+    private static final long MAX_DISPATCH_BACKOFF_MILLIS = 1000;
+    private static final long MAINTENANCE_INTERVAL_MILLIS = 1000;
+    private static final double DRAIN_RATE_SMOOTHING = 0.3;
+
+    private final WebhookEventDispatcher webhookEventDispatcher;
+    private final WebhookEventJournal journal;
+    private final int maxAttempts;
+    private final long shutdownTimeoutMillis;
+    private final Semaphore inFlight;
+    private final BlockingQueue<QueuedEvent> pending;
+    private final Deque<QueuedEvent> recovered = new ArrayDeque<>();
+    private final Object acceptLock = new Object();
+    private final ScheduledExecutorService maintenance =
+            Executors.newSingleThreadScheduledExecutor(Thread.ofPlatform().name("webhook-queue-maintenance").daemon().factory());
+    private final Thread drainer = Thread.ofPlatform().name("webhook-queue-drainer").unstarted(this::drain);
+
+    private final LongAdder accepted = new LongAdder();
+    private final LongAdder processed = new LongAdder();
+    private final LongAdder rejected = new LongAdder();
+    private final LongAdder failed = new LongAdder();
+
+    private volatile boolean accepting = true;
+    private volatile boolean draining = true;
+    private volatile boolean started;
+    private volatile double drainRatePerSecond;
+    private long lastCompletedSample;
+
+    public AsyncWebhookIngestionService(WebhookEventDispatcher webhookEventDispatcher,
+                                        WebhookEventJournal journal,
+                                        @Value("${garage.webhook.async.max-in-flight:10000}") int maxInFlight,
+                                        @Value("${garage.webhook.async.max-attempts:3}") int maxAttempts,
+                                        @Value("${garage.webhook.async.shutdown-timeout-seconds:30}") long shutdownTimeoutSeconds) {
+        this.webhookEventDispatcher = webhookEventDispatcher;
+        this.journal = journal;
+        this.maxAttempts = Math.max(1, maxAttempts);
+        this.shutdownTimeoutMillis = TimeUnit.SECONDS.toMillis(shutdownTimeoutSeconds);
+        this.inFlight = new Semaphore(Math.max(1, maxInFlight));
+        this.pending = new ArrayBlockingQueue<>(Math.max(1, maxInFlight));
+
+        this.recovered.addAll(journal.drainRecovered());
+    }
+
+    @EventListener(GarageStateLoadedEvent.class)
+    public synchronized void start() {
+        if (started) {
+            return;
+        }
+        started = true;
+        drainer.start();
+        maintenance.scheduleAtFixedRate(this::maintain, MAINTENANCE_INTERVAL_MILLIS, MAINTENANCE_INTERVAL_MILLIS, TimeUnit.MILLISECONDS);
+        log.info("Processamento assíncrono de eventos iniciado com {} eventos pendentes.", recovered.size() + pending.size());
+    }
+
+    public void accept(WebhookEvent event) {
+        if (!accepting) {
+            throw ErrorConstantsEnum.WEBHOOK_QUEUE_UNAVAILABLE.asException();
+        }
+
+        synchronized (acceptLock) {
+            if (pending.remainingCapacity() == 0) {
+                throw ErrorConstantsEnum.WEBHOOK_QUEUE_FULL.asException();
+            }
+            pending.add(journal.append(event));
+        }
+        accepted.increment();
+    }
+
+    public WebhookQueueStatsDto stats() {
+        return new WebhookQueueStatsDto(
+                journal.depth(),
+                journal.oldestUnacknowledgedAgeMillis(),
+                drainRatePerSecond,
+                accepted.sum(),
+                processed.sum(),
+                rejected.sum(),
+                failed.sum()
+        );
+    }
+
+    @PreDestroy
+    public synchronized void shutdown() throws InterruptedException {
+        accepting = false;
+
+        long deadline = System.currentTimeMillis() + shutdownTimeoutMillis;
+        while (started && journal.depth() > 0 && System.currentTimeMillis() < deadline) {
+            Thread.sleep(50);
+        }
+
+        draining = false;
+        if (started) {
+            drainer.join(POLL_INTERVAL_MILLIS * 5);
+        }
+        maintenance.shutdownNow();
+
+        if (journal.depth() > 0) {
+            log.warn("{} eventos permanecem na fila e serão reprocessados na próxima inicialização.", journal.depth());
+        }
+    }
+
+    private void drain() {
+        QueuedEvent queued = null;
+        int rejectedSubmissions = 0;
+        while (draining) {
+            try {
+                if (queued == null) {
+                    queued = recovered.isEmpty() ? pending.poll(POLL_INTERVAL_MILLIS, TimeUnit.MILLISECONDS) : recovered.poll();
+                    if (queued == null) {
+                        continue;
+                    }
+                }
+                inFlight.acquire();
+            } catch (InterruptedException e) {
+                Thread.currentThread().interrupt();
+                return;
+            }
+
+            QueuedEvent submitted = queued;
+            try {
+                webhookEventDispatcher.submit(submitted.event().licensePlate(), () -> process(submitted));
+                queued = null;
+                rejectedSubmissions = 0;
+            } catch (RejectedExecutionException e) {
+                inFlight.release();
+                long backoffMillis = Math.min(MAX_DISPATCH_BACKOFF_MILLIS, RETRY_BACKOFF_MILLIS << Math.min(rejectedSubmissions++, 4));
+                log.warn("Evento {} não pôde ser encaminhado para processamento, nova tentativa em {} ms.", submitted.sequence(), backoffMillis);
+                try {
+                    Thread.sleep(backoffMillis);
+                } catch (InterruptedException interrupted) {
+                    Thread.currentThread().interrupt();
+                    return;
+                }
+            }
+        }
+    }
+
+    private void process(QueuedEvent queued) {
+        WebhookEvent event = queued.event();
+        try {
+            for (int attempt = 1; ; attempt++) {
+                try {
+                    webhookEventDispatcher.apply(event);
+                    processed.increment();
+                    journal.acknowledge(queued);
+                    break;
+                } catch (BusinessException e) {
+                    rejected.increment();
+                    log.warn("Evento {} da placa {} recusado: {}", queued.sequence(), event.licensePlate(), e.getDescription());
+                    deadLetter(queued);
+                    break;
+                } catch (RuntimeException e) {
+                    if (attempt >= maxAttempts) {
+                        failed.increment();
+                        log.error("Evento {} da placa {} falhou após {} tentativas.", queued.sequence(), event.licensePlate(), attempt, e);
+                        deadLetter(queued);
+                        break;
+                    }
+                    log.warn("Falha ao processar evento {} da placa {}, tentativa {} de {}.", queued.sequence(), event.licensePlate(), attempt, maxAttempts);
+                    Thread.sleep(RETRY_BACKOFF_MILLIS * attempt);
+                }
+            }
+        } catch (InterruptedException e) {
+            Thread.currentThread().interrupt();
+        } finally {
+            inFlight.release();
+        }
+    }
+
+    private void deadLetter(QueuedEvent queued) {
+        try {
+            long deadLetterSequence = journal.deadLetter(queued);
+            log.warn("Evento {} movido para a fila de eventos rejeitados na sequência {}.", queued.sequence(), deadLetterSequence);
+        } catch (IOException e) {
+            log.error("Falha ao gravar o evento {} na fila de eventos rejeitados; ele permanecerá pendente até a próxima inicialização.", queued.sequence(), e);
+        }
+    }
+
+    private void maintain() {
+        long completed = processed.sum() + rejected.sum() + failed.sum();
+        double sample = (completed - lastCompletedSample) * 1000.0 / MAINTENANCE_INTERVAL_MILLIS;
+        lastCompletedSample = completed;
+        drainRatePerSecond = drainRatePerSecond + DRAIN_RATE_SMOOTHING * (sample - drainRatePerSecond);
+    }
+}
@@ -0,0 +1,166 @@
+package br.com.garage_management.ingestion;
+
+import br.com.garage_management.domain.dto.WebhookEvent;
+import com.fasterxml.jackson.databind.ObjectMapper;
+import com.fasterxml.jackson.databind.ObjectReader;
+import lombok.extern.slf4j.Slf4j;
+
+import java.io.BufferedReader;
+import java.io.Closeable;
+import java.io.IOException;
+import java.nio.charset.StandardCharsets;
+import java.nio.file.Files;
+import java.nio.file.Path;
+import java.nio.file.StandardCopyOption;
+import java.util.ArrayList;
+import java.util.List;
+import java.util.Map;
+import java.util.concurrent.ConcurrentSkipListMap;
+
+@Slf4j
+public class DurableEventQueue implements Closeable {
+
+    private static final String CHECKPOINT_FILE = "events.checkpoint";
+    private static final String LEGACY_LOG_FILE = "events.log";
+    private static final String DEAD_LETTER_DIRECTORY = "dead-letter";
+
+    private final Path checkpointFile;
+    private final int retainedSegments;
+    private final EventJournal journal;
+    private final EventJournal deadLetters;
+
+    private final Object appendLock = new Object();
+    private final Object checkpointLock = new Object();
+    private final ConcurrentSkipListMap<Long, Long> unackedAcceptedAt = new ConcurrentSkipListMap<>();
+
+    private long persistedCheckpoint;
+    private final List<QueuedEvent> recovered = new ArrayList<>();
+
+    public DurableEventQueue(Path directory, ObjectMapper objectMapper, boolean fsync, int segmentSizeBytes, int retainedSegments) throws IOException {
+        this.checkpointFile = directory.resolve(CHECKPOINT_FILE);
+        this.retainedSegments = Math.max(0, retainedSegments);
+
+        Files.createDirectories(directory);
+        this.persistedCheckpoint = readCheckpoint();
+        this.journal = new EventJournal(directory, segmentSizeBytes, fsync, persistedCheckpoint);
+        this.deadLetters = new EventJournal(directory.resolve(DEAD_LETTER_DIRECTORY), segmentSizeBytes, fsync, 0);
+
+        recover();
+        importLegacyLog(directory.resolve(LEGACY_LOG_FILE), objectMapper.readerFor(WebhookEvent.class));
+    }
+
+    public List<QueuedEvent> drainRecovered() {
+        List<QueuedEvent> events = List.copyOf(recovered);
+        recovered.clear();
+        return events;
+    }
+
+    public QueuedEvent append(WebhookEvent event) throws IOException {
+        synchronized (appendLock) {
+            long sequence = journal.append(event);
+            unackedAcceptedAt.put(sequence, System.currentTimeMillis());
+            return new QueuedEvent(sequence, event);
+        }
+    }
+
+    public void acknowledge(long sequence) {
+        unackedAcceptedAt.remove(sequence);
+    }
+
+    public long deadLetter(QueuedEvent queued) throws IOException {
+        long deadLetterSequence = deadLetters.append(queued.event());
+        acknowledge(queued.sequence());
+        return deadLetterSequence;
+    }
+
+    public int depth() {
+        return unackedAcceptedAt.size();
+    }
+
+    public long oldestUnacknowledgedAgeMillis() {
+        Map.Entry<Long, Long> oldest = unackedAcceptedAt.firstEntry();
+        return oldest == null ? 0 : System.currentTimeMillis() - oldest.getValue();
+    }
+
+    public void flushCheckpoint() throws IOException {
+        synchronized (checkpointLock) {
+            long checkpoint;
+            synchronized (appendLock) {
+                Map.Entry<Long, Long> oldest = unackedAcceptedAt.firstEntry();
+                checkpoint = oldest == null ? journal.lastSequence() : oldest.getKey() - 1;
+            }
+
+            if (checkpoint != persistedCheckpoint) {
+                writeCheckpoint(checkpoint);
+                persistedCheckpoint = checkpoint;
+            }
+
+            int removed = journal.deleteAcknowledgedSegments(checkpoint, retainedSegments);
+            if (removed > 0) {
+                log.info("{} segmentos do diário de eventos confirmados até a sequência {} foram removidos.", removed, checkpoint);
+            }
+        }
+    }
+
+    @Override
+    public void close() throws IOException {
+        flushCheckpoint();
+        journal.close();
+        deadLetters.close();
+    }
+
+    private void recover() throws IOException {
+        journal.replay(persistedCheckpoint, event -> {
+            recovered.add(event);
+            unackedAcceptedAt.put(event.sequence(), System.currentTimeMillis());
+        });
+
+        if (!recovered.isEmpty()) {
+            log.info("{} eventos pendentes recuperados do diário de eventos.", recovered.size());
+        }
+    }
+
+    private void importLegacyLog(Path legacyLog, ObjectReader eventReader) throws IOException {
+        if (!Files.exists(legacyLog)) {
+            return;
+        }
+
+        int imported = 0;
+        try (BufferedReader reader = Files.newBufferedReader(legacyLog, StandardCharsets.UTF_8)) {
+            String line;
+            while ((line = reader.readLine()) != null) {
+                int separator = line.indexOf(' ');
+                if (separator <= 0) {
+                    break;
+                }
+                try {
+                    if (Long.parseLong(line.substring(0, separator)) <= persistedCheckpoint) {
+                        continue;
+                    }
+                    recovered.add(append(eventReader.readValue(line.substring(separator + 1))));
+                    imported++;
+                } catch (IOException | NumberFormatException e) {
+                    log.warn("Registro incompleto encontrado na fila de eventos antiga; descartando o restante do arquivo.");
+                    break;
+                }
+            }
+        }
+
+        Files.delete(legacyLog);
+        log.info("{} eventos pendentes importados da fila de eventos antiga para o diário de eventos.", imported);
+    }
+
+    private long readCheckpoint() throws IOException {
+        if (!Files.exists(checkpointFile)) {
+            return 0;
+        }
+        String content = Files.readString(checkpointFile, StandardCharsets.US_ASCII).trim();
+        return content.isEmpty() ? 0 : Long.parseLong(content);
+    }
+
+    private void writeCheckpoint(long checkpoint) throws IOException {
+        Path temporary = checkpointFile.resolveSibling(CHECKPOINT_FILE + ".tmp");
+        Files.writeString(temporary, Long.toString(checkpoint), StandardCharsets.US_ASCII);
+        Files.move(temporary, checkpointFile, StandardCopyOption.REPLACE_EXISTING, StandardCopyOption.ATOMIC_MOVE);
+    }
+}
@@ -0,0 +1,222 @@
+package br.com.garage_management.ingestion;
+
+import br.com.garage_management.domain.dto.WebhookEvent;
+import lombok.extern.slf4j.Slf4j;
+
+import java.io.Closeable;
+import java.io.IOException;
+import java.nio.ByteBuffer;
+import java.nio.MappedByteBuffer;
+import java.nio.channels.FileChannel;
+import java.nio.file.Files;
+import java.nio.file.Path;
+import java.nio.file.StandardOpenOption;
+import java.util.ArrayList;
+import java.util.List;
+import java.util.Map;
+import java.util.TreeMap;
+import java.util.function.Consumer;
+import java.util.stream.Stream;
+import java.util.zip.CRC32C;
+
+@Slf4j
+public class EventJournal implements Closeable {
+
+    private static final String SEGMENT_PREFIX = "journal-";
+    private static final String SEGMENT_SUFFIX = ".seg";
+    private static final int HEADER_BYTES = Integer.BYTES + Long.BYTES + Integer.BYTES;
+
+    private final Path directory;
+    private final int segmentSizeBytes;
+    private final boolean fsync;
+
+    private final Object appendLock = new Object();
+    private final TreeMap<Long, Path> segments;
+
+    private MappedByteBuffer active;
+    private long lastSequence;
+
+    public EventJournal(Path directory, int segmentSizeBytes, boolean fsync, long sequenceFloor) throws IOException {
+        this.directory = directory;
+        this.segmentSizeBytes = segmentSizeBytes;
+        this.fsync = fsync;
+
+        Files.createDirectories(directory);
+        this.segments = listSegments(directory);
+        this.lastSequence = sequenceFloor;
+
+        if (!segments.isEmpty()) {
+            Map.Entry<Long, Path> last = segments.lastEntry();
+            MappedByteBuffer buffer = map(last.getValue(), Files.size(last.getValue()));
+            SegmentScan scan = scan(buffer, last.getKey(), Long.MAX_VALUE, null);
+
+            if (scan.end() + Integer.BYTES <= buffer.limit() && buffer.getInt(scan.end()) != 0) {
+                log.warn("Registro incompleto encontrado no diário de eventos {} na posição {}; descartando o restante do segmento.",
+                        last.getValue().getFileName(), scan.end());
+                buffer.put(scan.end(), new byte[buffer.limit() - scan.end()]);
+            }
+
+            if (scan.lastSequence() >= sequenceFloor) {
+                buffer.position(scan.end());
+                this.active = buffer;
+                this.lastSequence = scan.lastSequence();
+            }
+        }
+    }
+
+    public static void read(Path directory, long afterSequence, Consumer<QueuedEvent> consumer) throws IOException {
+        if (!Files.isDirectory(directory)) {
+            return;
+        }
+
+        for (Map.Entry<Long, Path> segment : listSegments(directory).entrySet()) {
+            MappedByteBuffer buffer;
+            try (FileChannel channel = FileChannel.open(segment.getValue(), StandardOpenOption.READ)) {
+                buffer = channel.map(FileChannel.MapMode.READ_ONLY, 0, channel.size());
+            }
+            SegmentScan scan = scan(buffer, segment.getKey(), afterSequence, consumer);
+            if (scan.end() + Integer.BYTES <= buffer.limit() && buffer.getInt(scan.end()) != 0) {
+                log.warn("Registro inválido encontrado no diário de eventos {} na posição {}; restante do segmento ignorado.",
+                        segment.getValue().getFileName(), scan.end());
+            }
+        }
+    }
+
+    public void replay(long afterSequence, Consumer<QueuedEvent> consumer) throws IOException {
+        read(directory, afterSequence, consumer);
+    }
+
+    public long append(WebhookEvent event) throws IOException {
+        byte[] payload = EventJournalCodec.encode(event);
+        int recordBytes = HEADER_BYTES + payload.length;
+        if (recordBytes > segmentSizeBytes) {
+            throw new IOException("Evento com " + payload.length + " bytes excede o tamanho do segmento do diário.");
+        }
+        int checksum = checksum(payload);
+
+        synchronized (appendLock) {
+            long sequence = lastSequence + 1;
+            if (active == null || active.remaining() < recordBytes) {
+                roll(sequence);
+            }
+
+            int start = active.position();
+            active.putLong(start + Integer.BYTES, sequence);
+            active.putInt(start + Integer.BYTES + Long.BYTES, checksum);
+            active.put(start + HEADER_BYTES, payload);
+            active.putInt(start, payload.length);
+            active.position(start + recordBytes);
+
+            if (fsync) {
+                active.force(start, recordBytes);
+            }
+            lastSequence = sequence;
+            return sequence;
+        }
+    }
+
+    public long lastSequence() {
+        synchronized (appendLock) {
+            return lastSequence;
+        }
+    }
+
+    public int segmentCount() {
+        synchronized (appendLock) {
+            return segments.size();
+        }
+    }
+
+    public int deleteAcknowledgedSegments(long acknowledgedSequence, int retainedSegments) throws IOException {
+        synchronized (appendLock) {
+            List<Long> acknowledged = new ArrayList<>();
+            for (Long firstSequence : segments.keySet()) {
+                Long nextFirstSequence = segments.higherKey(firstSequence);
+                if (nextFirstSequence == null || nextFirstSequence - 1 > acknowledgedSequence) {
+                    break;
+                }
+                acknowledged.add(firstSequence);
+            }
+
+            int toDelete = Math.max(0, acknowledged.size() - retainedSegments);
+            for (int i = 0; i < toDelete; i++) {
+                Files.deleteIfExists(segments.remove(acknowledged.get(i)));
+            }
+            return toDelete;
+        }
+    }
+
+    @Override
+    public void close() throws IOException {
+        synchronized (appendLock) {
+            if (active != null) {
+                active.force();
+                active = null;
+            }
+        }
+    }
+
+    private void roll(long firstSequence) throws IOException {
+        if (active != null) {
+            active.force();
+        }
+
+        Path segment = directory.resolve(String.format("%s%020d%s", SEGMENT_PREFIX, firstSequence, SEGMENT_SUFFIX));
+        active = map(segment, segmentSizeBytes);
+        segments.put(firstSequence, segment);
+    }
+
+    private static MappedByteBuffer map(Path segment, long size) throws IOException {
+        try (FileChannel channel = FileChannel.open(segment, StandardOpenOption.CREATE, StandardOpenOption.READ, StandardOpenOption.WRITE)) {
+            return channel.map(FileChannel.MapMode.READ_WRITE, 0, size);
+        }
+    }
+
+    private static SegmentScan scan(ByteBuffer buffer, long firstSequence, long afterSequence, Consumer<QueuedEvent> consumer) throws IOException {
+        int position = 0;
+        long expectedSequence = firstSequence;
+
+        while (position + HEADER_BYTES <= buffer.limit()) {
+            int length = buffer.getInt(position);
+            if (length <= 0 || length > buffer.limit() - position - HEADER_BYTES) {
+                break;
+            }
+            long sequence = buffer.getLong(position + Integer.BYTES);
+            int checksum = buffer.getInt(position + Integer.BYTES + Long.BYTES);
+            byte[] payload = new byte[length];
+            buffer.get(position + HEADER_BYTES, payload);
+            if (sequence != expectedSequence || checksum(payload) != checksum) {
+                break;
+            }
+
+            if (consumer != null && sequence > afterSequence) {
+                consumer.accept(new QueuedEvent(sequence, EventJournalCodec.decode(payload)));
+            }
+            position += HEADER_BYTES + length;
+            expectedSequence++;
+        }
+
+        return new SegmentScan(position, expectedSequence - 1);
+    }
+
+    private static TreeMap<Long, Path> listSegments(Path directory) throws IOException {
+        TreeMap<Long, Path> found = new TreeMap<>();
+        try (Stream<Path> files = Files.list(directory)) {
+            files.forEach(file -> {
+                String name = file.getFileName().toString();
+                if (name.startsWith(SEGMENT_PREFIX) && name.endsWith(SEGMENT_SUFFIX)) {
+                    found.put(Long.parseLong(name.substring(SEGMENT_PREFIX.length(), name.length() - SEGMENT_SUFFIX.length())), file);
+                }
+            });
+        }
+        return found;
+    }
+
+    private static int checksum(byte[] payload) {
+        CRC32C crc = new CRC32C();
+        crc.update(payload);
+        return (int) crc.getValue();
+    }
+
+    private record SegmentScan(int end, long lastSequence) {}
+}
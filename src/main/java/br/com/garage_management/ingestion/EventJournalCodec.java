@@ -0,0 +1,112 @@
+package br.com.garage_management.ingestion;
+
+import br.com.garage_management.domain.dto.EntryEventDto;
+import br.com.garage_management.domain.dto.ExitEventDto;
+import br.com.garage_management.domain.dto.ParkedEventDto;
+import br.com.garage_management.domain.dto.WebhookEvent;
+
+import java.io.ByteArrayInputStream;
+import java.io.ByteArrayOutputStream;
+import java.io.DataInputStream;
+import java.io.DataOutputStream;
+import java.io.IOException;
+import java.io.UncheckedIOException;
+import java.nio.charset.StandardCharsets;
+import java.time.LocalDateTime;
+import java.time.ZoneOffset;
+
+final class EventJournalCodec {
+
+    private static final byte ENTRY = 1;
+    private static final byte PARKED = 2;
+    private static final byte EXIT = 3;
+    private static final byte TIMED_PARKED = 4;
+
+    private EventJournalCodec() {
+    }
+
+    static byte[] encode(WebhookEvent event) {
+        ByteArrayOutputStream bytes = new ByteArrayOutputStream(64);
+        try (DataOutputStream output = new DataOutputStream(bytes)) {
+            switch (event) {
+                case EntryEventDto entry -> {
+                    output.writeByte(ENTRY);
+                    writeString(output, entry.licensePlate());
+                    writeDateTime(output, entry.entryTime());
+                }
+                case ParkedEventDto parked -> {
+                    output.writeByte(TIMED_PARKED);
+                    writeString(output, parked.licensePlate());
+                    writeDouble(output, parked.lat());
+                    writeDouble(output, parked.lng());
+                    writeDateTime(output, parked.parkedTime());
+                }
+                case ExitEventDto exit -> {
+                    output.writeByte(EXIT);
+                    writeString(output, exit.licensePlate());
+                    writeDateTime(output, exit.exitTime());
+                }
+            }
+        } catch (IOException e) {
+            throw new UncheckedIOException(e);
+        }
+        return bytes.toByteArray();
+    }
+
+    static WebhookEvent decode(byte[] payload) throws IOException {
+        try (DataInputStream input = new DataInputStream(new ByteArrayInputStream(payload))) {
+            byte type = input.readByte();
+            return switch (type) {
+                case ENTRY -> new EntryEventDto(readString(input), readDateTime(input));
+                case PARKED -> new ParkedEventDto(readString(input), readDouble(input), readDouble(input), null);
+                case TIMED_PARKED -> new ParkedEventDto(readString(input), readDouble(input), readDouble(input), readDateTime(input));
+                case EXIT -> new ExitEventDto(readString(input), readDateTime(input));
+                default -> throw new IOException("Tipo de evento desconhecido no diário: " + type);
+            };
+        }
+    }
+
+    private static void writeString(DataOutputStream output, String value) throws IOException {
+        if (value == null) {
+            output.writeShort(-1);
+            return;
+        }
+        byte[] bytes = value.getBytes(StandardCharsets.UTF_8);
+        if (bytes.length > Short.MAX_VALUE) {
+            throw new IOException("Texto com " + bytes.length + " bytes excede o limite do diário.");
+        }
+        output.writeShort(bytes.length);
+        output.write(bytes);
+    }
+
+    private static String readString(DataInputStream input) throws IOException {
+        short length = input.readShort();
+        if (length < 0) {
+            return null;
+        }
+        return new String(input.readNBytes(length), StandardCharsets.UTF_8);
+    }
+
+    private static void writeDateTime(DataOutputStream output, LocalDateTime value) throws IOException {
+        output.writeBoolean(value != null);
+        if (value != null) {
+            output.writeLong(value.toEpochSecond(ZoneOffset.UTC));
+            output.writeInt(value.getNano());
+        }
+    }
+
+    private static LocalDateTime readDateTime(DataInputStream input) throws IOException {
+        return input.readBoolean() ? LocalDateTime.ofEpochSecond(input.readLong(), input.readInt(), ZoneOffset.UTC) : null;
+    }
+
+    private static void writeDouble(DataOutputStream output, Double value) throws IOException {
+        output.writeBoolean(value != null);
+        if (value != null) {
+            output.writeDouble(value);
+        }
+    }
+
+    private static Double readDouble(DataInputStream input) throws IOException {
+        return input.readBoolean() ? input.readDouble() : null;
+    }
+}
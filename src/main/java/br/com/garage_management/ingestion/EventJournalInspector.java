@@ -0,0 +1,57 @@
+package br.com.garage_management.ingestion;
+
+import br.com.garage_management.domain.dto.WebhookEvent;
+import com.fasterxml.jackson.core.JsonProcessingException;
+import com.fasterxml.jackson.databind.ObjectWriter;
+import com.fasterxml.jackson.databind.SerializationFeature;
+import com.fasterxml.jackson.databind.json.JsonMapper;
+
+import java.io.IOException;
+import java.io.PrintStream;
+import java.io.UncheckedIOException;
+import java.nio.file.Path;
+import java.util.concurrent.atomic.AtomicLong;
+
+public final class EventJournalInspector {
+
+    private EventJournalInspector() {
+    }
+
+    public static void main(String[] args) throws IOException {
+        if (args.length < 1 || args.length > 3) {
+            System.err.println("Uso: EventJournalInspector <diretório do diário> [sequência inicial] [sequência final]");
+            System.exit(1);
+        }
+
+        Path directory = Path.of(args[0]);
+        long fromSequence = args.length > 1 ? Long.parseLong(args[1]) : 1;
+        long toSequence = args.length > 2 ? Long.parseLong(args[2]) : Long.MAX_VALUE;
+
+        long exported = export(directory, fromSequence, toSequence, System.out);
+        System.out.flush();
+        System.err.printf("%d eventos exportados de %s.%n", exported, directory);
+    }
+
+    static long export(Path directory, long fromSequence, long toSequence, PrintStream output) throws IOException {
+        ObjectWriter eventWriter = JsonMapper.builder()
+                .findAndAddModules()
+                .disable(SerializationFeature.WRITE_DATES_AS_TIMESTAMPS)
+                .build()
+                .writerFor(WebhookEvent.class);
+        AtomicLong exported = new AtomicLong();
+
+        EventJournal.read(directory, fromSequence - 1, queued -> {
+            if (queued.sequence() > toSequence) {
+                return;
+            }
+            try {
+                output.println(eventWriter.writeValueAsString(queued.event()));
+            } catch (JsonProcessingException e) {
+                throw new UncheckedIOException(e);
+            }
+            exported.incrementAndGet();
+        });
+
+        return exported.get();
+    }
+}
@@ -0,0 +1,9 @@
+package br.com.garage_management.ingestion;
+
+import br.com.garage_management.domain.dto.WebhookEvent;
+
+public record QueuedEvent(
+
+        long sequence,
+        WebhookEvent event
+) {}
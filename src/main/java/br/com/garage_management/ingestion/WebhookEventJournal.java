@@ -0,0 +1,129 @@
+package br.com.garage_management.ingestion;
+
+import br.com.garage_management.domain.dto.WebhookEvent;
+import br.com.garage_management.service.WebhookEventDispatcher;
+import br.com.garage_management.state.GarageStateLoadedEvent;
+import br.com.garage_management.util.ErrorConstantsEnum;
+import com.fasterxml.jackson.databind.ObjectMapper;
+import jakarta.annotation.PreDestroy;
+import lombok.extern.slf4j.Slf4j;
+import org.springframework.beans.factory.annotation.Value;
+import org.springframework.context.event.EventListener;
+import org.springframework.stereotype.Component;
+
+import java.io.IOException;
+import java.nio.file.Path;
+import java.util.ArrayList;
+import java.util.List;
+import java.util.concurrent.CompletableFuture;
+import java.util.concurrent.Executors;
+import java.util.concurrent.ScheduledExecutorService;
+import java.util.concurrent.TimeUnit;
+
+@Slf4j
+@Component
+public class WebhookEventJournal {
+
+    private static final long CHECKPOINT_INTERVAL_MILLIS = 1000;
+
+    private final WebhookEventDispatcher webhookEventDispatcher;
+    private final DurableEventQueue queue;
+    private final ScheduledExecutorService maintenance =
+            Executors.newSingleThreadScheduledExecutor(Thread.ofPlatform().name("webhook-journal-checkpoint").daemon().factory());
+
+    private boolean started;
+
+    public WebhookEventJournal(WebhookEventDispatcher webhookEventDispatcher,
+                               ObjectMapper objectMapper,
+                               @Value("${garage.webhook.journal.directory:data/webhook-queue}") String directory,
+                               @Value("${garage.webhook.journal.fsync:true}") boolean fsync,
+                               @Value("${garage.webhook.journal.segment-size-bytes:67108864}") int segmentSizeBytes,
+                               @Value("${garage.webhook.journal.retained-segments:4}") int retainedSegments) throws IOException {
+        this.webhookEventDispatcher = webhookEventDispatcher;
+        this.queue = new DurableEventQueue(Path.of(directory), objectMapper, fsync, segmentSizeBytes, retainedSegments);
+    }
+
+    @EventListener(GarageStateLoadedEvent.class)
+    public synchronized void start() {
+        if (started) {
+            return;
+        }
+        started = true;
+        replayRecovered();
+        maintenance.scheduleAtFixedRate(this::flushCheckpoint, CHECKPOINT_INTERVAL_MILLIS, CHECKPOINT_INTERVAL_MILLIS, TimeUnit.MILLISECONDS);
+    }
+
+    public QueuedEvent append(WebhookEvent event) {
+        try {
+            return queue.append(event);
+        } catch (IOException e) {
+            log.error("Falha ao gravar evento da placa {} no diário de eventos.", event.licensePlate(), e);
+            throw ErrorConstantsEnum.WEBHOOK_QUEUE_UNAVAILABLE.asException();
+        }
+    }
+
+    public void acknowledge(QueuedEvent queued) {
+        queue.acknowledge(queued.sequence());
+    }
+
+    public long deadLetter(QueuedEvent queued) throws IOException {
+        return queue.deadLetter(queued);
+    }
+
+    public List<QueuedEvent> drainRecovered() {
+        return queue.drainRecovered();
+    }
+
+    public int depth() {
+        return queue.depth();
+    }
+
+    public long oldestUnacknowledgedAgeMillis() {
+        return queue.oldestUnacknowledgedAgeMillis();
+    }
+
+    @PreDestroy
+    public void shutdown() throws IOException {
+        maintenance.shutdownNow();
+        if (queue.depth() > 0) {
+            log.warn("{} eventos do diário não foram confirmados e serão reaplicados na próxima inicialização.", queue.depth());
+        }
+        queue.close();
+    }
+
+    private void replayRecovered() {
+        List<QueuedEvent> events = queue.drainRecovered();
+        if (events.isEmpty()) {
+            return;
+        }
+
+        List<CompletableFuture<Void>> replays = new ArrayList<>(events.size());
+        for (QueuedEvent queued : events) {
+            replays.add(webhookEventDispatcher.submit(queued.event().licensePlate(), () -> replay(queued)));
+        }
+        CompletableFuture.allOf(replays.toArray(CompletableFuture[]::new)).join();
+        log.info("{} eventos não confirmados reaplicados a partir do diário de eventos.", events.size());
+    }
+
+    private void replay(QueuedEvent queued) {
+        try {
+            webhookEventDispatcher.apply(queued.event());
+            queue.acknowledge(queued.sequence());
+        } catch (RuntimeException e) {
+            log.warn("Evento {} da placa {} não pôde ser reaplicado: {}", queued.sequence(), queued.event().licensePlate(), e.getMessage());
+            try {
+                queue.deadLetter(queued);
+            } catch (IOException deadLetterFailure) {
+                log.error("Falha ao gravar o evento {} na fila de eventos rejeitados; ele permanecerá pendente até a próxima inicialização.", queued.sequence(), deadLetterFailure);
+            }
+        }
+    }
+
+    private void flushCheckpoint() {
+        try {
+            queue.flushCheckpoint();
+        } catch (IOException e) {
+            log.error("Falha ao gravar o checkpoint do diário de eventos.", e);
+        }
+    }
+}
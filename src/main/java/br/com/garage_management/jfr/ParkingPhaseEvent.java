@@ -0,0 +1,66 @@
+package br.com.garage_management.jfr;
+
+import jdk.jfr.Category;
+import jdk.jfr.Event;
+import jdk.jfr.Label;
+import jdk.jfr.Name;
+import jdk.jfr.StackTrace;
+
+@Name("br.com.garage_management.ParkingPhase")
+@Label("Parking Phase")
+@Category({ "Garage Management", "Parking" })
+@StackTrace(false)
+public class ParkingPhaseEvent extends Event {
+
+    public static final String PLATE_LOOKUP = "PLATE_LOOKUP";
+    public static final String SECTOR_SELECTION = "SECTOR_SELECTION";
+    public static final String SPOT_ALLOCATION = "SPOT_ALLOCATION";
+    public static final String PRICE_CALCULATION = "PRICE_CALCULATION";
+    public static final String PERSIST = "PERSIST";
+
+    @Label("Phase")
+    String phase;
+
+    @Label("Event Type")
+    String eventType;
+
+    @Label("License Plate")
+    String licensePlate;
+
+    @Label("Sector")
+    String sector;
+
+    @Label("Error")
+    String error;
+
+    public static ParkingPhaseEvent start(String phase, String eventType, String licensePlate) {
+        ParkingPhaseEvent event = new ParkingPhaseEvent();
+        if (event.isEnabled()) {
+            event.phase = phase;
+            event.eventType = eventType;
+            event.licensePlate = licensePlate;
+            event.begin();
+        }
+        return event;
+    }
+
+    public void finish(String sector) {
+        finish(sector, null);
+    }
+
+    public void finish(String sector, Throwable failure) {
+        if (isEnabled()) {
+            end();
+            if (shouldCommit()) {
+                this.sector = sector;
+                this.error = failure == null ? null : describe(failure);
+                commit();
+            }
+        }
+    }
+
+    private static String describe(Throwable failure) {
+        String message = failure.getMessage();
+        return message == null ? failure.getClass().getName() : failure.getClass().getName() + ": " + message;
+    }
+}
@@ -0,0 +1,43 @@
+package br.com.garage_management.jfr;
+
+import jdk.jfr.Category;
+import jdk.jfr.Event;
+import jdk.jfr.Label;
+import jdk.jfr.Name;
+import jdk.jfr.StackTrace;
+
+@Name("br.com.garage_management.WebhookRequest")
+@Label("Webhook Request")
+@Category({ "Garage Management", "Webhook" })
+@StackTrace(false)
+public class WebhookRequestEvent extends Event {
+
+    @Label("Event Type")
+    String eventType;
+
+    @Label("License Plate")
+    String licensePlate;
+
+    @Label("Outcome")
+    String outcome;
+
+    public static WebhookRequestEvent start(String eventType, String licensePlate) {
+        WebhookRequestEvent event = new WebhookRequestEvent();
+        if (event.isEnabled()) {
+            event.eventType = eventType;
+            event.licensePlate = licensePlate;
+            event.begin();
+        }
+        return event;
+    }
+
+    public void finish(String outcome) {
+        if (isEnabled()) {
+            end();
+            if (shouldCommit()) {
+                this.outcome = outcome;
+                commit();
+            }
+        }
+    }
+}
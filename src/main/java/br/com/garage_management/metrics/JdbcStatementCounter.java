@@ -0,0 +1,18 @@
+package br.com.garage_management.metrics;
+
+import org.hibernate.resource.jdbc.spi.StatementInspector;
+
+public class JdbcStatementCounter implements StatementInspector {
+
+    private static final ThreadLocal<long[]> PREPARED = ThreadLocal.withInitial(() -> new long[1]);
+
+    public static long current() {
+        return PREPARED.get()[0];
+    }
+
+    @Override
+    public String inspect(String sql) {
+        PREPARED.get()[0]++;
+        return sql;
+    }
+}
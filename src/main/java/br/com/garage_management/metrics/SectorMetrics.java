@@ -0,0 +1,31 @@
+package br.com.garage_management.metrics;
+
+import br.com.garage_management.state.GarageStateLoadedEvent;
+import br.com.garage_management.state.SectorOccupancyTracker;
+import io.micrometer.core.instrument.Gauge;
+import io.micrometer.core.instrument.MeterRegistry;
+import lombok.RequiredArgsConstructor;
+import org.springframework.context.event.EventListener;
+import org.springframework.stereotype.Component;
+
+@Component
+@RequiredArgsConstructor
+public class SectorMetrics {
+
+    private final MeterRegistry meterRegistry;
+    private final SectorOccupancyTracker sectorOccupancyTracker;
+
+    @EventListener(GarageStateLoadedEvent.class)
+    public void register() {
+        for (String sector : sectorOccupancyTracker.sectors()) {
+            Gauge.builder("garage.sector.occupied", sectorOccupancyTracker, tracker -> tracker.occupiedCount(sector))
+                    .description("Vagas ocupadas no setor")
+                    .tag("sector", sector)
+                    .register(meterRegistry);
+            Gauge.builder("garage.sector.capacity", sectorOccupancyTracker, tracker -> tracker.maxCapacity(sector))
+                    .description("Capacidade máxima do setor")
+                    .tag("sector", sector)
+                    .register(meterRegistry);
+        }
+    }
+}
@@ -0,0 +1,72 @@
+package br.com.garage_management.metrics;
+
+import br.com.garage_management.domain.dto.EntryEventDto;
+import br.com.garage_management.domain.dto.ExitEventDto;
+import br.com.garage_management.domain.dto.ParkedEventDto;
+import br.com.garage_management.domain.dto.WebhookEvent;
+import br.com.garage_management.exception.BusinessException;
+import br.com.garage_management.util.ErrorConstantsEnum;
+import io.micrometer.core.instrument.Counter;
+import io.micrometer.core.instrument.DistributionSummary;
+import io.micrometer.core.instrument.MeterRegistry;
+import io.micrometer.core.instrument.Timer;
+import org.springframework.stereotype.Component;
+
+import java.util.Map;
+import java.util.concurrent.ConcurrentHashMap;
+import java.util.concurrent.TimeUnit;
+
+@Component
+public class WebhookMetrics {
+
+    public static final String PROCESSED = "PROCESSED";
+    public static final String DUPLICATE = "DUPLICATE";
+    public static final String UNEXPECTED_ERROR = "UNEXPECTED_ERROR";
+
+    private static final String[] EVENT_TYPES = { "ENTRY", "PARKED", "EXIT" };
+
+    private final MeterRegistry meterRegistry;
+    private final Map<String, Timer> timers = new ConcurrentHashMap<>();
+    private final Map<String, DistributionSummary> statements = new ConcurrentHashMap<>();
+    private final Map<String, Counter> outcomes = new ConcurrentHashMap<>();
+
+    public WebhookMetrics(MeterRegistry meterRegistry) {
+        this.meterRegistry = meterRegistry;
+        for (String eventType : EVENT_TYPES) {
+            timers.put(eventType, Timer.builder("garage.webhook.processing")
+                    .description("Tempo de processamento de um evento do webhook")
+                    .tag("event_type", eventType)
+                    .register(meterRegistry));
+            statements.put(eventType, DistributionSummary.builder("garage.webhook.db.statements")
+                    .description("Comandos SQL preparados por evento do webhook")
+                    .tag("event_type", eventType)
+                    .register(meterRegistry));
+        }
+    }
+
+    public void record(WebhookEvent event, String outcome, long elapsedNanos, long statementCount) {
+        String eventType = eventType(event);
+        timers.get(eventType).record(elapsedNanos, TimeUnit.NANOSECONDS);
+        statements.get(eventType).record(statementCount);
+        outcomes.computeIfAbsent(eventType + ':' + outcome, key -> Counter.builder("garage.webhook.outcomes")
+                        .description("Eventos do webhook por tipo e resultado")
+                        .tag("event_type", eventType)
+                        .tag("outcome", outcome)
+                        .register(meterRegistry))
+                .increment();
+    }
+
+    public static String outcomeOf(BusinessException exception) {
+        return ErrorConstantsEnum.fromException(exception)
+                .map(ErrorConstantsEnum::name)
+                .orElse(UNEXPECTED_ERROR);
+    }
+
+    public static String eventType(WebhookEvent event) {
+        return switch (event) {
+            case EntryEventDto ignored -> "ENTRY";
+            case ParkedEventDto ignored -> "PARKED";
+            case ExitEventDto ignored -> "EXIT";
+        };
+    }
+}
@@ -0,0 +1,36 @@
+package br.com.garage_management.repository;
+
+import br.com.garage_management.domain.model.ArchivedParkingRecord;
+import br.com.garage_management.domain.model.ArchivedParkingRecordId;
+import jakarta.persistence.QueryHint;
+import org.springframework.data.jpa.repository.JpaRepository;
+import org.springframework.data.jpa.repository.Modifying;
+import org.springframework.data.jpa.repository.Query;
+import org.springframework.data.jpa.repository.QueryHints;
+import org.springframework.data.repository.query.Param;
+import org.springframework.stereotype.Repository;
+
+import java.time.LocalDateTime;
+import java.util.Collection;
+import java.util.Optional;
+
+import static org.hibernate.jpa.HibernateHints.HINT_NATIVE_SPACES;
+
+@Repository
+public interface ArchivedParkingRecordRepository extends JpaRepository<ArchivedParkingRecord, ArchivedParkingRecordId> {
+
+    @Modifying
+    @QueryHints(@QueryHint(name = HINT_NATIVE_SPACES, value = ArchivedParkingRecord.TABLE))
+    @Query(value = "INSERT INTO tb_parking_records_archive (id, exit_time, license_plate, entry_time, sector, parking_space_id, " +
+            "price_applied_on_entry_cents, final_price_cents, latitude, longitude) " +
+            "SELECT id, exit_time, license_plate, entry_time, sector_id, parking_space_id, " +
+            "price_applied_on_entry_cents, final_price_cents, latitude, longitude " +
+            "FROM tb_parking_records WHERE id IN (:ids) AND status = 'COMPLETED'", nativeQuery = true)
+    int copyCompletedRecords(@Param("ids") Collection<Long> ids);
+
+    @Query("SELECT MIN(a.id.exitTime) FROM ArchivedParkingRecord a")
+    Optional<LocalDateTime> findOldestExitTime();
+
+    @Query("SELECT MAX(a.id.exitTime) FROM ArchivedParkingRecord a")
+    Optional<LocalDateTime> findNewestExitTime();
+}
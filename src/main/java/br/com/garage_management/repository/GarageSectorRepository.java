@@ -1,10 +1,32 @@
 package br.com.garage_management.repository;
 
 import br.com.garage_management.domain.model.GarageSector;
+import br.com.garage_management.domain.projection.SectorOccupancyProjection;
+import jakarta.persistence.QueryHint;
 import org.springframework.data.jpa.repository.JpaRepository;
+import org.springframework.data.jpa.repository.Modifying;
+import org.springframework.data.jpa.repository.Query;
+import org.springframework.data.jpa.repository.QueryHints;
+import org.springframework.data.repository.query.Param;
 import org.springframework.stereotype.Repository;
 
+import java.util.List;
+
+import static org.hibernate.jpa.HibernateHints.HINT_NATIVE_SPACES;
+
 @Repository
 public interface GarageSectorRepository extends JpaRepository<GarageSector, String> {
 
-}
\ No newline at end of file
+    @Query("SELECT s.sector AS sector, s.maxCapacity AS maxCapacity, s.occupiedCount AS occupiedCount FROM GarageSector s ORDER BY s.sector")
+    List<SectorOccupancyProjection> findAllOccupancies();
+
+    @Modifying
+    @QueryHints(@QueryHint(name = HINT_NATIVE_SPACES, value = GarageSector.OCCUPANCY_QUERY_SPACE))
+    @Query(value = "UPDATE tb_garage_sectors SET occupied_count = occupied_count + 1 WHERE sector = :sector", nativeQuery = true)
+    int incrementOccupiedCount(@Param("sector") String sector);
+
+    @Modifying
+    @QueryHints(@QueryHint(name = HINT_NATIVE_SPACES, value = GarageSector.OCCUPANCY_QUERY_SPACE))
+    @Query(value = "UPDATE tb_garage_sectors SET occupied_count = occupied_count - 1 WHERE sector = :sector AND occupied_count > 0", nativeQuery = true)
+    int decrementOccupiedCount(@Param("sector") String sector);
+}
@@ -1,23 +1,80 @@
 package br.com.garage_management.repository;
 
+import br.com.garage_management.domain.dto.RevenueBucketDto;
 import br.com.garage_management.domain.model.ParkingRecord;
 import br.com.garage_management.domain.enums.ParkingStatusEnum;
+import br.com.garage_management.domain.projection.RevenueRollupProjection;
+import br.com.garage_management.state.ActiveSession;
+import jakarta.persistence.QueryHint;
+import org.springframework.data.domain.Limit;
 import org.springframework.data.jpa.repository.JpaRepository;
+import org.springframework.data.jpa.repository.Modifying;
 import org.springframework.data.jpa.repository.Query;
+import org.springframework.data.jpa.repository.QueryHints;
 import org.springframework.data.repository.query.Param;
 import org.springframework.stereotype.Repository;
 
-import java.math.BigDecimal;
-import java.time.LocalDate;
+import java.time.LocalDateTime;
+import java.util.Collection;
+import java.util.List;
 import java.util.Optional;
+import java.util.stream.Stream;
+
+import static org.hibernate.jpa.HibernateHints.HINT_FETCH_SIZE;
+import static org.hibernate.jpa.HibernateHints.HINT_READ_ONLY;
 
 @Repository
 public interface ParkingRecordRepository extends JpaRepository<ParkingRecord, Long> {
 
-    Optional<ParkingRecord> findByLicensePlateAndStatus(String licensePlate, ParkingStatusEnum status);
+    String COMPLETED_IN_RANGE =
+            "SELECT pr.garageSector.sector AS sector, pr.exitTime AS exitTime, pr.finalPriceCents AS finalPriceCents " +
+            "FROM ParkingRecord pr WHERE pr.status = 'COMPLETED' AND pr.exitTime >= :start AND pr.exitTime < :end " +
+            "UNION ALL " +
+            "SELECT a.sector, a.id.exitTime, a.finalPriceCents " +
+            "FROM ArchivedParkingRecord a WHERE a.id.exitTime >= :start AND a.id.exitTime < :end";
+
+    String COMPLETED_IN_RANGE_BY_SECTORS =
+            "SELECT pr.garageSector.sector AS sector, pr.exitTime AS exitTime, pr.finalPriceCents AS finalPriceCents " +
+            "FROM ParkingRecord pr WHERE pr.status = 'COMPLETED' AND pr.exitTime >= :start AND pr.exitTime < :end AND pr.garageSector.sector IN :sectors " +
+            "UNION ALL " +
+            "SELECT a.sector, a.id.exitTime, a.finalPriceCents " +
+            "FROM ArchivedParkingRecord a WHERE a.id.exitTime >= :start AND a.id.exitTime < :end AND a.sector IN :sectors";
+
+    @Query("SELECT r.sector AS sector, CAST(r.exitTime AS LocalDate) AS revenueDate, " +
+            "SUM(r.finalPriceCents) AS totalAmountCents, COUNT(*) AS completedCount " +
+            "FROM (" + COMPLETED_IN_RANGE + ") r " +
+            "GROUP BY r.sector, CAST(r.exitTime AS LocalDate)")
+    List<RevenueRollupProjection> sumCompletedRevenueBySectorAndDay(@Param("start") LocalDateTime start, @Param("end") LocalDateTime end);
+
+    @QueryHints({ @QueryHint(name = HINT_FETCH_SIZE, value = "1000"), @QueryHint(name = HINT_READ_ONLY, value = "true") })
+    @Query("SELECT new br.com.garage_management.state.ActiveSession(pr.id, pr.licensePlate, pr.parkingSpace.id, pr.garageSector.sector, pr.entryTime, pr.priceAppliedOnEntryCents) " +
+            "FROM ParkingRecord pr WHERE pr.status = :status AND pr.garageSector.sector = :sector")
+    Stream<ActiveSession> streamSessionsBySectorAndStatus(@Param("sector") String sector, @Param("status") ParkingStatusEnum status);
+
+    @QueryHints({ @QueryHint(name = HINT_FETCH_SIZE, value = "500"), @QueryHint(name = HINT_READ_ONLY, value = "true") })
+    @Query("SELECT new br.com.garage_management.domain.dto.RevenueBucketDto(r.sector, CAST(r.exitTime AS LocalDate), HOUR(r.exitTime), SUM(r.finalPriceCents), COUNT(*)) " +
+            "FROM (" + COMPLETED_IN_RANGE + ") r " +
+            "GROUP BY r.sector, CAST(r.exitTime AS LocalDate), HOUR(r.exitTime) " +
+            "ORDER BY CAST(r.exitTime AS LocalDate), HOUR(r.exitTime), r.sector")
+    Stream<RevenueBucketDto> streamHourlyBuckets(@Param("start") LocalDateTime start, @Param("end") LocalDateTime end);
+
+    @QueryHints({ @QueryHint(name = HINT_FETCH_SIZE, value = "500"), @QueryHint(name = HINT_READ_ONLY, value = "true") })
+    @Query("SELECT new br.com.garage_management.domain.dto.RevenueBucketDto(r.sector, CAST(r.exitTime AS LocalDate), HOUR(r.exitTime), SUM(r.finalPriceCents), COUNT(*)) " +
+            "FROM (" + COMPLETED_IN_RANGE_BY_SECTORS + ") r " +
+            "GROUP BY r.sector, CAST(r.exitTime AS LocalDate), HOUR(r.exitTime) " +
+            "ORDER BY CAST(r.exitTime AS LocalDate), HOUR(r.exitTime), r.sector")
+    Stream<RevenueBucketDto> streamHourlyBucketsBySectors(@Param("start") LocalDateTime start, @Param("end") LocalDateTime end, @Param("sectors") Collection<String> sectors);
+
+    @Query("SELECT MIN(pr.exitTime) FROM ParkingRecord pr WHERE pr.status = 'COMPLETED'")
+    Optional<LocalDateTime> findOldestCompletedExitTime();
+
+    @Query("SELECT MAX(pr.exitTime) FROM ParkingRecord pr WHERE pr.status = 'COMPLETED'")
+    Optional<LocalDateTime> findNewestCompletedExitTime();
 
-    @Query("SELECT SUM(pr.finalPrice) FROM ParkingRecord pr WHERE pr.garageSector.sector = :sector AND CAST(pr.exitTime AS DATE) = :date AND pr.status = 'COMPLETED'")
-    Optional<BigDecimal> calculateTotalRevenueBySectorAndDate(@Param("sector") String sector, @Param("date") LocalDate date);
+    @Query("SELECT pr.id FROM ParkingRecord pr WHERE pr.status = 'COMPLETED' AND pr.exitTime < :cutoff ORDER BY pr.exitTime")
+    List<Long> findArchivableIds(@Param("cutoff") LocalDateTime cutoff, Limit limit);
 
-    boolean existsByLicensePlateAndStatus(String licensePlate, ParkingStatusEnum status);
-}
\ No newline at end of file
+    @Modifying
+    @Query("DELETE FROM ParkingRecord pr WHERE pr.id IN :ids AND pr.status = 'COMPLETED'")
+    int deleteCompletedByIdIn(@Param("ids") Collection<Long> ids);
+}
@@ -1,17 +1,25 @@
 package br.com.garage_management.repository;
 
-import br.com.garage_management.domain.model.GarageSector;
 import br.com.garage_management.domain.model.ParkingSpace;
+import br.com.garage_management.domain.projection.ParkingSpaceStateProjection;
+import jakarta.persistence.QueryHint;
 import org.springframework.data.jpa.repository.JpaRepository;
+import org.springframework.data.jpa.repository.Query;
+import org.springframework.data.jpa.repository.QueryHints;
+import org.springframework.data.repository.query.Param;
 import org.springframework.stereotype.Repository;
 
-import java.util.Optional;
+import java.util.stream.Stream;
+
+import static org.hibernate.jpa.HibernateHints.HINT_FETCH_SIZE;
+import static org.hibernate.jpa.HibernateHints.HINT_READ_ONLY;
 
 @Repository
 public interface ParkingSpaceRepository extends JpaRepository<ParkingSpace, Long> {
 
-    Optional<ParkingSpace> findFirstByGarageSectorAndIsOccupied(GarageSector garageSector, boolean isOccupied);
-
-    Optional<ParkingSpace> findByLatAndLng(Double lat, Double lng);
+    @QueryHints({ @QueryHint(name = HINT_FETCH_SIZE, value = "1000"), @QueryHint(name = HINT_READ_ONLY, value = "true") })
+    @Query("SELECT ps.id AS id, ps.garageSector.sector AS sector, ps.isOccupied AS occupied, ps.lat AS lat, ps.lng AS lng " +
+            "FROM ParkingSpace ps WHERE ps.garageSector.sector = :sector ORDER BY ps.id")
+    Stream<ParkingSpaceStateProjection> streamSpaceStatesBySector(@Param("sector") String sector);
 
-}
\ No newline at end of file
+}
@@ -0,0 +1,26 @@
+package br.com.garage_management.repository;
+
+import br.com.garage_management.domain.model.ProcessedEvent;
+import org.springframework.data.jpa.repository.JpaRepository;
+import org.springframework.data.jpa.repository.Modifying;
+import org.springframework.data.jpa.repository.Query;
+import org.springframework.data.repository.query.Param;
+import org.springframework.stereotype.Repository;
+
+import java.time.LocalDateTime;
+import java.util.List;
+
+@Repository
+public interface ProcessedEventRepository extends JpaRepository<ProcessedEvent, String> {
+
+    @Modifying
+    @Query(value = "INSERT INTO tb_processed_events (event_key, processed_at) VALUES (:eventKey, :processedAt)", nativeQuery = true)
+    int insert(@Param("eventKey") String eventKey, @Param("processedAt") LocalDateTime processedAt);
+
+    @Modifying
+    @Query("DELETE FROM ProcessedEvent e WHERE e.processedAt < :cutoff")
+    int deleteByProcessedAtBefore(@Param("cutoff") LocalDateTime cutoff);
+
+    @Query("SELECT e.eventKey FROM ProcessedEvent e")
+    List<String> findAllEventKeys();
+}
@@ -0,0 +1,49 @@
+package br.com.garage_management.repository;
+
+import br.com.garage_management.domain.dto.RevenueBucketDto;
+import br.com.garage_management.domain.model.RevenueRollup;
+import br.com.garage_management.domain.model.RevenueRollupId;
+import jakarta.persistence.LockModeType;
+import jakarta.persistence.QueryHint;
+import org.springframework.data.jpa.repository.JpaRepository;
+import org.springframework.data.jpa.repository.Lock;
+import org.springframework.data.jpa.repository.Modifying;
+import org.springframework.data.jpa.repository.Query;
+import org.springframework.data.jpa.repository.QueryHints;
+import org.springframework.data.repository.query.Param;
+import org.springframework.stereotype.Repository;
+
+import java.time.LocalDate;
+import java.util.Collection;
+import java.util.List;
+import java.util.stream.Stream;
+
+import static org.hibernate.jpa.HibernateHints.HINT_FETCH_SIZE;
+import static org.hibernate.jpa.HibernateHints.HINT_READ_ONLY;
+
+@Repository
+public interface RevenueRollupRepository extends JpaRepository<RevenueRollup, RevenueRollupId> {
+
+    @Modifying
+    @Query("INSERT INTO RevenueRollup (id.sector, id.revenueDate, totalAmountCents, completedCount) VALUES (:sector, :date, :amountCents, 1) " +
+            "ON CONFLICT (id) DO UPDATE SET totalAmountCents = totalAmountCents + excluded.totalAmountCents, completedCount = completedCount + 1")
+    int addRevenue(@Param("sector") String sector, @Param("date") LocalDate date, @Param("amountCents") long amountCents);
+
+    @Lock(LockModeType.PESSIMISTIC_WRITE)
+    @Query("SELECT r.id FROM RevenueRollup r WHERE r.id.revenueDate BETWEEN :from AND :to")
+    List<RevenueRollupId> lockByRevenueDateBetween(@Param("from") LocalDate from, @Param("to") LocalDate to);
+
+    @Modifying
+    @Query("DELETE FROM RevenueRollup r WHERE r.id.revenueDate BETWEEN :from AND :to")
+    int deleteByRevenueDateBetween(@Param("from") LocalDate from, @Param("to") LocalDate to);
+
+    @QueryHints({ @QueryHint(name = HINT_FETCH_SIZE, value = "500"), @QueryHint(name = HINT_READ_ONLY, value = "true") })
+    @Query("SELECT new br.com.garage_management.domain.dto.RevenueBucketDto(r.id.sector, r.id.revenueDate, r.totalAmountCents, r.completedCount) " +
+            "FROM RevenueRollup r WHERE r.id.revenueDate BETWEEN :from AND :to ORDER BY r.id.revenueDate, r.id.sector")
+    Stream<RevenueBucketDto> streamDailyBuckets(@Param("from") LocalDate from, @Param("to") LocalDate to);
+
+    @QueryHints({ @QueryHint(name = HINT_FETCH_SIZE, value = "500"), @QueryHint(name = HINT_READ_ONLY, value = "true") })
+    @Query("SELECT new br.com.garage_management.domain.dto.RevenueBucketDto(r.id.sector, r.id.revenueDate, r.totalAmountCents, r.completedCount) " +
+            "FROM RevenueRollup r WHERE r.id.revenueDate BETWEEN :from AND :to AND r.id.sector IN :sectors ORDER BY r.id.revenueDate, r.id.sector")
+    Stream<RevenueBucketDto> streamDailyBucketsBySectors(@Param("from") LocalDate from, @Param("to") LocalDate to, @Param("sectors") Collection<String> sectors);
+}
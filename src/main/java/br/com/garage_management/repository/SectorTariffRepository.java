@@ -0,0 +1,9 @@
+package br.com.garage_management.repository;
+
+import br.com.garage_management.domain.model.SectorTariff;
+import org.springframework.data.jpa.repository.JpaRepository;
+import org.springframework.stereotype.Repository;
+
+@Repository
+public interface SectorTariffRepository extends JpaRepository<SectorTariff, String> {
+}
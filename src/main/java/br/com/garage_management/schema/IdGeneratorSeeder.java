@@ -0,0 +1,55 @@
+package br.com.garage_management.schema;
+
+import br.com.garage_management.domain.model.ArchivedParkingRecord;
+import br.com.garage_management.domain.model.IdGenerators;
+import jakarta.annotation.PostConstruct;
+import lombok.RequiredArgsConstructor;
+import lombok.extern.slf4j.Slf4j;
+import org.springframework.context.annotation.DependsOn;
+import org.springframework.jdbc.core.JdbcTemplate;
+import org.springframework.stereotype.Component;
+
+import java.util.List;
+import java.util.Map;
+
+@Slf4j
+@Component
+@DependsOn("entityManagerFactory")
+@RequiredArgsConstructor
+public class IdGeneratorSeeder {
+
+    private static final Map<String, List<String>> TABLES_BY_GENERATOR = Map.of(
+            IdGenerators.PARKING_RECORDS, List.of("tb_parking_records", ArchivedParkingRecord.TABLE),
+            IdGenerators.PARKING_SPACES, List.of("tb_parking_spaces")
+    );
+
+    private final JdbcTemplate jdbcTemplate;
+
+    @PostConstruct
+    public void seed() {
+        TABLES_BY_GENERATOR.forEach(this::seed);
+    }
+
+    private void seed(String generator, List<String> tables) {
+        long highestId = 0;
+        for (String table : tables) {
+            Long maxId = jdbcTemplate.queryForObject("SELECT COALESCE(MAX(id), 0) FROM " + table, Long.class);
+            highestId = Math.max(highestId, maxId == null ? 0 : maxId);
+        }
+        long nextValue = highestId + IdGenerators.ALLOCATION_SIZE + 1;
+
+        List<Long> current = jdbcTemplate.queryForList(
+                "SELECT " + IdGenerators.VALUE_COLUMN + " FROM " + IdGenerators.TABLE + " WHERE " + IdGenerators.NAME_COLUMN + " = ?",
+                Long.class, generator);
+
+        if (current.isEmpty()) {
+            jdbcTemplate.update("INSERT INTO " + IdGenerators.TABLE + " (" + IdGenerators.NAME_COLUMN + ", " + IdGenerators.VALUE_COLUMN + ") VALUES (?, ?)",
+                    generator, nextValue);
+            log.info("Gerador de ids '{}' iniciado em {}.", generator, nextValue);
+        } else if (current.getFirst() - IdGenerators.ALLOCATION_SIZE + 1 <= highestId) {
+            jdbcTemplate.update("UPDATE " + IdGenerators.TABLE + " SET " + IdGenerators.VALUE_COLUMN + " = ? WHERE " + IdGenerators.NAME_COLUMN + " = ?",
+                    nextValue, generator);
+            log.warn("Gerador de ids '{}' estava atrás do maior id da tabela e foi ajustado para {}.", generator, nextValue);
+        }
+    }
+}
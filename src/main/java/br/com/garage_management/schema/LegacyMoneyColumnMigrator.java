@@ -0,0 +1,116 @@
+package br.com.garage_management.schema;
+
+import jakarta.annotation.PostConstruct;
+import lombok.extern.slf4j.Slf4j;
+import org.springframework.beans.factory.annotation.Value;
+import org.springframework.context.annotation.DependsOn;
+import org.springframework.jdbc.core.ConnectionCallback;
+import org.springframework.jdbc.core.JdbcTemplate;
+import org.springframework.stereotype.Component;
+
+import java.sql.DatabaseMetaData;
+import java.sql.ResultSet;
+import java.sql.SQLException;
+import java.sql.Types;
+import java.util.List;
+import java.util.Locale;
+import java.util.Optional;
+
+@Slf4j
+@Component
+@DependsOn("entityManagerFactory")
+public class LegacyMoneyColumnMigrator {
+
+    private static final List<MoneyColumn> MONEY_COLUMNS = List.of(
+            new MoneyColumn("tb_garage_sectors", "base_price", "base_price_cents"),
+            new MoneyColumn("tb_parking_records", "price_applied_on_entry", "price_applied_on_entry_cents"),
+            new MoneyColumn("tb_parking_records", "final_price", "final_price_cents"),
+            new MoneyColumn("tb_revenue_rollups", "total_amount", "total_amount_cents")
+    );
+
+    private final JdbcTemplate jdbcTemplate;
+    private final boolean enabled;
+    private final boolean dropLegacyColumns;
+
+    public LegacyMoneyColumnMigrator(JdbcTemplate jdbcTemplate,
+                                     @Value("${garage.migration.legacy-money-columns.enabled:false}") boolean enabled,
+                                     @Value("${garage.migration.legacy-money-columns.drop:false}") boolean dropLegacyColumns) {
+        this.jdbcTemplate = jdbcTemplate;
+        this.enabled = enabled;
+        this.dropLegacyColumns = dropLegacyColumns;
+    }
+
+    @PostConstruct
+    public void migrate() {
+        for (MoneyColumn column : MONEY_COLUMNS) {
+            findLegacyColumn(column).ifPresent(legacyColumn -> {
+                if (enabled) {
+                    migrate(column, legacyColumn);
+                } else {
+                    requireMigrated(column);
+                }
+            });
+        }
+    }
+
+    private void requireMigrated(MoneyColumn column) {
+        boolean pending = !jdbcTemplate.queryForList("SELECT 1 FROM " + column.table() + " WHERE " + pendingCondition(column) + " LIMIT 1", Integer.class)
+                .isEmpty();
+        if (pending) {
+            throw new IllegalStateException("A coluna monetária legada " + column.table() + "." + column.legacyColumn() +
+                    " tem valores ainda não convertidos para " + column.centsColumn() +
+                    ". Habilite garage.migration.legacy-money-columns.enabled=true para convertê-los na inicialização.");
+        }
+    }
+
+    private void migrate(MoneyColumn column, LegacyColumn legacyColumn) {
+        int updated = jdbcTemplate.update("UPDATE " + column.table() + " SET " + column.centsColumn() + " = ROUND(" + column.legacyColumn() + " * 100) " +
+                "WHERE " + pendingCondition(column));
+        log.warn("Coluna monetária {}.{} convertida para centavos em {}: {} linhas migradas.",
+                column.table(), column.legacyColumn(), column.centsColumn(), updated);
+
+        if (dropLegacyColumns) {
+            jdbcTemplate.execute("ALTER TABLE " + column.table() + " DROP COLUMN " + column.legacyColumn());
+            log.warn("Coluna monetária legada {}.{} removida.", column.table(), column.legacyColumn());
+        } else if (!legacyColumn.nullable()) {
+            jdbcTemplate.execute(legacyColumn.mysql()
+                    ? "ALTER TABLE " + column.table() + " MODIFY COLUMN " + column.legacyColumn() + " " + legacyColumn.type() + " NULL"
+                    : "ALTER TABLE " + column.table() + " ALTER COLUMN " + column.legacyColumn() + " SET NULL");
+            log.info("Coluna monetária legada {}.{} mantida e liberada para valores nulos.", column.table(), column.legacyColumn());
+        }
+    }
+
+    private static String pendingCondition(MoneyColumn column) {
+        return column.legacyColumn() + " IS NOT NULL AND (" + column.centsColumn() + " IS NULL OR (" +
+                column.centsColumn() + " = 0 AND " + column.legacyColumn() + " <> 0))";
+    }
+
+    private Optional<LegacyColumn> findLegacyColumn(MoneyColumn column) {
+        return Optional.ofNullable(jdbcTemplate.execute((ConnectionCallback<LegacyColumn>) connection -> {
+            DatabaseMetaData metaData = connection.getMetaData();
+            boolean mysql = metaData.getDatabaseProductName().toLowerCase(Locale.ROOT).contains("mysql");
+            for (String table : List.of(column.table(), column.table().toUpperCase())) {
+                for (String name : List.of(column.legacyColumn(), column.legacyColumn().toUpperCase())) {
+                    try (ResultSet columns = metaData.getColumns(connection.getCatalog(), null, table, name)) {
+                        if (columns.next()) {
+                            return new LegacyColumn(typeOf(columns), columns.getInt("NULLABLE") != DatabaseMetaData.columnNoNulls, mysql);
+                        }
+                    }
+                }
+            }
+            return null;
+        }));
+    }
+
+    private static String typeOf(ResultSet column) throws SQLException {
+        String typeName = column.getString("TYPE_NAME");
+        if (column.getInt("DATA_TYPE") == Types.DECIMAL || column.getInt("DATA_TYPE") == Types.NUMERIC) {
+            return typeName + "(" + column.getInt("COLUMN_SIZE") + "," + column.getInt("DECIMAL_DIGITS") + ")";
+        }
+        return typeName;
+    }
+
+    private record LegacyColumn(String type, boolean nullable, boolean mysql) {}
+
+    private record MoneyColumn(String table, String legacyColumn, String centsColumn) {}
+}
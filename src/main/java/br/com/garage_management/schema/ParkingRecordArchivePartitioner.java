@@ -0,0 +1,68 @@
+package br.com.garage_management.schema;
+
+import br.com.garage_management.domain.model.ArchivedParkingRecord;
+import lombok.RequiredArgsConstructor;
+import lombok.extern.slf4j.Slf4j;
+import org.springframework.jdbc.core.ConnectionCallback;
+import org.springframework.jdbc.core.JdbcTemplate;
+import org.springframework.stereotype.Component;
+
+import java.time.YearMonth;
+import java.time.format.DateTimeFormatter;
+import java.util.List;
+import java.util.StringJoiner;
+
+@Slf4j
+@Component
+@RequiredArgsConstructor
+public class ParkingRecordArchivePartitioner {
+
+    static final String FUTURE_PARTITION = "p_future";
+    private static final DateTimeFormatter PARTITION_NAME = DateTimeFormatter.ofPattern("'p'yyyyMM");
+
+    private final JdbcTemplate jdbcTemplate;
+
+    public void ensurePartitions(YearMonth from, YearMonth through) {
+        if (!isMySql()) {
+            return;
+        }
+
+        List<String> partitions = jdbcTemplate.queryForList(
+                "SELECT PARTITION_NAME FROM information_schema.PARTITIONS " +
+                        "WHERE TABLE_SCHEMA = DATABASE() AND TABLE_NAME = ? AND PARTITION_NAME IS NOT NULL",
+                String.class, ArchivedParkingRecord.TABLE);
+
+        if (partitions.isEmpty()) {
+            jdbcTemplate.execute("ALTER TABLE " + ArchivedParkingRecord.TABLE + " PARTITION BY RANGE COLUMNS(exit_time) ("
+                    + definitions(from, through) + ")");
+            log.info("Tabela {} particionada por mês de {} até {}.", ArchivedParkingRecord.TABLE, from, through);
+            return;
+        }
+
+        YearMonth highest = partitions.stream()
+                .filter(name -> !FUTURE_PARTITION.equals(name))
+                .map(name -> YearMonth.parse(name, PARTITION_NAME))
+                .max(YearMonth::compareTo)
+                .orElse(from.minusMonths(1));
+
+        if (highest.isBefore(through)) {
+            jdbcTemplate.execute("ALTER TABLE " + ArchivedParkingRecord.TABLE + " REORGANIZE PARTITION " + FUTURE_PARTITION + " INTO ("
+                    + definitions(highest.plusMonths(1), through) + ")");
+            log.info("Partições mensais de {} criadas de {} até {}.", ArchivedParkingRecord.TABLE, highest.plusMonths(1), through);
+        }
+    }
+
+    static String definitions(YearMonth from, YearMonth through) {
+        StringJoiner definitions = new StringJoiner(", ");
+        for (YearMonth month = from; !month.isAfter(through); month = month.plusMonths(1)) {
+            definitions.add("PARTITION " + month.format(PARTITION_NAME) + " VALUES LESS THAN ('" + month.plusMonths(1).atDay(1) + " 00:00:00')");
+        }
+        definitions.add("PARTITION " + FUTURE_PARTITION + " VALUES LESS THAN (MAXVALUE)");
+        return definitions.toString();
+    }
+
+    private boolean isMySql() {
+        return Boolean.TRUE.equals(jdbcTemplate.execute((ConnectionCallback<Boolean>) connection ->
+                "MySQL".equalsIgnoreCase(connection.getMetaData().getDatabaseProductName())));
+    }
+}
@@ -1,20 +1,38 @@
 package br.com.garage_management.service;
 
-import br.com.garage_management.domain.dto.GarageConfigDto;
+import br.com.garage_management.domain.dto.GarageSectorDto;
+import br.com.garage_management.domain.dto.ParkingSpotDto;
 import br.com.garage_management.domain.mapper.GarageSectorMapper;
 import br.com.garage_management.domain.mapper.ParkingSpaceMapper;
 import br.com.garage_management.domain.model.GarageSector;
+import br.com.garage_management.domain.model.ParkingSpace;
 import br.com.garage_management.repository.GarageSectorRepository;
 import br.com.garage_management.repository.ParkingSpaceRepository;
+import com.fasterxml.jackson.core.JsonParseException;
+import com.fasterxml.jackson.core.JsonParser;
+import com.fasterxml.jackson.core.JsonToken;
+import com.fasterxml.jackson.core.type.TypeReference;
+import com.fasterxml.jackson.databind.ObjectMapper;
+import io.micrometer.core.instrument.Counter;
+import io.micrometer.core.instrument.MeterRegistry;
+import io.micrometer.core.instrument.Timer;
+import jakarta.persistence.EntityManager;
 import lombok.RequiredArgsConstructor;
 import lombok.extern.slf4j.Slf4j;
 import org.springframework.boot.ApplicationArguments;
 import org.springframework.boot.ApplicationRunner;
+import org.springframework.http.HttpMethod;
+import org.springframework.http.client.ClientHttpResponse;
 import org.springframework.stereotype.Service;
-import org.springframework.transaction.annotation.Transactional;
+import org.springframework.transaction.support.TransactionTemplate;
 import org.springframework.web.client.RestTemplate;
 
+import java.io.IOException;
+import java.util.ArrayList;
+import java.util.List;
 import java.util.Map;
+import java.util.concurrent.TimeUnit;
+import java.util.function.Function;
 import java.util.stream.Collectors;
 
 @Service
@@ -23,15 +41,20 @@ import java.util.stream.Collectors;
 public class GarageInitializationService implements ApplicationRunner {
 
     private static final String SIMULATOR_URL = "http://localhost:3000/garage";
+    private static final int SPOT_CHUNK_SIZE = 1000;
+    private static final int PROGRESS_LOG_INTERVAL = 10_000;
 
     private final GarageSectorMapper garageSectorMapper;
     private final ParkingSpaceMapper parkingSpaceMapper;
     private final RestTemplate restTemplate;
     private final GarageSectorRepository garageSectorRepository;
     private final ParkingSpaceRepository parkingSpaceRepository;
+    private final ObjectMapper objectMapper;
+    private final EntityManager entityManager;
+    private final TransactionTemplate transactionTemplate;
+    private final MeterRegistry meterRegistry;
 
     @Override
-    @Transactional
     public void run(ApplicationArguments args) {
         log.info("INICIANDO FEATURE: Integração com o Simulador...");
 
@@ -42,30 +65,143 @@ public class GarageInitializationService implements ApplicationRunner {
 
         try {
             log.info("Buscando configuração da garagem em: {}", SIMULATOR_URL);
-            GarageConfigDto config = restTemplate.getForObject(SIMULATOR_URL, GarageConfigDto.class);
-
-            if (config != null) {
-                log.info("Salvando {} setores...", config.garage().size());
-                Map<String, GarageSector> sectorsMap = config.garage().stream()
-                        .map(garageSectorMapper::toEntity)
-                        .map(garageSectorRepository::save)
-                        .collect(Collectors.toMap(GarageSector::getSector, sector -> sector));
-
-                log.info("Salvando {} vagas...", config.spots().size());
-                config.spots().forEach(dto -> {
-                    GarageSector correspondingSector = sectorsMap.get(dto.sector());
-                    if (correspondingSector != null) {
-                        var entity = parkingSpaceMapper.toEntity(dto, correspondingSector);
-                        parkingSpaceRepository.save(entity);
-                    } else {
-                        log.warn("Vaga com setor '{}' não pôde ser salva pois o setor não foi encontrado no mapa.", dto.sector());
-                    }
-                });
+            // A carga é uma única transação: uma carga parcial confirmada seria tomada como completa pela verificação acima.
+            LoadSummary summary = transactionTemplate.execute(status ->
+                    restTemplate.execute(SIMULATOR_URL, HttpMethod.GET, null, this::load));
 
-                log.info("Configuração da garagem salva no banco de dados com sucesso!");
+            if (summary != null) {
+                Timer.builder("garage.initialization.duration")
+                        .description("Duração da carga inicial da garagem")
+                        .register(meterRegistry)
+                        .record(summary.elapsedMillis(), TimeUnit.MILLISECONDS);
+                log.info("Configuração da garagem salva no banco de dados com sucesso: {} setores e {} vagas em {} ms ({} vagas/s).",
+                        summary.sectors(), summary.spots(), summary.elapsedMillis(), summary.spotsPerSecond());
             }
         } catch (Exception e) {
             log.error("ERRO CRÍTICO: Falha ao buscar configuração do simulador. Verifique se ele está rodando.", e);
         }
     }
-}
\ No newline at end of file
+
+    private LoadSummary load(ClientHttpResponse response) throws IOException {
+        long startedAt = System.nanoTime();
+        SpotWriter spotWriter = new SpotWriter(startedAt, Counter.builder("garage.initialization.spots")
+                .description("Vagas salvas na carga inicial da garagem")
+                .register(meterRegistry));
+        List<ParkingSpotDto> spotsBeforeSectors = new ArrayList<>();
+        Map<String, GarageSector> sectorsMap = null;
+
+        try (JsonParser parser = objectMapper.createParser(response.getBody())) {
+            if (parser.nextToken() != JsonToken.START_OBJECT) {
+                throw new JsonParseException(parser, "Configuração da garagem deve ser um objeto JSON.");
+            }
+
+            while (parser.nextToken() == JsonToken.FIELD_NAME) {
+                String field = parser.currentName();
+                parser.nextToken();
+
+                switch (field) {
+                    case "garage" -> {
+                        sectorsMap = saveSectors(parser);
+                        for (ParkingSpotDto spot : spotsBeforeSectors) {
+                            spotWriter.write(spot, sectorsMap);
+                        }
+                        spotsBeforeSectors.clear();
+                    }
+                    case "spots" -> {
+                        if (parser.currentToken() != JsonToken.START_ARRAY) {
+                            parser.skipChildren();
+                            continue;
+                        }
+                        while (parser.nextToken() != JsonToken.END_ARRAY) {
+                            ParkingSpotDto spot = objectMapper.readValue(parser, ParkingSpotDto.class);
+                            if (sectorsMap == null) {
+                                spotsBeforeSectors.add(spot);
+                            } else {
+                                spotWriter.write(spot, sectorsMap);
+                            }
+                        }
+                    }
+                    default -> parser.skipChildren();
+                }
+            }
+        }
+
+        if (!spotsBeforeSectors.isEmpty()) {
+            log.warn("{} vagas recebidas sem a lista de setores não puderam ser salvas.", spotsBeforeSectors.size());
+        }
+        spotWriter.flush();
+
+        long elapsedMillis = Math.max(1, (System.nanoTime() - startedAt) / 1_000_000);
+        return new LoadSummary(sectorsMap == null ? 0 : sectorsMap.size(), spotWriter.saved, elapsedMillis);
+    }
+
+    private Map<String, GarageSector> saveSectors(JsonParser parser) throws IOException {
+        List<GarageSectorDto> sectors = objectMapper.readValue(parser, new TypeReference<>() {});
+
+        log.info("Salvando {} setores...", sectors.size());
+        List<GarageSector> entities = sectors.stream()
+                .map(garageSectorMapper::toEntity)
+                .toList();
+
+        Map<String, GarageSector> sectorsMap = garageSectorRepository.saveAll(entities).stream()
+                .collect(Collectors.toMap(GarageSector::getSector, Function.identity()));
+        Counter.builder("garage.initialization.sectors")
+                .description("Setores salvos na carga inicial da garagem")
+                .register(meterRegistry)
+                .increment(sectorsMap.size());
+        return sectorsMap;
+    }
+
+    private final class SpotWriter {
+
+        private final long startedAt;
+        private final Counter savedCounter;
+        private final List<ParkingSpace> chunk = new ArrayList<>(SPOT_CHUNK_SIZE);
+        private long saved;
+
+        private SpotWriter(long startedAt, Counter savedCounter) {
+            this.startedAt = startedAt;
+            this.savedCounter = savedCounter;
+        }
+
+        private void write(ParkingSpotDto dto, Map<String, GarageSector> sectorsMap) {
+            GarageSector correspondingSector = sectorsMap.get(dto.sector());
+            if (correspondingSector == null) {
+                log.warn("Vaga com setor '{}' não pôde ser salva pois o setor não foi encontrado no mapa.", dto.sector());
+                return;
+            }
+
+            chunk.add(parkingSpaceMapper.toEntity(dto, correspondingSector));
+            if (chunk.size() == SPOT_CHUNK_SIZE) {
+                flush();
+            }
+        }
+
+        private void flush() {
+            if (chunk.isEmpty()) {
+                return;
+            }
+
+            parkingSpaceRepository.saveAll(chunk);
+            entityManager.flush();
+            entityManager.clear();
+
+            long before = saved;
+            saved += chunk.size();
+            savedCounter.increment(chunk.size());
+            chunk.clear();
+
+            if (saved / PROGRESS_LOG_INTERVAL > before / PROGRESS_LOG_INTERVAL) {
+                long elapsedMillis = Math.max(1, (System.nanoTime() - startedAt) / 1_000_000);
+                log.info("{} vagas salvas ({} vagas/s).", saved, saved * 1000 / elapsedMillis);
+            }
+        }
+    }
+
+    private record LoadSummary(int sectors, long spots, long elapsedMillis) {
+
+        private long spotsPerSecond() {
+            return spots * 1000 / elapsedMillis;
+        }
+    }
+}
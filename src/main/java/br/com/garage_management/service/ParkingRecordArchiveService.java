@@ -0,0 +1,111 @@
+package br.com.garage_management.service;
+
+import br.com.garage_management.repository.ArchivedParkingRecordRepository;
+import br.com.garage_management.repository.ParkingRecordRepository;
+import br.com.garage_management.schema.ParkingRecordArchivePartitioner;
+import br.com.garage_management.state.GarageStateLoadedEvent;
+import jakarta.annotation.PreDestroy;
+import lombok.extern.slf4j.Slf4j;
+import org.springframework.beans.factory.annotation.Value;
+import org.springframework.boot.autoconfigure.condition.ConditionalOnProperty;
+import org.springframework.context.event.EventListener;
+import org.springframework.data.domain.Limit;
+import org.springframework.stereotype.Service;
+import org.springframework.transaction.PlatformTransactionManager;
+import org.springframework.transaction.support.TransactionTemplate;
+
+import java.time.LocalDateTime;
+import java.time.YearMonth;
+import java.util.List;
+import java.util.Optional;
+import java.util.concurrent.Executors;
+import java.util.concurrent.ScheduledExecutorService;
+import java.util.concurrent.TimeUnit;
+
+@Slf4j
+@Service
+@ConditionalOnProperty(name = "garage.archive.enabled", havingValue = "true")
+public class ParkingRecordArchiveService {
+
+    private final ParkingRecordRepository parkingRecordRepository;
+    private final ArchivedParkingRecordRepository archivedParkingRecordRepository;
+    private final ParkingRecordArchivePartitioner parkingRecordArchivePartitioner;
+    private final TransactionTemplate batchTransaction;
+    private final long minAgeDays;
+    private final int batchSize;
+    private final long intervalMinutes;
+    private final ScheduledExecutorService scheduler =
+            Executors.newSingleThreadScheduledExecutor(Thread.ofPlatform().name("parking-record-archiver").daemon().factory());
+
+    private boolean started;
+
+    public ParkingRecordArchiveService(ParkingRecordRepository parkingRecordRepository,
+                                       ArchivedParkingRecordRepository archivedParkingRecordRepository,
+                                       ParkingRecordArchivePartitioner parkingRecordArchivePartitioner,
+                                       PlatformTransactionManager transactionManager,
+                                       @Value("${garage.archive.min-age-days:90}") long minAgeDays,
+                                       @Value("${garage.archive.batch-size:5000}") int batchSize,
+                                       @Value("${garage.archive.interval-minutes:60}") long intervalMinutes) {
+        this.parkingRecordRepository = parkingRecordRepository;
+        this.archivedParkingRecordRepository = archivedParkingRecordRepository;
+        this.parkingRecordArchivePartitioner = parkingRecordArchivePartitioner;
+        this.batchTransaction = new TransactionTemplate(transactionManager);
+        this.minAgeDays = Math.max(1, minAgeDays);
+        this.batchSize = Math.max(1, batchSize);
+        this.intervalMinutes = Math.max(1, intervalMinutes);
+    }
+
+    @EventListener(GarageStateLoadedEvent.class)
+    public synchronized void start() {
+        if (started) {
+            return;
+        }
+        started = true;
+        scheduler.scheduleWithFixedDelay(this::archiveSafely, intervalMinutes, intervalMinutes, TimeUnit.MINUTES);
+        log.info("Arquivamento de registros concluídos há mais de {} dias agendado a cada {} minutos.", minAgeDays, intervalMinutes);
+    }
+
+    @PreDestroy
+    public void shutdown() {
+        scheduler.shutdownNow();
+    }
+
+    public long archive(LocalDateTime now) {
+        LocalDateTime cutoff = now.toLocalDate().minusDays(minAgeDays).atStartOfDay();
+
+        Optional<LocalDateTime> oldestExitTime = parkingRecordRepository.findOldestCompletedExitTime();
+        if (oldestExitTime.isEmpty() || !oldestExitTime.get().isBefore(cutoff)) {
+            return 0;
+        }
+
+        parkingRecordArchivePartitioner.ensurePartitions(YearMonth.from(oldestExitTime.get()), YearMonth.from(cutoff.minusNanos(1)));
+
+        long archived = 0;
+        int moved;
+        do {
+            moved = batchTransaction.execute(status -> moveBatch(cutoff));
+            archived += moved;
+        } while (moved == batchSize);
+
+        log.info("{} registros concluídos antes de {} movidos para o arquivo.", archived, cutoff);
+        return archived;
+    }
+
+    private int moveBatch(LocalDateTime cutoff) {
+        List<Long> ids = parkingRecordRepository.findArchivableIds(cutoff, Limit.of(batchSize));
+        if (ids.isEmpty()) {
+            return 0;
+        }
+
+        archivedParkingRecordRepository.copyCompletedRecords(ids);
+        return parkingRecordRepository.deleteCompletedByIdIn(ids);
+    }
+
+    private void archiveSafely() {
+        try {
+            archive(LocalDateTime.now());
+        } catch (RuntimeException e) {
+            log.error("Falha ao arquivar registros concluídos.", e);
+        }
+    }
+}
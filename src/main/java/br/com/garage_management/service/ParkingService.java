@@ -7,22 +7,29 @@ import br.com.garage_management.domain.mapper.ParkingRecordMapper;
 import br.com.garage_management.domain.model.GarageSector;
 import br.com.garage_management.domain.model.ParkingRecord;
 import br.com.garage_management.domain.model.ParkingSpace;
-import br.com.garage_management.domain.enums.ParkingStatusEnum;
+import br.com.garage_management.jfr.ParkingPhaseEvent;
 import br.com.garage_management.repository.GarageSectorRepository;
 import br.com.garage_management.repository.ParkingRecordRepository;
 import br.com.garage_management.repository.ParkingSpaceRepository;
+import br.com.garage_management.state.ActiveSession;
+import br.com.garage_management.state.ActiveSessionIndex;
+import br.com.garage_management.state.ParkingSpaceAllocator;
+import br.com.garage_management.state.ParkingSpaceSpatialIndex;
+import br.com.garage_management.state.SectorAdmission;
+import br.com.garage_management.state.SectorOccupancyTracker;
+import br.com.garage_management.tariff.TariffEngine;
+import br.com.garage_management.util.TransactionHooks;
 import lombok.RequiredArgsConstructor;
 import org.springframework.stereotype.Service;
 import org.springframework.transaction.annotation.Transactional;
 
-import java.math.BigDecimal;
 import java.time.Duration;
-import java.time.LocalDateTime;
+import java.util.function.Function;
+import java.util.function.Supplier;
 
 import static br.com.garage_management.util.ErrorConstantsEnum.DUPLICATE_LICENSE_PLATE;
 import static br.com.garage_management.util.ErrorConstantsEnum.GARAGE_WITHOUT_SPACES;
 import static br.com.garage_management.util.ErrorConstantsEnum.INCONSISTENT_DATA_SPOTS_NOT_FOUND;
-import static br.com.garage_management.util.ErrorConstantsEnum.INVALID_ENTRY_TIME;
 import static br.com.garage_management.util.ErrorConstantsEnum.INVALID_EXIT_TIME;
 import static br.com.garage_management.util.ErrorConstantsEnum.LICENSE_PLATE_NOT_FOUND;
 import static br.com.garage_management.util.ErrorConstantsEnum.PARKING_SPACE_ALREADY_OCCUPIED;
@@ -32,113 +39,229 @@ import static br.com.garage_management.util.ErrorConstantsEnum.PARKING_SPACE_NOT
 @RequiredArgsConstructor
 public class ParkingService {
 
+    private static final String ENTRY = "ENTRY";
+    private static final String PARKED = "PARKED";
+    private static final String EXIT = "EXIT";
+
     private final GarageSectorRepository garageSectorRepository;
     private final ParkingSpaceRepository parkingSpaceRepository;
     private final ParkingRecordRepository parkingRecordRepository;
     private final ParkingRecordMapper parkingRecordMapper;
+    private final ParkingSpaceAllocator parkingSpaceAllocator;
+    private final ActiveSessionIndex activeSessionIndex;
+    private final ParkingSpaceSpatialIndex parkingSpaceSpatialIndex;
+    private final SectorOccupancyTracker sectorOccupancyTracker;
+    private final RevenueRollupService revenueRollupService;
+    private final TariffEngine tariffEngine;
 
     @Transactional
     public void processEntry(EntryEventDto event) {
+        String licensePlate = event.licensePlate();
 
-        if (event.entryTime().isBefore(LocalDateTime.now())) {
-            throw INVALID_ENTRY_TIME.asException(String.valueOf(event.entryTime()));
-        }
-
-        boolean vehicleAlreadyParked = parkingRecordRepository.existsByLicensePlateAndStatus(
-                event.licensePlate(), ParkingStatusEnum.PARKED);
+        phase(ParkingPhaseEvent.PLATE_LOOKUP, ENTRY, licensePlate, null, () -> {
+            if (activeSessionIndex.contains(licensePlate)) {
+                throw DUPLICATE_LICENSE_PLATE.asException(licensePlate);
+            }
+        });
 
-        if (vehicleAlreadyParked) {
-            throw DUPLICATE_LICENSE_PLATE.asException(event.licensePlate() );
-        }
+        SectorAdmission admission = phase(ParkingPhaseEvent.SECTOR_SELECTION, ENTRY, licensePlate, null,
+                () -> sectorOccupancyTracker.tryAdmit().orElseThrow(GARAGE_WITHOUT_SPACES::asPreconstructedException),
+                SectorAdmission::sector);
+        String admittedSector = admission.sector();
 
-        GarageSector availableSector = garageSectorRepository.findAll().stream()
-                .filter(sector -> sector.getOccupiedCount() < sector.getMaxCapacity())
-                .findFirst()
-                .orElseThrow(() -> GARAGE_WITHOUT_SPACES.asException(event.licensePlate()));
+        ParkingSpace availableSpace = phase(ParkingPhaseEvent.SPOT_ALLOCATION, ENTRY, licensePlate, admittedSector,
+                () -> allocateSpace(admittedSector));
+        GarageSector availableSector = availableSpace.getGarageSector();
 
-        ParkingSpace availableSpace = parkingSpaceRepository.findFirstByGarageSectorAndIsOccupied(availableSector, false)
-                .orElseThrow(INCONSISTENT_DATA_SPOTS_NOT_FOUND::asException);
+        long priceAppliedOnEntryCents = phase(ParkingPhaseEvent.PRICE_CALCULATION, ENTRY, licensePlate, admittedSector,
+                () -> tariffEngine.entryPriceCents(availableSector.getBasePriceCents(), admission, event.entryTime()));
 
-        double priceAppliedOnEntry = calculateDynamicPrice(availableSector);
+        phase(ParkingPhaseEvent.PERSIST, ENTRY, licensePlate, admittedSector, () -> {
+            availableSpace.setIsOccupied(true);
+            parkingSpaceRepository.save(availableSpace);
 
-        availableSpace.setIsOccupied(true);
-        parkingSpaceRepository.save(availableSpace);
+            garageSectorRepository.incrementOccupiedCount(admittedSector);
 
-        availableSector.setOccupiedCount(availableSector.getOccupiedCount() + 1);
-        garageSectorRepository.save(availableSector);
+            ParkingRecord newRecord = parkingRecordMapper.toParkingRecord(event, availableSector, availableSpace, priceAppliedOnEntryCents);
 
-        ParkingRecord newRecord = parkingRecordMapper.toParkingRecord(event, availableSector, availableSpace, priceAppliedOnEntry);
+            ParkingRecord savedRecord = parkingRecordRepository.save(newRecord);
 
-        parkingRecordRepository.save(newRecord);
+            activeSessionIndex.put(new ActiveSession(savedRecord.getId(), licensePlate, availableSpace.getId(),
+                    admittedSector, event.entryTime(), priceAppliedOnEntryCents));
+            TransactionHooks.onRollback(() -> activeSessionIndex.remove(licensePlate));
+        });
     }
 
     @Transactional
     public void processParked(ParkedEventDto event) {
-        ParkingRecord record = parkingRecordRepository.findByLicensePlateAndStatus(event.licensePlate(), ParkingStatusEnum.PARKED)
-                .orElseThrow(() -> LICENSE_PLATE_NOT_FOUND.asException(event.licensePlate()));
+        String licensePlate = event.licensePlate();
+
+        ActiveRecord active = phase(ParkingPhaseEvent.PLATE_LOOKUP, PARKED, licensePlate, null,
+                () -> findActiveRecord(licensePlate), ActiveRecord::sector);
+        ActiveSession session = active.session();
+        ParkingRecord record = active.record();
+
+        String parkedSector = phase(ParkingPhaseEvent.SPOT_ALLOCATION, PARKED, licensePlate, session.sector(), () -> {
+            Long actualOccupiedSpaceId = parkingSpaceSpatialIndex.findNearest(event.lat(), event.lng())
+                    .orElseThrow(PARKING_SPACE_NOT_FOUND::asException);
+
+            if (!actualOccupiedSpaceId.equals(session.spaceId())) {
+                return moveToSpace(session, record, actualOccupiedSpaceId);
+            }
+            return session.sector();
+        }, sector -> sector);
+
+        phase(ParkingPhaseEvent.PERSIST, PARKED, licensePlate, parkedSector, () -> {
+            parkingRecordMapper.updateRecordOnParked(record, event);
+            parkingRecordRepository.save(record);
+        });
+    }
 
-        ParkingSpace actualOccupiedSpace = parkingSpaceRepository.findByLatAndLng(event.lat(), event.lng())
-                .orElseThrow(PARKING_SPACE_NOT_FOUND::asException);
+    @Transactional
+    public void processExit(ExitEventDto event) {
+        String licensePlate = event.licensePlate();
+
+        ActiveRecord active = phase(ParkingPhaseEvent.PLATE_LOOKUP, EXIT, licensePlate, null, () -> {
+            ActiveSession activeSession = findActiveSession(licensePlate);
+            if (event.exitTime().isBefore(activeSession.entryTime())) {
+                throw INVALID_EXIT_TIME.asException();
+            }
+            return findActiveRecord(activeSession);
+        }, ActiveRecord::sector);
+        ActiveSession session = active.session();
+        ParkingRecord record = active.record();
+
+        long finalPriceCents = phase(ParkingPhaseEvent.PRICE_CALCULATION, EXIT, licensePlate, session.sector(), () -> {
+            long minutesStayed = Duration.between(session.entryTime(), event.exitTime()).toMinutes();
+            return tariffEngine.exitFeeCents(session.sector(), session.priceAppliedOnEntryCents(), minutesStayed);
+        });
+
+        phase(ParkingPhaseEvent.PERSIST, EXIT, licensePlate, session.sector(), () -> {
+            parkingRecordMapper.updateRecordOnExit(record, event, finalPriceCents);
+            parkingRecordRepository.save(record);
+            revenueRollupService.record(session.sector(), event.exitTime().toLocalDate(), finalPriceCents);
+
+            ParkingSpace parkingSpace = parkingSpaceRepository.findById(session.spaceId())
+                    .orElseThrow(PARKING_SPACE_NOT_FOUND::asException);
+            parkingSpace.setIsOccupied(false);
+            parkingSpaceRepository.save(parkingSpace);
+
+            garageSectorRepository.decrementOccupiedCount(session.sector());
+
+            TransactionHooks.afterCommit(() -> {
+                activeSessionIndex.remove(licensePlate);
+                parkingSpaceAllocator.release(session.spaceId());
+                sectorOccupancyTracker.release(session.sector());
+            });
+        });
+    }
 
-        ParkingSpace assignedSpace = record.getParkingSpace();
+    private ParkingSpace allocateSpace(String admittedSector) {
+        Long availableSpaceId = parkingSpaceAllocator.allocate(admittedSector)
+                .orElseThrow(() -> {
+                    sectorOccupancyTracker.release(admittedSector);
+                    return INCONSISTENT_DATA_SPOTS_NOT_FOUND.asException();
+                });
+
+        ParkingSpace availableSpace = parkingSpaceRepository.findById(availableSpaceId)
+                .orElseThrow(() -> {
+                    parkingSpaceAllocator.release(availableSpaceId);
+                    sectorOccupancyTracker.release(admittedSector);
+                    return INCONSISTENT_DATA_SPOTS_NOT_FOUND.asException();
+                });
+
+        TransactionHooks.onRollback(() -> {
+            parkingSpaceAllocator.release(availableSpaceId);
+            sectorOccupancyTracker.release(admittedSector);
+        });
+        return availableSpace;
+    }
 
-        if (actualOccupiedSpace.getIsOccupied() && !actualOccupiedSpace.getId().equals(assignedSpace.getId())) {
+    private String moveToSpace(ActiveSession session, ParkingRecord record, Long actualOccupiedSpaceId) {
+        ParkingSpace actualOccupiedSpace = parkingSpaceRepository.findById(actualOccupiedSpaceId)
+                .orElseThrow(PARKING_SPACE_NOT_FOUND::asException);
+
+        if (actualOccupiedSpace.getIsOccupied() || !parkingSpaceAllocator.occupy(actualOccupiedSpaceId)) {
             throw PARKING_SPACE_ALREADY_OCCUPIED.asException();
         }
+        TransactionHooks.onRollback(() -> parkingSpaceAllocator.release(actualOccupiedSpaceId));
 
-        if (!actualOccupiedSpace.getId().equals(assignedSpace.getId())) {
-            assignedSpace.setIsOccupied(false);
-            parkingSpaceRepository.save(assignedSpace);
+        ParkingSpace assignedSpace = record.getParkingSpace();
+        assignedSpace.setIsOccupied(false);
+        parkingSpaceRepository.save(assignedSpace);
 
-            actualOccupiedSpace.setIsOccupied(true);
-            parkingSpaceRepository.save(actualOccupiedSpace);
+        actualOccupiedSpace.setIsOccupied(true);
+        parkingSpaceRepository.save(actualOccupiedSpace);
 
-            record.setParkingSpace(actualOccupiedSpace);
-            record.setGarageSector(actualOccupiedSpace.getGarageSector());
-        }
+        record.setParkingSpace(actualOccupiedSpace);
+        record.setGarageSector(actualOccupiedSpace.getGarageSector());
 
-        parkingRecordMapper.updateRecordOnParked(record, event);
-        parkingRecordRepository.save(record);
-    }
+        String assignedSector = session.sector();
+        String actualSector = actualOccupiedSpace.getGarageSector().getSector();
+        moveSectorOccupancy(assignedSector, actualSector);
 
-    @Transactional
-    public void processExit(ExitEventDto event) {
-        ParkingRecord record = parkingRecordRepository.findByLicensePlateAndStatus(event.licensePlate(), ParkingStatusEnum.PARKED)
-                .orElseThrow(() -> LICENSE_PLATE_NOT_FOUND.asException(event.licensePlate()));
+        activeSessionIndex.put(session.withSpace(actualOccupiedSpaceId, actualSector));
+        TransactionHooks.onRollback(() -> activeSessionIndex.put(session));
+        TransactionHooks.afterCommit(() -> parkingSpaceAllocator.release(session.spaceId()));
+        return actualSector;
+    }
 
-        if (event.exitTime().isBefore(record.getEntryTime())) {
-            throw INVALID_EXIT_TIME.asException();
+    private void moveSectorOccupancy(String fromSector, String toSector) {
+        if (fromSector.equals(toSector)) {
+            return;
         }
 
-        ParkingSpace parkingSpace = record.getParkingSpace();
-        GarageSector sector = record.getGarageSector();
+        garageSectorRepository.decrementOccupiedCount(fromSector);
+        garageSectorRepository.incrementOccupiedCount(toSector);
 
-        Duration duration = Duration.between(record.getEntryTime(), event.exitTime());
-        long minutes = duration.toMinutes();
-        BigDecimal finalPrice = BigDecimal.ZERO;
+        sectorOccupancyTracker.occupy(toSector);
+        TransactionHooks.onRollback(() -> sectorOccupancyTracker.release(toSector));
+        TransactionHooks.afterCommit(() -> sectorOccupancyTracker.release(fromSector));
+    }
 
-        if (minutes > 30) {
-            double hours = Math.ceil((double) minutes / 60.0);
-            finalPrice = BigDecimal.valueOf(hours * record.getPriceAppliedOnEntry());
-        }
+    private ActiveSession findActiveSession(String licensePlate) {
+        return activeSessionIndex.find(licensePlate)
+                .orElseThrow(() -> LICENSE_PLATE_NOT_FOUND.asException(licensePlate));
+    }
 
-        parkingRecordMapper.updateRecordOnExit(record, event, finalPrice);
-        parkingRecordRepository.save(record);
+    private ActiveRecord findActiveRecord(String licensePlate) {
+        return findActiveRecord(findActiveSession(licensePlate));
+    }
 
-        parkingSpace.setIsOccupied(false);
-        parkingSpaceRepository.save(parkingSpace);
+    private ActiveRecord findActiveRecord(ActiveSession session) {
+        ParkingRecord record = parkingRecordRepository.findById(session.recordId())
+                .orElseThrow(() -> LICENSE_PLATE_NOT_FOUND.asException(session.licensePlate()));
+        return new ActiveRecord(session, record);
+    }
 
-        sector.setOccupiedCount(sector.getOccupiedCount() - 1);
-        garageSectorRepository.save(sector);
+    private static void phase(String name, String eventType, String licensePlate, String sector, Runnable body) {
+        phase(name, eventType, licensePlate, sector, () -> {
+            body.run();
+            return null;
+        });
     }
 
-    private double calculateDynamicPrice(GarageSector sector) {
-        double occupancyPercentage = (double) sector.getOccupiedCount() / sector.getMaxCapacity();
-        double basePrice = sector.getBasePrice();
+    private static <T> T phase(String name, String eventType, String licensePlate, String sector, Supplier<T> body) {
+        return phase(name, eventType, licensePlate, sector, body, result -> sector);
+    }
 
-        if (occupancyPercentage < 0.25) return basePrice * 0.90;
-        if (occupancyPercentage < 0.50) return basePrice;
-        if (occupancyPercentage < 0.75) return basePrice * 1.10;
-        return basePrice * 1.25;
+    private static <T> T phase(String name, String eventType, String licensePlate, String sector,
+                               Supplier<T> body, Function<T, String> sectorOf) {
+        ParkingPhaseEvent phaseEvent = ParkingPhaseEvent.start(name, eventType, licensePlate);
+        try {
+            T result = body.get();
+            phaseEvent.finish(sectorOf.apply(result));
+            return result;
+        } catch (RuntimeException e) {
+            phaseEvent.finish(sector, e);
+            throw e;
+        }
+    }
+
+    private record ActiveRecord(ActiveSession session, ParkingRecord record) {
+
+        private String sector() {
+            return session.sector();
+        }
     }
 }
\ No newline at end of file
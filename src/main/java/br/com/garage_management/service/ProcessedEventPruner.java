@@ -0,0 +1,53 @@
+package br.com.garage_management.service;
+
+import br.com.garage_management.state.GarageStateLoadedEvent;
+import jakarta.annotation.PreDestroy;
+import lombok.extern.slf4j.Slf4j;
+import org.springframework.beans.factory.annotation.Value;
+import org.springframework.context.event.EventListener;
+import org.springframework.stereotype.Component;
+
+import java.util.concurrent.Executors;
+import java.util.concurrent.ScheduledExecutorService;
+import java.util.concurrent.TimeUnit;
+
+@Slf4j
+@Component
+public class ProcessedEventPruner {
+
+    private final WebhookIdempotencyService webhookIdempotencyService;
+    private final long intervalMinutes;
+    private final ScheduledExecutorService scheduler =
+            Executors.newSingleThreadScheduledExecutor(Thread.ofPlatform().name("processed-event-pruner").daemon().factory());
+
+    private boolean started;
+
+    public ProcessedEventPruner(WebhookIdempotencyService webhookIdempotencyService,
+                                @Value("${garage.webhook.idempotency.prune-interval-minutes:60}") long intervalMinutes) {
+        this.webhookIdempotencyService = webhookIdempotencyService;
+        this.intervalMinutes = Math.max(1, intervalMinutes);
+    }
+
+    @EventListener(GarageStateLoadedEvent.class)
+    public synchronized void start() {
+        if (started) {
+            return;
+        }
+        started = true;
+        scheduler.scheduleWithFixedDelay(this::pruneSafely, intervalMinutes, intervalMinutes, TimeUnit.MINUTES);
+        log.info("Remoção de eventos processados expirados agendada a cada {} minutos.", intervalMinutes);
+    }
+
+    @PreDestroy
+    public void shutdown() {
+        scheduler.shutdownNow();
+    }
+
+    private void pruneSafely() {
+        try {
+            webhookIdempotencyService.prune();
+        } catch (RuntimeException e) {
+            log.error("Falha ao remover eventos processados expirados.", e);
+        }
+    }
+}
@@ -0,0 +1,89 @@
+package br.com.garage_management.service;
+
+import br.com.garage_management.domain.dto.RevenueRollupRebuildDto;
+import br.com.garage_management.domain.model.RevenueRollup;
+import br.com.garage_management.domain.model.RevenueRollupId;
+import br.com.garage_management.domain.projection.RevenueRollupProjection;
+import br.com.garage_management.repository.ArchivedParkingRecordRepository;
+import br.com.garage_management.repository.ParkingRecordRepository;
+import br.com.garage_management.repository.RevenueRollupRepository;
+import br.com.garage_management.state.DailyRevenueCache;
+import br.com.garage_management.util.TransactionHooks;
+import lombok.RequiredArgsConstructor;
+import lombok.extern.slf4j.Slf4j;
+import org.springframework.stereotype.Service;
+import org.springframework.transaction.annotation.Transactional;
+
+import java.time.LocalDate;
+import java.time.LocalDateTime;
+import java.util.Comparator;
+import java.util.List;
+import java.util.Optional;
+import java.util.stream.Stream;
+
+import static br.com.garage_management.util.ErrorConstantsEnum.INVALID_DATE_RANGE;
+
+@Slf4j
+@Service
+@RequiredArgsConstructor
+public class RevenueRollupService {
+
+    private final RevenueRollupRepository revenueRollupRepository;
+    private final ParkingRecordRepository parkingRecordRepository;
+    private final ArchivedParkingRecordRepository archivedParkingRecordRepository;
+    private final DailyRevenueCache dailyRevenueCache;
+
+    @Transactional
+    public void record(String sector, LocalDate date, long amountCents) {
+        revenueRollupRepository.addRevenue(sector, date, amountCents);
+
+        TransactionHooks.afterCommit(() -> dailyRevenueCache.invalidate(sector, date));
+    }
+
+    @Transactional
+    public void backfillIfEmpty() {
+        if (revenueRollupRepository.count() > 0) {
+            return;
+        }
+
+        Optional<LocalDateTime> oldest = Stream.of(parkingRecordRepository.findOldestCompletedExitTime(), archivedParkingRecordRepository.findOldestExitTime())
+                .flatMap(Optional::stream)
+                .min(Comparator.naturalOrder());
+        Optional<LocalDateTime> newest = Stream.of(parkingRecordRepository.findNewestCompletedExitTime(), archivedParkingRecordRepository.findNewestExitTime())
+                .flatMap(Optional::stream)
+                .max(Comparator.naturalOrder());
+        if (oldest.isEmpty() || newest.isEmpty()) {
+            return;
+        }
+
+        log.info("Consolidado de receita vazio, preenchendo a partir dos registros concluídos.");
+        rebuild(oldest.get().toLocalDate(), newest.get().toLocalDate());
+    }
+
+    @Transactional
+    public RevenueRollupRebuildDto rebuild(LocalDate from, LocalDate to) {
+        if (from.isAfter(to)) {
+            throw INVALID_DATE_RANGE.asException(from + " > " + to);
+        }
+
+        revenueRollupRepository.lockByRevenueDateBetween(from, to);
+        int removed = revenueRollupRepository.deleteByRevenueDateBetween(from, to);
+
+        List<RevenueRollupProjection> totals = parkingRecordRepository
+                .sumCompletedRevenueBySectorAndDay(from.atStartOfDay(), to.plusDays(1).atStartOfDay());
+
+        revenueRollupRepository.saveAll(totals.stream()
+                .map(total -> new RevenueRollup(
+                        new RevenueRollupId(total.getSector(), total.getRevenueDate()),
+                        total.getTotalAmountCents(),
+                        total.getCompletedCount()))
+                .toList());
+
+        TransactionHooks.afterCommit(dailyRevenueCache::invalidateAll);
+
+        log.info("Consolidado de receita reconstruído de {} até {}: {} linhas removidas e {} linhas gravadas.",
+                from, to, removed, totals.size());
+
+        return new RevenueRollupRebuildDto(from, to, totals.size());
+    }
+}
@@ -1,30 +1,161 @@
 package br.com.garage_management.service;
 
+import br.com.garage_management.domain.dto.RevenueBucketDto;
 import br.com.garage_management.domain.dto.RevenueResponseDto;
+import br.com.garage_management.domain.enums.RevenueGranularityEnum;
+import br.com.garage_management.domain.model.RevenueRollup;
+import br.com.garage_management.domain.model.RevenueRollupId;
 import br.com.garage_management.repository.ParkingRecordRepository;
-import lombok.RequiredArgsConstructor;
+import br.com.garage_management.repository.RevenueRollupRepository;
+import br.com.garage_management.state.DailyRevenueCache;
+import br.com.garage_management.util.MoneyUtil;
+import com.fasterxml.jackson.core.JsonGenerator;
+import com.fasterxml.jackson.databind.ObjectMapper;
+import io.micrometer.core.instrument.MeterRegistry;
+import io.micrometer.core.instrument.Timer;
 import lombok.extern.slf4j.Slf4j;
+import org.springframework.beans.factory.annotation.Value;
 import org.springframework.stereotype.Service;
+import org.springframework.transaction.PlatformTransactionManager;
+import org.springframework.transaction.support.TransactionTemplate;
+import org.springframework.web.servlet.mvc.method.annotation.StreamingResponseBody;
 
-import java.math.BigDecimal;
+import java.io.IOException;
+import java.io.OutputStream;
+import java.io.UncheckedIOException;
 import java.time.LocalDate;
 import java.time.ZoneId;
 import java.time.ZonedDateTime;
+import java.time.temporal.ChronoUnit;
+import java.util.Collection;
+import java.util.Iterator;
+import java.util.OptionalLong;
+import java.util.concurrent.TimeUnit;
+import java.util.stream.Stream;
+
+import static br.com.garage_management.util.ErrorConstantsEnum.DATE_RANGE_TOO_LARGE;
+import static br.com.garage_management.util.ErrorConstantsEnum.INVALID_DATE_RANGE;
 
 @Service
 @Slf4j
-@RequiredArgsConstructor
 public class RevenueService {
 
-    private final ParkingRecordRepository recordRepository;
+    private static final ZoneId ZONE_ID = ZoneId.of("America/Sao_Paulo");
+
+    private final RevenueRollupRepository revenueRollupRepository;
+    private final ParkingRecordRepository parkingRecordRepository;
+    private final DailyRevenueCache dailyRevenueCache;
+    private final ObjectMapper objectMapper;
+    private final TransactionTemplate readOnlyTransaction;
+    private final MeterRegistry meterRegistry;
+    private final Timer cachedDailyTimer;
+    private final Timer loadedDailyTimer;
+    private final long maxRangeDays;
+
+    public RevenueService(RevenueRollupRepository revenueRollupRepository,
+                          ParkingRecordRepository parkingRecordRepository,
+                          DailyRevenueCache dailyRevenueCache,
+                          ObjectMapper objectMapper,
+                          PlatformTransactionManager transactionManager,
+                          MeterRegistry meterRegistry,
+                          @Value("${garage.revenue.max-range-days:366}") long maxRangeDays) {
+        this.revenueRollupRepository = revenueRollupRepository;
+        this.parkingRecordRepository = parkingRecordRepository;
+        this.dailyRevenueCache = dailyRevenueCache;
+        this.objectMapper = objectMapper;
+        this.readOnlyTransaction = new TransactionTemplate(transactionManager);
+        this.readOnlyTransaction.setReadOnly(true);
+        this.meterRegistry = meterRegistry;
+        this.cachedDailyTimer = queryTimer("DAILY", "hit");
+        this.loadedDailyTimer = queryTimer("DAILY", "miss");
+        this.maxRangeDays = maxRangeDays;
+    }
 
     public RevenueResponseDto calculateDailyRevenue(LocalDate date, String sector) {
 
-        BigDecimal totalAmount = recordRepository
-                .calculateTotalRevenueBySectorAndDate(sector, date)
-                .orElse(BigDecimal.valueOf(0.00));
+        long startedAt = System.nanoTime();
+        OptionalLong cachedAmountCents = dailyRevenueCache.get(sector, date);
+        long totalAmountCents = cachedAmountCents.isPresent()
+                ? cachedAmountCents.getAsLong()
+                : loadDailyRevenue(date, sector);
+        (cachedAmountCents.isPresent() ? cachedDailyTimer : loadedDailyTimer)
+                .record(System.nanoTime() - startedAt, TimeUnit.NANOSECONDS);
 
         return new RevenueResponseDto(
-                totalAmount, "BRL", ZonedDateTime.now(ZoneId.of("America/Sao_Paulo")));
+                MoneyUtil.toAmount(totalAmountCents), "BRL", ZonedDateTime.now(ZONE_ID));
+    }
+
+    public StreamingResponseBody streamRevenueRange(LocalDate from, LocalDate to, Collection<String> sectors,
+                                                    RevenueGranularityEnum granularity) {
+        if (from.isAfter(to)) {
+            throw INVALID_DATE_RANGE.asException(from + " > " + to);
+        }
+        if (ChronoUnit.DAYS.between(from, to) >= maxRangeDays) {
+            throw DATE_RANGE_TOO_LARGE.asException(String.valueOf(maxRangeDays));
+        }
+
+        Timer rangeTimer = queryTimer("RANGE_" + granularity.name(), "none");
+        return outputStream -> rangeTimer.record(() -> readOnlyTransaction.executeWithoutResult(status -> {
+            try (Stream<RevenueBucketDto> buckets = findBuckets(from, to, sectors, granularity)) {
+                writeRange(outputStream, from, to, granularity, buckets);
+            } catch (IOException e) {
+                throw new UncheckedIOException(e);
+            }
+        }));
+    }
+
+    private Timer queryTimer(String query, String cache) {
+        return Timer.builder("garage.revenue.query")
+                .description("Tempo das consultas de faturamento")
+                .tag("query", query)
+                .tag("cache", cache)
+                .register(meterRegistry);
+    }
+
+    private long loadDailyRevenue(LocalDate date, String sector) {
+        long generation = dailyRevenueCache.generation();
+
+        long totalAmountCents = revenueRollupRepository
+                .findById(new RevenueRollupId(sector, date))
+                .map(RevenueRollup::getTotalAmountCents)
+                .orElse(0L);
+
+        dailyRevenueCache.put(sector, date, totalAmountCents, generation);
+        return totalAmountCents;
+    }
+
+    private Stream<RevenueBucketDto> findBuckets(LocalDate from, LocalDate to, Collection<String> sectors,
+                                                 RevenueGranularityEnum granularity) {
+        boolean allSectors = sectors == null || sectors.isEmpty();
+
+        if (granularity == RevenueGranularityEnum.HOUR) {
+            return allSectors
+                    ? parkingRecordRepository.streamHourlyBuckets(from.atStartOfDay(), to.plusDays(1).atStartOfDay())
+                    : parkingRecordRepository.streamHourlyBucketsBySectors(from.atStartOfDay(), to.plusDays(1).atStartOfDay(), sectors);
+        }
+
+        return allSectors
+                ? revenueRollupRepository.streamDailyBuckets(from, to)
+                : revenueRollupRepository.streamDailyBucketsBySectors(from, to, sectors);
+    }
+
+    private void writeRange(OutputStream outputStream, LocalDate from, LocalDate to, RevenueGranularityEnum granularity,
+                            Stream<RevenueBucketDto> buckets) throws IOException {
+        try (JsonGenerator generator = objectMapper.createGenerator(outputStream)) {
+            generator.writeStartObject();
+            generator.writeStringField("from", from.toString());
+            generator.writeStringField("to", to.toString());
+            generator.writeStringField("granularity", granularity.name());
+            generator.writeStringField("currency", "BRL");
+            generator.writeArrayFieldStart("buckets");
+
+            Iterator<RevenueBucketDto> iterator = buckets.iterator();
+            while (iterator.hasNext()) {
+                objectMapper.writeValue(generator, iterator.next());
+            }
+
+            generator.writeEndArray();
+            generator.writeEndObject();
+        }
     }
-}
\ No newline at end of file
+}
@@ -0,0 +1,61 @@
+package br.com.garage_management.service;
+
+import br.com.garage_management.domain.dto.TariffDto;
+import br.com.garage_management.domain.mapper.TariffMapper;
+import br.com.garage_management.domain.model.SectorTariff;
+import br.com.garage_management.repository.GarageSectorRepository;
+import br.com.garage_management.repository.SectorTariffRepository;
+import br.com.garage_management.tariff.CompiledTariff;
+import br.com.garage_management.tariff.TariffEngine;
+import br.com.garage_management.util.TransactionHooks;
+import lombok.RequiredArgsConstructor;
+import lombok.extern.slf4j.Slf4j;
+import org.springframework.stereotype.Service;
+import org.springframework.transaction.annotation.Transactional;
+
+import static br.com.garage_management.util.ErrorConstantsEnum.GARAGE_SECTOR_NOT_FOUND;
+
+@Slf4j
+@Service
+@RequiredArgsConstructor
+public class TariffService {
+
+    private final SectorTariffRepository sectorTariffRepository;
+    private final GarageSectorRepository garageSectorRepository;
+    private final TariffMapper tariffMapper;
+    private final TariffEngine tariffEngine;
+
+    @Transactional(readOnly = true)
+    public TariffDto findTariff(String sector) {
+        requireSector(sector);
+
+        SectorTariff tariff = sectorTariffRepository.findById(sector)
+                .orElseGet(() -> TariffEngine.defaultTariff(sector));
+
+        return tariffMapper.toDto(tariff);
+    }
+
+    @Transactional
+    public TariffDto saveTariff(String sector, TariffDto tariffDto) {
+        requireSector(sector);
+
+        SectorTariff tariff = tariffMapper.toEntity(tariffDto);
+        tariff.setSector(sector);
+
+        CompiledTariff compiled = CompiledTariff.compile(tariff);
+        SectorTariff saved = sectorTariffRepository.save(tariff);
+
+        TransactionHooks.afterCommit(() -> {
+            tariffEngine.put(sector, compiled);
+            log.info("Tarifa do setor {} atualizada.", sector);
+        });
+
+        return tariffMapper.toDto(saved);
+    }
+
+    private void requireSector(String sector) {
+        if (!garageSectorRepository.existsById(sector)) {
+            throw GARAGE_SECTOR_NOT_FOUND.asException(sector);
+        }
+    }
+}
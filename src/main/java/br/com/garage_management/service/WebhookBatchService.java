@@ -0,0 +1,223 @@
+package br.com.garage_management.service;
+
+import br.com.garage_management.domain.dto.WebhookBatchResponseDto;
+import br.com.garage_management.domain.dto.WebhookBatchResultDto;
+import br.com.garage_management.domain.dto.WebhookEvent;
+import br.com.garage_management.exception.BusinessException;
+import br.com.garage_management.ingestion.QueuedEvent;
+import br.com.garage_management.ingestion.WebhookEventJournal;
+import br.com.garage_management.util.WebhookEventValidator;
+import com.fasterxml.jackson.core.JsonProcessingException;
+import com.fasterxml.jackson.databind.MappingIterator;
+import com.fasterxml.jackson.databind.ObjectMapper;
+import com.fasterxml.jackson.databind.ObjectReader;
+import lombok.extern.slf4j.Slf4j;
+import org.springframework.beans.factory.annotation.Value;
+import org.springframework.http.HttpStatus;
+import org.springframework.stereotype.Service;
+import org.springframework.transaction.PlatformTransactionManager;
+import org.springframework.transaction.TransactionDefinition;
+import org.springframework.transaction.support.TransactionTemplate;
+
+import java.io.IOException;
+import java.io.InputStream;
+import java.util.ArrayList;
+import java.util.Comparator;
+import java.util.HashSet;
+import java.util.LinkedHashMap;
+import java.util.List;
+import java.util.Map;
+import java.util.Set;
+import java.util.concurrent.CompletableFuture;
+
+@Slf4j
+@Service
+public class WebhookBatchService {
+
+    private final WebhookEventDispatcher webhookEventDispatcher;
+    private final WebhookEventJournal webhookEventJournal;
+    private final ObjectReader eventReader;
+    private final TransactionTemplate chunkTransaction;
+    private final int chunkSize;
+
+    public WebhookBatchService(WebhookEventDispatcher webhookEventDispatcher,
+                               WebhookEventJournal webhookEventJournal,
+                               ObjectMapper objectMapper,
+                               PlatformTransactionManager transactionManager,
+                               @Value("${garage.webhook.batch.chunk-size:100}") int chunkSize) {
+        this.webhookEventDispatcher = webhookEventDispatcher;
+        this.webhookEventJournal = webhookEventJournal;
+        this.eventReader = objectMapper.readerFor(WebhookEvent.class);
+        this.chunkTransaction = new TransactionTemplate(transactionManager);
+        this.chunkTransaction.setPropagationBehavior(TransactionDefinition.PROPAGATION_REQUIRES_NEW);
+        this.chunkSize = Math.max(1, chunkSize);
+    }
+
+    public WebhookBatchResponseDto process(InputStream body) throws IOException {
+        List<WebhookBatchResultDto> results = new ArrayList<>();
+        List<IndexedEvent> chunk = new ArrayList<>(chunkSize);
+        WebhookBatchResultDto parseFailure = null;
+        int index = 0;
+
+        try (MappingIterator<WebhookEvent> events = eventReader.readValues(body)) {
+            while (true) {
+                WebhookEvent event;
+                try {
+                    if (!events.hasNextValue()) {
+                        break;
+                    }
+                    event = events.nextValue();
+                } catch (JsonProcessingException e) {
+                    parseFailure = new WebhookBatchResultDto(index, null, HttpStatus.BAD_REQUEST.value(),
+                            "Erro ao processar JSON de entrada", e.getOriginalMessage());
+                    break;
+                }
+
+                chunk.add(new IndexedEvent(index++, event));
+                if (chunk.size() == chunkSize) {
+                    processChunk(chunk, results);
+                    chunk.clear();
+                }
+            }
+        }
+
+        processChunk(chunk, results);
+        if (parseFailure != null) {
+            results.add(parseFailure);
+        }
+
+        int succeeded = (int) results.stream().filter(result -> result.status() == HttpStatus.OK.value()).count();
+        log.info("Lote de eventos processado: {} eventos, {} com sucesso.", results.size(), succeeded);
+
+        return new WebhookBatchResponseDto(results.size(), succeeded, results.size() - succeeded, results);
+    }
+
+    private void processChunk(List<IndexedEvent> chunk, List<WebhookBatchResultDto> results) {
+        if (chunk.isEmpty()) {
+            return;
+        }
+
+        Map<Integer, List<IndexedEvent>> eventsByLane = new LinkedHashMap<>();
+        List<QueuedEvent> journaled = new ArrayList<>(chunk.size());
+        for (IndexedEvent indexed : chunk) {
+            eventsByLane.computeIfAbsent(webhookEventDispatcher.laneOf(indexed.event().licensePlate()), lane -> new ArrayList<>())
+                    .add(indexed);
+            journaled.add(webhookEventJournal.append(indexed.event()));
+        }
+
+        List<WebhookBatchResultDto> chunkResults = new ArrayList<>(chunk.size());
+        try {
+            List<CompletableFuture<List<WebhookBatchResultDto>>> laneResults = new ArrayList<>(eventsByLane.size());
+            for (List<IndexedEvent> laneEvents : eventsByLane.values()) {
+                laneResults.add(webhookEventDispatcher.supply(laneEvents.getFirst().event().licensePlate(), () -> processLane(laneEvents)));
+            }
+            for (CompletableFuture<List<WebhookBatchResultDto>> laneResult : laneResults) {
+                chunkResults.addAll(laneResult.join());
+            }
+        } finally {
+            journaled.forEach(webhookEventJournal::acknowledge);
+        }
+        chunkResults.sort(Comparator.comparingInt(WebhookBatchResultDto::index));
+        results.addAll(chunkResults);
+    }
+
+    private List<WebhookBatchResultDto> processLane(List<IndexedEvent> laneEvents) {
+        List<WebhookBatchResultDto> laneResults = new ArrayList<>(laneEvents.size());
+        List<IndexedEvent> validEvents = new ArrayList<>(laneEvents.size());
+        for (IndexedEvent indexed : laneEvents) {
+            try {
+                WebhookEventValidator.validate(indexed.event());
+                validEvents.add(indexed);
+            } catch (BusinessException e) {
+                laneResults.add(failure(indexed, e));
+            }
+        }
+
+        int from = 0;
+        int to = validEvents.size();
+        WebhookBatchResultDto deferredFailure = null;
+        while (from < validEvents.size()) {
+            List<IndexedEvent> attempt = validEvents.subList(from, to);
+            try {
+                applyChunk(attempt);
+            } catch (RejectedEventException e) {
+                if (e.position == 0) {
+                    laneResults.add(e.result);
+                    from++;
+                    to = validEvents.size();
+                    deferredFailure = null;
+                } else {
+                    to = from + e.position;
+                    deferredFailure = e.result;
+                }
+                continue;
+            } catch (RuntimeException e) {
+                log.warn("Falha ao confirmar lote com {} eventos, reprocessando os eventos individualmente.", validEvents.size() - from, e);
+                for (IndexedEvent indexed : validEvents.subList(from, validEvents.size())) {
+                    laneResults.add(applyIsolated(indexed));
+                }
+                break;
+            }
+
+            attempt.forEach(indexed -> laneResults.add(success(indexed)));
+            from = to;
+            if (deferredFailure != null) {
+                laneResults.add(deferredFailure);
+                deferredFailure = null;
+                from++;
+            }
+            to = validEvents.size();
+        }
+        return laneResults;
+    }
+
+    private void applyChunk(List<IndexedEvent> events) {
+        Set<String> uncommittedEventKeys = new HashSet<>();
+        chunkTransaction.executeWithoutResult(status -> {
+            for (int position = 0; position < events.size(); position++) {
+                IndexedEvent indexed = events.get(position);
+                try {
+                    webhookEventDispatcher.apply(indexed.event(), uncommittedEventKeys);
+                } catch (BusinessException e) {
+                    throw new RejectedEventException(position, failure(indexed, e));
+                }
+            }
+        });
+    }
+
+    private WebhookBatchResultDto applyIsolated(IndexedEvent indexed) {
+        try {
+            chunkTransaction.executeWithoutResult(status -> webhookEventDispatcher.apply(indexed.event()));
+            return success(indexed);
+        } catch (BusinessException e) {
+            return failure(indexed, e);
+        } catch (RuntimeException e) {
+            log.error("Falha inesperada ao processar o evento {} do lote.", indexed.index(), e);
+            return new WebhookBatchResultDto(indexed.index(), indexed.event().licensePlate(),
+                    HttpStatus.INTERNAL_SERVER_ERROR.value(), "Erro inesperado ao processar o evento.", null);
+        }
+    }
+
+    private static WebhookBatchResultDto success(IndexedEvent indexed) {
+        return new WebhookBatchResultDto(indexed.index(), indexed.event().licensePlate(), HttpStatus.OK.value(), null, null);
+    }
+
+    private static WebhookBatchResultDto failure(IndexedEvent indexed, BusinessException e) {
+        return new WebhookBatchResultDto(indexed.index(), indexed.event().licensePlate(),
+                e.getHttpStatusCode().value(), e.getMessage(), e.getDescription());
+    }
+
+    private record IndexedEvent(int index, WebhookEvent event) {}
+
+    private static final class RejectedEventException extends RuntimeException {
+
+        private final int position;
+        private final WebhookBatchResultDto result;
+
+        private RejectedEventException(int position, WebhookBatchResultDto result) {
+            super(null, null, false, false);
+            this.position = position;
+            this.result = result;
+        }
+    }
+}
@@ -0,0 +1,169 @@
+package br.com.garage_management.service;
+
+import br.com.garage_management.domain.dto.EntryEventDto;
+import br.com.garage_management.domain.dto.ExitEventDto;
+import br.com.garage_management.domain.dto.ParkedEventDto;
+import br.com.garage_management.domain.dto.WebhookEvent;
+import br.com.garage_management.exception.BusinessException;
+import br.com.garage_management.metrics.JdbcStatementCounter;
+import br.com.garage_management.metrics.WebhookMetrics;
+import br.com.garage_management.state.ActiveSessionIndex;
+import br.com.garage_management.state.SectorOccupancyTracker;
+import jakarta.annotation.PreDestroy;
+import lombok.extern.slf4j.Slf4j;
+import org.springframework.beans.factory.annotation.Value;
+import org.springframework.stereotype.Component;
+import org.springframework.transaction.PlatformTransactionManager;
+import org.springframework.transaction.support.TransactionTemplate;
+
+import java.util.Set;
+import java.util.concurrent.CompletableFuture;
+import java.util.concurrent.CompletionException;
+import java.util.concurrent.ExecutorService;
+import java.util.concurrent.Executors;
+import java.util.concurrent.TimeUnit;
+import java.util.function.Supplier;
+
+import static br.com.garage_management.util.ErrorConstantsEnum.GARAGE_WITHOUT_SPACES;
+
+@Slf4j
+@Component
+public class WebhookEventDispatcher {
+
+    private static final long SHUTDOWN_TIMEOUT_SECONDS = 30;
+    private static final int DEFAULT_LANE_COUNT = 10;
+
+    private final ParkingService parkingService;
+    private final SectorOccupancyTracker sectorOccupancyTracker;
+    private final ActiveSessionIndex activeSessionIndex;
+    private final WebhookIdempotencyService webhookIdempotencyService;
+    private final WebhookMetrics webhookMetrics;
+    private final TransactionTemplate eventTransaction;
+    private final ExecutorService[] lanes;
+
+    public WebhookEventDispatcher(ParkingService parkingService,
+                                  SectorOccupancyTracker sectorOccupancyTracker,
+                                  ActiveSessionIndex activeSessionIndex,
+                                  WebhookIdempotencyService webhookIdempotencyService,
+                                  WebhookMetrics webhookMetrics,
+                                  PlatformTransactionManager transactionManager,
+                                  @Value("${garage.webhook.lanes:${spring.datasource.hikari.maximum-pool-size:10}}") int laneCount) {
+        this.parkingService = parkingService;
+        this.sectorOccupancyTracker = sectorOccupancyTracker;
+        this.activeSessionIndex = activeSessionIndex;
+        this.webhookIdempotencyService = webhookIdempotencyService;
+        this.webhookMetrics = webhookMetrics;
+        this.eventTransaction = new TransactionTemplate(transactionManager);
+
+        int lanesToCreate = laneCount > 0 ? laneCount : DEFAULT_LANE_COUNT;
+        this.lanes = new ExecutorService[lanesToCreate];
+        for (int lane = 0; lane < lanesToCreate; lane++) {
+            this.lanes[lane] = Executors.newSingleThreadExecutor(Thread.ofPlatform().name("webhook-lane-" + lane).factory());
+        }
+    }
+
+    public CompletableFuture<Void> dispatch(WebhookEvent event) {
+        return submit(event.licensePlate(), () -> apply(event));
+    }
+
+    public CompletableFuture<Void> submit(String licensePlate, Runnable task) {
+        return CompletableFuture.runAsync(task, lanes[laneOf(licensePlate)]);
+    }
+
+    public <T> CompletableFuture<T> supply(String licensePlate, Supplier<T> task) {
+        return CompletableFuture.supplyAsync(task, lanes[laneOf(licensePlate)]);
+    }
+
+    public void dispatchAndWait(WebhookEvent event) {
+        try {
+            dispatch(event).join();
+        } catch (CompletionException e) {
+            if (e.getCause() instanceof RuntimeException cause) {
+                throw cause;
+            }
+            throw e;
+        }
+    }
+
+    public void apply(WebhookEvent event) {
+        apply(event, null);
+    }
+
+    public void apply(WebhookEvent event, Set<String> uncommittedEventKeys) {
+        long startedAt = System.nanoTime();
+        long statementsBefore = JdbcStatementCounter.current();
+        String outcome = WebhookMetrics.UNEXPECTED_ERROR;
+        try {
+            outcome = process(event, uncommittedEventKeys);
+        } catch (BusinessException e) {
+            outcome = WebhookMetrics.outcomeOf(e);
+            throw e;
+        } finally {
+            webhookMetrics.record(event, outcome, System.nanoTime() - startedAt, JdbcStatementCounter.current() - statementsBefore);
+        }
+    }
+
+    public int laneOf(String licensePlate) {
+        if (licensePlate == null) {
+            return 0;
+        }
+        int hash = licensePlate.hashCode();
+        return Math.floorMod(hash ^ (hash >>> 16), lanes.length);
+    }
+
+    public int laneCount() {
+        return lanes.length;
+    }
+
+    @PreDestroy
+    public void shutdown() throws InterruptedException {
+        for (ExecutorService lane : lanes) {
+            lane.shutdown();
+        }
+        for (ExecutorService lane : lanes) {
+            if (!lane.awaitTermination(SHUTDOWN_TIMEOUT_SECONDS, TimeUnit.SECONDS)) {
+                log.warn("Fila de processamento de eventos não finalizou dentro do tempo limite.");
+                lane.shutdownNow();
+            }
+        }
+    }
+
+    private String process(WebhookEvent event, Set<String> uncommittedEventKeys) {
+        String eventKey = webhookIdempotencyService.keyOf(event);
+        if (eventKey != null && (isUncommitted(eventKey, uncommittedEventKeys) || webhookIdempotencyService.isProcessed(eventKey))) {
+            log.info("Evento repetido da placa {} já foi processado e será ignorado.", event.licensePlate());
+            return WebhookMetrics.DUPLICATE;
+        }
+
+        if (isRejectedByCapacity(event)) {
+            throw GARAGE_WITHOUT_SPACES.asPreconstructedException();
+        }
+
+        eventTransaction.executeWithoutResult(status -> {
+            switch (event) {
+                case EntryEventDto entryEvent -> parkingService.processEntry(entryEvent);
+                case ParkedEventDto parkedEvent -> parkingService.processParked(parkedEvent);
+                case ExitEventDto exitEvent -> parkingService.processExit(exitEvent);
+            }
+
+            if (eventKey != null) {
+                webhookIdempotencyService.record(eventKey);
+            }
+        });
+
+        if (eventKey != null && uncommittedEventKeys != null) {
+            uncommittedEventKeys.add(eventKey);
+        }
+        return WebhookMetrics.PROCESSED;
+    }
+
+    private static boolean isUncommitted(String eventKey, Set<String> uncommittedEventKeys) {
+        return uncommittedEventKeys != null && uncommittedEventKeys.contains(eventKey);
+    }
+
+    private boolean isRejectedByCapacity(WebhookEvent event) {
+        return event instanceof EntryEventDto
+                && !sectorOccupancyTracker.hasAvailableCapacity()
+                && !activeSessionIndex.contains(event.licensePlate());
+    }
+}
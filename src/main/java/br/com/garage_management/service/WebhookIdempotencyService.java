@@ -0,0 +1,94 @@
+package br.com.garage_management.service;
+
+import br.com.garage_management.domain.dto.EntryEventDto;
+import br.com.garage_management.domain.dto.ExitEventDto;
+import br.com.garage_management.domain.dto.ParkedEventDto;
+import br.com.garage_management.domain.dto.WebhookEvent;
+import br.com.garage_management.repository.ProcessedEventRepository;
+import br.com.garage_management.state.ProcessedEventIndex;
+import br.com.garage_management.util.TransactionHooks;
+import lombok.extern.slf4j.Slf4j;
+import org.springframework.beans.factory.annotation.Value;
+import org.springframework.stereotype.Service;
+import org.springframework.transaction.annotation.Transactional;
+
+import java.time.Duration;
+import java.time.LocalDateTime;
+import java.util.List;
+
+@Slf4j
+@Service
+public class WebhookIdempotencyService {
+
+    private static final String SEPARATOR = "|";
+
+    private final ProcessedEventRepository processedEventRepository;
+    private final ProcessedEventIndex processedEventIndex;
+    private final Duration retention;
+
+    public WebhookIdempotencyService(ProcessedEventRepository processedEventRepository,
+                                     ProcessedEventIndex processedEventIndex,
+                                     @Value("${garage.webhook.idempotency.retention-hours:48}") long retentionHours) {
+        this.processedEventRepository = processedEventRepository;
+        this.processedEventIndex = processedEventIndex;
+        this.retention = Duration.ofHours(retentionHours);
+    }
+
+    @Transactional
+    public int load() {
+        int removed = processedEventRepository.deleteByProcessedAtBefore(LocalDateTime.now().minus(retention));
+        List<String> eventKeys = processedEventRepository.findAllEventKeys();
+        processedEventIndex.load(eventKeys);
+
+        log.info("Índice de eventos processados carregado: {} eventos ({} expirados removidos).", eventKeys.size(), removed);
+        return eventKeys.size();
+    }
+
+    @Transactional
+    public int prune() {
+        processedEventIndex.beginRebuild();
+        int removed = processedEventRepository.deleteByProcessedAtBefore(LocalDateTime.now().minus(retention));
+        List<String> eventKeys = processedEventRepository.findAllEventKeys();
+        processedEventIndex.completeRebuild(eventKeys);
+
+        log.info("Eventos processados expirados removidos: {}; filtro reconstruído com {} eventos.", removed, eventKeys.size());
+        return removed;
+    }
+
+    public String keyOf(WebhookEvent event) {
+        if (event.licensePlate() == null) {
+            return null;
+        }
+
+        return switch (event) {
+            case EntryEventDto entry -> entry.entryTime() == null ? null
+                    : "ENTRY" + SEPARATOR + entry.licensePlate() + SEPARATOR + entry.entryTime();
+            case ExitEventDto exit -> exit.exitTime() == null ? null
+                    : "EXIT" + SEPARATOR + exit.licensePlate() + SEPARATOR + exit.exitTime();
+            case ParkedEventDto parked -> parked.parkedTime() == null ? null
+                    : "PARKED" + SEPARATOR + parked.licensePlate() + SEPARATOR + parked.parkedTime()
+                            + SEPARATOR + parked.lat() + SEPARATOR + parked.lng();
+        };
+    }
+
+    public boolean isProcessed(String eventKey) {
+        if (processedEventIndex.isRecent(eventKey)) {
+            return true;
+        }
+        if (!processedEventIndex.mightContain(eventKey)) {
+            return false;
+        }
+
+        boolean processed = processedEventRepository.existsById(eventKey);
+        if (processed) {
+            processedEventIndex.add(eventKey);
+        }
+        return processed;
+    }
+
+    @Transactional
+    public void record(String eventKey) {
+        processedEventRepository.insert(eventKey, LocalDateTime.now());
+        TransactionHooks.afterCommit(() -> processedEventIndex.add(eventKey));
+    }
+}
@@ -0,0 +1,18 @@
+package br.com.garage_management.state;
+
+import java.time.LocalDateTime;
+
+public record ActiveSession(
+
+        Long recordId,
+        String licensePlate,
+        Long spaceId,
+        String sector,
+        LocalDateTime entryTime,
+        Long priceAppliedOnEntryCents
+) {
+
+    public ActiveSession withSpace(Long newSpaceId, String newSector) {
+        return new ActiveSession(recordId, licensePlate, newSpaceId, newSector, entryTime, priceAppliedOnEntryCents);
+    }
+}
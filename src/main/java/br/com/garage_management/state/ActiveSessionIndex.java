@@ -0,0 +1,39 @@
+package br.com.garage_management.state;
+
+import org.springframework.stereotype.Component;
+
+import java.util.Collection;
+import java.util.Map;
+import java.util.Optional;
+import java.util.concurrent.ConcurrentHashMap;
+
+@Component
+public class ActiveSessionIndex {
+
+    private final Map<String, ActiveSession> sessionsByLicensePlate = new ConcurrentHashMap<>();
+
+    public void load(Collection<ActiveSession> sessions) {
+        sessionsByLicensePlate.clear();
+        sessions.forEach(this::put);
+    }
+
+    public boolean contains(String licensePlate) {
+        return sessionsByLicensePlate.containsKey(licensePlate);
+    }
+
+    public Optional<ActiveSession> find(String licensePlate) {
+        return Optional.ofNullable(sessionsByLicensePlate.get(licensePlate));
+    }
+
+    public void put(ActiveSession session) {
+        sessionsByLicensePlate.put(session.licensePlate(), session);
+    }
+
+    public void remove(String licensePlate) {
+        sessionsByLicensePlate.remove(licensePlate);
+    }
+
+    public int size() {
+        return sessionsByLicensePlate.size();
+    }
+}
@@ -0,0 +1,76 @@
+package br.com.garage_management.state;
+
+import br.com.garage_management.domain.model.RevenueRollupId;
+import com.github.benmanes.caffeine.cache.Cache;
+import com.github.benmanes.caffeine.cache.Caffeine;
+import com.github.benmanes.caffeine.cache.RemovalCause;
+import org.springframework.beans.factory.annotation.Autowired;
+import org.springframework.beans.factory.annotation.Value;
+import org.springframework.stereotype.Component;
+
+import java.time.LocalDate;
+import java.util.OptionalLong;
+import java.util.concurrent.Executor;
+import java.util.concurrent.ForkJoinPool;
+import java.util.concurrent.atomic.AtomicLong;
+
+@Component
+public class DailyRevenueCache {
+
+    private final AtomicLong clock = new AtomicLong();
+    private final AtomicLong staleBefore = new AtomicLong();
+    private final Cache<RevenueRollupId, Entry> entries;
+
+    @Autowired
+    public DailyRevenueCache(@Value("${garage.revenue.cache.max-entries:10000}") int maxEntries) {
+        this(maxEntries, ForkJoinPool.commonPool());
+    }
+
+    DailyRevenueCache(int maxEntries, Executor maintenanceExecutor) {
+        this.entries = Caffeine.newBuilder()
+                .maximumSize(Math.max(1, maxEntries))
+                .executor(maintenanceExecutor)
+                .evictionListener((RevenueRollupId id, Entry entry, RemovalCause cause) -> {
+                    if (entry != null) {
+                        staleBefore.accumulateAndGet(entry.invalidatedAt(), Math::max);
+                    }
+                })
+                .build();
+    }
+
+    public long generation() {
+        return clock.get();
+    }
+
+    public OptionalLong get(String sector, LocalDate date) {
+        Entry entry = entries.getIfPresent(new RevenueRollupId(sector, date));
+        return entry == null || entry.amountCents() == null ? OptionalLong.empty() : OptionalLong.of(entry.amountCents());
+    }
+
+    public void put(String sector, LocalDate date, long amountCents, long readGeneration) {
+        entries.asMap().compute(new RevenueRollupId(sector, date), (id, entry) -> {
+            long invalidatedAt = entry == null ? 0 : entry.invalidatedAt();
+            if (invalidatedAt > readGeneration || staleBefore.get() > readGeneration) {
+                return entry;
+            }
+            return new Entry(invalidatedAt, amountCents);
+        });
+    }
+
+    public void invalidate(String sector, LocalDate date) {
+        long invalidatedAt = clock.incrementAndGet();
+        entries.asMap().put(new RevenueRollupId(sector, date), new Entry(invalidatedAt, null));
+    }
+
+    public void invalidateAll() {
+        staleBefore.accumulateAndGet(clock.incrementAndGet(), Math::max);
+        entries.invalidateAll();
+    }
+
+    public int size() {
+        entries.cleanUp();
+        return (int) entries.asMap().values().stream().filter(entry -> entry.amountCents() != null).count();
+    }
+
+    private record Entry(long invalidatedAt, Long amountCents) {}
+}
@@ -0,0 +1,41 @@
+package br.com.garage_management.state;
+
+import org.springframework.beans.factory.annotation.Value;
+import org.springframework.context.event.EventListener;
+import org.springframework.stereotype.Component;
+
+import java.util.concurrent.CountDownLatch;
+import java.util.concurrent.TimeUnit;
+
+import static br.com.garage_management.util.ErrorConstantsEnum.GARAGE_STATE_NOT_LOADED;
+
+@Component
+public class GarageStateGate {
+
+    private final CountDownLatch loaded = new CountDownLatch(1);
+    private final long awaitTimeoutMillis;
+
+    public GarageStateGate(@Value("${garage.state.await-timeout-seconds:30}") long awaitTimeoutSeconds) {
+        this.awaitTimeoutMillis = TimeUnit.SECONDS.toMillis(Math.max(0, awaitTimeoutSeconds));
+    }
+
+    @EventListener(GarageStateLoadedEvent.class)
+    public void open() {
+        loaded.countDown();
+    }
+
+    public boolean isOpen() {
+        return loaded.getCount() == 0;
+    }
+
+    public void await() {
+        try {
+            if (!loaded.await(awaitTimeoutMillis, TimeUnit.MILLISECONDS)) {
+                throw GARAGE_STATE_NOT_LOADED.asException();
+            }
+        } catch (InterruptedException e) {
+            Thread.currentThread().interrupt();
+            throw GARAGE_STATE_NOT_LOADED.asException();
+        }
+    }
+}
@@ -0,0 +1,9 @@
+package br.com.garage_management.state;
+
+public record GarageStateLoadedEvent(
+
+        int sectors,
+        int spaces,
+        int activeSessions,
+        long elapsedMillis
+) {}
@@ -0,0 +1,60 @@
+package br.com.garage_management.state;
+
+import br.com.garage_management.domain.projection.SectorOccupancyProjection;
+import br.com.garage_management.repository.GarageSectorRepository;
+import br.com.garage_management.repository.SectorTariffRepository;
+import br.com.garage_management.service.RevenueRollupService;
+import br.com.garage_management.service.WebhookIdempotencyService;
+import br.com.garage_management.tariff.TariffEngine;
+import lombok.RequiredArgsConstructor;
+import lombok.extern.slf4j.Slf4j;
+import org.springframework.boot.context.event.ApplicationReadyEvent;
+import org.springframework.context.ApplicationEventPublisher;
+import org.springframework.context.event.EventListener;
+import org.springframework.stereotype.Component;
+
+import java.util.List;
+
+@Slf4j
+@Component
+@RequiredArgsConstructor
+public class GarageStateLoader {
+
+    private final GarageSectorRepository garageSectorRepository;
+    private final GarageStateWarmup garageStateWarmup;
+    private final ParkingSpaceAllocator parkingSpaceAllocator;
+    private final ParkingSpaceSpatialIndex parkingSpaceSpatialIndex;
+    private final ActiveSessionIndex activeSessionIndex;
+    private final SectorOccupancyTracker sectorOccupancyTracker;
+    private final SectorTariffRepository sectorTariffRepository;
+    private final TariffEngine tariffEngine;
+    private final WebhookIdempotencyService webhookIdempotencyService;
+    private final RevenueRollupService revenueRollupService;
+    private final ApplicationEventPublisher applicationEventPublisher;
+
+    @EventListener(ApplicationReadyEvent.class)
+    public void load() {
+        log.info("Carregando estado da garagem em memória...");
+        long startedAt = System.nanoTime();
+
+        List<SectorOccupancyProjection> sectors = garageSectorRepository.findAllOccupancies();
+        GarageStateWarmup.Snapshot snapshot = garageStateWarmup.load(sectors.stream().map(SectorOccupancyProjection::getSector).toList());
+
+        sectorOccupancyTracker.load(sectors);
+        parkingSpaceAllocator.load(snapshot.spaces());
+        parkingSpaceSpatialIndex.load(snapshot.spaces());
+        activeSessionIndex.load(snapshot.sessions());
+
+        tariffEngine.load(sectorTariffRepository.findAll());
+
+        webhookIdempotencyService.load();
+        revenueRollupService.backfillIfEmpty();
+
+        long elapsedMillis = (System.nanoTime() - startedAt) / 1_000_000;
+        log.info("Estado da garagem carregado em {} ms: {} setores, {} vagas e {} veículos estacionados.",
+                elapsedMillis, sectors.size(), snapshot.spaces().size(), snapshot.sessions().size());
+
+        applicationEventPublisher.publishEvent(new GarageStateLoadedEvent(
+                sectors.size(), snapshot.spaces().size(), snapshot.sessions().size(), elapsedMillis));
+    }
+}
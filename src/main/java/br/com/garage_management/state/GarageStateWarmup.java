@@ -0,0 +1,84 @@
+package br.com.garage_management.state;
+
+import br.com.garage_management.domain.enums.ParkingStatusEnum;
+import br.com.garage_management.domain.projection.ParkingSpaceStateProjection;
+import br.com.garage_management.repository.ParkingRecordRepository;
+import br.com.garage_management.repository.ParkingSpaceRepository;
+import org.springframework.beans.factory.annotation.Value;
+import org.springframework.stereotype.Component;
+import org.springframework.transaction.PlatformTransactionManager;
+import org.springframework.transaction.support.TransactionTemplate;
+
+import java.util.ArrayList;
+import java.util.Collection;
+import java.util.List;
+import java.util.concurrent.ExecutionException;
+import java.util.concurrent.ExecutorService;
+import java.util.concurrent.Executors;
+import java.util.concurrent.Future;
+import java.util.stream.Stream;
+
+@Component
+public class GarageStateWarmup {
+
+    private final ParkingSpaceRepository parkingSpaceRepository;
+    private final ParkingRecordRepository parkingRecordRepository;
+    private final TransactionTemplate readOnlyTransaction;
+    private final int parallelism;
+
+    public GarageStateWarmup(ParkingSpaceRepository parkingSpaceRepository,
+                             ParkingRecordRepository parkingRecordRepository,
+                             PlatformTransactionManager transactionManager,
+                             @Value("${garage.state.warmup.parallelism:4}") int parallelism) {
+        this.parkingSpaceRepository = parkingSpaceRepository;
+        this.parkingRecordRepository = parkingRecordRepository;
+        this.readOnlyTransaction = new TransactionTemplate(transactionManager);
+        this.readOnlyTransaction.setReadOnly(true);
+        this.parallelism = Math.max(1, parallelism);
+    }
+
+    public Snapshot load(Collection<String> sectors) {
+        if (sectors.isEmpty()) {
+            return new Snapshot(List.of(), List.of());
+        }
+
+        int threads = Math.min(parallelism, sectors.size());
+        try (ExecutorService executor = Executors.newFixedThreadPool(threads, Thread.ofPlatform().name("garage-warmup-", 0).factory())) {
+            List<Future<Snapshot>> pending = sectors.stream()
+                    .map(sector -> executor.submit(() -> loadSector(sector)))
+                    .toList();
+
+            List<ParkingSpaceStateProjection> spaces = new ArrayList<>();
+            List<ActiveSession> sessions = new ArrayList<>();
+            for (Future<Snapshot> sectorSnapshot : pending) {
+                Snapshot snapshot = sectorSnapshot.get();
+                spaces.addAll(snapshot.spaces());
+                sessions.addAll(snapshot.sessions());
+            }
+            return new Snapshot(spaces, sessions);
+        } catch (InterruptedException e) {
+            Thread.currentThread().interrupt();
+            throw new IllegalStateException("Carregamento do estado da garagem interrompido.", e);
+        } catch (ExecutionException e) {
+            throw new IllegalStateException("Falha ao carregar o estado de um setor da garagem.", e.getCause());
+        }
+    }
+
+    private Snapshot loadSector(String sector) {
+        return readOnlyTransaction.execute(status -> {
+            List<ParkingSpaceStateProjection> spaces;
+            try (Stream<ParkingSpaceStateProjection> stream = parkingSpaceRepository.streamSpaceStatesBySector(sector)) {
+                spaces = stream.toList();
+            }
+
+            List<ActiveSession> sessions;
+            try (Stream<ActiveSession> stream = parkingRecordRepository.streamSessionsBySectorAndStatus(sector, ParkingStatusEnum.PARKED)) {
+                sessions = stream.toList();
+            }
+
+            return new Snapshot(spaces, sessions);
+        });
+    }
+
+    public record Snapshot(List<ParkingSpaceStateProjection> spaces, List<ActiveSession> sessions) {}
+}
@@ -0,0 +1,107 @@
+package br.com.garage_management.state;
+
+import br.com.garage_management.domain.projection.ParkingSpaceStateProjection;
+import org.springframework.stereotype.Component;
+
+import java.util.BitSet;
+import java.util.Collection;
+import java.util.HashMap;
+import java.util.List;
+import java.util.Map;
+import java.util.Optional;
+import java.util.stream.Collectors;
+
+@Component
+public class ParkingSpaceAllocator {
+
+    private volatile Map<String, SectorSpaces> spacesBySector = Map.of();
+    private volatile Map<Long, SpaceSlot> slotsBySpaceId = Map.of();
+
+    public void load(Collection<? extends ParkingSpaceStateProjection> spaces) {
+        Map<String, List<ParkingSpaceStateProjection>> spacesGroupedBySector = spaces.stream()
+                .collect(Collectors.groupingBy(ParkingSpaceStateProjection::getSector));
+
+        Map<String, SectorSpaces> newSpacesBySector = new HashMap<>();
+        Map<Long, SpaceSlot> newSlotsBySpaceId = new HashMap<>();
+
+        spacesGroupedBySector.forEach((sector, sectorSpaces) -> {
+            SectorSpaces sectorState = new SectorSpaces(sectorSpaces.size());
+            for (int index = 0; index < sectorSpaces.size(); index++) {
+                ParkingSpaceStateProjection space = sectorSpaces.get(index);
+                sectorState.spaceIds[index] = space.getId();
+                sectorState.free.set(index, !Boolean.TRUE.equals(space.getOccupied()));
+                newSlotsBySpaceId.put(space.getId(), new SpaceSlot(sectorState, index));
+            }
+            newSpacesBySector.put(sector, sectorState);
+        });
+
+        this.spacesBySector = newSpacesBySector;
+        this.slotsBySpaceId = newSlotsBySpaceId;
+    }
+
+    public Optional<Long> allocate(String sector) {
+        SectorSpaces sectorState = spacesBySector.get(sector);
+        if (sectorState == null) {
+            return Optional.empty();
+        }
+        return sectorState.allocate();
+    }
+
+    public boolean occupy(Long spaceId) {
+        SpaceSlot slot = slotsBySpaceId.get(spaceId);
+        return slot != null && slot.sectorSpaces().occupy(slot.index());
+    }
+
+    public void release(Long spaceId) {
+        SpaceSlot slot = slotsBySpaceId.get(spaceId);
+        if (slot != null) {
+            slot.sectorSpaces().release(slot.index());
+        }
+    }
+
+    public int countFree(String sector) {
+        SectorSpaces sectorState = spacesBySector.get(sector);
+        return sectorState == null ? 0 : sectorState.countFree();
+    }
+
+    private record SpaceSlot(SectorSpaces sectorSpaces, int index) {}
+
+    private static final class SectorSpaces {
+
+        private final long[] spaceIds;
+        private final BitSet free;
+        private int cursor;
+
+        private SectorSpaces(int size) {
+            this.spaceIds = new long[size];
+            this.free = new BitSet(size);
+        }
+
+        private synchronized Optional<Long> allocate() {
+            int index = free.nextSetBit(cursor);
+            if (index < 0) {
+                index = free.nextSetBit(0);
+            }
+            if (index < 0) {
+                return Optional.empty();
+            }
+            free.clear(index);
+            cursor = index + 1 < spaceIds.length ? index + 1 : 0;
+            return Optional.of(spaceIds[index]);
+        }
+
+        private synchronized boolean occupy(int index) {
+            boolean wasFree = free.get(index);
+            free.clear(index);
+            return wasFree;
+        }
+
+        private synchronized void release(int index) {
+            free.set(index);
+        }
+
+        private synchronized int countFree() {
+            return free.cardinality();
+        }
+    }
+}
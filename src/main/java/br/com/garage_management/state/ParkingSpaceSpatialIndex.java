@@ -0,0 +1,88 @@
+package br.com.garage_management.state;
+
+import br.com.garage_management.domain.projection.ParkingSpaceStateProjection;
+import org.springframework.beans.factory.annotation.Value;
+import org.springframework.stereotype.Component;
+
+import java.util.ArrayList;
+import java.util.Collection;
+import java.util.HashMap;
+import java.util.List;
+import java.util.Map;
+import java.util.Optional;
+
+@Component
+public class ParkingSpaceSpatialIndex {
+
+    private final double tolerance;
+    private final double cellSize;
+
+    private volatile Map<Long, SpacePoint[]> pointsByCell = Map.of();
+
+    public ParkingSpaceSpatialIndex(@Value("${garage.parking.spot-match-tolerance:0.00001}") double tolerance) {
+        this.tolerance = tolerance;
+        this.cellSize = Math.max(tolerance, Double.MIN_NORMAL);
+    }
+
+    public void load(Collection<? extends ParkingSpaceStateProjection> spaces) {
+        Map<Long, List<SpacePoint>> grouped = new HashMap<>();
+
+        for (ParkingSpaceStateProjection space : spaces) {
+            if (space.getLat() == null || space.getLng() == null) {
+                continue;
+            }
+            SpacePoint point = new SpacePoint(space.getId(), space.getLat(), space.getLng());
+            grouped.computeIfAbsent(cellKey(cellOf(point.lat()), cellOf(point.lng())), key -> new ArrayList<>()).add(point);
+        }
+
+        Map<Long, SpacePoint[]> newPointsByCell = new HashMap<>(grouped.size() * 2);
+        grouped.forEach((cell, points) -> newPointsByCell.put(cell, points.toArray(SpacePoint[]::new)));
+        this.pointsByCell = newPointsByCell;
+    }
+
+    public Optional<Long> findNearest(Double lat, Double lng) {
+        if (lat == null || lng == null) {
+            return Optional.empty();
+        }
+
+        Map<Long, SpacePoint[]> cells = pointsByCell;
+        long cellLat = cellOf(lat);
+        long cellLng = cellOf(lng);
+        double bestDistance = tolerance * tolerance;
+        SpacePoint best = null;
+
+        for (long dLat = -1; dLat <= 1; dLat++) {
+            for (long dLng = -1; dLng <= 1; dLng++) {
+                SpacePoint[] points = cells.get(cellKey(cellLat + dLat, cellLng + dLng));
+                if (points == null) {
+                    continue;
+                }
+                for (SpacePoint point : points) {
+                    double distance = squaredDistance(point, lat, lng);
+                    if (distance <= bestDistance) {
+                        bestDistance = distance;
+                        best = point;
+                    }
+                }
+            }
+        }
+
+        return best == null ? Optional.empty() : Optional.of(best.spaceId());
+    }
+
+    private long cellOf(double coordinate) {
+        return (long) Math.floor(coordinate / cellSize);
+    }
+
+    private static long cellKey(long cellLat, long cellLng) {
+        return (cellLat << 32) ^ (cellLng & 0xFFFFFFFFL);
+    }
+
+    private static double squaredDistance(SpacePoint point, double lat, double lng) {
+        double dLat = point.lat() - lat;
+        double dLng = point.lng() - lng;
+        return dLat * dLat + dLng * dLng;
+    }
+
+    private record SpacePoint(Long spaceId, double lat, double lng) {}
+}
@@ -0,0 +1,138 @@
+package br.com.garage_management.state;
+
+import org.springframework.beans.factory.annotation.Value;
+import org.springframework.stereotype.Component;
+
+import java.nio.charset.StandardCharsets;
+import java.util.Collection;
+import java.util.LinkedHashMap;
+import java.util.Map;
+import java.util.concurrent.atomic.AtomicLongArray;
+
+@Component
+public class ProcessedEventIndex {
+
+    private static final double FALSE_POSITIVE_RATE = 0.01;
+
+    private final int recentCapacity;
+    private final long expectedEntries;
+    private final Map<String, Boolean> recent;
+
+    private volatile BloomFilter filter;
+    private volatile BloomFilter rebuilding;
+    private volatile long loadedEntries;
+
+    public ProcessedEventIndex(@Value("${garage.webhook.idempotency.recent-entries:10000}") int recentCapacity,
+                               @Value("${garage.webhook.idempotency.expected-entries:1000000}") long expectedEntries) {
+        this.recentCapacity = Math.max(1, recentCapacity);
+        this.expectedEntries = Math.max(1, expectedEntries);
+        this.recent = new LinkedHashMap<>(16, 0.75f, true) {
+            @Override
+            protected boolean removeEldestEntry(Map.Entry<String, Boolean> eldest) {
+                return size() > ProcessedEventIndex.this.recentCapacity;
+            }
+        };
+        this.filter = new BloomFilter(this.expectedEntries);
+    }
+
+    public void load(Collection<String> eventKeys) {
+        BloomFilter newFilter = new BloomFilter(Math.max(expectedEntries, eventKeys.size() * 2L));
+        eventKeys.forEach(newFilter::add);
+        this.filter = newFilter;
+        this.loadedEntries = eventKeys.size();
+        synchronized (recent) {
+            recent.clear();
+        }
+    }
+
+    public synchronized void beginRebuild() {
+        this.rebuilding = new BloomFilter(Math.max(expectedEntries, loadedEntries * 2L));
+    }
+
+    public synchronized void completeRebuild(Collection<String> eventKeys) {
+        BloomFilter rebuilt = rebuilding;
+        if (rebuilt == null) {
+            throw new IllegalStateException("Reconstrução do filtro de eventos processados não foi iniciada.");
+        }
+        eventKeys.forEach(rebuilt::add);
+        this.filter = rebuilt;
+        this.rebuilding = null;
+        this.loadedEntries = eventKeys.size();
+    }
+
+    public boolean isRecent(String eventKey) {
+        synchronized (recent) {
+            return recent.get(eventKey) != null;
+        }
+    }
+
+    public boolean mightContain(String eventKey) {
+        return filter.mightContain(eventKey);
+    }
+
+    public void add(String eventKey) {
+        filter.add(eventKey);
+        BloomFilter next = rebuilding;
+        if (next != null) {
+            next.add(eventKey);
+        }
+        synchronized (recent) {
+            recent.put(eventKey, Boolean.TRUE);
+        }
+    }
+
+    private static final class BloomFilter {
+
+        private final AtomicLongArray bits;
+        private final long bitCount;
+        private final int hashCount;
+
+        private BloomFilter(long expectedEntries) {
+            long optimalBits = (long) Math.ceil(-expectedEntries * Math.log(FALSE_POSITIVE_RATE) / (Math.log(2) * Math.log(2)));
+            int words = (int) Math.min(Integer.MAX_VALUE - 8, Math.max(1, (optimalBits + 63) >>> 6));
+            this.bits = new AtomicLongArray(words);
+            this.bitCount = (long) words << 6;
+            this.hashCount = Math.max(1, (int) Math.round((double) bitCount / expectedEntries * Math.log(2)));
+        }
+
+        private void add(String key) {
+            long hash = hash(key);
+            int h1 = (int) hash;
+            int h2 = (int) (hash >>> 32);
+            for (int i = 1; i <= hashCount; i++) {
+                long bit = Math.floorMod(h1 + (long) i * h2, bitCount);
+                int word = (int) (bit >>> 6);
+                long mask = 1L << bit;
+                long current;
+                while (((current = bits.get(word)) & mask) == 0 && !bits.compareAndSet(word, current, current | mask)) {
+                    Thread.onSpinWait();
+                }
+            }
+        }
+
+        private boolean mightContain(String key) {
+            long hash = hash(key);
+            int h1 = (int) hash;
+            int h2 = (int) (hash >>> 32);
+            for (int i = 1; i <= hashCount; i++) {
+                long bit = Math.floorMod(h1 + (long) i * h2, bitCount);
+                if ((bits.get((int) (bit >>> 6)) & (1L << bit)) == 0) {
+                    return false;
+                }
+            }
+            return true;
+        }
+
+        private static long hash(String key) {
+            long hash = 0xcbf29ce484222325L;
+            for (byte b : key.getBytes(StandardCharsets.UTF_8)) {
+                hash ^= b;
+                hash *= 0x100000001b3L;
+            }
+            hash ^= hash >>> 33;
+            hash *= 0xff51afd7ed558ccdL;
+            hash ^= hash >>> 33;
+            return hash;
+        }
+    }
+}
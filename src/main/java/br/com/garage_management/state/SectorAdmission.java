@@ -0,0 +1,8 @@
+package br.com.garage_management.state;
+
+public record SectorAdmission(
+
+        String sector,
+        int occupiedBefore,
+        int maxCapacity
+) {}
@@ -0,0 +1,96 @@
+package br.com.garage_management.state;
+
+import br.com.garage_management.domain.projection.SectorOccupancyProjection;
+import org.springframework.stereotype.Component;
+
+import java.util.Collection;
+import java.util.LinkedHashMap;
+import java.util.Map;
+import java.util.Optional;
+import java.util.Set;
+import java.util.concurrent.atomic.AtomicInteger;
+
+@Component
+public class SectorOccupancyTracker {
+
+    private volatile Map<String, SectorCounter> countersBySector = Map.of();
+
+    public void load(Collection<? extends SectorOccupancyProjection> sectors) {
+        Map<String, SectorCounter> newCountersBySector = new LinkedHashMap<>();
+        sectors.forEach(sector -> newCountersBySector.put(sector.getSector(),
+                new SectorCounter(sector.getSector(), sector.getMaxCapacity(), sector.getOccupiedCount())));
+        this.countersBySector = newCountersBySector;
+    }
+
+    public Optional<SectorAdmission> tryAdmit() {
+        for (SectorCounter counter : countersBySector.values()) {
+            int occupiedBefore = counter.tryIncrement();
+            if (occupiedBefore >= 0) {
+                return Optional.of(new SectorAdmission(counter.sector, occupiedBefore, counter.maxCapacity));
+            }
+        }
+        return Optional.empty();
+    }
+
+    public boolean hasAvailableCapacity() {
+        for (SectorCounter counter : countersBySector.values()) {
+            if (counter.occupied.get() < counter.maxCapacity) {
+                return true;
+            }
+        }
+        return false;
+    }
+
+    public void occupy(String sector) {
+        SectorCounter counter = countersBySector.get(sector);
+        if (counter != null) {
+            counter.occupied.incrementAndGet();
+        }
+    }
+
+    public void release(String sector) {
+        SectorCounter counter = countersBySector.get(sector);
+        if (counter != null) {
+            counter.occupied.updateAndGet(occupied -> Math.max(occupied - 1, 0));
+        }
+    }
+
+    public int occupiedCount(String sector) {
+        SectorCounter counter = countersBySector.get(sector);
+        return counter == null ? 0 : counter.occupied.get();
+    }
+
+    public int maxCapacity(String sector) {
+        SectorCounter counter = countersBySector.get(sector);
+        return counter == null ? 0 : counter.maxCapacity;
+    }
+
+    public Set<String> sectors() {
+        return countersBySector.keySet();
+    }
+
+    private static final class SectorCounter {
+
+        private final String sector;
+        private final int maxCapacity;
+        private final AtomicInteger occupied;
+
+        private SectorCounter(String sector, int maxCapacity, int occupied) {
+            this.sector = sector;
+            this.maxCapacity = maxCapacity;
+            this.occupied = new AtomicInteger(occupied);
+        }
+
+        private int tryIncrement() {
+            while (true) {
+                int current = occupied.get();
+                if (current >= maxCapacity) {
+                    return -1;
+                }
+                if (occupied.compareAndSet(current, current + 1)) {
+                    return current;
+                }
+            }
+        }
+    }
+}
@@ -0,0 +1,176 @@
+package br.com.garage_management.tariff;
+
+import br.com.garage_management.domain.model.SectorTariff;
+import br.com.garage_management.domain.model.TariffTier;
+import br.com.garage_management.util.MoneyUtil;
+
+import java.util.List;
+import java.util.Map;
+import java.util.concurrent.ConcurrentHashMap;
+
+import static br.com.garage_management.util.ErrorConstantsEnum.INVALID_TARIFF;
+
+public final class CompiledTariff {
+
+    static final int MINUTES_PER_DAY = 1440;
+
+    private static final int HOURS_PER_DAY = 24;
+    private static final int FULL_OCCUPANCY_PERCENT = 100;
+    private static final int NEUTRAL_PERCENT = 100;
+    private static final int MAX_PRICE_PERCENT = 1000;
+
+    private final int[] pricePercentByOccupancy;
+    private final int[] pricePercentByEntryHour;
+    private final int[] unitsByMinuteOfFirstDay;
+    private final int[] unitsByMinuteOfNextDays;
+    private final int unitsPerFullDay;
+
+    private final Map<Integer, int[]> pricePercentByOccupiedByCapacity = new ConcurrentHashMap<>();
+
+    private CompiledTariff(int[] pricePercentByOccupancy, int[] pricePercentByEntryHour,
+                           int[] unitsByMinuteOfFirstDay, int[] unitsByMinuteOfNextDays, int unitsPerFullDay) {
+        this.pricePercentByOccupancy = pricePercentByOccupancy;
+        this.pricePercentByEntryHour = pricePercentByEntryHour;
+        this.unitsByMinuteOfFirstDay = unitsByMinuteOfFirstDay;
+        this.unitsByMinuteOfNextDays = unitsByMinuteOfNextDays;
+        this.unitsPerFullDay = unitsPerFullDay;
+    }
+
+    public static CompiledTariff compile(SectorTariff tariff) {
+        validate(tariff);
+
+        int unit = tariff.getBillingUnitMinutes();
+        int grace = tariff.getGraceMinutes();
+        int maxUnitsPerDay = tariff.getMaxUnitsPerDay() == null ? Integer.MAX_VALUE : tariff.getMaxUnitsPerDay();
+
+        int[] unitsByMinuteOfFirstDay = new int[MINUTES_PER_DAY];
+        int[] unitsByMinuteOfNextDays = new int[MINUTES_PER_DAY];
+        for (int minute = 0; minute < MINUTES_PER_DAY; minute++) {
+            int units = Math.min(ceilDiv(minute, unit), maxUnitsPerDay);
+            unitsByMinuteOfNextDays[minute] = units;
+            unitsByMinuteOfFirstDay[minute] = minute <= grace ? 0 : units;
+        }
+
+        return new CompiledTariff(
+                compileOccupancyTable(tariff.getTiers()),
+                compileEntryHourTable(tariff),
+                unitsByMinuteOfFirstDay,
+                unitsByMinuteOfNextDays,
+                Math.min(ceilDiv(MINUTES_PER_DAY, unit), maxUnitsPerDay));
+    }
+
+    public long entryPriceCents(long basePriceCents, int occupiedBefore, int maxCapacity, int entryHour) {
+        int[] pricePercentByOccupied = pricePercentByOccupiedByCapacity.computeIfAbsent(maxCapacity, this::compileOccupiedTable);
+
+        int occupied = Math.min(Math.max(occupiedBefore, 0), pricePercentByOccupied.length - 1);
+        int basisPoints = pricePercentByOccupied[occupied] * pricePercentByEntryHour[entryHour];
+        return MoneyUtil.basisPointsOf(basePriceCents, basisPoints);
+    }
+
+    public long billableUnits(long minutes) {
+        if (minutes < MINUTES_PER_DAY) {
+            return unitsByMinuteOfFirstDay[(int) Math.max(0, minutes)];
+        }
+        return minutes / MINUTES_PER_DAY * unitsPerFullDay + unitsByMinuteOfNextDays[(int) (minutes % MINUTES_PER_DAY)];
+    }
+
+    private int[] compileOccupiedTable(int maxCapacity) {
+        if (maxCapacity <= 0) {
+            return new int[] { pricePercentByOccupancy[FULL_OCCUPANCY_PERCENT] };
+        }
+
+        int[] table = new int[maxCapacity + 1];
+        for (int occupied = 0; occupied <= maxCapacity; occupied++) {
+            table[occupied] = pricePercentByOccupancy[(int) ((long) occupied * FULL_OCCUPANCY_PERCENT / maxCapacity)];
+        }
+        return table;
+    }
+
+    private static int[] compileOccupancyTable(List<TariffTier> tiers) {
+        int[] table = new int[FULL_OCCUPANCY_PERCENT + 1];
+        int tier = 0;
+        for (int percent = 0; percent <= FULL_OCCUPANCY_PERCENT; percent++) {
+            while (tier + 1 < tiers.size() && tiers.get(tier + 1).getMinOccupancyPercent() <= percent) {
+                tier++;
+            }
+            table[percent] = tiers.get(tier).getPricePercent();
+        }
+        return table;
+    }
+
+    private static int[] compileEntryHourTable(SectorTariff tariff) {
+        int[] table = new int[HOURS_PER_DAY];
+        for (int hour = 0; hour < HOURS_PER_DAY; hour++) {
+            table[hour] = isNightHour(tariff, hour) ? tariff.getNightPricePercent() : NEUTRAL_PERCENT;
+        }
+        return table;
+    }
+
+    private static boolean isNightHour(SectorTariff tariff, int hour) {
+        if (tariff.getNightPricePercent() == null) {
+            return false;
+        }
+        int start = tariff.getNightStartHour();
+        int end = tariff.getNightEndHour();
+        return start <= end
+                ? hour >= start && hour < end
+                : hour >= start || hour < end;
+    }
+
+    private static void validate(SectorTariff tariff) {
+        if (tariff.getGraceMinutes() == null || tariff.getGraceMinutes() < 0) {
+            throw INVALID_TARIFF.asException("carência deve ser zero ou positiva.");
+        }
+        if (tariff.getBillingUnitMinutes() == null || tariff.getBillingUnitMinutes() <= 0) {
+            throw INVALID_TARIFF.asException("unidade de cobrança deve ser positiva.");
+        }
+        if (tariff.getMaxUnitsPerDay() != null && tariff.getMaxUnitsPerDay() <= 0) {
+            throw INVALID_TARIFF.asException("limite diário de unidades deve ser positivo.");
+        }
+        validateNightRate(tariff);
+        validateTiers(tariff.getTiers());
+    }
+
+    private static void validateNightRate(SectorTariff tariff) {
+        if (tariff.getNightPricePercent() == null) {
+            return;
+        }
+        if (!isPricePercent(tariff.getNightPricePercent())) {
+            throw INVALID_TARIFF.asException("percentual noturno deve estar entre 1% e 1000%.");
+        }
+        if (!isHour(tariff.getNightStartHour()) || !isHour(tariff.getNightEndHour())) {
+            throw INVALID_TARIFF.asException("horário noturno deve estar entre 0 e 23.");
+        }
+    }
+
+    private static void validateTiers(List<TariffTier> tiers) {
+        if (tiers == null || tiers.isEmpty() || tiers.getFirst().getMinOccupancyPercent() == null
+                || tiers.getFirst().getMinOccupancyPercent() != 0) {
+            throw INVALID_TARIFF.asException("a primeira faixa de ocupação deve começar em 0%.");
+        }
+
+        int previous = -1;
+        for (TariffTier tier : tiers) {
+            if (tier.getMinOccupancyPercent() == null || tier.getMinOccupancyPercent() <= previous
+                    || tier.getMinOccupancyPercent() > FULL_OCCUPANCY_PERCENT) {
+                throw INVALID_TARIFF.asException("faixas de ocupação devem ser crescentes e até 100%.");
+            }
+            if (!isPricePercent(tier.getPricePercent())) {
+                throw INVALID_TARIFF.asException("percentual de preço das faixas deve estar entre 1% e 1000%.");
+            }
+            previous = tier.getMinOccupancyPercent();
+        }
+    }
+
+    private static boolean isPricePercent(Integer percent) {
+        return percent != null && percent > 0 && percent <= MAX_PRICE_PERCENT;
+    }
+
+    private static boolean isHour(Integer hour) {
+        return hour != null && hour >= 0 && hour < HOURS_PER_DAY;
+    }
+
+    private static int ceilDiv(int dividend, int divisor) {
+        return (dividend + divisor - 1) / divisor;
+    }
+}
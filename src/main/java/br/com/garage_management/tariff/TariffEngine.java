@@ -0,0 +1,60 @@
+package br.com.garage_management.tariff;
+
+import br.com.garage_management.domain.model.SectorTariff;
+import br.com.garage_management.domain.model.TariffTier;
+import br.com.garage_management.state.SectorAdmission;
+import lombok.extern.slf4j.Slf4j;
+import org.springframework.stereotype.Component;
+
+import java.time.LocalDateTime;
+import java.util.Collection;
+import java.util.HashMap;
+import java.util.List;
+import java.util.Map;
+
+@Slf4j
+@Component
+public class TariffEngine {
+
+    private static final CompiledTariff DEFAULT_TARIFF = CompiledTariff.compile(defaultTariff(null));
+
+    private volatile Map<String, CompiledTariff> tariffsBySector = Map.of();
+
+    public static SectorTariff defaultTariff(String sector) {
+        return new SectorTariff(sector, 30, 60, null, null, null, null, List.of(
+                new TariffTier(0, 90),
+                new TariffTier(25, 100),
+                new TariffTier(50, 110),
+                new TariffTier(75, 125)
+        ));
+    }
+
+    public synchronized void load(Collection<SectorTariff> tariffs) {
+        Map<String, CompiledTariff> compiled = new HashMap<>(tariffs.size() * 2);
+        for (SectorTariff tariff : tariffs) {
+            compiled.put(tariff.getSector(), CompiledTariff.compile(tariff));
+        }
+        this.tariffsBySector = compiled;
+
+        log.info("{} tarifas de setor carregadas; demais setores usam a tarifa padrão.", compiled.size());
+    }
+
+    public synchronized void put(String sector, CompiledTariff tariff) {
+        Map<String, CompiledTariff> updated = new HashMap<>(tariffsBySector);
+        updated.put(sector, tariff);
+        this.tariffsBySector = updated;
+    }
+
+    public long entryPriceCents(long basePriceCents, SectorAdmission admission, LocalDateTime entryTime) {
+        return tariffOf(admission.sector())
+                .entryPriceCents(basePriceCents, admission.occupiedBefore(), admission.maxCapacity(), entryTime.getHour());
+    }
+
+    public long exitFeeCents(String sector, long priceAppliedOnEntryCents, long minutesStayed) {
+        return Math.multiplyExact(tariffOf(sector).billableUnits(minutesStayed), priceAppliedOnEntryCents);
+    }
+
+    private CompiledTariff tariffOf(String sector) {
+        return tariffsBySector.getOrDefault(sector, DEFAULT_TARIFF);
+    }
+}
@@ -1,19 +1,27 @@
 package br.com.garage_management.util;
 
 import br.com.garage_management.exception.BusinessException;
+import br.com.garage_management.exception.PreconstructedBusinessException;
 import lombok.AccessLevel;
 import lombok.Getter;
 import lombok.NoArgsConstructor;
 import org.springframework.http.HttpStatus;
 
+import java.util.Arrays;
+import java.util.Map;
+import java.util.Optional;
+import java.util.function.Function;
+import java.util.stream.Collectors;
+
 import static org.springframework.http.HttpStatus.BAD_REQUEST;
 import static org.springframework.http.HttpStatus.NOT_FOUND;
+import static org.springframework.http.HttpStatus.SERVICE_UNAVAILABLE;
 
 @NoArgsConstructor(access = AccessLevel.PRIVATE)
 @Getter
 public enum ErrorConstantsEnum {
 
-    GARAGE_WITHOUT_SPACES("Garagem cheia.", "Entrada recusada para a placa: ", BAD_REQUEST),
+    GARAGE_WITHOUT_SPACES("Garagem cheia.", "Entrada recusada, não há vagas disponíveis na garagem.", BAD_REQUEST, true),
     DUPLICATE_LICENSE_PLATE("Veículo com a placa duplicada.", "Tentativa de entrada duplicada para a placa: ", BAD_REQUEST),
     LICENSE_PLATE_NOT_FOUND("Veículo com a placa não encontrado.", "Não foi encontrado veículo estacionado para a placa: ", NOT_FOUND),
     PARKING_SPACE_NOT_FOUND("Vaga não encontrada.", "Não foi encontrado vaga com as coordenadas especificadas", NOT_FOUND),
@@ -21,16 +29,35 @@ public enum ErrorConstantsEnum {
     GARAGE_SECTOR_NOT_FOUND("Setor não encontrado.", "Não foi encontrado setor para o registro: ", NOT_FOUND),
     INCONSISTENT_DATA_SPOTS_NOT_FOUND("Inconsistência de dados.", "Setor não está cheio, mas nenhuma vaga livre foi encontrada.", BAD_REQUEST),
     INVALID_ENTRY_TIME("Tempo de entrada inválido", "O tempo de entrada é inválido ou está no passado: ", BAD_REQUEST),
-    INVALID_EXIT_TIME("Tempo de saída inválido", "O tempo de saída não pode ser anterior ao de entrada", BAD_REQUEST);
+    INVALID_EXIT_TIME("Tempo de saída inválido", "O tempo de saída não pode ser anterior ao de entrada", BAD_REQUEST),
+    INVALID_DATE_RANGE("Intervalo de datas inválido.", "A data inicial não pode ser posterior à data final: ", BAD_REQUEST),
+    DATE_RANGE_TOO_LARGE("Intervalo de datas muito longo.", "O intervalo máximo permitido, em dias, é: ", BAD_REQUEST),
+    INVALID_WEBHOOK_EVENT("Evento inválido.", "Campo obrigatório ausente no evento: ", BAD_REQUEST),
+    WEBHOOK_QUEUE_UNAVAILABLE("Fila de eventos indisponível.", "Não foi possível registrar o evento para processamento.", SERVICE_UNAVAILABLE),
+    WEBHOOK_QUEUE_FULL("Fila de eventos cheia.", "A fila de eventos atingiu a capacidade máxima, tente novamente.", SERVICE_UNAVAILABLE, true),
+    GARAGE_STATE_NOT_LOADED("Garagem em inicialização.", "O estado da garagem ainda está sendo carregado, tente novamente.", SERVICE_UNAVAILABLE),
+    INVALID_TARIFF("Tarifa inválida.", "Definição de tarifa inválida: ", BAD_REQUEST);
+
+    private static final Map<String, ErrorConstantsEnum> BY_MESSAGE = Arrays.stream(values())
+            .collect(Collectors.toMap(ErrorConstantsEnum::getMessage, Function.identity()));
 
     private String message;
     private String description;
     private HttpStatus httpStatus;
+    @Getter(AccessLevel.NONE)
+    private BusinessException preconstructedException;
 
     ErrorConstantsEnum(String message, String description, HttpStatus httpStatus) {
+        this(message, description, httpStatus, false);
+    }
+
+    ErrorConstantsEnum(String message, String description, HttpStatus httpStatus, boolean preconstructed) {
         this.message = message;
         this.description = description;
         this.httpStatus = httpStatus;
+        this.preconstructedException = preconstructed
+                ? new PreconstructedBusinessException(httpStatus, httpStatus.getReasonPhrase(), message, description)
+                : null;
     }
 
     public BusinessException asException(String... args) {
@@ -44,4 +71,15 @@ public enum ErrorConstantsEnum {
                 .build();
     }
 
+    public BusinessException asPreconstructedException() {
+        if (preconstructedException == null) {
+            throw new IllegalStateException("Erro " + name() + " não possui exceção pré-construída.");
+        }
+        return preconstructedException;
+    }
+
+    public static Optional<ErrorConstantsEnum> fromException(BusinessException exception) {
+        return Optional.ofNullable(BY_MESSAGE.get(exception.getMessage()));
+    }
+
 }
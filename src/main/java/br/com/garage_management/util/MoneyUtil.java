@@ -0,0 +1,30 @@
+package br.com.garage_management.util;
+
+import java.math.BigDecimal;
+import java.math.RoundingMode;
+
+public final class MoneyUtil {
+
+    public static final int SCALE = 2;
+
+    private static final long BASIS_POINTS = 10_000;
+
+    private MoneyUtil() {
+    }
+
+    public static long toCents(double amount) {
+        return toCents(BigDecimal.valueOf(amount));
+    }
+
+    public static long toCents(BigDecimal amount) {
+        return amount.setScale(SCALE, RoundingMode.HALF_UP).unscaledValue().longValueExact();
+    }
+
+    public static BigDecimal toAmount(long cents) {
+        return BigDecimal.valueOf(cents, SCALE);
+    }
+
+    public static long basisPointsOf(long cents, int basisPoints) {
+        return Math.floorDiv(Math.multiplyExact(cents, basisPoints) + BASIS_POINTS / 2, BASIS_POINTS);
+    }
+}
@@ -0,0 +1,40 @@
+package br.com.garage_management.util;
+
+import br.com.garage_management.domain.dto.EntryEventDto;
+import br.com.garage_management.domain.dto.ExitEventDto;
+import br.com.garage_management.domain.dto.ParkedEventDto;
+import br.com.garage_management.domain.dto.WebhookEvent;
+
+import java.time.LocalDateTime;
+
+public final class WebhookEventValidator {
+
+    private WebhookEventValidator() {
+    }
+
+    public static void validate(WebhookEvent event) {
+        if (event.licensePlate() == null || event.licensePlate().isBlank()) {
+            throw ErrorConstantsEnum.INVALID_WEBHOOK_EVENT.asException("license_plate");
+        }
+
+        switch (event) {
+            case EntryEventDto entryEvent -> {
+                require(entryEvent.entryTime(), "entry_time");
+                if (entryEvent.entryTime().isBefore(LocalDateTime.now())) {
+                    throw ErrorConstantsEnum.INVALID_ENTRY_TIME.asException(String.valueOf(entryEvent.entryTime()));
+                }
+            }
+            case ParkedEventDto parkedEvent -> {
+                require(parkedEvent.lat(), "lat");
+                require(parkedEvent.lng(), "lng");
+            }
+            case ExitEventDto exitEvent -> require(exitEvent.exitTime(), "exit_time");
+        }
+    }
+
+    private static void require(Object value, String field) {
+        if (value == null) {
+            throw ErrorConstantsEnum.INVALID_WEBHOOK_EVENT.asException(field);
+        }
+    }
+}
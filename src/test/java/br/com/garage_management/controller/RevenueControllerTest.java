@@ -1,6 +1,9 @@
 package br.com.garage_management.controller;
 
 import br.com.garage_management.domain.dto.RevenueResponseDto;
+import br.com.garage_management.domain.dto.RevenueRollupRebuildDto;
+import br.com.garage_management.domain.enums.RevenueGranularityEnum;
+import br.com.garage_management.service.RevenueRollupService;
 import br.com.garage_management.service.RevenueService;
 import br.com.garage_management.util.TestFactoryUtil;
 import com.fasterxml.jackson.databind.ObjectMapper;
@@ -10,14 +13,23 @@ import org.springframework.beans.factory.annotation.Autowired;
 import org.springframework.boot.test.autoconfigure.web.servlet.WebMvcTest;
 import org.springframework.boot.test.context.TestConfiguration;
 import org.springframework.context.annotation.Bean;
+import org.springframework.http.HttpHeaders;
 import org.springframework.test.web.servlet.MockMvc;
+import org.springframework.test.web.servlet.MvcResult;
 
+import java.nio.charset.StandardCharsets;
 import java.time.LocalDate;
+import java.util.List;
 
 import static org.mockito.Mockito.mock;
 import static org.mockito.Mockito.when;
+import static org.springframework.test.web.servlet.request.MockMvcRequestBuilders.asyncDispatch;
 import static org.springframework.test.web.servlet.request.MockMvcRequestBuilders.get;
+import static org.springframework.test.web.servlet.request.MockMvcRequestBuilders.post;
 import static org.springframework.test.web.servlet.result.MockMvcResultMatchers.content;
+import static org.springframework.test.web.servlet.result.MockMvcResultMatchers.header;
+import static org.springframework.test.web.servlet.result.MockMvcResultMatchers.jsonPath;
+import static org.springframework.test.web.servlet.result.MockMvcResultMatchers.request;
 import static org.springframework.test.web.servlet.result.MockMvcResultMatchers.status;
 
 @WebMvcTest(RevenueController.class)
@@ -32,6 +44,9 @@ class RevenueControllerTest {
     @Autowired
     private RevenueService revenueService;
 
+    @Autowired
+    private RevenueRollupService revenueRollupService;
+
     private static final String REVENUE_CONTROLLER_ENDPOINT = "/revenue";
 
     @TestConfiguration
@@ -40,6 +55,11 @@ class RevenueControllerTest {
         public RevenueService revenueService() {
             return mock(RevenueService.class);
         }
+
+        @Bean
+        public RevenueRollupService revenueRollupService() {
+            return mock(RevenueRollupService.class);
+        }
     }
 
     @Test
@@ -58,6 +78,34 @@ class RevenueControllerTest {
                 .andExpect(content().json(objectMapper.writeValueAsString(expectedDto)));
     }
 
+    @Test
+    @DisplayName("Deve exigir revalidação pelo ETag também para dias já encerrados, que ainda recebem saídas atrasadas")
+    void shouldRequireRevalidationForClosedDay() throws Exception {
+        LocalDate testDate = LocalDate.of(2025, 10, 15);
+        when(revenueService.calculateDailyRevenue(testDate, "A")).thenReturn(TestFactoryUtil.createMockRevenueResponseDto());
+
+        mockMvc.perform(get(REVENUE_CONTROLLER_ENDPOINT)
+                        .param("date", "2025-10-15")
+                        .param("sector", "A"))
+                .andExpect(status().isOk())
+                .andExpect(header().string(HttpHeaders.ETAG, "W/\"A:2025-10-15:550.25\""))
+                .andExpect(header().string(HttpHeaders.CACHE_CONTROL, "no-cache"));
+    }
+
+    @Test
+    @DisplayName("Deve retornar 304 Not Modified quando o ETag informado ainda for válido")
+    void shouldReturnNotModifiedWhenETagMatches() throws Exception {
+        LocalDate testDate = LocalDate.now();
+        when(revenueService.calculateDailyRevenue(testDate, "A")).thenReturn(TestFactoryUtil.createMockRevenueResponseDto());
+
+        mockMvc.perform(get(REVENUE_CONTROLLER_ENDPOINT)
+                        .param("date", testDate.toString())
+                        .param("sector", "A")
+                        .header(HttpHeaders.IF_NONE_MATCH, "W/\"A:" + testDate + ":550.25\""))
+                .andExpect(status().isNotModified())
+                .andExpect(header().string(HttpHeaders.CACHE_CONTROL, "no-cache"));
+    }
+
     @Test
     @DisplayName("Deve retornar 400 Bad Request quando o parâmetro 'date' estiver faltando")
     void shouldReturnBadRequestWhenDateIsMissing() throws Exception {
@@ -82,4 +130,39 @@ class RevenueControllerTest {
                         .param("sector", "A"))
                 .andExpect(status().isBadRequest());
     }
-}
\ No newline at end of file
+
+    @Test
+    @DisplayName("Deve reconstruir o consolidado de receita para o intervalo informado")
+    void shouldRebuildRollupsForRange() throws Exception {
+        LocalDate from = LocalDate.of(2025, 10, 1);
+        LocalDate to = LocalDate.of(2025, 10, 15);
+        when(revenueRollupService.rebuild(from, to)).thenReturn(new RevenueRollupRebuildDto(from, to, 12));
+
+        mockMvc.perform(post(REVENUE_CONTROLLER_ENDPOINT + "/rollups/rebuild")
+                        .param("from", "2025-10-01")
+                        .param("to", "2025-10-15"))
+                .andExpect(status().isOk())
+                .andExpect(jsonPath("$.rows").value(12));
+    }
+
+    @Test
+    @DisplayName("Deve transmitir a receita do intervalo para a lista de setores informada")
+    void shouldStreamRevenueRange() throws Exception {
+        LocalDate from = LocalDate.of(2025, 10, 1);
+        LocalDate to = LocalDate.of(2025, 10, 31);
+        when(revenueService.streamRevenueRange(from, to, List.of("A", "B"), RevenueGranularityEnum.HOUR))
+                .thenReturn(outputStream -> outputStream.write("{\"buckets\":[]}".getBytes(StandardCharsets.UTF_8)));
+
+        MvcResult result = mockMvc.perform(get(REVENUE_CONTROLLER_ENDPOINT + "/range")
+                        .param("from", "2025-10-01")
+                        .param("to", "2025-10-31")
+                        .param("sectors", "A", "B")
+                        .param("granularity", "HOUR"))
+                .andExpect(request().asyncStarted())
+                .andReturn();
+
+        mockMvc.perform(asyncDispatch(result))
+                .andExpect(status().isOk())
+                .andExpect(content().json("{\"buckets\":[]}"));
+    }
+}
@@ -0,0 +1,74 @@
+package br.com.garage_management.controller;
+
+import br.com.garage_management.domain.dto.TariffDto;
+import br.com.garage_management.domain.dto.TariffTierDto;
+import br.com.garage_management.service.TariffService;
+import br.com.garage_management.util.ErrorConstantsEnum;
+import com.fasterxml.jackson.databind.ObjectMapper;
+import org.junit.jupiter.api.DisplayName;
+import org.junit.jupiter.api.Test;
+import org.springframework.beans.factory.annotation.Autowired;
+import org.springframework.boot.test.autoconfigure.web.servlet.WebMvcTest;
+import org.springframework.boot.test.context.TestConfiguration;
+import org.springframework.context.annotation.Bean;
+import org.springframework.http.MediaType;
+import org.springframework.test.web.servlet.MockMvc;
+
+import java.util.List;
+
+import static org.mockito.ArgumentMatchers.eq;
+import static org.mockito.Mockito.mock;
+import static org.mockito.Mockito.when;
+import static org.springframework.test.web.servlet.request.MockMvcRequestBuilders.get;
+import static org.springframework.test.web.servlet.request.MockMvcRequestBuilders.put;
+import static org.springframework.test.web.servlet.result.MockMvcResultMatchers.jsonPath;
+import static org.springframework.test.web.servlet.result.MockMvcResultMatchers.status;
+
+@WebMvcTest(TariffController.class)
+class TariffControllerTest {
+
+    @Autowired
+    private MockMvc mockMvc;
+
+    @Autowired
+    private ObjectMapper objectMapper;
+
+    @Autowired
+    private TariffService tariffService;
+
+    private static final String TARIFF_CONTROLLER_ENDPOINT = "/tariffs/A";
+
+    @TestConfiguration
+    static class TestConfig {
+        @Bean
+        public TariffService tariffService() {
+            return mock(TariffService.class);
+        }
+    }
+
+    @Test
+    @DisplayName("Deve retornar 200 OK com a tarifa do setor")
+    void shouldReturnSectorTariff() throws Exception {
+        when(tariffService.findTariff("A")).thenReturn(
+                new TariffDto("A", 30, 60, null, null, null, null, List.of(new TariffTierDto(0, 90))));
+
+        mockMvc.perform(get(TARIFF_CONTROLLER_ENDPOINT))
+                .andExpect(status().isOk())
+                .andExpect(jsonPath("$.graceMinutes").value(30))
+                .andExpect(jsonPath("$.tiers[0].pricePercent").value(90))
+                .andExpect(jsonPath("$.maxUnitsPerDay").doesNotExist());
+    }
+
+    @Test
+    @DisplayName("Deve retornar 400 Bad Request quando a tarifa enviada for inválida")
+    void shouldReturnBadRequestWhenTariffIsInvalid() throws Exception {
+        TariffDto request = new TariffDto(null, 30, 0, null, null, null, null, List.of(new TariffTierDto(0, 90)));
+        when(tariffService.saveTariff(eq("A"), eq(request)))
+                .thenThrow(ErrorConstantsEnum.INVALID_TARIFF.asException("unidade de cobrança deve ser positiva."));
+
+        mockMvc.perform(put(TARIFF_CONTROLLER_ENDPOINT)
+                        .contentType(MediaType.APPLICATION_JSON)
+                        .content(objectMapper.writeValueAsString(request)))
+                .andExpect(status().isBadRequest());
+    }
+}
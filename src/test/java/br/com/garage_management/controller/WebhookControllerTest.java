@@ -4,28 +4,56 @@ import br.com.garage_management.domain.dto.EntryEventDto;
 import br.com.garage_management.domain.dto.ExitEventDto;
 import br.com.garage_management.domain.dto.ParkedEventDto;
 import br.com.garage_management.domain.dto.WebhookEvent;
+import br.com.garage_management.ingestion.QueuedEvent;
+import br.com.garage_management.ingestion.WebhookEventJournal;
+import br.com.garage_management.metrics.WebhookMetrics;
 import br.com.garage_management.service.ParkingService;
+import br.com.garage_management.service.WebhookBatchService;
+import br.com.garage_management.service.WebhookEventDispatcher;
+import br.com.garage_management.service.WebhookIdempotencyService;
+import br.com.garage_management.state.ActiveSessionIndex;
+import br.com.garage_management.state.GarageStateGate;
+import br.com.garage_management.state.SectorOccupancyTracker;
 import br.com.garage_management.util.TestFactoryUtil;
 import com.fasterxml.jackson.databind.ObjectMapper;
+import io.micrometer.core.instrument.simple.SimpleMeterRegistry;
+import org.junit.jupiter.api.BeforeEach;
 import org.junit.jupiter.api.DisplayName;
+import org.junit.jupiter.api.Test;
 import org.junit.jupiter.params.ParameterizedTest;
 import org.junit.jupiter.params.provider.Arguments;
 import org.junit.jupiter.params.provider.MethodSource;
 import org.mockito.ArgumentCaptor;
+import org.mockito.InOrder;
 import org.springframework.beans.factory.annotation.Autowired;
 import org.springframework.boot.test.autoconfigure.web.servlet.WebMvcTest;
 import org.springframework.boot.test.context.TestConfiguration;
 import org.springframework.context.annotation.Bean;
 import org.springframework.http.MediaType;
 import org.springframework.test.web.servlet.MockMvc;
+import org.springframework.transaction.PlatformTransactionManager;
 
 import java.time.LocalDateTime;
 import java.util.stream.Stream;
 
 import static org.junit.jupiter.api.Assertions.assertEquals;
+import static br.com.garage_management.util.ErrorConstantsEnum.DUPLICATE_LICENSE_PLATE;
+import static br.com.garage_management.util.ErrorConstantsEnum.GARAGE_WITHOUT_SPACES;
+import static br.com.garage_management.util.ErrorConstantsEnum.INVALID_ENTRY_TIME;
+import static br.com.garage_management.util.ErrorConstantsEnum.INVALID_WEBHOOK_EVENT;
+import static br.com.garage_management.util.ErrorConstantsEnum.LICENSE_PLATE_NOT_FOUND;
+import static org.mockito.ArgumentMatchers.any;
+import static org.mockito.Mockito.doThrow;
+import static org.mockito.Mockito.inOrder;
 import static org.mockito.Mockito.mock;
+import static org.mockito.Mockito.reset;
+import static org.mockito.Mockito.times;
 import static org.mockito.Mockito.verify;
+import static org.mockito.Mockito.verifyNoInteractions;
+import static org.mockito.Mockito.when;
+import static org.springframework.test.web.servlet.request.MockMvcRequestBuilders.get;
 import static org.springframework.test.web.servlet.request.MockMvcRequestBuilders.post;
+import static org.springframework.test.web.servlet.result.MockMvcResultMatchers.jsonPath;
 import static org.springframework.test.web.servlet.result.MockMvcResultMatchers.status;
 
 @WebMvcTest(WebhookController.class)
@@ -40,6 +68,9 @@ class WebhookControllerTest {
     @Autowired
     private ParkingService parkingService;
 
+    @Autowired
+    private SectorOccupancyTracker sectorOccupancyTracker;
+
     @TestConfiguration
     static class TestConfig {
 
@@ -47,12 +78,48 @@ class WebhookControllerTest {
         public ParkingService parkingService() {
             return mock(ParkingService.class);
         }
+
+        @Bean
+        public SectorOccupancyTracker sectorOccupancyTracker() {
+            return TestFactoryUtil.createSectorOccupancyTracker("A", 1, 0);
+        }
+
+        @Bean
+        public GarageStateGate garageStateGate() {
+            GarageStateGate gate = new GarageStateGate(0);
+            gate.open();
+            return gate;
+        }
+
+        @Bean
+        public WebhookEventDispatcher webhookEventDispatcher(ParkingService parkingService, SectorOccupancyTracker sectorOccupancyTracker) {
+            return new WebhookEventDispatcher(parkingService, sectorOccupancyTracker, new ActiveSessionIndex(), mock(WebhookIdempotencyService.class), new WebhookMetrics(new SimpleMeterRegistry()), mock(PlatformTransactionManager.class), 2);
+        }
+
+        @Bean
+        public WebhookEventJournal webhookEventJournal() {
+            return mock(WebhookEventJournal.class);
+        }
+
+        @Bean
+        public WebhookBatchService webhookBatchService(WebhookEventDispatcher webhookEventDispatcher, WebhookEventJournal webhookEventJournal, ObjectMapper objectMapper) {
+            return new WebhookBatchService(webhookEventDispatcher, webhookEventJournal, objectMapper, mock(PlatformTransactionManager.class), 2);
+        }
+    }
+
+    @Autowired
+    private WebhookEventJournal webhookEventJournal;
+
+    @BeforeEach
+    void setUp() {
+        reset(parkingService, webhookEventJournal);
+        when(webhookEventJournal.append(any())).thenAnswer(invocation -> new QueuedEvent(1, invocation.getArgument(0)));
     }
 
     private static Stream<Arguments> webhookEventProvider() {
         return Stream.of(
                 Arguments.of(
-                        TestFactoryUtil.createEntryEventDto("ABC-1234", LocalDateTime.of(2025, 10, 15, 14, 0, 0))
+                        TestFactoryUtil.createEntryEventDto("ABC-1234", LocalDateTime.now().plusMinutes(1))
                 ),
                 Arguments.of(
                         TestFactoryUtil.createParkedEventDto("DEF-5678")
@@ -92,4 +159,112 @@ class WebhookControllerTest {
             }
         }
     }
-}
\ No newline at end of file
+
+    @Test
+    @DisplayName("Deve devolver o erro de negócio lançado durante o processamento do evento")
+    void handleWebhookEvent_shouldReturnBusinessErrorFromProcessing() throws Exception {
+        EntryEventDto event = TestFactoryUtil.createEntryEventDto("ABC-1234", LocalDateTime.now().plusMinutes(1));
+        doThrow(DUPLICATE_LICENSE_PLATE.asException(event.licensePlate())).when(parkingService).processEntry(any());
+
+        mockMvc.perform(post("/webhook")
+                        .contentType(MediaType.APPLICATION_JSON)
+                        .content(objectMapper.writeValueAsString(event)))
+                .andExpect(status().isBadRequest())
+                .andExpect(jsonPath("$.message").value(DUPLICATE_LICENSE_PLATE.getMessage()));
+    }
+
+    @Test
+    @DisplayName("Deve gravar o evento no diário antes de processá-lo e confirmá-lo mesmo quando recusado")
+    void handleWebhookEvent_shouldJournalEventAroundProcessing() throws Exception {
+        EntryEventDto event = TestFactoryUtil.createEntryEventDto("ABC-1234", LocalDateTime.now().plusMinutes(1));
+        doThrow(DUPLICATE_LICENSE_PLATE.asException(event.licensePlate())).when(parkingService).processEntry(any());
+
+        mockMvc.perform(post("/webhook")
+                        .contentType(MediaType.APPLICATION_JSON)
+                        .content(objectMapper.writeValueAsString(event)))
+                .andExpect(status().isBadRequest());
+
+        InOrder inOrder = inOrder(webhookEventJournal, parkingService);
+        inOrder.verify(webhookEventJournal).append(event);
+        inOrder.verify(parkingService).processEntry(event);
+        inOrder.verify(webhookEventJournal).acknowledge(new QueuedEvent(1, event));
+    }
+
+    @Test
+    @DisplayName("Deve recusar a entrada com a garagem cheia sem chamar o serviço")
+    void handleWebhookEvent_shouldFastRejectEntryWhenGarageIsFull() throws Exception {
+        EntryEventDto event = TestFactoryUtil.createEntryEventDto("ABC-1234", LocalDateTime.now().plusMinutes(1));
+        sectorOccupancyTracker.occupy("A");
+
+        try {
+            mockMvc.perform(post("/webhook")
+                            .contentType(MediaType.APPLICATION_JSON)
+                            .content(objectMapper.writeValueAsString(event)))
+                    .andExpect(status().isBadRequest())
+                    .andExpect(jsonPath("$.message").value(GARAGE_WITHOUT_SPACES.getMessage()))
+                    .andExpect(jsonPath("$.description").value(GARAGE_WITHOUT_SPACES.getDescription()));
+        } finally {
+            sectorOccupancyTracker.release("A");
+        }
+
+        verifyNoInteractions(parkingService);
+    }
+
+    @Test
+    @DisplayName("Deve recusar evento sem os campos obrigatórios sem chamar o serviço")
+    void handleWebhookEvent_shouldRejectEventWithMissingFields() throws Exception {
+        ParkedEventDto event = new ParkedEventDto("ABC-1234", null, 20.0, null);
+
+        mockMvc.perform(post("/webhook")
+                        .contentType(MediaType.APPLICATION_JSON)
+                        .content(objectMapper.writeValueAsString(event)))
+                .andExpect(status().isBadRequest())
+                .andExpect(jsonPath("$.message").value(INVALID_WEBHOOK_EVENT.getMessage()));
+
+        verifyNoInteractions(parkingService);
+    }
+
+    @Test
+    @DisplayName("Deve recusar na recepção a entrada com tempo no passado sem chamar o serviço")
+    void handleWebhookEvent_shouldRejectEntryTimeInThePast() throws Exception {
+        EntryEventDto event = TestFactoryUtil.createEntryEventDto("ABC-1234", LocalDateTime.now().minusMinutes(1));
+
+        mockMvc.perform(post("/webhook")
+                        .contentType(MediaType.APPLICATION_JSON)
+                        .content(objectMapper.writeValueAsString(event)))
+                .andExpect(status().isBadRequest())
+                .andExpect(jsonPath("$.message").value(INVALID_ENTRY_TIME.getMessage()));
+
+        verifyNoInteractions(parkingService);
+    }
+
+    @Test
+    @DisplayName("Deve retornar 404 para estatísticas da fila quando o processamento assíncrono está desabilitado")
+    void getQueueStats_shouldReturnNotFoundWhenAsyncDisabled() throws Exception {
+        mockMvc.perform(get("/webhook/queue"))
+                .andExpect(status().isNotFound());
+    }
+
+    @Test
+    @DisplayName("Deve processar um lote NDJSON e retornar o resultado de cada evento")
+    void handleWebhookBatch_shouldReturnResultPerEvent() throws Exception {
+        ParkedEventDto parked = TestFactoryUtil.createParkedEventDto("ABC-1234");
+        ExitEventDto exit = TestFactoryUtil.createExitEventDto("DEF-5678", LocalDateTime.of(2025, 10, 15, 16, 30, 0));
+        doThrow(LICENSE_PLATE_NOT_FOUND.asException(exit.licensePlate())).when(parkingService).processExit(any());
+
+        String body = objectMapper.writerFor(WebhookEvent.class).writeValueAsString(parked) + "\n"
+                + objectMapper.writerFor(WebhookEvent.class).writeValueAsString(exit) + "\n";
+
+        mockMvc.perform(post("/webhook/batch")
+                        .contentType("application/x-ndjson")
+                        .content(body))
+                .andExpect(status().isOk())
+                .andExpect(jsonPath("$.total").value(2))
+                .andExpect(jsonPath("$.succeeded").value(1))
+                .andExpect(jsonPath("$.results[0].status").value(200))
+                .andExpect(jsonPath("$.results[1].status").value(404))
+                .andExpect(jsonPath("$.results[1].license_plate").value("DEF-5678"));
+
+        verify(parkingService, times(2)).processParked(parked);
+    }
+}
@@ -0,0 +1,208 @@
+package br.com.garage_management.ingestion;
+
+import br.com.garage_management.domain.dto.EntryEventDto;
+import br.com.garage_management.domain.dto.WebhookQueueStatsDto;
+import br.com.garage_management.exception.BusinessException;
+import br.com.garage_management.metrics.WebhookMetrics;
+import br.com.garage_management.service.ParkingService;
+import br.com.garage_management.service.WebhookEventDispatcher;
+import br.com.garage_management.service.WebhookIdempotencyService;
+import br.com.garage_management.state.ActiveSessionIndex;
+import br.com.garage_management.util.TestFactoryUtil;
+import com.fasterxml.jackson.databind.ObjectMapper;
+import com.fasterxml.jackson.databind.json.JsonMapper;
+import io.micrometer.core.instrument.simple.SimpleMeterRegistry;
+import org.junit.jupiter.api.AfterEach;
+import org.junit.jupiter.api.DisplayName;
+import org.junit.jupiter.api.Test;
+import org.junit.jupiter.api.extension.ExtendWith;
+import org.junit.jupiter.api.io.TempDir;
+import org.mockito.Mock;
+import org.mockito.junit.jupiter.MockitoExtension;
+import org.springframework.transaction.PlatformTransactionManager;
+
+import java.io.IOException;
+import java.nio.file.Path;
+import java.time.LocalDateTime;
+import java.util.ArrayList;
+import java.util.List;
+import java.util.concurrent.CompletableFuture;
+import java.util.concurrent.RejectedExecutionException;
+
+import static br.com.garage_management.util.ErrorConstantsEnum.DUPLICATE_LICENSE_PLATE;
+import static br.com.garage_management.util.ErrorConstantsEnum.WEBHOOK_QUEUE_FULL;
+import static br.com.garage_management.util.ErrorConstantsEnum.WEBHOOK_QUEUE_UNAVAILABLE;
+import static org.junit.jupiter.api.Assertions.assertEquals;
+import static org.junit.jupiter.api.Assertions.assertThrows;
+import static org.mockito.ArgumentMatchers.any;
+import static org.mockito.Mockito.doAnswer;
+import static org.mockito.Mockito.doThrow;
+import static org.mockito.Mockito.mock;
+import static org.mockito.Mockito.never;
+import static org.mockito.Mockito.timeout;
+import static org.mockito.Mockito.times;
+import static org.mockito.Mockito.verify;
+
+@ExtendWith(MockitoExtension.class)
+class AsyncWebhookIngestionServiceTest {
+
+    private final ObjectMapper objectMapper = JsonMapper.builder().findAndAddModules().build();
+
+    @Mock
+    private ParkingService parkingService;
+
+    @TempDir
+    private Path directory;
+
+    private WebhookEventDispatcher dispatcher;
+    private final List<WebhookEventJournal> journals = new ArrayList<>();
+
+    @AfterEach
+    void tearDown() throws IOException, InterruptedException {
+        for (WebhookEventJournal journal : journals) {
+            journal.shutdown();
+        }
+        if (dispatcher != null) {
+            dispatcher.shutdown();
+        }
+    }
+
+    @Test
+    @DisplayName("Deve processar os eventos aceitos somente após o carregamento do estado da garagem")
+    void shouldProcessAcceptedEventsAfterStart() throws Exception {
+        AsyncWebhookIngestionService service = createService(3);
+        EntryEventDto event = TestFactoryUtil.createEntryEventDto("ABC-1234", LocalDateTime.now().plusMinutes(1));
+
+        service.accept(event);
+        verify(parkingService, never()).processEntry(any());
+        assertEquals(1, service.stats().depth());
+
+        service.start();
+        verify(parkingService, timeout(2000)).processEntry(event);
+        service.shutdown();
+
+        WebhookQueueStatsDto stats = service.stats();
+        assertEquals(0, stats.depth());
+        assertEquals(1, stats.accepted());
+        assertEquals(1, stats.processed());
+    }
+
+    @Test
+    @DisplayName("Deve mover sem novas tentativas para a fila de rejeitados os eventos recusados por regra de negócio")
+    void shouldDeadLetterRejectedEventsWithoutRetry() throws Exception {
+        AsyncWebhookIngestionService service = createService(3);
+        EntryEventDto event = TestFactoryUtil.createEntryEventDto("ABC-1234", LocalDateTime.now().plusMinutes(1));
+        doThrow(DUPLICATE_LICENSE_PLATE.asException(event.licensePlate())).when(parkingService).processEntry(any());
+
+        service.start();
+        service.accept(event);
+        service.shutdown();
+
+        verify(parkingService, times(1)).processEntry(event);
+        assertEquals(1, service.stats().rejected());
+        assertEquals(0, service.stats().depth());
+        assertEquals(List.of(new QueuedEvent(1, event)), deadLetters());
+    }
+
+    @Test
+    @DisplayName("Deve tentar novamente eventos com falha inesperada até o limite de tentativas")
+    void shouldRetryUnexpectedFailuresUpToLimit() throws Exception {
+        AsyncWebhookIngestionService service = createService(2);
+        EntryEventDto event = TestFactoryUtil.createEntryEventDto("ABC-1234", LocalDateTime.now().plusMinutes(1));
+        doThrow(new IllegalStateException("falha")).when(parkingService).processEntry(any());
+
+        service.start();
+        service.accept(event);
+        service.shutdown();
+
+        verify(parkingService, times(2)).processEntry(event);
+        assertEquals(1, service.stats().failed());
+        assertEquals(List.of(new QueuedEvent(1, event)), deadLetters());
+    }
+
+    @Test
+    @DisplayName("Deve reprocessar eventos pendentes gravados antes de um reinício")
+    void shouldReplayPendingEventsAfterRestart() throws Exception {
+        EntryEventDto event = TestFactoryUtil.createEntryEventDto("ABC-1234", LocalDateTime.now().plusMinutes(1));
+        AsyncWebhookIngestionService first = createService(3);
+        first.accept(event);
+        first.shutdown();
+        journals.removeFirst().shutdown();
+        verify(parkingService, never()).processEntry(any());
+
+        AsyncWebhookIngestionService second = createService(3);
+        second.start();
+        second.shutdown();
+
+        verify(parkingService).processEntry(event);
+    }
+
+    @Test
+    @DisplayName("Deve recusar novos eventos durante o desligamento")
+    void shouldRejectEventsAfterShutdown() throws Exception {
+        AsyncWebhookIngestionService service = createService(3);
+        service.shutdown();
+
+        BusinessException exception = assertThrows(BusinessException.class,
+                () -> service.accept(TestFactoryUtil.createParkedEventDto("ABC-1234")));
+
+        assertEquals(WEBHOOK_QUEUE_UNAVAILABLE.getMessage(), exception.getMessage());
+    }
+
+    @Test
+    @DisplayName("Deve recusar novos eventos sem gravá-los no diário quando a fila atingir a capacidade máxima")
+    void shouldRejectEventsWhenPendingQueueIsFull() throws Exception {
+        AsyncWebhookIngestionService service = new AsyncWebhookIngestionService(mock(WebhookEventDispatcher.class), openJournal(mock(WebhookEventDispatcher.class)), 1, 3, 5);
+        service.accept(TestFactoryUtil.createEntryEventDto("ABC-1234", LocalDateTime.now().plusMinutes(1)));
+
+        BusinessException exception = assertThrows(BusinessException.class,
+                () -> service.accept(TestFactoryUtil.createEntryEventDto("XYZ-9876", LocalDateTime.now().plusMinutes(1))));
+
+        assertEquals(WEBHOOK_QUEUE_FULL.getMessage(), exception.getMessage());
+        assertEquals(1, service.stats().depth());
+        assertEquals(1, service.stats().accepted());
+        service.shutdown();
+    }
+
+    @Test
+    @DisplayName("Deve reenviar o evento após uma recusa das filas por placa sem interromper o consumo da fila")
+    void shouldRetrySubmissionAfterRejectedExecution() throws Exception {
+        WebhookEventDispatcher rejectingDispatcher = mock(WebhookEventDispatcher.class);
+        doThrow(new RejectedExecutionException("fila cheia"))
+                .doAnswer(invocation -> {
+                    invocation.<Runnable>getArgument(1).run();
+                    return CompletableFuture.completedFuture(null);
+                })
+                .when(rejectingDispatcher).submit(any(), any());
+        AsyncWebhookIngestionService service = new AsyncWebhookIngestionService(rejectingDispatcher, openJournal(rejectingDispatcher), 100, 3, 5);
+        EntryEventDto event = TestFactoryUtil.createEntryEventDto("ABC-1234", LocalDateTime.now().plusMinutes(1));
+
+        service.start();
+        service.accept(event);
+
+        verify(rejectingDispatcher, timeout(2000)).apply(event);
+        service.shutdown();
+        verify(rejectingDispatcher, times(2)).submit(any(), any());
+        assertEquals(1, service.stats().processed());
+        assertEquals(0, service.stats().depth());
+    }
+
+    private List<QueuedEvent> deadLetters() throws IOException {
+        List<QueuedEvent> events = new ArrayList<>();
+        EventJournal.read(directory.resolve("dead-letter"), 0, events::add);
+        return events;
+    }
+
+    private AsyncWebhookIngestionService createService(int maxAttempts) throws IOException {
+        if (dispatcher == null) {
+            dispatcher = new WebhookEventDispatcher(parkingService, TestFactoryUtil.createSectorOccupancyTracker("A", 100, 0), new ActiveSessionIndex(), mock(WebhookIdempotencyService.class), new WebhookMetrics(new SimpleMeterRegistry()), mock(PlatformTransactionManager.class), 2);
+        }
+        return new AsyncWebhookIngestionService(dispatcher, openJournal(dispatcher), 100, maxAttempts, 5);
+    }
+
+    private WebhookEventJournal openJournal(WebhookEventDispatcher journalDispatcher) throws IOException {
+        WebhookEventJournal journal = new WebhookEventJournal(journalDispatcher, objectMapper, directory.toString(), false, 1 << 20, 4);
+        journals.add(journal);
+        return journal;
+    }
+}
@@ -0,0 +1,151 @@
+package br.com.garage_management.ingestion;
+
+import br.com.garage_management.domain.dto.EntryEventDto;
+import br.com.garage_management.domain.dto.ParkedEventDto;
+import br.com.garage_management.domain.dto.WebhookEvent;
+import br.com.garage_management.util.TestFactoryUtil;
+import com.fasterxml.jackson.databind.ObjectMapper;
+import com.fasterxml.jackson.databind.ObjectWriter;
+import com.fasterxml.jackson.databind.json.JsonMapper;
+import org.junit.jupiter.api.DisplayName;
+import org.junit.jupiter.api.Test;
+import org.junit.jupiter.api.io.TempDir;
+
+import java.io.IOException;
+import java.nio.ByteBuffer;
+import java.nio.channels.FileChannel;
+import java.nio.charset.StandardCharsets;
+import java.nio.file.Files;
+import java.nio.file.Path;
+import java.nio.file.StandardOpenOption;
+import java.time.LocalDateTime;
+import java.util.List;
+import java.util.stream.Stream;
+
+import static org.junit.jupiter.api.Assertions.assertEquals;
+import static org.junit.jupiter.api.Assertions.assertFalse;
+import static org.junit.jupiter.api.Assertions.assertTrue;
+
+class DurableEventQueueTest {
+
+    private final ObjectMapper objectMapper = JsonMapper.builder().findAndAddModules().build();
+
+    @TempDir
+    private Path directory;
+
+    @Test
+    @DisplayName("Deve recuperar após reinício apenas os eventos ainda não confirmados")
+    void shouldRecoverOnlyUnacknowledgedEvents() throws IOException {
+        EntryEventDto entry = TestFactoryUtil.createEntryEventDto("ABC-1234", LocalDateTime.of(2025, 10, 15, 14, 0, 0));
+        ParkedEventDto parked = TestFactoryUtil.createParkedEventDto("ABC-1234");
+
+        try (DurableEventQueue queue = open(1 << 20, 4)) {
+            QueuedEvent first = queue.append(entry);
+            queue.append(parked);
+            queue.acknowledge(first.sequence());
+            assertEquals(1, queue.depth());
+        }
+
+        try (DurableEventQueue queue = open(1 << 20, 4)) {
+            List<QueuedEvent> recovered = queue.drainRecovered();
+
+            assertEquals(List.of(new QueuedEvent(2, parked)), recovered);
+            assertEquals(1, queue.depth());
+            assertEquals(3, queue.append(entry).sequence());
+        }
+    }
+
+    @Test
+    @DisplayName("Deve manter o checkpoint antes do evento mais antigo pendente quando confirmações chegam fora de ordem")
+    void shouldKeepCheckpointBehindOldestPendingEvent() throws IOException {
+        ParkedEventDto parked = TestFactoryUtil.createParkedEventDto("ABC-1234");
+
+        try (DurableEventQueue queue = open(1 << 20, 4)) {
+            queue.append(parked);
+            QueuedEvent second = queue.append(parked);
+            queue.acknowledge(second.sequence());
+        }
+
+        try (DurableEventQueue queue = open(1 << 20, 4)) {
+            List<QueuedEvent> recovered = queue.drainRecovered();
+
+            assertEquals(2, recovered.size());
+            assertEquals(1, recovered.getFirst().sequence());
+        }
+    }
+
+    @Test
+    @DisplayName("Deve remover os segmentos confirmados mantendo os mais recentes para inspeção")
+    void shouldDeleteAcknowledgedSegmentsKeepingRetained() throws IOException {
+        ParkedEventDto parked = TestFactoryUtil.createParkedEventDto("ABC-1234");
+
+        try (DurableEventQueue queue = open(64, 1)) {
+            for (int i = 0; i < 3; i++) {
+                queue.acknowledge(queue.append(parked).sequence());
+            }
+            queue.flushCheckpoint();
+
+            assertEquals(2, segmentFiles().size());
+        }
+
+        try (DurableEventQueue queue = open(64, 1)) {
+            assertTrue(queue.drainRecovered().isEmpty());
+            assertEquals(4, queue.append(parked).sequence());
+        }
+    }
+
+    @Test
+    @DisplayName("Deve descartar registro incompleto gravado no final do segmento")
+    void shouldDiscardTornTrailingRecord() throws IOException {
+        ParkedEventDto parked = TestFactoryUtil.createParkedEventDto("ABC-1234");
+
+        try (DurableEventQueue queue = open(1 << 20, 4)) {
+            queue.append(parked);
+        }
+        try (FileChannel channel = FileChannel.open(segmentFiles().getFirst(), StandardOpenOption.READ, StandardOpenOption.WRITE)) {
+            int firstRecordLength = channel.map(FileChannel.MapMode.READ_ONLY, 0, Integer.BYTES).getInt(0);
+            ByteBuffer tornRecord = ByteBuffer.allocate(16).putInt(40).putLong(2).putInt(0).flip();
+            channel.write(tornRecord, 16 + firstRecordLength);
+        }
+
+        try (DurableEventQueue queue = open(1 << 20, 4)) {
+            assertEquals(List.of(new QueuedEvent(1, parked)), queue.drainRecovered());
+            assertEquals(2, queue.append(parked).sequence());
+        }
+
+        try (DurableEventQueue queue = open(1 << 20, 4)) {
+            assertEquals(2, queue.drainRecovered().size());
+        }
+    }
+
+    @Test
+    @DisplayName("Deve importar para o diário os eventos pendentes da fila em formato antigo")
+    void shouldImportPendingEventsFromLegacyLog() throws IOException {
+        EntryEventDto entry = TestFactoryUtil.createEntryEventDto("ABC-1234", LocalDateTime.of(2025, 10, 15, 14, 0, 0));
+        ParkedEventDto parked = TestFactoryUtil.createParkedEventDto("ABC-1234");
+        ObjectWriter legacyWriter = objectMapper.writerFor(WebhookEvent.class);
+        Files.writeString(directory.resolve("events.checkpoint"), "1", StandardCharsets.US_ASCII);
+        Files.writeString(directory.resolve("events.log"),
+                "1 " + legacyWriter.writeValueAsString(entry) + "\n2 " + legacyWriter.writeValueAsString(parked) + "\n",
+                StandardCharsets.UTF_8);
+
+        try (DurableEventQueue queue = open(1 << 20, 4)) {
+            assertEquals(List.of(new QueuedEvent(2, parked)), queue.drainRecovered());
+            assertFalse(Files.exists(directory.resolve("events.log")));
+        }
+
+        try (DurableEventQueue queue = open(1 << 20, 4)) {
+            assertEquals(List.of(new QueuedEvent(2, parked)), queue.drainRecovered());
+        }
+    }
+
+    private List<Path> segmentFiles() throws IOException {
+        try (Stream<Path> files = Files.list(directory)) {
+            return files.filter(file -> file.getFileName().toString().endsWith(".seg")).sorted().toList();
+        }
+    }
+
+    private DurableEventQueue open(int segmentSizeBytes, int retainedSegments) throws IOException {
+        return new DurableEventQueue(directory, objectMapper, true, segmentSizeBytes, retainedSegments);
+    }
+}
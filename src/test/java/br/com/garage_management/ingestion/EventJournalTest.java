@@ -0,0 +1,155 @@
+package br.com.garage_management.ingestion;
+
+import br.com.garage_management.domain.dto.EntryEventDto;
+import br.com.garage_management.domain.dto.ExitEventDto;
+import br.com.garage_management.domain.dto.ParkedEventDto;
+import br.com.garage_management.domain.dto.WebhookEvent;
+import br.com.garage_management.util.TestFactoryUtil;
+import com.fasterxml.jackson.databind.ObjectMapper;
+import com.fasterxml.jackson.databind.json.JsonMapper;
+import org.junit.jupiter.api.DisplayName;
+import org.junit.jupiter.api.Test;
+import org.junit.jupiter.api.io.TempDir;
+
+import java.io.ByteArrayOutputStream;
+import java.io.DataOutputStream;
+import java.io.IOException;
+import java.io.PrintStream;
+import java.nio.charset.StandardCharsets;
+import java.nio.file.Path;
+import java.time.LocalDateTime;
+import java.util.ArrayList;
+import java.util.List;
+
+import static org.junit.jupiter.api.Assertions.assertEquals;
+import static org.junit.jupiter.api.Assertions.assertThrows;
+
+class EventJournalTest {
+
+    private static final LocalDateTime ENTRY_TIME = LocalDateTime.of(2025, 10, 15, 14, 0, 0, 123_000_000);
+
+    @TempDir
+    private Path directory;
+
+    @Test
+    @DisplayName("Deve gravar e reler todos os tipos de evento, inclusive com campos ausentes")
+    void shouldRoundTripEveryEventType() throws IOException {
+        List<WebhookEvent> events = List.of(
+                TestFactoryUtil.createEntryEventDto("ABC-1234", ENTRY_TIME),
+                new ParkedEventDto("ABC-1234", -23.561684, -46.655981, LocalDateTime.of(2025, 10, 15, 14, 5)),
+                new ParkedEventDto("ABC-1234", null, null, null),
+                TestFactoryUtil.createExitEventDto("ABC-1234", ENTRY_TIME.plusHours(2)),
+                new ExitEventDto("ÇÃO-0001", null));
+
+        try (EventJournal journal = new EventJournal(directory, 1 << 16, false, 0)) {
+            for (WebhookEvent event : events) {
+                journal.append(event);
+            }
+        }
+
+        assertEquals(events, readEvents(0));
+    }
+
+    @Test
+    @DisplayName("Deve reler eventos de estacionamento gravados antes da inclusão do horário")
+    void shouldDecodeParkedEventWithoutTime() throws IOException {
+        ByteArrayOutputStream bytes = new ByteArrayOutputStream();
+        try (DataOutputStream output = new DataOutputStream(bytes)) {
+            output.writeByte(2);
+            output.writeShort(8);
+            output.write("ABC-1234".getBytes(StandardCharsets.UTF_8));
+            output.writeBoolean(true);
+            output.writeDouble(-23.561684);
+            output.writeBoolean(true);
+            output.writeDouble(-46.655981);
+        }
+
+        assertEquals(new ParkedEventDto("ABC-1234", -23.561684, -46.655981, null), EventJournalCodec.decode(bytes.toByteArray()));
+    }
+
+    @Test
+    @DisplayName("Deve criar novos segmentos e continuar a numeração após reabrir o diário")
+    void shouldRollSegmentsAndContinueSequenceAfterReopen() throws IOException {
+        EntryEventDto entry = TestFactoryUtil.createEntryEventDto("ABC-1234", ENTRY_TIME);
+
+        try (EventJournal journal = new EventJournal(directory, 128, true, 0)) {
+            for (int i = 0; i < 10; i++) {
+                journal.append(entry);
+            }
+            assertEquals(4, journal.segmentCount());
+        }
+
+        try (EventJournal journal = new EventJournal(directory, 128, true, 0)) {
+            assertEquals(10, journal.lastSequence());
+            assertEquals(11, journal.append(entry));
+        }
+
+        List<Long> sequences = new ArrayList<>();
+        EventJournal.read(directory, 7, queued -> sequences.add(queued.sequence()));
+        assertEquals(List.of(8L, 9L, 10L, 11L), sequences);
+    }
+
+    @Test
+    @DisplayName("Deve iniciar a numeração após o checkpoint quando o diário estiver vazio")
+    void shouldStartAfterSequenceFloor() throws IOException {
+        try (EventJournal journal = new EventJournal(directory, 1024, false, 41)) {
+            assertEquals(42, journal.append(TestFactoryUtil.createParkedEventDto("ABC-1234")));
+        }
+
+        assertEquals(1, readEvents(41).size());
+    }
+
+    @Test
+    @DisplayName("Deve recusar evento maior que o segmento")
+    void shouldRejectEventLargerThanSegment() throws IOException {
+        try (EventJournal journal = new EventJournal(directory, 32, false, 0)) {
+            assertThrows(IOException.class, () -> journal.append(TestFactoryUtil.createEntryEventDto("ABC-1234", ENTRY_TIME)));
+        }
+    }
+
+    @Test
+    @DisplayName("Deve reabrir o segmento cujo espaço livre no final é menor que o campo de tamanho do registro")
+    void shouldReopenSegmentWithTailShorterThanLengthField() throws IOException {
+        ParkedEventDto parked = TestFactoryUtil.createParkedEventDto("ABC-1234");
+        int segmentSizeBytes = Integer.BYTES + Long.BYTES + Integer.BYTES + EventJournalCodec.encode(parked).length + 2;
+
+        try (EventJournal journal = new EventJournal(directory, segmentSizeBytes, false, 0)) {
+            journal.append(parked);
+        }
+
+        try (EventJournal journal = new EventJournal(directory, segmentSizeBytes, false, 0)) {
+            assertEquals(1, journal.lastSequence());
+            assertEquals(2, journal.append(parked));
+        }
+
+        assertEquals(List.of(parked, parked), readEvents(0));
+    }
+
+    @Test
+    @DisplayName("Deve exportar um intervalo do diário em NDJSON aceito pelo endpoint de lote")
+    void shouldExportRangeAsNdjson() throws IOException {
+        ObjectMapper objectMapper = JsonMapper.builder().findAndAddModules().build();
+        EntryEventDto entry = TestFactoryUtil.createEntryEventDto("ABC-1234", ENTRY_TIME);
+        ExitEventDto exit = TestFactoryUtil.createExitEventDto("ABC-1234", ENTRY_TIME.plusHours(1));
+
+        try (EventJournal journal = new EventJournal(directory, 1024, false, 0)) {
+            journal.append(entry);
+            journal.append(exit);
+            journal.append(entry);
+        }
+
+        ByteArrayOutputStream bytes = new ByteArrayOutputStream();
+        long exported = EventJournalInspector.export(directory, 1, 2, new PrintStream(bytes, true, StandardCharsets.UTF_8));
+
+        List<String> lines = bytes.toString(StandardCharsets.UTF_8).lines().toList();
+        assertEquals(2, exported);
+        assertEquals(entry, objectMapper.readValue(lines.get(0), WebhookEvent.class));
+        assertEquals(exit, objectMapper.readValue(lines.get(1), WebhookEvent.class));
+    }
+
+    private List<WebhookEvent> readEvents(long afterSequence) throws IOException {
+        List<WebhookEvent> events = new ArrayList<>();
+        EventJournal.read(directory, afterSequence, queued -> events.add(queued.event()));
+        return events;
+    }
+}
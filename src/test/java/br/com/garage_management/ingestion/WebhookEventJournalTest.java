@@ -0,0 +1,96 @@
+package br.com.garage_management.ingestion;
+
+import br.com.garage_management.domain.dto.EntryEventDto;
+import br.com.garage_management.domain.dto.ExitEventDto;
+import br.com.garage_management.service.WebhookEventDispatcher;
+import br.com.garage_management.util.TestFactoryUtil;
+import com.fasterxml.jackson.databind.ObjectMapper;
+import com.fasterxml.jackson.databind.json.JsonMapper;
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.DisplayName;
+import org.junit.jupiter.api.Test;
+import org.junit.jupiter.api.extension.ExtendWith;
+import org.junit.jupiter.api.io.TempDir;
+import org.mockito.Mock;
+import org.mockito.junit.jupiter.MockitoExtension;
+
+import java.io.IOException;
+import java.nio.file.Path;
+import java.time.LocalDateTime;
+import java.util.ArrayList;
+import java.util.List;
+import java.util.concurrent.CompletableFuture;
+
+import static br.com.garage_management.util.ErrorConstantsEnum.LICENSE_PLATE_NOT_FOUND;
+import static org.junit.jupiter.api.Assertions.assertEquals;
+import static org.mockito.ArgumentMatchers.any;
+import static org.mockito.Mockito.doThrow;
+import static org.mockito.Mockito.never;
+import static org.mockito.Mockito.verify;
+import static org.mockito.Mockito.when;
+
+@ExtendWith(MockitoExtension.class)
+class WebhookEventJournalTest {
+
+    private static final LocalDateTime ENTRY_TIME = LocalDateTime.of(2025, 10, 15, 14, 0, 0);
+
+    private final ObjectMapper objectMapper = JsonMapper.builder().findAndAddModules().build();
+
+    @Mock
+    private WebhookEventDispatcher dispatcher;
+
+    @TempDir
+    private Path directory;
+
+    @BeforeEach
+    void setUp() {
+        when(dispatcher.submit(any(), any())).thenAnswer(invocation -> {
+            invocation.<Runnable>getArgument(1).run();
+            return CompletableFuture.completedFuture(null);
+        });
+    }
+
+    @Test
+    @DisplayName("Deve reaplicar na inicialização apenas os eventos gravados e não confirmados antes do reinício")
+    void shouldReplayUnacknowledgedEventsOnStart() throws IOException {
+        EntryEventDto entry = TestFactoryUtil.createEntryEventDto("ABC-1234", ENTRY_TIME);
+        ExitEventDto exit = TestFactoryUtil.createExitEventDto("ABC-1234", ENTRY_TIME.plusHours(2));
+
+        WebhookEventJournal first = open();
+        first.acknowledge(first.append(entry));
+        first.append(exit);
+        first.shutdown();
+
+        WebhookEventJournal second = open();
+        second.start();
+
+        verify(dispatcher, never()).apply(entry);
+        verify(dispatcher).apply(exit);
+        assertEquals(0, second.depth());
+        second.shutdown();
+    }
+
+    @Test
+    @DisplayName("Deve mover para a fila de rejeitados o evento que não puder ser reaplicado")
+    void shouldDeadLetterEventsRejectedOnReplay() throws IOException {
+        ExitEventDto exit = TestFactoryUtil.createExitEventDto("ABC-1234", ENTRY_TIME.plusHours(2));
+        doThrow(LICENSE_PLATE_NOT_FOUND.asException(exit.licensePlate())).when(dispatcher).apply(exit);
+
+        WebhookEventJournal first = open();
+        first.append(exit);
+        first.shutdown();
+
+        WebhookEventJournal second = open();
+        second.start();
+        second.shutdown();
+
+        List<QueuedEvent> deadLetters = new ArrayList<>();
+        EventJournal.read(directory.resolve("dead-letter"), 0, deadLetters::add);
+        assertEquals(List.of(new QueuedEvent(1, exit)), deadLetters);
+        assertEquals(0, second.depth());
+    }
+
+    private WebhookEventJournal open() throws IOException {
+        return new WebhookEventJournal(dispatcher, objectMapper, directory.toString(), false, 1 << 20, 4);
+    }
+}
@@ -0,0 +1,86 @@
+package br.com.garage_management.jfr;
+
+import jdk.jfr.Recording;
+import jdk.jfr.consumer.RecordedEvent;
+import jdk.jfr.consumer.RecordingFile;
+import org.junit.jupiter.api.DisplayName;
+import org.junit.jupiter.api.Test;
+import org.junit.jupiter.api.io.TempDir;
+
+import java.io.IOException;
+import java.nio.file.Path;
+import java.time.Duration;
+import java.util.List;
+
+import static org.junit.jupiter.api.Assertions.assertEquals;
+import static org.junit.jupiter.api.Assertions.assertFalse;
+import static org.junit.jupiter.api.Assertions.assertNull;
+
+class ParkingPhaseEventTest {
+
+    @TempDir
+    private Path directory;
+
+    @Test
+    @DisplayName("Deve gravar a fase com placa, setor e tipo de evento quando a gravação estiver ativa")
+    void shouldRecordPhaseFieldsWhenEnabled() throws IOException {
+        Path file = directory.resolve("phases.jfr");
+
+        try (Recording recording = new Recording()) {
+            recording.enable(ParkingPhaseEvent.class).withThreshold(Duration.ZERO);
+            recording.start();
+
+            ParkingPhaseEvent.start(ParkingPhaseEvent.SECTOR_SELECTION, "ENTRY", "ABC-1234").finish("A");
+
+            recording.stop();
+            recording.dump(file);
+        }
+
+        List<RecordedEvent> events = RecordingFile.readAllEvents(file).stream()
+                .filter(event -> event.getEventType().getName().equals("br.com.garage_management.ParkingPhase"))
+                .toList();
+
+        assertEquals(1, events.size());
+        assertEquals(ParkingPhaseEvent.SECTOR_SELECTION, events.getFirst().getString("phase"));
+        assertEquals("ENTRY", events.getFirst().getString("eventType"));
+        assertEquals("ABC-1234", events.getFirst().getString("licensePlate"));
+        assertEquals("A", events.getFirst().getString("sector"));
+        assertNull(events.getFirst().getString("error"));
+    }
+
+    @Test
+    @DisplayName("Deve gravar a fase que falhou com a exceção lançada")
+    void shouldRecordFailedPhaseWithError() throws IOException {
+        Path file = directory.resolve("failed-phase.jfr");
+
+        try (Recording recording = new Recording()) {
+            recording.enable(ParkingPhaseEvent.class).withThreshold(Duration.ZERO);
+            recording.start();
+
+            ParkingPhaseEvent.start(ParkingPhaseEvent.PLATE_LOOKUP, "ENTRY", "ABC-1234")
+                    .finish(null, new IllegalStateException("falha"));
+
+            recording.stop();
+            recording.dump(file);
+        }
+
+        List<RecordedEvent> events = RecordingFile.readAllEvents(file).stream()
+                .filter(event -> event.getEventType().getName().equals("br.com.garage_management.ParkingPhase"))
+                .toList();
+
+        assertEquals(1, events.size());
+        assertEquals(ParkingPhaseEvent.PLATE_LOOKUP, events.getFirst().getString("phase"));
+        assertEquals("java.lang.IllegalStateException: falha", events.getFirst().getString("error"));
+    }
+
+    @Test
+    @DisplayName("Não deve preencher a fase quando nenhuma gravação estiver ativa")
+    void shouldSkipFieldsWhenDisabled() {
+        ParkingPhaseEvent event = ParkingPhaseEvent.start(ParkingPhaseEvent.PERSIST, "EXIT", "ABC-1234");
+        event.finish("A");
+
+        assertFalse(event.isEnabled());
+        assertNull(event.licensePlate);
+        assertNull(event.sector);
+    }
+}
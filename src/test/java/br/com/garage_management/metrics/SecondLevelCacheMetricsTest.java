@@ -0,0 +1,55 @@
+package br.com.garage_management.metrics;
+
+import br.com.garage_management.domain.model.GarageSector;
+import br.com.garage_management.repository.GarageSectorRepository;
+import io.micrometer.core.instrument.simple.SimpleMeterRegistry;
+import org.junit.jupiter.api.DisplayName;
+import org.junit.jupiter.api.Test;
+import org.springframework.beans.factory.annotation.Autowired;
+import org.springframework.boot.test.autoconfigure.orm.jpa.DataJpaTest;
+import org.springframework.boot.test.autoconfigure.orm.jpa.TestEntityManager;
+import org.springframework.context.annotation.Import;
+import org.springframework.jdbc.core.JdbcTemplate;
+
+import static org.junit.jupiter.api.Assertions.assertEquals;
+import static org.junit.jupiter.api.Assertions.assertTrue;
+
+@DataJpaTest
+@Import(SecondLevelCacheMetrics.class)
+class SecondLevelCacheMetricsTest {
+
+    @Autowired
+    private SecondLevelCacheMetrics secondLevelCacheMetrics;
+
+    @Autowired
+    private GarageSectorRepository garageSectorRepository;
+
+    @Autowired
+    private TestEntityManager entityManager;
+
+    @Autowired
+    private JdbcTemplate jdbcTemplate;
+
+    @Test
+    @DisplayName("Deve exportar acertos e faltas da região de setores sem depender das estatísticas do Hibernate")
+    void shouldExportSectorRegionHitsAndMisses() {
+        SimpleMeterRegistry registry = new SimpleMeterRegistry();
+        secondLevelCacheMetrics.bindTo(registry);
+        jdbcTemplate.update("INSERT INTO tb_garage_sectors (sector, base_price_cents, max_capacity, occupied_count, open_hour, close_hour, duration_limit_minutes) VALUES ('L2', 1000, 10, 0, '00:00:00', '23:59:59', 600)");
+
+        double missesBefore = gets(registry, "miss");
+        garageSectorRepository.findById("L2");
+        entityManager.clear();
+        double missesAfterLoad = gets(registry, "miss");
+        assertTrue(missesAfterLoad > missesBefore);
+
+        double hitsBefore = gets(registry, "hit");
+        garageSectorRepository.findById("L2");
+        assertTrue(gets(registry, "hit") > hitsBefore);
+        assertEquals(missesAfterLoad, gets(registry, "miss"));
+    }
+
+    private static double gets(SimpleMeterRegistry registry, String result) {
+        return registry.get("cache.gets").tags("cache", GarageSector.CACHE_REGION, "result", result).functionCounter().count();
+    }
+}
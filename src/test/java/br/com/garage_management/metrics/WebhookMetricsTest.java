@@ -0,0 +1,80 @@
+package br.com.garage_management.metrics;
+
+import br.com.garage_management.domain.dto.EntryEventDto;
+import br.com.garage_management.domain.dto.ExitEventDto;
+import br.com.garage_management.exception.BusinessException;
+import br.com.garage_management.service.ParkingService;
+import br.com.garage_management.service.WebhookEventDispatcher;
+import br.com.garage_management.service.WebhookIdempotencyService;
+import br.com.garage_management.state.ActiveSessionIndex;
+import br.com.garage_management.util.TestFactoryUtil;
+import io.micrometer.core.instrument.simple.SimpleMeterRegistry;
+import org.junit.jupiter.api.AfterEach;
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.DisplayName;
+import org.junit.jupiter.api.Test;
+import org.springframework.transaction.PlatformTransactionManager;
+
+import java.time.LocalDateTime;
+
+import static br.com.garage_management.util.ErrorConstantsEnum.GARAGE_WITHOUT_SPACES;
+import static br.com.garage_management.util.ErrorConstantsEnum.LICENSE_PLATE_NOT_FOUND;
+import static org.junit.jupiter.api.Assertions.assertEquals;
+import static org.junit.jupiter.api.Assertions.assertThrows;
+import static org.mockito.ArgumentMatchers.any;
+import static org.mockito.Mockito.doThrow;
+import static org.mockito.Mockito.mock;
+
+class WebhookMetricsTest {
+
+    private final SimpleMeterRegistry meterRegistry = new SimpleMeterRegistry();
+    private final ParkingService parkingService = mock(ParkingService.class);
+
+    private WebhookEventDispatcher dispatcher;
+
+    @BeforeEach
+    void setUp() {
+        dispatcher = new WebhookEventDispatcher(parkingService, TestFactoryUtil.createSectorOccupancyTracker("A", 1, 1), new ActiveSessionIndex(),
+                mock(WebhookIdempotencyService.class), new WebhookMetrics(meterRegistry), mock(PlatformTransactionManager.class), 1);
+    }
+
+    @AfterEach
+    void tearDown() throws InterruptedException {
+        dispatcher.shutdown();
+    }
+
+    @Test
+    @DisplayName("Deve contar os resultados por tipo de evento usando o código do erro de negócio")
+    void shouldCountOutcomesByEventTypeAndErrorCode() {
+        EntryEventDto entry = TestFactoryUtil.createEntryEventDto("ABC-1234", LocalDateTime.now().plusMinutes(1));
+        ExitEventDto exit = TestFactoryUtil.createExitEventDto("ABC-1234", LocalDateTime.now());
+
+        assertThrows(RuntimeException.class, () -> dispatcher.dispatchAndWait(entry));
+        dispatcher.dispatchAndWait(exit);
+        doThrow(LICENSE_PLATE_NOT_FOUND.asException(exit.licensePlate())).when(parkingService).processExit(any());
+        assertThrows(RuntimeException.class, () -> dispatcher.dispatchAndWait(exit));
+
+        assertEquals(1, outcomeCount("ENTRY", GARAGE_WITHOUT_SPACES.name()));
+        assertEquals(1, outcomeCount("EXIT", WebhookMetrics.PROCESSED));
+        assertEquals(1, outcomeCount("EXIT", LICENSE_PLATE_NOT_FOUND.name()));
+        assertEquals(1, meterRegistry.get("garage.webhook.processing").tag("event_type", "ENTRY").timer().count());
+        assertEquals(2, meterRegistry.get("garage.webhook.db.statements").tag("event_type", "EXIT").summary().count());
+    }
+
+    @Test
+    @DisplayName("Deve classificar exceções de negócio fora do catálogo como erro inesperado")
+    void shouldClassifyUnknownBusinessExceptionAsUnexpected() {
+        BusinessException unknown = BusinessException.builder().message("Outro erro").build();
+
+        assertEquals(WebhookMetrics.UNEXPECTED_ERROR, WebhookMetrics.outcomeOf(unknown));
+        assertEquals(GARAGE_WITHOUT_SPACES.name(), WebhookMetrics.outcomeOf(GARAGE_WITHOUT_SPACES.asPreconstructedException()));
+    }
+
+    private double outcomeCount(String eventType, String outcome) {
+        return meterRegistry.get("garage.webhook.outcomes")
+                .tag("event_type", eventType)
+                .tag("outcome", outcome)
+                .counter()
+                .count();
+    }
+}
@@ -1,26 +1,36 @@
 package br.com.garage_management.repository;
 
+import br.com.garage_management.domain.dto.RevenueBucketDto;
+import br.com.garage_management.domain.model.ArchivedParkingRecord;
+import br.com.garage_management.domain.model.ArchivedParkingRecordId;
 import br.com.garage_management.domain.model.GarageSector;
 import br.com.garage_management.domain.model.ParkingRecord;
 import br.com.garage_management.domain.model.ParkingSpace;
 import br.com.garage_management.domain.enums.ParkingStatusEnum;
+import br.com.garage_management.domain.projection.RevenueRollupProjection;
+import br.com.garage_management.state.ActiveSession;
+import org.hibernate.SessionFactory;
+import org.hibernate.stat.Statistics;
 import org.junit.jupiter.api.BeforeEach;
 import org.junit.jupiter.api.DisplayName;
 import org.junit.jupiter.api.Test;
 import org.springframework.beans.factory.annotation.Autowired;
 import org.springframework.boot.test.autoconfigure.orm.jpa.DataJpaTest;
 import org.springframework.boot.test.autoconfigure.orm.jpa.TestEntityManager;
+import org.springframework.data.domain.Limit;
 
 import java.math.BigDecimal;
 import java.time.LocalDate;
 import java.time.LocalDateTime;
 import java.time.LocalTime;
+import java.util.List;
 import java.util.Optional;
+import java.util.stream.Stream;
 
 import static org.junit.jupiter.api.Assertions.assertEquals;
 import static org.junit.jupiter.api.Assertions.assertTrue;
 
-@DataJpaTest
+@DataJpaTest(properties = "spring.jpa.properties.hibernate.generate_statistics=true")
 class ParkingRecordRepositoryTest {
 
     @Autowired
@@ -28,6 +38,9 @@ class ParkingRecordRepositoryTest {
 
     @Autowired
     private ParkingRecordRepository recordRepository;
+
+    @Autowired
+    private ArchivedParkingRecordRepository archivedRecordRepository;
     private GarageSector sectorA;
     private GarageSector sectorB;
     private ParkingSpace spaceA1;
@@ -36,34 +49,171 @@ class ParkingRecordRepositoryTest {
 
     @BeforeEach
     void setUp() {
-        sectorA = createAndPersistSector("A", 10.0);
-        sectorB = createAndPersistSector("B", 12.0);
+        sectorA = createAndPersistSector("A", 1000L);
+        sectorB = createAndPersistSector("B", 1200L);
         spaceA1 = createAndPersistSpace(sectorA);
         spaceB1 = createAndPersistSpace(sectorB);
         targetDate = LocalDate.of(2025, 10, 15);
     }
 
     @Test
-    @DisplayName("Deve calcular a receita total para um setor e data específicos corretamente")
-    void shouldCalculateTotalRevenueBySectorAndDate() {
-        createAndPersistRecord("AAA-1111", sectorA, spaceA1, targetDate.atTime(14, 0), new BigDecimal("150.50"), ParkingStatusEnum.COMPLETED);
-        createAndPersistRecord("BBB-2222", sectorA, spaceA1, targetDate.atTime(16, 0), new BigDecimal("50.00"), ParkingStatusEnum.COMPLETED);
-        createAndPersistRecord("CCC-3333", sectorB, spaceB1, targetDate.atTime(15, 0), new BigDecimal("1000.00"), ParkingStatusEnum.COMPLETED);
-        createAndPersistRecord("DDD-4444", sectorA, spaceA1, targetDate.plusDays(1).atTime(10, 0), new BigDecimal("2000.00"), ParkingStatusEnum.COMPLETED);
+    @DisplayName("Deve somar a receita concluída por setor e dia dentro do intervalo")
+    void shouldSumCompletedRevenueBySectorAndDay() {
+        createAndPersistRecord("AAA-1111", sectorA, spaceA1, targetDate.atTime(14, 0), 15050L, ParkingStatusEnum.COMPLETED);
+        createAndPersistRecord("BBB-2222", sectorA, spaceA1, targetDate.atTime(16, 0), 5000L, ParkingStatusEnum.COMPLETED);
+        createAndPersistRecord("CCC-3333", sectorB, spaceB1, targetDate.atTime(15, 0), 100000L, ParkingStatusEnum.COMPLETED);
+        createAndPersistRecord("DDD-4444", sectorA, spaceA1, targetDate.plusDays(1).atTime(10, 0), 200000L, ParkingStatusEnum.COMPLETED);
         createAndPersistRecord("EEE-5555", sectorA, spaceA1, null, null, ParkingStatusEnum.PARKED);
 
         entityManager.flush();
 
-        Optional<BigDecimal> result = recordRepository.calculateTotalRevenueBySectorAndDate("A", targetDate);
+        List<RevenueRollupProjection> totals = recordRepository.sumCompletedRevenueBySectorAndDay(
+                targetDate.atStartOfDay(), targetDate.plusDays(1).atStartOfDay());
+
+        assertEquals(2, totals.size());
+        RevenueRollupProjection sectorATotal = totals.stream()
+                .filter(total -> total.getSector().equals("A"))
+                .findFirst()
+                .orElseThrow();
+        assertEquals(targetDate, sectorATotal.getRevenueDate());
+        assertEquals(20050L, sectorATotal.getTotalAmountCents(), "A soma da receita está incorreta.");
+        assertEquals(2L, sectorATotal.getCompletedCount());
+    }
+
+    @Test
+    @DisplayName("Deve agrupar a receita por hora apenas dos setores solicitados")
+    void shouldStreamHourlyBucketsForRequestedSectors() {
+        createAndPersistRecord("AAA-1111", sectorA, spaceA1, targetDate.atTime(14, 10), 1000L, ParkingStatusEnum.COMPLETED);
+        createAndPersistRecord("BBB-2222", sectorA, spaceA1, targetDate.atTime(14, 50), 2000L, ParkingStatusEnum.COMPLETED);
+        createAndPersistRecord("CCC-3333", sectorA, spaceA1, targetDate.atTime(16, 0), 500L, ParkingStatusEnum.COMPLETED);
+        createAndPersistRecord("DDD-4444", sectorB, spaceB1, targetDate.atTime(14, 0), 9900L, ParkingStatusEnum.COMPLETED);
+
+        entityManager.flush();
+
+        List<RevenueBucketDto> buckets;
+        try (Stream<RevenueBucketDto> stream = recordRepository.streamHourlyBucketsBySectors(
+                targetDate.atStartOfDay(), targetDate.plusDays(1).atStartOfDay(), List.of("A"))) {
+            buckets = stream.toList();
+        }
+
+        assertEquals(2, buckets.size());
+        assertEquals(14, buckets.get(0).hour());
+        assertEquals(new BigDecimal("30.00"), buckets.get(0).amount());
+        assertEquals(2L, buckets.get(0).completedCount());
+        assertEquals(16, buckets.get(1).hour());
+    }
+
+    @Test
+    @DisplayName("Deve somar a receita dos registros ativos e arquivados no mesmo intervalo")
+    void shouldSpanHotAndArchivedRecords() {
+        createAndPersistRecord("AAA-1111", sectorA, spaceA1, targetDate.atTime(14, 10), 1000L, ParkingStatusEnum.COMPLETED);
+        createAndPersistArchivedRecord(900L, "BBB-2222", "A", targetDate.atTime(14, 40), 2000L);
+        createAndPersistArchivedRecord(901L, "CCC-3333", "B", targetDate.atTime(9, 0), 700L);
+        createAndPersistArchivedRecord(902L, "DDD-4444", "A", targetDate.minusDays(1).atTime(14, 0), 5000L);
+
+        entityManager.flush();
+
+        List<RevenueRollupProjection> totals = recordRepository.sumCompletedRevenueBySectorAndDay(
+                targetDate.atStartOfDay(), targetDate.plusDays(1).atStartOfDay());
+
+        assertEquals(2, totals.size());
+        RevenueRollupProjection sectorATotal = totals.stream()
+                .filter(total -> total.getSector().equals("A"))
+                .findFirst()
+                .orElseThrow();
+        assertEquals(3000L, sectorATotal.getTotalAmountCents());
+        assertEquals(2L, sectorATotal.getCompletedCount());
+
+        List<RevenueBucketDto> buckets;
+        try (Stream<RevenueBucketDto> stream = recordRepository.streamHourlyBuckets(
+                targetDate.atStartOfDay(), targetDate.plusDays(1).atStartOfDay())) {
+            buckets = stream.toList();
+        }
+
+        assertEquals(2, buckets.size());
+        assertEquals("B", buckets.get(0).sector());
+        assertEquals(9, buckets.get(0).hour());
+        assertEquals("A", buckets.get(1).sector());
+        assertEquals(new BigDecimal("30.00"), buckets.get(1).amount());
+        assertEquals(2L, buckets.get(1).completedCount());
+    }
+
+    @Test
+    @DisplayName("Deve mover para o arquivo apenas os registros concluídos antes do corte")
+    void shouldMoveOnlyCompletedRecordsBeforeCutoff() {
+        createAndPersistRecord("AAA-1111", sectorA, spaceA1, targetDate.atTime(14, 0), 1500L, ParkingStatusEnum.COMPLETED);
+        createAndPersistRecord("BBB-2222", sectorB, spaceB1, targetDate.atTime(15, 0), 2500L, ParkingStatusEnum.COMPLETED);
+        createAndPersistRecord("CCC-3333", sectorA, spaceA1, targetDate.plusDays(1).atTime(10, 0), 900L, ParkingStatusEnum.COMPLETED);
+        createAndPersistRecord("DDD-4444", sectorA, spaceA1, null, null, ParkingStatusEnum.PARKED);
+
+        entityManager.flush();
+
+        List<Long> ids = recordRepository.findArchivableIds(targetDate.plusDays(1).atStartOfDay(), Limit.of(10));
+        assertEquals(2, ids.size());
+
+        assertEquals(2, archivedRecordRepository.copyCompletedRecords(ids));
+        assertEquals(2, recordRepository.deleteCompletedByIdIn(ids));
+        entityManager.clear();
+
+        assertEquals(2, recordRepository.count());
+        ArchivedParkingRecord archived = archivedRecordRepository.findById(
+                new ArchivedParkingRecordId(ids.get(1), targetDate.atTime(15, 0))).orElseThrow();
+        assertEquals("BBB-2222", archived.getLicensePlate());
+        assertEquals("B", archived.getSector());
+        assertEquals(spaceB1.getId(), archived.getParkingSpaceId());
+        assertEquals(2500L, archived.getFinalPriceCents());
+        assertEquals(Optional.of(targetDate.plusDays(1).atTime(10, 0)), recordRepository.findOldestCompletedExitTime());
+
+        List<RevenueRollupProjection> totals = recordRepository.sumCompletedRevenueBySectorAndDay(
+                targetDate.atStartOfDay(), targetDate.plusDays(2).atStartOfDay());
+        assertEquals(3, totals.size());
+    }
+
+    @Test
+    @DisplayName("Deve retornar apenas as sessões ativas do setor com vaga, setor e preço de entrada")
+    void shouldStreamOnlyActiveSessionsOfSector() {
+        createAndPersistRecord("AAA-1111", sectorA, spaceA1, targetDate.atTime(14, 0), 15050L, ParkingStatusEnum.COMPLETED);
+        createAndPersistRecord("EEE-5555", sectorB, spaceB1, null, null, ParkingStatusEnum.PARKED);
+
+        entityManager.flush();
+
+        List<ActiveSession> sessions;
+        try (Stream<ActiveSession> stream = recordRepository.streamSessionsBySectorAndStatus("B", ParkingStatusEnum.PARKED)) {
+            sessions = stream.toList();
+        }
+
+        assertEquals(1, sessions.size());
+        ActiveSession session = sessions.get(0);
+        assertEquals("EEE-5555", session.licensePlate());
+        assertEquals(spaceB1.getId(), session.spaceId());
+        assertEquals("B", session.sector());
+        assertEquals(1200L, session.priceAppliedOnEntryCents());
 
-        assertTrue(result.isPresent());
-        BigDecimal expectedSum = new BigDecimal("200.50");
-        assertEquals(0, expectedSum.compareTo(result.get()), "A soma da receita está incorreta.");
+        try (Stream<ActiveSession> stream = recordRepository.streamSessionsBySectorAndStatus("A", ParkingStatusEnum.PARKED)) {
+            assertEquals(0, stream.count());
+        }
     }
 
+    @Test
+    @DisplayName("Deve inserir registros em lote sem um comando por registro")
+    void shouldBatchRecordInserts() {
+        entityManager.flush();
+        Statistics statistics = entityManager.getEntityManager().getEntityManagerFactory()
+                .unwrap(SessionFactory.class).getStatistics();
+        statistics.clear();
+
+        for (int i = 0; i < 40; i++) {
+            createAndPersistRecord("BAT-%04d".formatted(i), sectorA, spaceA1, null, null, ParkingStatusEnum.PARKED);
+        }
+        entityManager.flush();
+
+        assertEquals(40, statistics.getEntityInsertCount());
+        assertTrue(statistics.getPrepareStatementCount() <= 3,
+                "Foram preparados " + statistics.getPrepareStatementCount() + " comandos para 40 inserções.");
+    }
 
-    private GarageSector createAndPersistSector(String name, double basePrice) {
-        GarageSector sector = new GarageSector(name, basePrice, 10, 0, LocalTime.MIN, LocalTime.MAX, 600, null, null);
+    private GarageSector createAndPersistSector(String name, long basePriceCents) {
+        GarageSector sector = new GarageSector(name, basePriceCents, 10, 0, LocalTime.MIN, LocalTime.MAX, 600);
         return entityManager.persist(sector);
     }
 
@@ -72,7 +222,21 @@ class ParkingRecordRepositoryTest {
         return entityManager.persist(space);
     }
 
-    private void createAndPersistRecord(String licensePlate, GarageSector sector, ParkingSpace space, LocalDateTime exitTime, BigDecimal finalPrice, ParkingStatusEnum status) {
+    private void createAndPersistArchivedRecord(long id, String licensePlate, String sector, LocalDateTime exitTime, Long finalPriceCents) {
+        ArchivedParkingRecord record = new ArchivedParkingRecord(
+                new ArchivedParkingRecordId(id, exitTime),
+                licensePlate,
+                LocalDate.of(2025, 10, 15).atTime(8, 0),
+                sector,
+                spaceA1.getId(),
+                1000L,
+                finalPriceCents,
+                null, null
+        );
+        entityManager.persist(record);
+    }
+
+    private void createAndPersistRecord(String licensePlate, GarageSector sector, ParkingSpace space, LocalDateTime exitTime, Long finalPriceCents, ParkingStatusEnum status) {
         ParkingRecord record = new ParkingRecord(
                 null,
                 licensePlate,
@@ -80,8 +244,8 @@ class ParkingRecordRepositoryTest {
                 exitTime,
                 sector,
                 space,
-                sector.getBasePrice(),
-                finalPrice,
+                sector.getBasePriceCents(),
+                finalPriceCents,
                 status,
                 null, null
         );
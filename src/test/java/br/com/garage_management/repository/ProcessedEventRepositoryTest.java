@@ -0,0 +1,33 @@
+package br.com.garage_management.repository;
+
+import org.junit.jupiter.api.DisplayName;
+import org.junit.jupiter.api.Test;
+import org.springframework.beans.factory.annotation.Autowired;
+import org.springframework.boot.test.autoconfigure.orm.jpa.DataJpaTest;
+
+import java.time.LocalDateTime;
+import java.util.List;
+
+import static org.junit.jupiter.api.Assertions.assertEquals;
+import static org.junit.jupiter.api.Assertions.assertTrue;
+
+@DataJpaTest
+class ProcessedEventRepositoryTest {
+
+    private static final LocalDateTime NOW = LocalDateTime.of(2025, 10, 15, 14, 0, 0);
+
+    @Autowired
+    private ProcessedEventRepository processedEventRepository;
+
+    @Test
+    @DisplayName("Deve registrar eventos processados e remover apenas os expirados")
+    void shouldInsertAndPruneExpiredEvents() {
+        assertEquals(1, processedEventRepository.insert("ENTRY|ABC-1234|2025-10-13T14:00", NOW.minusDays(2)));
+        assertEquals(1, processedEventRepository.insert("EXIT|ABC-1234|2025-10-15T13:00", NOW.minusHours(1)));
+
+        assertEquals(1, processedEventRepository.deleteByProcessedAtBefore(NOW.minusDays(1)));
+
+        assertEquals(List.of("EXIT|ABC-1234|2025-10-15T13:00"), processedEventRepository.findAllEventKeys());
+        assertTrue(processedEventRepository.existsById("EXIT|ABC-1234|2025-10-15T13:00"));
+    }
+}
@@ -0,0 +1,82 @@
+package br.com.garage_management.repository;
+
+import br.com.garage_management.domain.dto.RevenueBucketDto;
+import br.com.garage_management.domain.model.RevenueRollup;
+import br.com.garage_management.domain.model.RevenueRollupId;
+import org.junit.jupiter.api.DisplayName;
+import org.junit.jupiter.api.Test;
+import org.springframework.beans.factory.annotation.Autowired;
+import org.springframework.boot.test.autoconfigure.orm.jpa.DataJpaTest;
+import org.springframework.boot.test.autoconfigure.orm.jpa.TestEntityManager;
+
+import java.math.BigDecimal;
+import java.time.LocalDate;
+import java.util.List;
+import java.util.stream.Stream;
+
+import static org.junit.jupiter.api.Assertions.assertEquals;
+
+@DataJpaTest
+class RevenueRollupRepositoryTest {
+
+    private static final LocalDate TARGET_DATE = LocalDate.of(2025, 10, 15);
+
+    @Autowired
+    private TestEntityManager entityManager;
+
+    @Autowired
+    private RevenueRollupRepository revenueRollupRepository;
+
+    @Test
+    @DisplayName("Deve somar a receita de forma atômica criando o consolidado do dia quando ainda não existe")
+    void shouldUpsertRevenueIntoRollup() {
+        RevenueRollupId id = new RevenueRollupId("A", TARGET_DATE);
+        entityManager.persistAndFlush(new RevenueRollup(id, 1000L, 1L));
+
+        revenueRollupRepository.addRevenue("A", TARGET_DATE, 1550L);
+        revenueRollupRepository.addRevenue("B", TARGET_DATE, 1550L);
+        entityManager.clear();
+
+        RevenueRollup rollup = revenueRollupRepository.findById(id).orElseThrow();
+        assertEquals(2550L, rollup.getTotalAmountCents());
+        assertEquals(2L, rollup.getCompletedCount());
+        RevenueRollup created = revenueRollupRepository.findById(new RevenueRollupId("B", TARGET_DATE)).orElseThrow();
+        assertEquals(1550L, created.getTotalAmountCents());
+        assertEquals(1L, created.getCompletedCount());
+    }
+
+    @Test
+    @DisplayName("Deve remover apenas os consolidados dentro do intervalo")
+    void shouldDeleteOnlyRollupsInsideRange() {
+        entityManager.persist(new RevenueRollup(new RevenueRollupId("A", TARGET_DATE.minusDays(1)), 100L, 1L));
+        entityManager.persist(new RevenueRollup(new RevenueRollupId("A", TARGET_DATE), 100L, 1L));
+        entityManager.persist(new RevenueRollup(new RevenueRollupId("B", TARGET_DATE), 100L, 1L));
+        entityManager.flush();
+
+        assertEquals(2, revenueRollupRepository.deleteByRevenueDateBetween(TARGET_DATE, TARGET_DATE));
+        assertEquals(1, revenueRollupRepository.count());
+    }
+
+    @Test
+    @DisplayName("Deve transmitir os totais diários do intervalo ordenados por data e setor")
+    void shouldStreamDailyBucketsOrderedByDateAndSector() {
+        entityManager.persist(new RevenueRollup(new RevenueRollupId("B", TARGET_DATE), 200L, 1L));
+        entityManager.persist(new RevenueRollup(new RevenueRollupId("A", TARGET_DATE.plusDays(1)), 300L, 1L));
+        entityManager.persist(new RevenueRollup(new RevenueRollupId("A", TARGET_DATE), 100L, 1L));
+        entityManager.persist(new RevenueRollup(new RevenueRollupId("A", TARGET_DATE.plusDays(5)), 900L, 1L));
+        entityManager.flush();
+
+        List<RevenueBucketDto> all;
+        try (Stream<RevenueBucketDto> stream = revenueRollupRepository.streamDailyBuckets(TARGET_DATE, TARGET_DATE.plusDays(1))) {
+            all = stream.toList();
+        }
+        List<RevenueBucketDto> onlyA;
+        try (Stream<RevenueBucketDto> stream = revenueRollupRepository.streamDailyBucketsBySectors(TARGET_DATE, TARGET_DATE.plusDays(1), List.of("A"))) {
+            onlyA = stream.toList();
+        }
+
+        assertEquals(List.of("A", "B", "A"), all.stream().map(RevenueBucketDto::sector).toList());
+        assertEquals(new BigDecimal("1.00"), all.get(0).amount());
+        assertEquals(2, onlyA.size());
+    }
+}
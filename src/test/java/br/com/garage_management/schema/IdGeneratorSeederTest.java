@@ -0,0 +1,67 @@
+package br.com.garage_management.schema;
+
+import br.com.garage_management.domain.model.IdGenerators;
+import org.junit.jupiter.api.DisplayName;
+import org.junit.jupiter.api.Test;
+import org.springframework.beans.factory.annotation.Autowired;
+import org.springframework.boot.test.autoconfigure.orm.jpa.DataJpaTest;
+import org.springframework.context.annotation.Import;
+import org.springframework.jdbc.core.JdbcTemplate;
+
+import static org.junit.jupiter.api.Assertions.assertEquals;
+
+@DataJpaTest
+@Import(IdGeneratorSeeder.class)
+class IdGeneratorSeederTest {
+
+    @Autowired
+    private JdbcTemplate jdbcTemplate;
+
+    @Autowired
+    private IdGeneratorSeeder seeder;
+
+    @Test
+    @DisplayName("Deve iniciar os geradores de id acima do maior id existente nas tabelas")
+    void shouldSeedGeneratorsAboveExistingIds() {
+        jdbcTemplate.update("DELETE FROM " + IdGenerators.TABLE);
+        jdbcTemplate.update("INSERT INTO tb_garage_sectors (sector, base_price_cents, max_capacity, occupied_count, open_hour, close_hour, duration_limit_minutes) VALUES ('A', 1000, 10, 0, '00:00:00', '23:59:59', 600)");
+        jdbcTemplate.update("INSERT INTO tb_parking_spaces (id, sector_id, is_occupied) VALUES (120, 'A', false)");
+
+        seeder.seed();
+
+        assertEquals(120 + IdGenerators.ALLOCATION_SIZE + 1, nextValue(IdGenerators.PARKING_SPACES));
+        assertEquals(IdGenerators.ALLOCATION_SIZE + 1, nextValue(IdGenerators.PARKING_RECORDS));
+    }
+
+    @Test
+    @DisplayName("Deve ajustar o gerador de id que ficou atrás do maior id existente")
+    void shouldAdvanceLaggingGenerator() {
+        seeder.seed();
+        jdbcTemplate.update("INSERT INTO tb_garage_sectors (sector, base_price_cents, max_capacity, occupied_count, open_hour, close_hour, duration_limit_minutes) VALUES ('A', 1000, 10, 0, '00:00:00', '23:59:59', 600)");
+        jdbcTemplate.update("INSERT INTO tb_parking_spaces (id, sector_id, is_occupied) VALUES (500, 'A', false)");
+
+        seeder.seed();
+
+        assertEquals(500 + IdGenerators.ALLOCATION_SIZE + 1, nextValue(IdGenerators.PARKING_SPACES));
+    }
+
+    @Test
+    @DisplayName("Deve ajustar o gerador de id cujo próximo bloco alcançaria o maior id existente")
+    void shouldAdvanceGeneratorWhoseNextBlockOverlapsExistingIds() {
+        seeder.seed();
+        jdbcTemplate.update("INSERT INTO tb_garage_sectors (sector, base_price_cents, max_capacity, occupied_count, open_hour, close_hour, duration_limit_minutes) VALUES ('A', 1000, 10, 0, '00:00:00', '23:59:59', 600)");
+        jdbcTemplate.update("INSERT INTO tb_parking_spaces (id, sector_id, is_occupied) VALUES (500, 'A', false)");
+        jdbcTemplate.update("UPDATE " + IdGenerators.TABLE + " SET " + IdGenerators.VALUE_COLUMN + " = ? WHERE " + IdGenerators.NAME_COLUMN + " = ?",
+                500 + IdGenerators.ALLOCATION_SIZE - 1, IdGenerators.PARKING_SPACES);
+
+        seeder.seed();
+
+        assertEquals(500 + IdGenerators.ALLOCATION_SIZE + 1, nextValue(IdGenerators.PARKING_SPACES));
+    }
+
+    private long nextValue(String generator) {
+        return jdbcTemplate.queryForObject(
+                "SELECT " + IdGenerators.VALUE_COLUMN + " FROM " + IdGenerators.TABLE + " WHERE " + IdGenerators.NAME_COLUMN + " = ?",
+                Long.class, generator);
+    }
+}
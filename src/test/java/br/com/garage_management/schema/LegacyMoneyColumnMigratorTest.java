@@ -0,0 +1,121 @@
+package br.com.garage_management.schema;
+
+import org.junit.jupiter.api.AfterEach;
+import org.junit.jupiter.api.DisplayName;
+import org.junit.jupiter.api.Test;
+import org.springframework.beans.factory.annotation.Autowired;
+import org.springframework.boot.test.autoconfigure.orm.jpa.DataJpaTest;
+import org.springframework.context.annotation.Import;
+import org.springframework.jdbc.core.JdbcTemplate;
+import org.springframework.transaction.annotation.Propagation;
+import org.springframework.transaction.annotation.Transactional;
+
+import static org.junit.jupiter.api.Assertions.assertDoesNotThrow;
+import static org.junit.jupiter.api.Assertions.assertEquals;
+import static org.junit.jupiter.api.Assertions.assertThrows;
+import static org.junit.jupiter.api.Assertions.assertTrue;
+
+@DataJpaTest(properties = "garage.migration.legacy-money-columns.enabled=true")
+@Import(LegacyMoneyColumnMigrator.class)
+@Transactional(propagation = Propagation.NOT_SUPPORTED)
+class LegacyMoneyColumnMigratorTest {
+
+    @Autowired
+    private JdbcTemplate jdbcTemplate;
+
+    @Autowired
+    private LegacyMoneyColumnMigrator migrator;
+
+    @AfterEach
+    void tearDown() {
+        jdbcTemplate.update("DELETE FROM tb_garage_sectors");
+        jdbcTemplate.execute("ALTER TABLE tb_garage_sectors DROP COLUMN IF EXISTS base_price");
+    }
+
+    @Test
+    @DisplayName("Deve converter a coluna monetária legada para centavos mantendo a coluna antiga")
+    void shouldMigrateLegacyColumnToCentsKeepingIt() {
+        jdbcTemplate.execute("ALTER TABLE tb_garage_sectors ADD COLUMN base_price DOUBLE");
+        jdbcTemplate.update("INSERT INTO tb_garage_sectors (sector, base_price, base_price_cents, max_capacity, occupied_count, open_hour, close_hour, duration_limit_minutes) VALUES ('A', 12.5, 0, 10, 0, '00:00:00', '23:59:59', 600)");
+
+        migrator.migrate();
+
+        assertEquals(1250L, jdbcTemplate.queryForObject("SELECT base_price_cents FROM tb_garage_sectors WHERE sector = 'A'", Long.class));
+        assertEquals(1, legacyColumnCount());
+    }
+
+    @Test
+    @DisplayName("Deve permitir novas linhas sem a coluna monetária legada obrigatória mantida")
+    void shouldRelaxMandatoryLegacyColumn() {
+        jdbcTemplate.execute("ALTER TABLE tb_garage_sectors ADD COLUMN base_price DOUBLE DEFAULT 0 NOT NULL");
+        jdbcTemplate.execute("ALTER TABLE tb_garage_sectors ALTER COLUMN base_price DROP DEFAULT");
+
+        migrator.migrate();
+        jdbcTemplate.update("INSERT INTO tb_garage_sectors (sector, base_price_cents, max_capacity, occupied_count, open_hour, close_hour, duration_limit_minutes) VALUES ('B', 1000, 10, 0, '00:00:00', '23:59:59', 600)");
+
+        assertEquals(1, legacyColumnCount());
+        assertEquals(1000L, jdbcTemplate.queryForObject("SELECT base_price_cents FROM tb_garage_sectors WHERE sector = 'B'", Long.class));
+    }
+
+    @Test
+    @DisplayName("Deve preservar os valores em centavos já migrados ao executar a migração novamente")
+    void shouldNotOverwriteMigratedCents() {
+        jdbcTemplate.execute("ALTER TABLE tb_garage_sectors ADD COLUMN base_price DOUBLE");
+        jdbcTemplate.update("INSERT INTO tb_garage_sectors (sector, base_price, base_price_cents, max_capacity, occupied_count, open_hour, close_hour, duration_limit_minutes) VALUES ('A', 12.5, 0, 10, 0, '00:00:00', '23:59:59', 600)");
+        migrator.migrate();
+        jdbcTemplate.update("UPDATE tb_garage_sectors SET base_price_cents = 1500 WHERE sector = 'A'");
+
+        migrator.migrate();
+
+        assertEquals(1500L, jdbcTemplate.queryForObject("SELECT base_price_cents FROM tb_garage_sectors WHERE sector = 'A'", Long.class));
+    }
+
+    @Test
+    @DisplayName("Deve remover a coluna monetária legada somente quando configurado")
+    void shouldDropLegacyColumnWhenEnabled() {
+        jdbcTemplate.execute("ALTER TABLE tb_garage_sectors ADD COLUMN base_price DOUBLE");
+        jdbcTemplate.update("INSERT INTO tb_garage_sectors (sector, base_price, base_price_cents, max_capacity, occupied_count, open_hour, close_hour, duration_limit_minutes) VALUES ('A', 12.5, 0, 10, 0, '00:00:00', '23:59:59', 600)");
+
+        new LegacyMoneyColumnMigrator(jdbcTemplate, true, true).migrate();
+
+        assertEquals(1250L, jdbcTemplate.queryForObject("SELECT base_price_cents FROM tb_garage_sectors WHERE sector = 'A'", Long.class));
+        assertEquals(0, legacyColumnCount());
+    }
+
+    @Test
+    @DisplayName("Deve impedir a inicialização com a migração desligada enquanto houver valores legados não convertidos")
+    void shouldFailFastWhenDisabledAndLegacyValuesArePending() {
+        jdbcTemplate.execute("ALTER TABLE tb_garage_sectors ADD COLUMN base_price DOUBLE");
+        jdbcTemplate.update("INSERT INTO tb_garage_sectors (sector, base_price, base_price_cents, max_capacity, occupied_count, open_hour, close_hour, duration_limit_minutes) VALUES ('A', 12.5, 0, 10, 0, '00:00:00', '23:59:59', 600)");
+        LegacyMoneyColumnMigrator disabled = new LegacyMoneyColumnMigrator(jdbcTemplate, false, false);
+
+        IllegalStateException exception = assertThrows(IllegalStateException.class, disabled::migrate);
+
+        assertTrue(exception.getMessage().contains("tb_garage_sectors.base_price"));
+        assertEquals(0L, jdbcTemplate.queryForObject("SELECT base_price_cents FROM tb_garage_sectors WHERE sector = 'A'", Long.class));
+    }
+
+    @Test
+    @DisplayName("Deve iniciar com a migração desligada quando os valores legados já estiverem convertidos")
+    void shouldStartWhenDisabledAndLegacyValuesAreMigrated() {
+        jdbcTemplate.execute("ALTER TABLE tb_garage_sectors ADD COLUMN base_price DOUBLE");
+        jdbcTemplate.update("INSERT INTO tb_garage_sectors (sector, base_price, base_price_cents, max_capacity, occupied_count, open_hour, close_hour, duration_limit_minutes) VALUES ('A', 12.5, 1250, 10, 0, '00:00:00', '23:59:59', 600)");
+
+        assertDoesNotThrow(() -> new LegacyMoneyColumnMigrator(jdbcTemplate, false, false).migrate());
+    }
+
+    @Test
+    @DisplayName("Deve ignorar tabelas que já estão no formato em centavos")
+    void shouldIgnoreTablesWithoutLegacyColumns() {
+        jdbcTemplate.update("INSERT INTO tb_garage_sectors (sector, base_price_cents, max_capacity, occupied_count, open_hour, close_hour, duration_limit_minutes) VALUES ('A', 1000, 10, 0, '00:00:00', '23:59:59', 600)");
+
+        migrator.migrate();
+
+        assertEquals(1000L, jdbcTemplate.queryForObject("SELECT base_price_cents FROM tb_garage_sectors WHERE sector = 'A'", Long.class));
+    }
+
+    private int legacyColumnCount() {
+        return jdbcTemplate.queryForObject(
+                "SELECT COUNT(*) FROM INFORMATION_SCHEMA.COLUMNS WHERE TABLE_NAME = 'TB_GARAGE_SECTORS' AND COLUMN_NAME = 'BASE_PRICE'", Integer.class);
+    }
+}
@@ -2,6 +2,7 @@ package br.com.garage_management.service;
 
 import br.com.garage_management.domain.dto.GarageConfigDto;
 import br.com.garage_management.domain.dto.GarageSectorDto;
+import br.com.garage_management.domain.dto.ParkingSpotDto;
 import br.com.garage_management.domain.mapper.GarageSectorMapper;
 import br.com.garage_management.domain.mapper.ParkingSpaceMapper;
 import br.com.garage_management.domain.model.GarageSector;
@@ -9,19 +10,40 @@ import br.com.garage_management.domain.model.ParkingSpace;
 import br.com.garage_management.repository.GarageSectorRepository;
 import br.com.garage_management.repository.ParkingSpaceRepository;
 import br.com.garage_management.util.TestFactoryUtil;
+import com.fasterxml.jackson.databind.ObjectMapper;
+import com.fasterxml.jackson.databind.json.JsonMapper;
+import io.micrometer.core.instrument.simple.SimpleMeterRegistry;
+import jakarta.persistence.EntityManager;
 import org.junit.jupiter.api.DisplayName;
 import org.junit.jupiter.api.Test;
 import org.junit.jupiter.api.extension.ExtendWith;
 import org.mockito.InjectMocks;
 import org.mockito.Mock;
+import org.mockito.Spy;
 import org.mockito.junit.jupiter.MockitoExtension;
 import org.springframework.boot.ApplicationArguments;
+import org.springframework.http.HttpMethod;
+import org.springframework.http.HttpStatus;
+import org.springframework.mock.http.client.MockClientHttpResponse;
+import org.springframework.transaction.support.TransactionCallback;
+import org.springframework.transaction.support.TransactionTemplate;
+import org.springframework.web.client.ResponseExtractor;
 import org.springframework.web.client.RestClientException;
 import org.springframework.web.client.RestTemplate;
 
+import java.nio.charset.StandardCharsets;
+import java.time.LocalTime;
+import java.util.ArrayList;
+import java.util.List;
+import java.util.stream.LongStream;
+
 import static org.junit.jupiter.api.Assertions.assertDoesNotThrow;
+import static org.junit.jupiter.api.Assertions.assertEquals;
 import static org.mockito.ArgumentMatchers.any;
-import static org.mockito.ArgumentMatchers.anyString;
+import static org.mockito.ArgumentMatchers.anyIterable;
+import static org.mockito.ArgumentMatchers.anyList;
+import static org.mockito.ArgumentMatchers.eq;
+import static org.mockito.ArgumentMatchers.isNull;
 import static org.mockito.Mockito.never;
 import static org.mockito.Mockito.times;
 import static org.mockito.Mockito.verify;
@@ -50,13 +72,40 @@ class GarageInitializationServiceTest {
     @Mock
     private ParkingSpaceRepository parkingSpaceRepository;
 
+    @Spy
+    private ObjectMapper objectMapper = JsonMapper.builder().findAndAddModules().build();
+
+    @Mock
+    private EntityManager entityManager;
+
+    @Mock
+    private TransactionTemplate transactionTemplate;
+
+    @Spy
+    private SimpleMeterRegistry meterRegistry = new SimpleMeterRegistry();
+
     @Mock
     private ApplicationArguments applicationArguments;
 
-    private void setupSimulatorResponse(GarageConfigDto config) {
-        when(restTemplate.getForObject(SIMULATOR_URL, GarageConfigDto.class)).thenReturn(config);
+    private final List<Integer> savedSpaceChunks = new ArrayList<>();
+
+    private void setupSimulatorResponse(GarageConfigDto config) throws Exception {
+        setupSimulatorResponse(objectMapper.writeValueAsString(config));
+    }
+
+    private void setupSimulatorResponse(String body) {
+        givenTransactionRunsCallback();
+        when(restTemplate.execute(eq(SIMULATOR_URL), eq(HttpMethod.GET), isNull(), any(ResponseExtractor.class))).thenAnswer(invocation -> {
+            ResponseExtractor<?> extractor = invocation.getArgument(3);
+            return extractor.extractData(new MockClientHttpResponse(body.getBytes(StandardCharsets.UTF_8), HttpStatus.OK));
+        });
 
-        when(garageSectorRepository.save(any(GarageSector.class))).thenAnswer(invocation -> invocation.getArgument(0));
+        when(garageSectorRepository.saveAll(anyIterable())).thenAnswer(invocation -> invocation.getArgument(0));
+        when(parkingSpaceRepository.saveAll(anyList())).thenAnswer(invocation -> {
+            List<ParkingSpace> chunk = invocation.getArgument(0);
+            savedSpaceChunks.add(chunk.size());
+            return chunk;
+        });
 
         when(garageSectorMapper.toEntity(any(GarageSectorDto.class))).thenAnswer(invocation -> {
             GarageSectorDto inputDto = invocation.getArgument(0);
@@ -66,12 +115,19 @@ class GarageInitializationServiceTest {
             return entity;
         });
 
-        when(parkingSpaceMapper.toEntity(any(), any())).thenReturn(new ParkingSpace());
+        when(parkingSpaceMapper.toEntity(any(), any())).thenAnswer(invocation -> new ParkingSpace());
+    }
+
+    private void givenTransactionRunsCallback() {
+        when(transactionTemplate.execute(any())).thenAnswer(invocation -> {
+            TransactionCallback<?> callback = invocation.getArgument(0);
+            return callback.doInTransaction(null);
+        });
     }
 
     @Test
     @DisplayName("Deve buscar configuração e salvar entidades com sucesso quando o banco está vazio")
-    void shouldFetchConfigAndSaveEntitiesWhenDatabaseIsEmpty() {
+    void shouldFetchConfigAndSaveEntitiesWhenDatabaseIsEmpty() throws Exception {
         when(garageSectorRepository.count()).thenReturn(0L);
         when(parkingSpaceRepository.count()).thenReturn(0L);
         GarageConfigDto config = TestFactoryUtil.createValidGarageConfigDto();
@@ -79,8 +135,9 @@ class GarageInitializationServiceTest {
 
         garageInitializationService.run(applicationArguments);
 
-        verify(garageSectorRepository, times(2)).save(any(GarageSector.class));
-        verify(parkingSpaceRepository, times(2)).save(any(ParkingSpace.class));
+        verify(garageSectorRepository, times(1)).saveAll(anyIterable());
+        verify(garageSectorMapper, times(2)).toEntity(any(GarageSectorDto.class));
+        assertEquals(List.of(2), savedSpaceChunks);
     }
 
     @Test
@@ -90,13 +147,13 @@ class GarageInitializationServiceTest {
 
         garageInitializationService.run(applicationArguments);
 
-        verify(restTemplate, never()).getForObject(anyString(), any());
-        verify(garageSectorRepository, never()).save(any());
+        verify(restTemplate, never()).execute(any(String.class), any(), any(), any());
+        verify(garageSectorRepository, never()).saveAll(anyIterable());
     }
 
     @Test
     @DisplayName("Deve salvar apenas vagas com setores válidos")
-    void shouldSaveOnlySpotsWithValidSectorsWhenDataIsMismatched() {
+    void shouldSaveOnlySpotsWithValidSectorsWhenDataIsMismatched() throws Exception {
         when(garageSectorRepository.count()).thenReturn(0L);
         when(parkingSpaceRepository.count()).thenReturn(0L);
         GarageConfigDto config = TestFactoryUtil.createMismatchedGarageConfigDto();
@@ -104,8 +161,8 @@ class GarageInitializationServiceTest {
 
         garageInitializationService.run(applicationArguments);
 
-        verify(garageSectorRepository, times(1)).save(any(GarageSector.class));
-        verify(parkingSpaceRepository, times(1)).save(any(ParkingSpace.class));
+        verify(garageSectorMapper, times(1)).toEntity(any(GarageSectorDto.class));
+        assertEquals(List.of(1), savedSpaceChunks);
     }
 
     @Test
@@ -113,10 +170,47 @@ class GarageInitializationServiceTest {
     void shouldHandleExceptionWhenSimulatorIsDown() {
         when(garageSectorRepository.count()).thenReturn(0L);
         when(parkingSpaceRepository.count()).thenReturn(0L);
-        when(restTemplate.getForObject(SIMULATOR_URL, GarageConfigDto.class))
+        givenTransactionRunsCallback();
+        when(restTemplate.execute(eq(SIMULATOR_URL), eq(HttpMethod.GET), isNull(), any(ResponseExtractor.class)))
                 .thenThrow(new RestClientException("Simulador offline"));
 
         assertDoesNotThrow(() -> garageInitializationService.run(applicationArguments));
-        verify(garageSectorRepository, never()).save(any());
+        verify(garageSectorRepository, never()).saveAll(anyIterable());
+    }
+
+    @Test
+    @DisplayName("Deve salvar as vagas em blocos e limpar o contexto de persistência a cada bloco")
+    void shouldSaveSpotsInChunks() throws Exception {
+        when(garageSectorRepository.count()).thenReturn(0L);
+        when(parkingSpaceRepository.count()).thenReturn(0L);
+        var sector = new GarageSectorDto("A", 10.0, 3000, LocalTime.MIN, LocalTime.MAX, null);
+        var spots = LongStream.rangeClosed(1, 2500)
+                .mapToObj(id -> new ParkingSpotDto(id, "A", (double) id, (double) id))
+                .toList();
+        setupSimulatorResponse(new GarageConfigDto(List.of(sector), spots));
+
+        garageInitializationService.run(applicationArguments);
+
+        assertEquals(List.of(1000, 1000, 500), savedSpaceChunks);
+        verify(entityManager, times(3)).clear();
+        assertEquals(1, meterRegistry.get("garage.initialization.sectors").counter().count());
+        assertEquals(2500, meterRegistry.get("garage.initialization.spots").counter().count());
+        assertEquals(1, meterRegistry.get("garage.initialization.duration").timer().count());
+    }
+
+    @Test
+    @DisplayName("Deve salvar as vagas recebidas antes da lista de setores")
+    void shouldSaveSpotsReceivedBeforeSectors() {
+        when(garageSectorRepository.count()).thenReturn(0L);
+        when(parkingSpaceRepository.count()).thenReturn(0L);
+        setupSimulatorResponse("""
+                {"spots": [{"id": 1, "sector": "A", "lat": 1.0, "lng": 1.0}],
+                 "ignored": {"nested": [1, 2]},
+                 "garage": [{"sector": "A", "base_price": 10.0, "max_capacity": 10, "open_hour": "00:00", "close_hour": "23:59", "duration_limit_minutes": 600}]}
+                """);
+
+        garageInitializationService.run(applicationArguments);
+
+        assertEquals(List.of(1), savedSpaceChunks);
     }
 }
\ No newline at end of file
@@ -0,0 +1,96 @@
+package br.com.garage_management.service;
+
+import br.com.garage_management.repository.ArchivedParkingRecordRepository;
+import br.com.garage_management.repository.ParkingRecordRepository;
+import br.com.garage_management.schema.ParkingRecordArchivePartitioner;
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.DisplayName;
+import org.junit.jupiter.api.Test;
+import org.junit.jupiter.api.extension.ExtendWith;
+import org.mockito.Mock;
+import org.mockito.junit.jupiter.MockitoExtension;
+import org.springframework.data.domain.Limit;
+import org.springframework.transaction.PlatformTransactionManager;
+
+import java.time.LocalDate;
+import java.time.LocalDateTime;
+import java.time.YearMonth;
+import java.util.List;
+import java.util.Optional;
+
+import static org.junit.jupiter.api.Assertions.assertEquals;
+import static org.mockito.ArgumentMatchers.any;
+import static org.mockito.Mockito.never;
+import static org.mockito.Mockito.times;
+import static org.mockito.Mockito.verify;
+import static org.mockito.Mockito.verifyNoInteractions;
+import static org.mockito.Mockito.when;
+
+@ExtendWith(MockitoExtension.class)
+class ParkingRecordArchiveServiceTest {
+
+    private static final LocalDateTime NOW = LocalDate.of(2025, 10, 15).atTime(3, 0);
+    private static final LocalDateTime CUTOFF = LocalDate.of(2025, 7, 17).atStartOfDay();
+
+    @Mock
+    private ParkingRecordRepository parkingRecordRepository;
+
+    @Mock
+    private ArchivedParkingRecordRepository archivedParkingRecordRepository;
+
+    @Mock
+    private ParkingRecordArchivePartitioner parkingRecordArchivePartitioner;
+
+    @Mock
+    private PlatformTransactionManager transactionManager;
+
+    private ParkingRecordArchiveService parkingRecordArchiveService;
+
+    @BeforeEach
+    void setUp() {
+        parkingRecordArchiveService = new ParkingRecordArchiveService(parkingRecordRepository, archivedParkingRecordRepository,
+                parkingRecordArchivePartitioner, transactionManager, 90, 2, 60);
+    }
+
+    @Test
+    @DisplayName("Deve mover os registros concluídos antes do corte em lotes até esgotar")
+    void shouldMoveCompletedRecordsInBatches() {
+        when(parkingRecordRepository.findOldestCompletedExitTime()).thenReturn(Optional.of(LocalDate.of(2025, 5, 20).atTime(9, 0)));
+        when(parkingRecordRepository.findArchivableIds(CUTOFF, Limit.of(2))).thenReturn(List.of(1L, 2L), List.of(3L));
+        when(parkingRecordRepository.deleteCompletedByIdIn(List.of(1L, 2L))).thenReturn(2);
+        when(parkingRecordRepository.deleteCompletedByIdIn(List.of(3L))).thenReturn(1);
+
+        long archived = parkingRecordArchiveService.archive(NOW);
+
+        assertEquals(3, archived);
+        verify(parkingRecordArchivePartitioner).ensurePartitions(YearMonth.of(2025, 5), YearMonth.of(2025, 7));
+        verify(archivedParkingRecordRepository).copyCompletedRecords(List.of(1L, 2L));
+        verify(archivedParkingRecordRepository).copyCompletedRecords(List.of(3L));
+        verify(transactionManager, times(2)).commit(any());
+    }
+
+    @Test
+    @DisplayName("Deve fechar a última partição no mês anterior quando o corte cai no primeiro dia do mês")
+    void shouldEndPartitionsBeforeCutoffMonthStart() {
+        parkingRecordArchiveService = new ParkingRecordArchiveService(parkingRecordRepository, archivedParkingRecordRepository,
+                parkingRecordArchivePartitioner, transactionManager, 14, 2, 60);
+        when(parkingRecordRepository.findOldestCompletedExitTime()).thenReturn(Optional.of(LocalDate.of(2025, 9, 2).atTime(9, 0)));
+        when(parkingRecordRepository.findArchivableIds(LocalDate.of(2025, 10, 1).atStartOfDay(), Limit.of(2))).thenReturn(List.of());
+
+        parkingRecordArchiveService.archive(NOW);
+
+        verify(parkingRecordArchivePartitioner).ensurePartitions(YearMonth.of(2025, 9), YearMonth.of(2025, 9));
+    }
+
+    @Test
+    @DisplayName("Não deve arquivar nem criar partições quando não há registro concluído antes do corte")
+    void shouldSkipWhenNothingIsOldEnough() {
+        when(parkingRecordRepository.findOldestCompletedExitTime()).thenReturn(Optional.of(CUTOFF));
+
+        long archived = parkingRecordArchiveService.archive(NOW);
+
+        assertEquals(0, archived);
+        verify(parkingRecordRepository, never()).findArchivableIds(any(), any());
+        verifyNoInteractions(parkingRecordArchivePartitioner, archivedParkingRecordRepository, transactionManager);
+    }
+}
@@ -0,0 +1,161 @@
+package br.com.garage_management.service;
+
+import br.com.garage_management.domain.dto.EntryEventDto;
+import br.com.garage_management.domain.dto.ExitEventDto;
+import br.com.garage_management.domain.dto.ParkedEventDto;
+import br.com.garage_management.domain.model.GarageSector;
+import br.com.garage_management.domain.model.ParkingSpace;
+import br.com.garage_management.repository.GarageSectorRepository;
+import br.com.garage_management.repository.ParkingSpaceRepository;
+import br.com.garage_management.state.ActiveSession;
+import br.com.garage_management.state.ActiveSessionIndex;
+import br.com.garage_management.state.GarageStateLoader;
+import jakarta.persistence.EntityManagerFactory;
+import org.hibernate.SessionFactory;
+import org.hibernate.stat.Statistics;
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.DisplayName;
+import org.junit.jupiter.api.Test;
+import org.springframework.beans.factory.annotation.Autowired;
+import org.springframework.boot.test.context.SpringBootTest;
+
+import java.time.LocalDateTime;
+import java.time.LocalTime;
+import java.util.ArrayList;
+import java.util.List;
+
+import static org.junit.jupiter.api.Assertions.assertEquals;
+import static org.junit.jupiter.api.Assertions.assertTrue;
+
+@SpringBootTest(properties = {
+        "spring.datasource.url=jdbc:h2:mem:statement-count;DB_CLOSE_DELAY=-1;DB_CLOSE_ON_EXIT=FALSE",
+        "spring.datasource.driver-class-name=org.h2.Driver",
+        "spring.datasource.username=sa",
+        "spring.datasource.password=",
+        "spring.jpa.hibernate.ddl-auto=create-drop",
+        "garage.webhook.journal.directory=target/webhook-journal/${random.uuid}",
+        "spring.jpa.properties.hibernate.generate_statistics=true"
+})
+class ParkingServiceStatementCountTest {
+
+    private static final String SECTOR = "STM";
+    private static final int SPACES = 20;
+
+    @Autowired
+    private ParkingService parkingService;
+
+    @Autowired
+    private GarageSectorRepository garageSectorRepository;
+
+    @Autowired
+    private ParkingSpaceRepository parkingSpaceRepository;
+
+    @Autowired
+    private ActiveSessionIndex activeSessionIndex;
+
+    @Autowired
+    private GarageStateLoader garageStateLoader;
+
+    @Autowired
+    private EntityManagerFactory entityManagerFactory;
+
+    private Statistics statistics;
+    private static int sequence;
+
+    @BeforeEach
+    void setUp() {
+        if (!garageSectorRepository.existsById(SECTOR)) {
+            GarageSector sector = garageSectorRepository.save(
+                    new GarageSector(SECTOR, 1000L, SPACES, 0, LocalTime.MIDNIGHT, LocalTime.of(23, 59), 1440));
+            List<ParkingSpace> spaces = new ArrayList<>();
+            for (int i = 1; i <= SPACES; i++) {
+                spaces.add(new ParkingSpace(null, sector, false, -23.56 + i * 0.001, -46.65 + i * 0.001));
+            }
+            parkingSpaceRepository.saveAll(spaces);
+            garageStateLoader.load();
+        }
+
+        statistics = entityManagerFactory.unwrap(SessionFactory.class).getStatistics();
+
+        // Aquece o gerador de ids e cria a linha de faturamento do dia antes das medições.
+        runCycle("AQC-" + sequence++);
+    }
+
+    @Test
+    @DisplayName("Deve processar a entrada lendo a vaga e o setor do cache de segundo nível")
+    void shouldProcessEntryWithBoundedStatements() {
+        EntryEventDto entry = new EntryEventDto("STM-" + sequence++, LocalDateTime.now().plusMinutes(1));
+
+        long statements = countStatements(() -> parkingService.processEntry(entry));
+
+        assertTrue(statements <= 4, "Foram preparados " + statements + " comandos para a entrada.");
+    }
+
+    @Test
+    @DisplayName("Deve servir a vaga e o setor da entrada pelo cache de segundo nível")
+    void shouldServeEntryLookupsFromSecondLevelCache() {
+        EntryEventDto entry = new EntryEventDto("STM-" + sequence++, LocalDateTime.now().plusMinutes(1));
+
+        statistics.clear();
+        parkingService.processEntry(entry);
+
+        assertTrue(statistics.getDomainDataRegionStatistics(ParkingSpace.CACHE_REGION).getHitCount() > 0,
+                "A vaga alocada não foi lida do cache de segundo nível.");
+        assertTrue(statistics.getDomainDataRegionStatistics(GarageSector.CACHE_REGION).getHitCount() > 0,
+                "O setor da vaga não foi lido do cache de segundo nível.");
+        assertEquals(0, statistics.getEntityStatistics(ParkingSpace.class.getName()).getLoadCount(),
+                "A vaga alocada foi carregada do banco.");
+    }
+
+    @Test
+    @DisplayName("Deve processar o estacionamento na vaga designada sem carregar vagas nem setores")
+    void shouldProcessParkedWithBoundedStatements() {
+        String plate = "STM-" + sequence++;
+        parkingService.processEntry(new EntryEventDto(plate, LocalDateTime.now().plusMinutes(1)));
+        ParkedEventDto parked = parkedAtAssignedSpace(plate);
+
+        long statements = countStatements(() -> parkingService.processParked(parked));
+
+        assertTrue(statements <= 2, "Foram preparados " + statements + " comandos para o estacionamento.");
+        assertEquals(0, statistics.getEntityStatistics(ParkingSpace.class.getName()).getLoadCount());
+        assertEquals(0, statistics.getEntityStatistics(GarageSector.class.getName()).getLoadCount());
+    }
+
+    @Test
+    @DisplayName("Deve processar a saída lendo a vaga do cache de segundo nível, sem carregar vagas nem setores do banco")
+    void shouldProcessExitWithBoundedStatements() {
+        String plate = "STM-" + sequence++;
+        LocalDateTime entryTime = LocalDateTime.now().plusMinutes(1);
+        parkingService.processEntry(new EntryEventDto(plate, entryTime));
+        ExitEventDto exit = new ExitEventDto(plate, entryTime.plusMinutes(1));
+
+        long statements = countStatements(() -> parkingService.processExit(exit));
+
+        assertTrue(statements <= 5, "Foram preparados " + statements + " comandos para a saída.");
+        assertTrue(statistics.getDomainDataRegionStatistics(ParkingSpace.CACHE_REGION).getHitCount() > 0,
+                "A vaga da sessão não foi lida do cache de segundo nível.");
+        assertEquals(0, statistics.getEntityStatistics(ParkingSpace.class.getName()).getLoadCount(),
+                "A vaga da sessão foi carregada do banco.");
+        assertEquals(0, statistics.getEntityStatistics(GarageSector.class.getName()).getLoadCount(),
+                "O setor do registro foi carregado do banco.");
+    }
+
+    private void runCycle(String plate) {
+        LocalDateTime entryTime = LocalDateTime.now().plusMinutes(1);
+        parkingService.processEntry(new EntryEventDto(plate, entryTime));
+        parkingService.processParked(parkedAtAssignedSpace(plate));
+        parkingService.processExit(new ExitEventDto(plate, entryTime.plusMinutes(1)));
+    }
+
+    private ParkedEventDto parkedAtAssignedSpace(String plate) {
+        ActiveSession session = activeSessionIndex.find(plate).orElseThrow();
+        ParkingSpace space = parkingSpaceRepository.findById(session.spaceId()).orElseThrow();
+        return new ParkedEventDto(plate, space.getLat(), space.getLng(), LocalDateTime.now());
+    }
+
+    private long countStatements(Runnable action) {
+        statistics.clear();
+        action.run();
+        return statistics.getPrepareStatementCount();
+    }
+}
@@ -8,32 +8,49 @@ import br.com.garage_management.domain.mapper.ParkingRecordMapper;
 import br.com.garage_management.domain.model.GarageSector;
 import br.com.garage_management.domain.model.ParkingRecord;
 import br.com.garage_management.domain.model.ParkingSpace;
-import br.com.garage_management.domain.enums.ParkingStatusEnum;
+import br.com.garage_management.jfr.ParkingPhaseEvent;
 import br.com.garage_management.repository.GarageSectorRepository;
 import br.com.garage_management.repository.ParkingRecordRepository;
 import br.com.garage_management.repository.ParkingSpaceRepository;
+import br.com.garage_management.state.ActiveSessionIndex;
+import br.com.garage_management.state.ParkingSpaceAllocator;
+import br.com.garage_management.state.ParkingSpaceSpatialIndex;
+import br.com.garage_management.state.SectorAdmission;
+import br.com.garage_management.state.SectorOccupancyTracker;
+import br.com.garage_management.tariff.TariffEngine;
 import br.com.garage_management.util.TestFactoryUtil;
 import org.junit.jupiter.api.DisplayName;
 import org.junit.jupiter.api.Test;
 import org.junit.jupiter.api.extension.ExtendWith;
+import org.junit.jupiter.api.io.TempDir;
 import org.junit.jupiter.params.ParameterizedTest;
 import org.junit.jupiter.params.provider.CsvSource;
 import org.mockito.ArgumentCaptor;
 import org.mockito.Captor;
 import org.mockito.InjectMocks;
 import org.mockito.Mock;
+import org.mockito.Spy;
 import org.mockito.MockedStatic;
 import org.mockito.Mockito;
 import org.mockito.junit.jupiter.MockitoExtension;
+import org.springframework.transaction.support.TransactionSynchronization;
+import org.springframework.transaction.support.TransactionSynchronizationManager;
 
-import java.math.BigDecimal;
+import jdk.jfr.Recording;
+import jdk.jfr.consumer.RecordedEvent;
+import jdk.jfr.consumer.RecordingFile;
+
+import java.io.IOException;
+import java.nio.file.Path;
+import java.time.Duration;
+import java.time.LocalDate;
 import java.time.LocalDateTime;
-import java.util.Collections;
 import java.util.List;
 import java.util.Optional;
 
 import static br.com.garage_management.util.ErrorConstantsEnum.DUPLICATE_LICENSE_PLATE;
-import static br.com.garage_management.util.ErrorConstantsEnum.INVALID_ENTRY_TIME;
+import static br.com.garage_management.util.ErrorConstantsEnum.GARAGE_WITHOUT_SPACES;
+import static br.com.garage_management.util.ErrorConstantsEnum.INCONSISTENT_DATA_SPOTS_NOT_FOUND;
 import static br.com.garage_management.util.ErrorConstantsEnum.INVALID_EXIT_TIME;
 import static br.com.garage_management.util.ErrorConstantsEnum.LICENSE_PLATE_NOT_FOUND;
 import static br.com.garage_management.util.ErrorConstantsEnum.PARKING_SPACE_ALREADY_OCCUPIED;
@@ -44,6 +61,7 @@ import static org.junit.jupiter.api.Assertions.assertThrows;
 import static org.junit.jupiter.api.Assertions.assertTrue;
 import static org.mockito.ArgumentMatchers.any;
 import static org.mockito.ArgumentMatchers.anyDouble;
+import static org.mockito.ArgumentMatchers.anyLong;
 import static org.mockito.ArgumentMatchers.anyString;
 import static org.mockito.ArgumentMatchers.eq;
 import static org.mockito.Mockito.never;
@@ -69,6 +87,24 @@ class ParkingServiceTest {
     @Mock
     private ParkingRecordMapper parkingRecordMapper;
 
+    @Mock
+    private ParkingSpaceAllocator parkingSpaceAllocator;
+
+    @Mock
+    private ActiveSessionIndex activeSessionIndex;
+
+    @Mock
+    private ParkingSpaceSpatialIndex parkingSpaceSpatialIndex;
+
+    @Mock
+    private SectorOccupancyTracker sectorOccupancyTracker;
+
+    @Mock
+    private RevenueRollupService revenueRollupService;
+
+    @Spy
+    private TariffEngine tariffEngine = new TariffEngine();
+
     @Captor
     private ArgumentCaptor<ParkingRecord> parkingRecordCaptor;
 
@@ -76,50 +112,64 @@ class ParkingServiceTest {
     private ArgumentCaptor<ParkingSpace> parkingSpaceCaptor;
 
     @Captor
-    private ArgumentCaptor<BigDecimal> priceCaptor;
+    private ArgumentCaptor<Long> priceCaptor;
 
     @Test
-    @DisplayName("Deve lançar exceção para tempo de entrada no passado")
-    void shouldThrowExceptionWhenEntryTimeIsInvalid() {
-        EntryEventDto event = TestFactoryUtil.createEntryEventDto("ABC-1234", LocalDateTime.now().minusMinutes(1));
+    @DisplayName("Deve lançar exceção para placa de veículo que já está estacionada")
+    void shouldThrowExceptionWhenLicensePlateIsDuplicate() {
+        EntryEventDto event = TestFactoryUtil.createEntryEventDto("ABC-1234", LocalDateTime.now().plusHours(1));
 
-        var thrownException = assertThrows(BusinessException.class, () -> parkingService.processEntry(event));
+        when(activeSessionIndex.contains(event.licensePlate())).thenReturn(true);
 
-        assertEquals(INVALID_ENTRY_TIME.getMessage(), thrownException.getMessage());
+        var thrownException = assertThrows(BusinessException.class, () -> parkingService.processEntry(event));
 
-        verify(parkingRecordRepository, never()).save(any());
+        assertEquals(DUPLICATE_LICENSE_PLATE.getMessage(), thrownException.getMessage());
     }
 
     @Test
-    @DisplayName("Deve lançar exceção para placa de veículo que já está estacionada")
-    void shouldThrowExceptionWhenLicensePlateIsDuplicate() {
+    @DisplayName("Deve gravar o evento da fase que falhou com a exceção de negócio")
+    void shouldRecordFailedPhaseWhenLicensePlateIsDuplicate(@TempDir Path directory) throws IOException {
         EntryEventDto event = TestFactoryUtil.createEntryEventDto("ABC-1234", LocalDateTime.now().plusHours(1));
+        when(activeSessionIndex.contains(event.licensePlate())).thenReturn(true);
+        Path file = directory.resolve("phases.jfr");
 
-        when(parkingRecordRepository.existsByLicensePlateAndStatus(event.licensePlate(), ParkingStatusEnum.PARKED)).thenReturn(true);
+        try (Recording recording = new Recording()) {
+            recording.enable(ParkingPhaseEvent.class).withThreshold(Duration.ZERO);
+            recording.start();
 
-        var thrownException = assertThrows(BusinessException.class, () -> parkingService.processEntry(event));
+            assertThrows(BusinessException.class, () -> parkingService.processEntry(event));
 
-        assertEquals(DUPLICATE_LICENSE_PLATE.getMessage(), thrownException.getMessage());
+            recording.stop();
+            recording.dump(file);
+        }
+
+        List<RecordedEvent> phases = RecordingFile.readAllEvents(file).stream()
+                .filter(recorded -> recorded.getEventType().getName().equals("br.com.garage_management.ParkingPhase"))
+                .toList();
+
+        assertEquals(1, phases.size());
+        assertEquals(ParkingPhaseEvent.PLATE_LOOKUP, phases.getFirst().getString("phase"));
+        assertTrue(phases.getFirst().getString("error").contains(DUPLICATE_LICENSE_PLATE.getMessage()));
     }
 
     @ParameterizedTest
-    @CsvSource({"24, 100, 10.00, 9.00", "49, 100, 10.00, 10.00", "74, 100, 10.00, 11.00", "75, 100, 10.00, 12.50"})
+    @CsvSource({"24, 100, 1000, 900", "49, 100, 1000, 1000", "74, 100, 1000, 1100", "75, 100, 1000, 1250", "0, 3, 999, 899"})
     @DisplayName("Deve aplicar o preço dinâmico correto com base na ocupação do setor")
-    void shouldApplyCorrectDynamicPrice(int occupiedCount, int maxCapacity, double basePrice, double expectedPrice) {
+    void shouldApplyCorrectDynamicPrice(int occupiedCount, int maxCapacity, long basePriceCents, long expectedPriceCents) {
         EntryEventDto event = TestFactoryUtil.createEntryEventDto("XYZ-5678", LocalDateTime.now().plusHours(1));
 
-        when(parkingRecordRepository.existsByLicensePlateAndStatus(anyString(), any())).thenReturn(false);
-        GarageSector sector = TestFactoryUtil.createMockGarageSector("A1", occupiedCount, maxCapacity, basePrice);
+        when(parkingRecordRepository.save(any(ParkingRecord.class))).thenAnswer(invocation -> invocation.getArgument(0));
+        GarageSector sector = TestFactoryUtil.createMockGarageSector("A1", occupiedCount, maxCapacity, basePriceCents);
         ParkingSpace space = TestFactoryUtil.createMockParkingSpace(101L, false, sector);
-        when(garageSectorRepository.findAll()).thenReturn(List.of(sector));
-        when(parkingSpaceRepository.findFirstByGarageSectorAndIsOccupied(sector, false)).thenReturn(Optional.of(space));
-        when(parkingRecordMapper.toParkingRecord(any(), any(), any(), anyDouble())).thenReturn(new ParkingRecord());
+        when(sectorOccupancyTracker.tryAdmit()).thenReturn(Optional.of(new SectorAdmission("A1", occupiedCount, maxCapacity)));
+        when(parkingSpaceAllocator.allocate("A1")).thenReturn(Optional.of(101L));
+        when(parkingSpaceRepository.findById(101L)).thenReturn(Optional.of(space));
+        when(parkingRecordMapper.toParkingRecord(any(), any(), any(), anyLong())).thenReturn(new ParkingRecord());
 
         parkingService.processEntry(event);
 
-        ArgumentCaptor<Double> priceCaptor = ArgumentCaptor.forClass(Double.class);
         verify(parkingRecordMapper).toParkingRecord(eq(event), eq(sector), eq(space), priceCaptor.capture());
-        assertEquals(expectedPrice, priceCaptor.getValue());
+        assertEquals(expectedPriceCents, priceCaptor.getValue());
     }
 
     @Test
@@ -130,29 +180,72 @@ class ParkingServiceTest {
 
         try (MockedStatic<LocalDateTime> mockedStatic = Mockito.mockStatic(LocalDateTime.class)) {
             mockedStatic.when(LocalDateTime::now).thenReturn(fixedTime);
-            when(parkingRecordRepository.existsByLicensePlateAndStatus(anyString(), any())).thenReturn(false);
-            GarageSector sector = TestFactoryUtil.createMockGarageSector("A1", 50, 100, 10.0);
+            when(parkingRecordRepository.save(any(ParkingRecord.class))).thenAnswer(invocation -> invocation.getArgument(0));
+            GarageSector sector = TestFactoryUtil.createMockGarageSector("A1", 50, 100, 1000L);
             ParkingSpace space = TestFactoryUtil.createMockParkingSpace(101L, false, sector);
-            when(garageSectorRepository.findAll()).thenReturn(Collections.singletonList(sector));
-            when(parkingSpaceRepository.findFirstByGarageSectorAndIsOccupied(sector, false)).thenReturn(Optional.of(space));
-            when(parkingRecordMapper.toParkingRecord(any(), any(), any(), anyDouble())).thenReturn(new ParkingRecord());
+            when(sectorOccupancyTracker.tryAdmit()).thenReturn(Optional.of(new SectorAdmission("A1", 50, 100)));
+            when(parkingSpaceAllocator.allocate("A1")).thenReturn(Optional.of(101L));
+            when(parkingSpaceRepository.findById(101L)).thenReturn(Optional.of(space));
+            when(parkingRecordMapper.toParkingRecord(any(), any(), any(), anyLong())).thenReturn(new ParkingRecord());
 
             parkingService.processEntry(event);
 
             assertTrue(space.getIsOccupied());
             verify(parkingSpaceRepository).save(space);
-            assertEquals(51, sector.getOccupiedCount());
-            verify(garageSectorRepository).save(sector);
+            verify(garageSectorRepository).incrementOccupiedCount("A1");
             verify(parkingRecordRepository).save(any(ParkingRecord.class));
+            verify(activeSessionIndex).put(any());
         }
     }
 
+    @Test
+    @DisplayName("Deve lançar exceção de inconsistência quando o alocador não possui vagas livres no setor")
+    void shouldThrowExceptionWhenAllocatorHasNoFreeSpaces() {
+        EntryEventDto event = TestFactoryUtil.createEntryEventDto("ABC-1234", LocalDateTime.now().plusHours(1));
+        when(sectorOccupancyTracker.tryAdmit()).thenReturn(Optional.of(new SectorAdmission("A1", 10, 100)));
+        when(parkingSpaceAllocator.allocate("A1")).thenReturn(Optional.empty());
+
+        var thrownException = assertThrows(BusinessException.class, () -> parkingService.processEntry(event));
+
+        assertEquals(INCONSISTENT_DATA_SPOTS_NOT_FOUND.getMessage(), thrownException.getMessage());
+        verify(parkingRecordRepository, never()).save(any());
+        verify(sectorOccupancyTracker).release("A1");
+    }
+
+    @Test
+    @DisplayName("Deve recusar a entrada quando nenhum setor tiver capacidade disponível")
+    void shouldThrowExceptionWhenGarageIsFull() {
+        EntryEventDto event = TestFactoryUtil.createEntryEventDto("ABC-1234", LocalDateTime.now().plusHours(1));
+
+        when(sectorOccupancyTracker.tryAdmit()).thenReturn(Optional.empty());
+
+        var thrownException = assertThrows(BusinessException.class, () -> parkingService.processEntry(event));
+
+        assertEquals(GARAGE_WITHOUT_SPACES.getMessage(), thrownException.getMessage());
+        verify(parkingSpaceAllocator, never()).allocate(anyString());
+        verify(garageSectorRepository, never()).incrementOccupiedCount(anyString());
+    }
+
+    @Test
+    @DisplayName("Deve devolver a vaga ao alocador quando ela não existir mais no banco de dados")
+    void shouldReleaseAllocatedSpaceWhenItIsMissingFromDatabase() {
+        EntryEventDto event = TestFactoryUtil.createEntryEventDto("ABC-1234", LocalDateTime.now().plusHours(1));
+        when(sectorOccupancyTracker.tryAdmit()).thenReturn(Optional.of(new SectorAdmission("A1", 10, 100)));
+        when(parkingSpaceAllocator.allocate("A1")).thenReturn(Optional.of(101L));
+        when(parkingSpaceRepository.findById(101L)).thenReturn(Optional.empty());
+
+        assertThrows(BusinessException.class, () -> parkingService.processEntry(event));
+
+        verify(parkingSpaceAllocator).release(101L);
+        verify(sectorOccupancyTracker).release("A1");
+    }
+
     @Test
     @DisplayName("Deve lançar exceção se a placa do veículo não for encontrada")
     void shouldThrowExceptionWhenLicensePlateNotFound() {
         ParkedEventDto event = TestFactoryUtil.createParkedEventDto("NOT-FOUND");
 
-        when(parkingRecordRepository.findByLicensePlateAndStatus(event.licensePlate(), ParkingStatusEnum.PARKED)).thenReturn(Optional.empty());
+        when(activeSessionIndex.find(event.licensePlate())).thenReturn(Optional.empty());
 
         var thrownException = assertThrows(BusinessException.class, () -> parkingService.processParked(event));
 
@@ -164,8 +257,8 @@ class ParkingServiceTest {
     void shouldThrowExceptionWhenParkingSpaceNotFound() {
         ParkedEventDto event = TestFactoryUtil.createParkedEventDto("ABC-1234");
 
-        when(parkingRecordRepository.findByLicensePlateAndStatus(anyString(), any())).thenReturn(Optional.of(new ParkingRecord()));
-        when(parkingSpaceRepository.findByLatAndLng(anyDouble(), anyDouble())).thenReturn(Optional.empty());
+        givenActiveSession(TestFactoryUtil.createMockParkingRecord(LocalDateTime.now(), 1000L, new ParkingSpace(), new GarageSector()));
+        when(parkingSpaceSpatialIndex.findNearest(anyDouble(), anyDouble())).thenReturn(Optional.empty());
 
         var thrownException = assertThrows(BusinessException.class, () -> parkingService.processParked(event));
 
@@ -178,10 +271,10 @@ class ParkingServiceTest {
         ParkedEventDto event = TestFactoryUtil.createParkedEventDto("ABC-1234");
         ParkingSpace assignedSpace = TestFactoryUtil.createMockParkingSpace(1L, true, new GarageSector());
         ParkingSpace actualOccupiedSpace = TestFactoryUtil.createMockParkingSpace(2L, true, new GarageSector());
-        ParkingRecord record = TestFactoryUtil.createMockParkingRecord(LocalDateTime.now(), 10.0, assignedSpace, new GarageSector());
+        ParkingRecord record = TestFactoryUtil.createMockParkingRecord(LocalDateTime.now(), 1000L, assignedSpace, new GarageSector());
 
-        when(parkingRecordRepository.findByLicensePlateAndStatus(anyString(), any())).thenReturn(Optional.of(record));
-        when(parkingSpaceRepository.findByLatAndLng(anyDouble(), anyDouble())).thenReturn(Optional.of(actualOccupiedSpace));
+        givenActiveSession(record);
+        givenSpaceAtCoordinates(actualOccupiedSpace);
 
         var thrownException = assertThrows(BusinessException.class, () -> parkingService.processParked(event));
         assertEquals(PARKING_SPACE_ALREADY_OCCUPIED.getMessage(), thrownException.getMessage());
@@ -192,12 +285,13 @@ class ParkingServiceTest {
     void shouldSucceedWhenVehicleParksInAssignedSpace() {
         ParkedEventDto event = TestFactoryUtil.createParkedEventDto("ABC-1234");
         ParkingSpace space = TestFactoryUtil.createMockParkingSpace(1L, true, new GarageSector());
-        ParkingRecord record = TestFactoryUtil.createMockParkingRecord(LocalDateTime.now(), 10.0, space, new GarageSector());
-        when(parkingRecordRepository.findByLicensePlateAndStatus(anyString(), any())).thenReturn(Optional.of(record));
-        when(parkingSpaceRepository.findByLatAndLng(anyDouble(), anyDouble())).thenReturn(Optional.of(space));
+        ParkingRecord record = TestFactoryUtil.createMockParkingRecord(LocalDateTime.now(), 1000L, space, new GarageSector());
+        givenActiveSession(record);
+        when(parkingSpaceSpatialIndex.findNearest(anyDouble(), anyDouble())).thenReturn(Optional.of(space.getId()));
 
         parkingService.processParked(event);
 
+        verify(parkingSpaceRepository, never()).findById(any());
         verify(parkingSpaceRepository, never()).save(any());
         verify(parkingRecordMapper).updateRecordOnParked(record, event);
         verify(parkingRecordRepository).save(record);
@@ -207,14 +301,15 @@ class ParkingServiceTest {
     @DisplayName("Deve corrigir a vaga se o veículo estacionar em um local diferente, mas válido")
     void shouldCorrectSpaceWhenVehicleParksInDifferentValidSpace() {
         ParkedEventDto event = TestFactoryUtil.createParkedEventDto("ABC-1234");
-        GarageSector originalSector = TestFactoryUtil.createMockGarageSector("A1", 1, 1, 10.0);
-        GarageSector newSector = TestFactoryUtil.createMockGarageSector("B2", 0, 1, 12.0);
+        GarageSector originalSector = TestFactoryUtil.createMockGarageSector("A1", 1, 1, 1000L);
+        GarageSector newSector = TestFactoryUtil.createMockGarageSector("B2", 0, 1, 1200L);
         ParkingSpace originalSpace = TestFactoryUtil.createMockParkingSpace(1L, true, originalSector);
         ParkingSpace actualSpace = TestFactoryUtil.createMockParkingSpace(2L, false, newSector);
-        ParkingRecord record = TestFactoryUtil.createMockParkingRecord(LocalDateTime.now(), 10.0, originalSpace, originalSector);
+        ParkingRecord record = TestFactoryUtil.createMockParkingRecord(LocalDateTime.now(), 1000L, originalSpace, originalSector);
 
-        when(parkingRecordRepository.findByLicensePlateAndStatus(anyString(), any())).thenReturn(Optional.of(record));
-        when(parkingSpaceRepository.findByLatAndLng(anyDouble(), anyDouble())).thenReturn(Optional.of(actualSpace));
+        givenActiveSession(record);
+        givenSpaceAtCoordinates(actualSpace);
+        when(parkingSpaceAllocator.occupy(actualSpace.getId())).thenReturn(true);
 
         parkingService.processParked(event);
 
@@ -228,6 +323,44 @@ class ParkingServiceTest {
         ParkingRecord savedRecord = parkingRecordCaptor.getValue();
         assertEquals(actualSpace.getId(), savedRecord.getParkingSpace().getId());
         assertEquals(newSector.getSector(), savedRecord.getGarageSector().getSector());
+
+        verify(parkingSpaceAllocator).release(originalSpace.getId());
+        verify(parkingSpaceAllocator).occupy(actualSpace.getId());
+        verify(activeSessionIndex).put(TestFactoryUtil.createActiveSession(record));
+        verify(garageSectorRepository).decrementOccupiedCount("A1");
+        verify(garageSectorRepository).incrementOccupiedCount("B2");
+        verify(sectorOccupancyTracker).release("A1");
+        verify(sectorOccupancyTracker).occupy("B2");
+    }
+
+    @Test
+    @DisplayName("Deve recusar a vaga livre no banco que outra fila já reservou em memória sem liberar a reserva alheia")
+    void shouldRejectSpaceAlreadyClaimedByAnotherSession() {
+        ParkedEventDto event = TestFactoryUtil.createParkedEventDto("ABC-1234");
+        GarageSector originalSector = TestFactoryUtil.createMockGarageSector("A1", 1, 2, 1000L);
+        ParkingSpace originalSpace = TestFactoryUtil.createMockParkingSpace(1L, true, originalSector);
+        ParkingSpace claimedSpace = TestFactoryUtil.createMockParkingSpace(2L, false, originalSector);
+        ParkingRecord record = TestFactoryUtil.createMockParkingRecord(LocalDateTime.now(), 1000L, originalSpace, originalSector);
+
+        givenActiveSession(record);
+        givenSpaceAtCoordinates(claimedSpace);
+        when(parkingSpaceAllocator.occupy(claimedSpace.getId())).thenReturn(false);
+
+        TransactionSynchronizationManager.initSynchronization();
+        try {
+            var thrownException = assertThrows(BusinessException.class, () -> parkingService.processParked(event));
+            assertEquals(PARKING_SPACE_ALREADY_OCCUPIED.getMessage(), thrownException.getMessage());
+
+            TransactionSynchronizationManager.getSynchronizations()
+                    .forEach(synchronization -> synchronization.afterCompletion(TransactionSynchronization.STATUS_ROLLED_BACK));
+        } finally {
+            TransactionSynchronizationManager.clearSynchronization();
+        }
+
+        verify(parkingSpaceAllocator, never()).release(any());
+        verify(parkingSpaceRepository, never()).save(any());
+        verify(activeSessionIndex, never()).put(any());
+        verify(parkingRecordRepository, never()).save(any());
     }
 
     @Test
@@ -235,7 +368,7 @@ class ParkingServiceTest {
     void shouldThrowExceptionWhenLicensePlateNotFoundForExit() {
         ExitEventDto event = TestFactoryUtil.createExitEventDto("NOT-FOUND", LocalDateTime.now());
 
-        when(parkingRecordRepository.findByLicensePlateAndStatus(event.licensePlate(), ParkingStatusEnum.PARKED)).thenReturn(Optional.empty());
+        when(activeSessionIndex.find(event.licensePlate())).thenReturn(Optional.empty());
 
         var thrownException = assertThrows(BusinessException.class, () -> parkingService.processExit(event));
         assertEquals(LICENSE_PLATE_NOT_FOUND.getMessage(), thrownException.getMessage());
@@ -246,30 +379,31 @@ class ParkingServiceTest {
     void shouldThrowExceptionWhenExitTimeIsInvalid() {
         LocalDateTime entryTime = LocalDateTime.of(2025, 10, 15, 14, 0, 0);
         ExitEventDto event = TestFactoryUtil.createExitEventDto("ABC-1234", entryTime.minusMinutes(1));
-        ParkingRecord record = TestFactoryUtil.createMockParkingRecord(entryTime, 10.0, new ParkingSpace(), new GarageSector());
+        ParkingRecord record = TestFactoryUtil.createMockParkingRecord(entryTime, 1000L, new ParkingSpace(), new GarageSector());
 
-        when(parkingRecordRepository.findByLicensePlateAndStatus(anyString(), any())).thenReturn(Optional.of(record));
+        when(activeSessionIndex.find(anyString())).thenReturn(Optional.of(TestFactoryUtil.createActiveSession(record)));
 
         var thrownException = assertThrows(BusinessException.class, () -> parkingService.processExit(event));
         assertEquals(INVALID_EXIT_TIME.getMessage(), thrownException.getMessage());
     }
 
     @ParameterizedTest
-    @CsvSource({"29, 10.0, 0.00", "60, 10.0, 10.00", "75, 10.0, 20.00", "121, 15.5, 46.50"})
+    @CsvSource({"29, 1000, 0", "60, 1000, 1000", "75, 1000, 2000", "121, 1550, 4650"})
     @DisplayName("Deve calcular o preço final corretamente com base no tempo de permanência")
-    void shouldCalculateFinalPriceCorrectly(long minutesStayed, double priceOnEntry, double expectedFinalPrice) {
+    void shouldCalculateFinalPriceCorrectly(long minutesStayed, long priceOnEntryCents, long expectedFinalPriceCents) {
         LocalDateTime entryTime = LocalDateTime.now();
         ExitEventDto event = TestFactoryUtil.createExitEventDto("ABC-1234", entryTime.plusMinutes(minutesStayed));
-        GarageSector sector = TestFactoryUtil.createMockGarageSector("A1", 10, 20, 10.0);
+        GarageSector sector = TestFactoryUtil.createMockGarageSector("A1", 10, 20, 1000L);
         ParkingSpace space = TestFactoryUtil.createMockParkingSpace(1L, true, sector);
-        ParkingRecord record = TestFactoryUtil.createMockParkingRecord(entryTime, priceOnEntry, space, sector);
+        ParkingRecord record = TestFactoryUtil.createMockParkingRecord(entryTime, priceOnEntryCents, space, sector);
 
-        when(parkingRecordRepository.findByLicensePlateAndStatus(anyString(), any())).thenReturn(Optional.of(record));
+        givenActiveSession(record);
+        givenAssignedSpace(space);
 
         parkingService.processExit(event);
 
         verify(parkingRecordMapper).updateRecordOnExit(any(), any(), priceCaptor.capture());
-        assertEquals(0, BigDecimal.valueOf(expectedFinalPrice).compareTo(priceCaptor.getValue()), "O preço final calculado está incorreto.");
+        assertEquals(expectedFinalPriceCents, priceCaptor.getValue(), "O preço final calculado está incorreto.");
     }
 
     @Test
@@ -277,20 +411,69 @@ class ParkingServiceTest {
     void shouldProcessExitAndReleaseTheVacancyAndSector() {
         LocalDateTime entryTime = LocalDateTime.of(2025, 10, 15, 14, 0, 0);
         ExitEventDto event = TestFactoryUtil.createExitEventDto("ABC-1234", entryTime.plusHours(2));
-        GarageSector sector = TestFactoryUtil.createMockGarageSector("A1", 50, 100, 10.0);
+        GarageSector sector = TestFactoryUtil.createMockGarageSector("A1", 50, 100, 1000L);
         ParkingSpace space = TestFactoryUtil.createMockParkingSpace(101L, true, sector);
-        ParkingRecord record = TestFactoryUtil.createMockParkingRecord(entryTime, 12.0, space, sector);
+        ParkingRecord record = TestFactoryUtil.createMockParkingRecord(entryTime, 1200L, space, sector);
 
-        when(parkingRecordRepository.findByLicensePlateAndStatus(anyString(), any())).thenReturn(Optional.of(record));
+        givenActiveSession(record);
+        givenAssignedSpace(space);
 
         parkingService.processExit(event);
 
         verify(parkingRecordMapper).updateRecordOnExit(parkingRecordCaptor.capture(), eq(event), priceCaptor.capture());
-        assertEquals(0, BigDecimal.valueOf(24.0).compareTo(priceCaptor.getValue()));
+        assertEquals(2400L, priceCaptor.getValue());
         verify(parkingRecordRepository).save(parkingRecordCaptor.getValue());
         assertFalse(space.getIsOccupied());
         verify(parkingSpaceRepository).save(space);
-        assertEquals(49, sector.getOccupiedCount());
-        verify(garageSectorRepository).save(sector);
+        verify(garageSectorRepository).decrementOccupiedCount("A1");
+        verify(sectorOccupancyTracker).release("A1");
+        verify(parkingSpaceAllocator).release(101L);
+        verify(activeSessionIndex).remove("ABC-1234");
+        verify(revenueRollupService).record("A1", LocalDate.of(2025, 10, 15), priceCaptor.getValue());
+    }
+
+    @Test
+    @DisplayName("Deve liberar a vaga, o setor e a sessão da saída apenas após o commit")
+    void shouldReleaseExitStateOnlyAfterCommit() {
+        LocalDateTime entryTime = LocalDateTime.of(2025, 10, 15, 14, 0, 0);
+        ExitEventDto event = TestFactoryUtil.createExitEventDto("ABC-1234", entryTime.plusHours(2));
+        GarageSector sector = TestFactoryUtil.createMockGarageSector("A1", 50, 100, 1000L);
+        ParkingSpace space = TestFactoryUtil.createMockParkingSpace(101L, true, sector);
+        ParkingRecord record = TestFactoryUtil.createMockParkingRecord(entryTime, 1200L, space, sector);
+
+        givenActiveSession(record);
+        givenAssignedSpace(space);
+
+        TransactionSynchronizationManager.initSynchronization();
+        try {
+            parkingService.processExit(event);
+
+            verify(parkingSpaceAllocator, never()).release(any());
+            verify(sectorOccupancyTracker, never()).release(anyString());
+            verify(activeSessionIndex, never()).remove(anyString());
+
+            TransactionSynchronizationManager.getSynchronizations().forEach(TransactionSynchronization::afterCommit);
+        } finally {
+            TransactionSynchronizationManager.clearSynchronization();
+        }
+
+        verify(parkingSpaceAllocator).release(101L);
+        verify(sectorOccupancyTracker).release("A1");
+        verify(activeSessionIndex).remove("ABC-1234");
+        verify(parkingSpaceAllocator, never()).occupy(any());
+    }
+
+    private void givenSpaceAtCoordinates(ParkingSpace space) {
+        when(parkingSpaceSpatialIndex.findNearest(anyDouble(), anyDouble())).thenReturn(Optional.of(space.getId()));
+        when(parkingSpaceRepository.findById(space.getId())).thenReturn(Optional.of(space));
+    }
+
+    private void givenAssignedSpace(ParkingSpace space) {
+        when(parkingSpaceRepository.findById(space.getId())).thenReturn(Optional.of(space));
+    }
+
+    private void givenActiveSession(ParkingRecord record) {
+        when(activeSessionIndex.find(anyString())).thenReturn(Optional.of(TestFactoryUtil.createActiveSession(record)));
+        when(parkingRecordRepository.findById(record.getId())).thenReturn(Optional.of(record));
     }
 }
\ No newline at end of file
@@ -0,0 +1,144 @@
+package br.com.garage_management.service;
+
+import br.com.garage_management.domain.dto.RevenueRollupRebuildDto;
+import br.com.garage_management.domain.model.RevenueRollup;
+import br.com.garage_management.domain.model.RevenueRollupId;
+import br.com.garage_management.domain.projection.RevenueRollupProjection;
+import br.com.garage_management.exception.BusinessException;
+import br.com.garage_management.repository.ArchivedParkingRecordRepository;
+import br.com.garage_management.repository.ParkingRecordRepository;
+import br.com.garage_management.repository.RevenueRollupRepository;
+import br.com.garage_management.state.DailyRevenueCache;
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.DisplayName;
+import org.junit.jupiter.api.Test;
+import org.junit.jupiter.api.extension.ExtendWith;
+import org.mockito.ArgumentCaptor;
+import org.mockito.InOrder;
+import org.mockito.Mock;
+import org.mockito.junit.jupiter.MockitoExtension;
+
+import java.time.LocalDate;
+import java.util.List;
+import java.util.Optional;
+
+import static br.com.garage_management.util.ErrorConstantsEnum.INVALID_DATE_RANGE;
+import static org.junit.jupiter.api.Assertions.assertEquals;
+import static org.junit.jupiter.api.Assertions.assertThrows;
+import static org.junit.jupiter.api.Assertions.assertTrue;
+import static org.mockito.ArgumentMatchers.any;
+import static org.mockito.Mockito.inOrder;
+import static org.mockito.Mockito.never;
+import static org.mockito.Mockito.times;
+import static org.mockito.Mockito.verify;
+import static org.mockito.Mockito.verifyNoInteractions;
+import static org.mockito.Mockito.when;
+
+@ExtendWith(MockitoExtension.class)
+class RevenueRollupServiceTest {
+
+    private static final LocalDate TARGET_DATE = LocalDate.of(2025, 10, 15);
+    private static final long AMOUNT_CENTS = 2400L;
+
+    @Mock
+    private RevenueRollupRepository revenueRollupRepository;
+
+    @Mock
+    private ParkingRecordRepository parkingRecordRepository;
+
+    @Mock
+    private ArchivedParkingRecordRepository archivedParkingRecordRepository;
+
+    private DailyRevenueCache dailyRevenueCache;
+
+    private RevenueRollupService revenueRollupService;
+
+    @BeforeEach
+    void setUp() {
+        dailyRevenueCache = new DailyRevenueCache(100);
+        revenueRollupService = new RevenueRollupService(revenueRollupRepository, parkingRecordRepository, archivedParkingRecordRepository, dailyRevenueCache);
+    }
+
+    @Test
+    @DisplayName("Deve somar a receita no consolidado do dia na transação corrente e invalidar o cache")
+    void shouldAddRevenueWithinCurrentTransaction() {
+        dailyRevenueCache.put("A", TARGET_DATE, 100L, dailyRevenueCache.generation());
+
+        revenueRollupService.record("A", TARGET_DATE, AMOUNT_CENTS);
+
+        verify(revenueRollupRepository).addRevenue("A", TARGET_DATE, AMOUNT_CENTS);
+        verify(revenueRollupRepository, never()).saveAndFlush(any());
+        assertTrue(dailyRevenueCache.get("A", TARGET_DATE).isEmpty());
+    }
+
+    @Test
+    @DisplayName("Deve reconstruir os consolidados do intervalo a partir dos registros concluídos")
+    void shouldRebuildRollupsFromCompletedRecords() {
+        RevenueRollupProjection total = new RevenueRollupProjection() {
+            public String getSector() { return "A"; }
+            public LocalDate getRevenueDate() { return TARGET_DATE; }
+            public Long getTotalAmountCents() { return AMOUNT_CENTS; }
+            public Long getCompletedCount() { return 2L; }
+        };
+        when(parkingRecordRepository.sumCompletedRevenueBySectorAndDay(TARGET_DATE.atStartOfDay(), TARGET_DATE.plusDays(1).atStartOfDay()))
+                .thenReturn(List.of(total));
+
+        RevenueRollupRebuildDto result = revenueRollupService.rebuild(TARGET_DATE, TARGET_DATE);
+
+        assertEquals(1, result.rows());
+        InOrder inOrder = inOrder(revenueRollupRepository);
+        inOrder.verify(revenueRollupRepository).lockByRevenueDateBetween(TARGET_DATE, TARGET_DATE);
+        inOrder.verify(revenueRollupRepository).deleteByRevenueDateBetween(TARGET_DATE, TARGET_DATE);
+        ArgumentCaptor<List<RevenueRollup>> captor = ArgumentCaptor.captor();
+        verify(revenueRollupRepository).saveAll(captor.capture());
+        RevenueRollup rollup = captor.getValue().getFirst();
+        assertEquals(new RevenueRollupId("A", TARGET_DATE), rollup.getId());
+        assertEquals(AMOUNT_CENTS, rollup.getTotalAmountCents());
+        assertEquals(2L, rollup.getCompletedCount());
+    }
+
+    @Test
+    @DisplayName("Deve preencher o consolidado vazio com os registros concluídos das tabelas quente e de arquivo")
+    void shouldBackfillEmptyRollupsFromHotAndArchivedRecords() {
+        LocalDate archivedDate = TARGET_DATE.minusMonths(3);
+        when(revenueRollupRepository.count()).thenReturn(0L);
+        when(parkingRecordRepository.findOldestCompletedExitTime()).thenReturn(Optional.of(TARGET_DATE.atTime(9, 0)));
+        when(parkingRecordRepository.findNewestCompletedExitTime()).thenReturn(Optional.of(TARGET_DATE.atTime(18, 0)));
+        when(archivedParkingRecordRepository.findOldestExitTime()).thenReturn(Optional.of(archivedDate.atTime(10, 0)));
+        when(archivedParkingRecordRepository.findNewestExitTime()).thenReturn(Optional.of(archivedDate.atTime(11, 0)));
+        when(parkingRecordRepository.sumCompletedRevenueBySectorAndDay(archivedDate.atStartOfDay(), TARGET_DATE.plusDays(1).atStartOfDay()))
+                .thenReturn(List.of());
+
+        revenueRollupService.backfillIfEmpty();
+
+        verify(revenueRollupRepository).deleteByRevenueDateBetween(archivedDate, TARGET_DATE);
+        verify(parkingRecordRepository).sumCompletedRevenueBySectorAndDay(archivedDate.atStartOfDay(), TARGET_DATE.plusDays(1).atStartOfDay());
+    }
+
+    @Test
+    @DisplayName("Não deve reconstruir o consolidado que já possui linhas nem quando não há registros concluídos")
+    void shouldSkipBackfillWhenRollupsExistOrNoRecordIsCompleted() {
+        when(revenueRollupRepository.count()).thenReturn(5L, 0L);
+        when(parkingRecordRepository.findOldestCompletedExitTime()).thenReturn(Optional.empty());
+        when(parkingRecordRepository.findNewestCompletedExitTime()).thenReturn(Optional.empty());
+        when(archivedParkingRecordRepository.findOldestExitTime()).thenReturn(Optional.empty());
+        when(archivedParkingRecordRepository.findNewestExitTime()).thenReturn(Optional.empty());
+
+        revenueRollupService.backfillIfEmpty();
+        revenueRollupService.backfillIfEmpty();
+
+        verify(parkingRecordRepository, times(1)).findOldestCompletedExitTime();
+        verify(revenueRollupRepository, never()).deleteByRevenueDateBetween(any(), any());
+        verify(parkingRecordRepository, never()).sumCompletedRevenueBySectorAndDay(any(), any());
+    }
+
+    @Test
+    @DisplayName("Deve recusar reconstrução com data inicial posterior à final")
+    void shouldRejectInvertedRange() {
+        BusinessException exception = assertThrows(BusinessException.class,
+                () -> revenueRollupService.rebuild(TARGET_DATE, TARGET_DATE.minusDays(1)));
+
+        assertEquals(INVALID_DATE_RANGE.getMessage(), exception.getMessage());
+        verifyNoInteractions(revenueRollupRepository);
+    }
+}
@@ -1,47 +1,87 @@
 package br.com.garage_management.service;
 
+import br.com.garage_management.domain.dto.RevenueBucketDto;
 import br.com.garage_management.domain.dto.RevenueResponseDto;
+import br.com.garage_management.domain.enums.RevenueGranularityEnum;
+import br.com.garage_management.domain.model.RevenueRollup;
+import br.com.garage_management.domain.model.RevenueRollupId;
+import br.com.garage_management.exception.BusinessException;
 import br.com.garage_management.repository.ParkingRecordRepository;
+import br.com.garage_management.repository.RevenueRollupRepository;
+import br.com.garage_management.state.DailyRevenueCache;
+import com.fasterxml.jackson.databind.JsonNode;
+import com.fasterxml.jackson.databind.ObjectMapper;
+import com.fasterxml.jackson.databind.SerializationFeature;
+import com.fasterxml.jackson.databind.json.JsonMapper;
+import io.micrometer.core.instrument.simple.SimpleMeterRegistry;
+import org.junit.jupiter.api.BeforeEach;
 import org.junit.jupiter.api.DisplayName;
 import org.junit.jupiter.api.Test;
 import org.junit.jupiter.api.extension.ExtendWith;
-import org.mockito.InjectMocks;
 import org.mockito.Mock;
 import org.mockito.MockedStatic;
 import org.mockito.Mockito;
 import org.mockito.junit.jupiter.MockitoExtension;
+import org.springframework.transaction.PlatformTransactionManager;
+import org.springframework.web.servlet.mvc.method.annotation.StreamingResponseBody;
 
+import java.io.ByteArrayOutputStream;
 import java.math.BigDecimal;
 import java.time.LocalDate;
 import java.time.ZoneId;
 import java.time.ZonedDateTime;
+import java.util.List;
 import java.util.Optional;
+import java.util.stream.Stream;
 
+import static br.com.garage_management.util.ErrorConstantsEnum.DATE_RANGE_TOO_LARGE;
+import static br.com.garage_management.util.ErrorConstantsEnum.INVALID_DATE_RANGE;
+import static org.junit.jupiter.api.Assertions.assertEquals;
+import static org.junit.jupiter.api.Assertions.assertFalse;
+import static org.junit.jupiter.api.Assertions.assertThrows;
 import static org.junit.jupiter.api.Assertions.assertNotNull;
 import static org.mockito.Mockito.any;
+import static org.mockito.Mockito.times;
+import static org.mockito.Mockito.verify;
+import static org.mockito.Mockito.verifyNoInteractions;
 import static org.mockito.Mockito.when;
 
 @ExtendWith(MockitoExtension.class)
 class RevenueServiceTest {
 
-    @InjectMocks
     private RevenueService revenueService;
 
     @Mock
-    private ParkingRecordRepository recordRepository;
+    private RevenueRollupRepository revenueRollupRepository;
+
+    @Mock
+    private ParkingRecordRepository parkingRecordRepository;
+
+    @Mock
+    private PlatformTransactionManager transactionManager;
+
+    private final ObjectMapper objectMapper = JsonMapper.builder()
+            .findAndAddModules()
+            .disable(SerializationFeature.WRITE_DATES_AS_TIMESTAMPS)
+            .build();
 
     private static final LocalDate TEST_DATE = LocalDate.of(2025, 10, 15);
     private static final String TEST_SECTOR = "A";
     private static final ZonedDateTime TIMESTAMP = ZonedDateTime.of(2025, 10, 15, 16, 0, 0, 0, ZoneId.of("America/Sao_Paulo"));
 
+    @BeforeEach
+    void setUp() {
+        revenueService = new RevenueService(revenueRollupRepository, parkingRecordRepository, new DailyRevenueCache(100),
+                objectMapper, transactionManager, new SimpleMeterRegistry(), 31);
+    }
 
     @Test
     @DisplayName("Deve retornar a receita correta quando o repositório encontra dados")
     void shouldReturnRevenueSuccesfully() {
         BigDecimal expectedRevenue = new BigDecimal("250.75");
 
-        when(recordRepository.calculateTotalRevenueBySectorAndDate(TEST_SECTOR, TEST_DATE))
-                .thenReturn(Optional.of(expectedRevenue));
+        when(revenueRollupRepository.findById(new RevenueRollupId(TEST_SECTOR, TEST_DATE)))
+                .thenReturn(Optional.of(new RevenueRollup(new RevenueRollupId(TEST_SECTOR, TEST_DATE), 25075L, 3L)));
 
         try (MockedStatic<ZonedDateTime> mockedStatic = Mockito.mockStatic(ZonedDateTime.class)) {
             mockedStatic.when(() -> ZonedDateTime.now(any(ZoneId.class))).thenReturn(TIMESTAMP);
@@ -49,13 +89,14 @@ class RevenueServiceTest {
             RevenueResponseDto response = revenueService.calculateDailyRevenue(TEST_DATE, TEST_SECTOR);
 
             assertNotNull(response);
+            assertEquals(expectedRevenue, response.amount());
         }
     }
 
     @Test
     @DisplayName("Deve retornar receita zero quando o repositório não encontra dados")
     void shouldReturnZeroRevenueWhenRepositoryFindsNoData() {
-        when(recordRepository.calculateTotalRevenueBySectorAndDate(TEST_SECTOR, TEST_DATE))
+        when(revenueRollupRepository.findById(new RevenueRollupId(TEST_SECTOR, TEST_DATE)))
                 .thenReturn(Optional.empty());
 
         try (MockedStatic<ZonedDateTime> mockedStatic = Mockito.mockStatic(ZonedDateTime.class)) {
@@ -64,6 +105,70 @@ class RevenueServiceTest {
             RevenueResponseDto response = revenueService.calculateDailyRevenue(TEST_DATE, TEST_SECTOR);
 
             assertNotNull(response);
+            assertEquals(new BigDecimal("0.00"), response.amount());
         }
     }
-}
\ No newline at end of file
+
+    @Test
+    @DisplayName("Deve servir a receita diária repetida a partir do cache")
+    void shouldServeRepeatedDailyRevenueFromCache() {
+        when(revenueRollupRepository.findById(new RevenueRollupId(TEST_SECTOR, TEST_DATE)))
+                .thenReturn(Optional.of(new RevenueRollup(new RevenueRollupId(TEST_SECTOR, TEST_DATE), 9900L, 3L)));
+
+        revenueService.calculateDailyRevenue(TEST_DATE, TEST_SECTOR);
+        RevenueResponseDto response = revenueService.calculateDailyRevenue(TEST_DATE, TEST_SECTOR);
+
+        assertEquals(new BigDecimal("99.00"), response.amount());
+        verify(revenueRollupRepository, times(1)).findById(any(RevenueRollupId.class));
+    }
+
+    @Test
+    @DisplayName("Deve transmitir os totais diários de todos os setores a partir do consolidado")
+    void shouldStreamDailyBucketsForAllSectors() throws Exception {
+        LocalDate to = TEST_DATE.plusDays(1);
+        when(revenueRollupRepository.streamDailyBuckets(TEST_DATE, to)).thenReturn(Stream.of(
+                new RevenueBucketDto("A", TEST_DATE, 1000L, 1L),
+                new RevenueBucketDto("B", to, 2550L, 2L)));
+
+        JsonNode body = stream(revenueService.streamRevenueRange(TEST_DATE, to, null, RevenueGranularityEnum.DAY));
+
+        assertEquals("DAY", body.get("granularity").asText());
+        assertEquals(2, body.get("buckets").size());
+        assertEquals("B", body.get("buckets").get(1).get("sector").asText());
+        assertEquals("2025-10-16", body.get("buckets").get(1).get("date").asText());
+        assertEquals(25.5, body.get("buckets").get(1).get("amount").asDouble());
+        assertFalse(body.get("buckets").get(1).has("hour"));
+        verifyNoInteractions(parkingRecordRepository);
+    }
+
+    @Test
+    @DisplayName("Deve transmitir os totais por hora apenas dos setores solicitados")
+    void shouldStreamHourlyBucketsForRequestedSectors() throws Exception {
+        List<String> sectors = List.of("A");
+        when(parkingRecordRepository.streamHourlyBucketsBySectors(TEST_DATE.atStartOfDay(), TEST_DATE.plusDays(1).atStartOfDay(), sectors))
+                .thenReturn(Stream.of(new RevenueBucketDto("A", TEST_DATE, 14, 3000L, 3L)));
+
+        JsonNode body = stream(revenueService.streamRevenueRange(TEST_DATE, TEST_DATE, sectors, RevenueGranularityEnum.HOUR));
+
+        assertEquals(14, body.get("buckets").get(0).get("hour").asInt());
+        assertEquals(3, body.get("buckets").get(0).get("completedCount").asInt());
+    }
+
+    @Test
+    @DisplayName("Deve recusar intervalos invertidos ou maiores que o limite configurado")
+    void shouldRejectInvalidRanges() {
+        BusinessException inverted = assertThrows(BusinessException.class,
+                () -> revenueService.streamRevenueRange(TEST_DATE, TEST_DATE.minusDays(1), null, RevenueGranularityEnum.DAY));
+        BusinessException tooLarge = assertThrows(BusinessException.class,
+                () -> revenueService.streamRevenueRange(TEST_DATE, TEST_DATE.plusDays(31), null, RevenueGranularityEnum.DAY));
+
+        assertEquals(INVALID_DATE_RANGE.getMessage(), inverted.getMessage());
+        assertEquals(DATE_RANGE_TOO_LARGE.getMessage(), tooLarge.getMessage());
+    }
+
+    private JsonNode stream(StreamingResponseBody body) throws Exception {
+        ByteArrayOutputStream output = new ByteArrayOutputStream();
+        body.writeTo(output);
+        return objectMapper.readTree(output.toByteArray());
+    }
+}
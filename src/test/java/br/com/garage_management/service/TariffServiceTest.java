@@ -0,0 +1,102 @@
+package br.com.garage_management.service;
+
+import br.com.garage_management.domain.dto.TariffDto;
+import br.com.garage_management.domain.dto.TariffTierDto;
+import br.com.garage_management.domain.mapper.TariffMapper;
+import br.com.garage_management.domain.mapper.TariffMapperImpl;
+import br.com.garage_management.domain.model.SectorTariff;
+import br.com.garage_management.exception.BusinessException;
+import br.com.garage_management.repository.GarageSectorRepository;
+import br.com.garage_management.repository.SectorTariffRepository;
+import br.com.garage_management.state.SectorAdmission;
+import br.com.garage_management.tariff.TariffEngine;
+import org.junit.jupiter.api.DisplayName;
+import org.junit.jupiter.api.Test;
+import org.junit.jupiter.api.extension.ExtendWith;
+import org.mockito.InjectMocks;
+import org.mockito.Mock;
+import org.mockito.Spy;
+import org.mockito.junit.jupiter.MockitoExtension;
+
+import java.time.LocalDateTime;
+import java.util.List;
+import java.util.Optional;
+
+import static br.com.garage_management.util.ErrorConstantsEnum.GARAGE_SECTOR_NOT_FOUND;
+import static br.com.garage_management.util.ErrorConstantsEnum.INVALID_TARIFF;
+import static org.junit.jupiter.api.Assertions.assertEquals;
+import static org.junit.jupiter.api.Assertions.assertThrows;
+import static org.mockito.ArgumentMatchers.any;
+import static org.mockito.Mockito.never;
+import static org.mockito.Mockito.verify;
+import static org.mockito.Mockito.when;
+
+@ExtendWith(MockitoExtension.class)
+class TariffServiceTest {
+
+    private static final LocalDateTime NOON = LocalDateTime.of(2025, 10, 15, 12, 0);
+
+    @InjectMocks
+    private TariffService tariffService;
+
+    @Mock
+    private SectorTariffRepository sectorTariffRepository;
+
+    @Mock
+    private GarageSectorRepository garageSectorRepository;
+
+    @Spy
+    private TariffMapper tariffMapper = new TariffMapperImpl();
+
+    @Spy
+    private TariffEngine tariffEngine = new TariffEngine();
+
+    @Test
+    @DisplayName("Deve retornar a tarifa padrão para setor sem tarifa própria")
+    void shouldReturnDefaultTariffWhenSectorHasNone() {
+        when(garageSectorRepository.existsById("A")).thenReturn(true);
+        when(sectorTariffRepository.findById("A")).thenReturn(Optional.empty());
+
+        TariffDto tariff = tariffService.findTariff("A");
+
+        assertEquals("A", tariff.sector());
+        assertEquals(30, tariff.graceMinutes());
+        assertEquals(4, tariff.tiers().size());
+    }
+
+    @Test
+    @DisplayName("Deve salvar a tarifa e passar a usá-la no cálculo de preço")
+    void shouldSaveTariffAndApplyItToPricing() {
+        TariffDto request = new TariffDto(null, 0, 30, null, null, null, null, List.of(new TariffTierDto(0, 200)));
+        when(garageSectorRepository.existsById("A")).thenReturn(true);
+        when(sectorTariffRepository.save(any(SectorTariff.class))).thenAnswer(invocation -> invocation.getArgument(0));
+
+        TariffDto saved = tariffService.saveTariff("A", request);
+
+        assertEquals("A", saved.sector());
+        assertEquals(2000, tariffEngine.entryPriceCents(1000, new SectorAdmission("A", 0, 10), NOON));
+        assertEquals(3 * 2000, tariffEngine.exitFeeCents("A", 2000, 61));
+    }
+
+    @Test
+    @DisplayName("Deve recusar tarifa inválida sem gravá-la")
+    void shouldRejectInvalidTariffWithoutSaving() {
+        TariffDto request = new TariffDto(null, 30, 0, null, null, null, null, List.of(new TariffTierDto(0, 100)));
+        when(garageSectorRepository.existsById("A")).thenReturn(true);
+
+        BusinessException exception = assertThrows(BusinessException.class, () -> tariffService.saveTariff("A", request));
+
+        assertEquals(INVALID_TARIFF.getMessage(), exception.getMessage());
+        verify(sectorTariffRepository, never()).save(any());
+    }
+
+    @Test
+    @DisplayName("Deve lançar exceção para setor inexistente")
+    void shouldThrowExceptionWhenSectorDoesNotExist() {
+        when(garageSectorRepository.existsById("Z")).thenReturn(false);
+
+        BusinessException exception = assertThrows(BusinessException.class, () -> tariffService.findTariff("Z"));
+
+        assertEquals(GARAGE_SECTOR_NOT_FOUND.getMessage(), exception.getMessage());
+    }
+}
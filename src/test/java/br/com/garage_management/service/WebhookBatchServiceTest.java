@@ -0,0 +1,233 @@
+package br.com.garage_management.service;
+
+import br.com.garage_management.domain.dto.EntryEventDto;
+import br.com.garage_management.domain.dto.ExitEventDto;
+import br.com.garage_management.domain.dto.ParkedEventDto;
+import br.com.garage_management.domain.dto.WebhookBatchResponseDto;
+import br.com.garage_management.domain.dto.WebhookBatchResultDto;
+import br.com.garage_management.domain.dto.WebhookEvent;
+import br.com.garage_management.ingestion.QueuedEvent;
+import br.com.garage_management.ingestion.WebhookEventJournal;
+import br.com.garage_management.metrics.WebhookMetrics;
+import br.com.garage_management.state.ActiveSessionIndex;
+import br.com.garage_management.util.TestFactoryUtil;
+import com.fasterxml.jackson.core.type.TypeReference;
+import com.fasterxml.jackson.databind.ObjectMapper;
+import com.fasterxml.jackson.databind.json.JsonMapper;
+import io.micrometer.core.instrument.simple.SimpleMeterRegistry;
+import org.junit.jupiter.api.AfterEach;
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.DisplayName;
+import org.junit.jupiter.api.Test;
+import org.junit.jupiter.api.extension.ExtendWith;
+import org.mockito.Mock;
+import org.mockito.junit.jupiter.MockitoExtension;
+import org.springframework.transaction.PlatformTransactionManager;
+import org.springframework.transaction.TransactionDefinition;
+
+import java.io.ByteArrayInputStream;
+import java.io.IOException;
+import java.io.InputStream;
+import java.nio.charset.StandardCharsets;
+import java.time.LocalDateTime;
+import java.util.List;
+import java.util.concurrent.CopyOnWriteArrayList;
+
+import static br.com.garage_management.util.ErrorConstantsEnum.LICENSE_PLATE_NOT_FOUND;
+import static org.junit.jupiter.api.Assertions.assertEquals;
+import static org.junit.jupiter.api.Assertions.assertTrue;
+import static org.mockito.ArgumentMatchers.any;
+import static org.mockito.ArgumentMatchers.argThat;
+import static org.mockito.Mockito.doAnswer;
+import static org.mockito.Mockito.doThrow;
+import static org.mockito.Mockito.mock;
+import static org.mockito.Mockito.never;
+import static org.mockito.Mockito.times;
+import static org.mockito.Mockito.verify;
+import static org.mockito.Mockito.when;
+
+@ExtendWith(MockitoExtension.class)
+class WebhookBatchServiceTest {
+
+    private final ObjectMapper objectMapper = JsonMapper.builder().findAndAddModules().build();
+
+    @Mock
+    private ParkingService parkingService;
+
+    @Mock
+    private PlatformTransactionManager transactionManager;
+
+    @Mock
+    private WebhookIdempotencyService webhookIdempotencyService;
+
+    @Mock
+    private WebhookEventJournal webhookEventJournal;
+
+    private WebhookEventDispatcher dispatcher;
+    private WebhookBatchService batchService;
+
+    @BeforeEach
+    void setUp() {
+        dispatcher = new WebhookEventDispatcher(parkingService, TestFactoryUtil.createSectorOccupancyTracker("A", 100, 0), new ActiveSessionIndex(), webhookIdempotencyService, new WebhookMetrics(new SimpleMeterRegistry()), mock(PlatformTransactionManager.class), 1);
+        batchService = new WebhookBatchService(dispatcher, webhookEventJournal, objectMapper, transactionManager, 2);
+    }
+
+    @AfterEach
+    void tearDown() throws InterruptedException {
+        dispatcher.shutdown();
+    }
+
+    @Test
+    @DisplayName("Deve processar eventos NDJSON em transações limitadas pelo tamanho do bloco")
+    void shouldProcessNdjsonInBoundedChunks() throws IOException {
+        EntryEventDto entry = TestFactoryUtil.createEntryEventDto("ABC-1234", LocalDateTime.now().plusMinutes(1));
+        ParkedEventDto parked = TestFactoryUtil.createParkedEventDto("ABC-1234");
+        ExitEventDto exit = TestFactoryUtil.createExitEventDto("ABC-1234", LocalDateTime.now().plusHours(1));
+
+        WebhookBatchResponseDto response = batchService.process(ndjson(entry, parked, exit));
+
+        assertEquals(3, response.total());
+        assertEquals(3, response.succeeded());
+        verify(parkingService).processEntry(entry);
+        verify(parkingService).processParked(parked);
+        verify(parkingService).processExit(exit);
+        verify(transactionManager, times(2)).getTransaction(withPropagation(TransactionDefinition.PROPAGATION_REQUIRES_NEW));
+        verify(transactionManager, times(2)).commit(any());
+        verify(transactionManager, never()).rollback(any());
+    }
+
+    @Test
+    @DisplayName("Deve gravar no diário cada evento do lote e confirmá-lo após o processamento")
+    void shouldJournalAndAcknowledgeEveryBatchEvent() throws IOException {
+        EntryEventDto entry = TestFactoryUtil.createEntryEventDto("ABC-1234", LocalDateTime.now().plusMinutes(1));
+        ExitEventDto exit = TestFactoryUtil.createExitEventDto("DEF-5678", LocalDateTime.now().plusHours(1));
+        QueuedEvent journaledEntry = new QueuedEvent(1, entry);
+        QueuedEvent journaledExit = new QueuedEvent(2, exit);
+        when(webhookEventJournal.append(entry)).thenReturn(journaledEntry);
+        when(webhookEventJournal.append(exit)).thenReturn(journaledExit);
+        doThrow(LICENSE_PLATE_NOT_FOUND.asException(exit.licensePlate())).when(parkingService).processExit(any());
+
+        batchService.process(ndjson(entry, exit));
+
+        verify(webhookEventJournal).acknowledge(journaledEntry);
+        verify(webhookEventJournal).acknowledge(journaledExit);
+    }
+
+    @Test
+    @DisplayName("Deve aplicar os eventos do lote na fila de processamento da placa")
+    void shouldApplyEventsOnLicensePlateLane() throws IOException {
+        ParkedEventDto parked = TestFactoryUtil.createParkedEventDto("ABC-1234");
+        List<String> threads = new CopyOnWriteArrayList<>();
+        doAnswer(invocation -> threads.add(Thread.currentThread().getName())).when(parkingService).processParked(any());
+
+        batchService.process(ndjson(parked));
+
+        assertEquals(1, threads.size());
+        assertTrue(threads.getFirst().startsWith("webhook-lane-"));
+    }
+
+    @Test
+    @DisplayName("Deve confirmar como repetido o evento duplicado dentro do mesmo bloco")
+    void shouldAcknowledgeDuplicateWithinChunk() throws IOException {
+        EntryEventDto entry = TestFactoryUtil.createEntryEventDto("ABC-1234", LocalDateTime.now().plusMinutes(1));
+        when(webhookIdempotencyService.keyOf(entry)).thenReturn("ENTRY|ABC-1234|" + entry.entryTime());
+
+        WebhookBatchResponseDto response = batchService.process(ndjson(entry, entry));
+
+        assertEquals(List.of(200, 200), response.results().stream().map(WebhookBatchResultDto::status).toList());
+        verify(parkingService, times(1)).processEntry(entry);
+    }
+
+    @Test
+    @DisplayName("Deve aceitar um array JSON e devolver o erro de negócio de cada evento recusado")
+    void shouldReturnBusinessErrorPerEvent() throws IOException {
+        ParkedEventDto parked = TestFactoryUtil.createParkedEventDto("ABC-1234");
+        ExitEventDto exit = TestFactoryUtil.createExitEventDto("DEF-5678", LocalDateTime.now().plusHours(1));
+        doThrow(LICENSE_PLATE_NOT_FOUND.asException(exit.licensePlate())).when(parkingService).processExit(any());
+
+        String body = objectMapper.writerFor(new TypeReference<List<WebhookEvent>>() {}).writeValueAsString(List.of(parked, exit));
+        WebhookBatchResponseDto response = batchService.process(new ByteArrayInputStream(body.getBytes(StandardCharsets.UTF_8)));
+
+        assertEquals(1, response.succeeded());
+        assertEquals(1, response.failed());
+        WebhookBatchResultDto rejected = response.results().get(1);
+        assertEquals(404, rejected.status());
+        assertEquals("DEF-5678", rejected.licensePlate());
+        assertEquals(LICENSE_PLATE_NOT_FOUND.getMessage(), rejected.message());
+    }
+
+    @Test
+    @DisplayName("Deve desfazer o bloco recusado e confirmar os eventos anteriores e posteriores sem repetir o evento recusado")
+    void shouldCommitEventsAroundRejectedEventWithoutReplayingIt() throws IOException {
+        WebhookBatchService chunkedService = new WebhookBatchService(dispatcher, webhookEventJournal, objectMapper, transactionManager, 3);
+        ParkedEventDto before = TestFactoryUtil.createParkedEventDto("ABC-1234");
+        ExitEventDto rejected = TestFactoryUtil.createExitEventDto("DEF-5678", LocalDateTime.now().plusHours(1));
+        ParkedEventDto after = TestFactoryUtil.createParkedEventDto("GHI-9012");
+        doThrow(LICENSE_PLATE_NOT_FOUND.asException(rejected.licensePlate())).when(parkingService).processExit(any());
+
+        WebhookBatchResponseDto response = chunkedService.process(ndjson(before, rejected, after));
+
+        assertEquals(List.of(200, 404, 200), response.results().stream().map(WebhookBatchResultDto::status).toList());
+        verify(parkingService, times(2)).processParked(before);
+        verify(parkingService, times(1)).processExit(rejected);
+        verify(parkingService, times(1)).processParked(after);
+        verify(transactionManager, times(3)).getTransaction(withPropagation(TransactionDefinition.PROPAGATION_REQUIRES_NEW));
+        verify(transactionManager, times(1)).rollback(any());
+        verify(transactionManager, times(2)).commit(any());
+    }
+
+    @Test
+    @DisplayName("Deve reprocessar individualmente os eventos de um bloco com falha inesperada")
+    void shouldRetryChunkEventsIndividuallyOnUnexpectedFailure() throws IOException {
+        ParkedEventDto healthy = TestFactoryUtil.createParkedEventDto("ABC-1234");
+        ParkedEventDto broken = TestFactoryUtil.createParkedEventDto("DEF-5678");
+        doAnswer(invocation -> {
+            if (broken.equals(invocation.getArgument(0))) {
+                throw new IllegalStateException("falha");
+            }
+            return null;
+        }).when(parkingService).processParked(any());
+
+        WebhookBatchResponseDto response = batchService.process(ndjson(healthy, broken));
+
+        assertEquals(List.of(200, 500), response.results().stream().map(WebhookBatchResultDto::status).toList());
+        verify(parkingService, times(2)).processParked(healthy);
+        verify(parkingService, times(2)).processParked(broken);
+    }
+
+    @Test
+    @DisplayName("Deve processar os eventos anteriores e reportar a linha inválida do lote")
+    void shouldStopAtMalformedLine() throws IOException {
+        ParkedEventDto parked = TestFactoryUtil.createParkedEventDto("ABC-1234");
+        String body = objectMapper.writeValueAsString(parked) + "\n{\"event_type\":\"PARKED\",\"lat\":}\n";
+
+        WebhookBatchResponseDto response = batchService.process(new ByteArrayInputStream(body.getBytes(StandardCharsets.UTF_8)));
+
+        assertEquals(List.of(200, 400), response.results().stream().map(WebhookBatchResultDto::status).toList());
+        assertEquals(1, response.results().get(1).index());
+        verify(parkingService).processParked(parked);
+    }
+
+    @Test
+    @DisplayName("Deve recusar evento sem campos obrigatórios sem abrir transação")
+    void shouldRejectInvalidEventWithoutTransaction() throws IOException {
+        ParkedEventDto invalid = new ParkedEventDto("ABC-1234", null, null, null);
+
+        WebhookBatchResponseDto response = batchService.process(ndjson(invalid));
+
+        assertEquals(400, response.results().getFirst().status());
+        verify(transactionManager, never()).getTransaction(any());
+    }
+
+    private InputStream ndjson(WebhookEvent... events) throws IOException {
+        StringBuilder body = new StringBuilder();
+        for (WebhookEvent event : events) {
+            body.append(objectMapper.writerFor(WebhookEvent.class).writeValueAsString(event)).append('\n');
+        }
+        return new ByteArrayInputStream(body.toString().getBytes(StandardCharsets.UTF_8));
+    }
+
+    private static TransactionDefinition withPropagation(int propagation) {
+        return argThat(definition -> definition != null && definition.getPropagationBehavior() == propagation);
+    }
+}
@@ -0,0 +1,132 @@
+package br.com.garage_management.service;
+
+import br.com.garage_management.domain.dto.EntryEventDto;
+import br.com.garage_management.domain.dto.ExitEventDto;
+import br.com.garage_management.domain.dto.WebhookBatchResponseDto;
+import br.com.garage_management.domain.dto.WebhookBatchResultDto;
+import br.com.garage_management.domain.dto.WebhookEvent;
+import br.com.garage_management.domain.model.GarageSector;
+import br.com.garage_management.domain.model.ParkingSpace;
+import br.com.garage_management.repository.GarageSectorRepository;
+import br.com.garage_management.repository.ParkingSpaceRepository;
+import br.com.garage_management.state.ActiveSessionIndex;
+import br.com.garage_management.state.GarageStateLoader;
+import br.com.garage_management.state.ParkingSpaceAllocator;
+import br.com.garage_management.state.SectorOccupancyTracker;
+import com.fasterxml.jackson.databind.ObjectMapper;
+import jakarta.persistence.EntityManagerFactory;
+import org.hibernate.SessionFactory;
+import org.hibernate.stat.Statistics;
+import org.junit.jupiter.api.DisplayName;
+import org.junit.jupiter.api.Test;
+import org.springframework.beans.factory.annotation.Autowired;
+import org.springframework.boot.test.context.SpringBootTest;
+import org.springframework.jdbc.core.JdbcTemplate;
+
+import java.io.ByteArrayInputStream;
+import java.io.IOException;
+import java.nio.charset.StandardCharsets;
+import java.time.LocalDateTime;
+import java.time.LocalTime;
+import java.util.ArrayList;
+import java.util.List;
+
+import static org.junit.jupiter.api.Assertions.assertEquals;
+import static org.junit.jupiter.api.Assertions.assertFalse;
+import static org.junit.jupiter.api.Assertions.assertTrue;
+
+@SpringBootTest(properties = {
+        "spring.datasource.url=jdbc:h2:mem:batch-transaction;DB_CLOSE_DELAY=-1;DB_CLOSE_ON_EXIT=FALSE",
+        "spring.datasource.driver-class-name=org.h2.Driver",
+        "spring.datasource.username=sa",
+        "spring.datasource.password=",
+        "spring.jpa.hibernate.ddl-auto=create-drop",
+        "garage.webhook.journal.directory=target/webhook-journal/${random.uuid}",
+        "spring.jpa.properties.hibernate.generate_statistics=true",
+        "garage.webhook.lanes=1",
+        "garage.webhook.batch.chunk-size=10"
+})
+class WebhookBatchServiceTransactionTest {
+
+    private static final String SECTOR = "LOT";
+    private static final int SPACES = 10;
+
+    @Autowired
+    private WebhookBatchService webhookBatchService;
+
+    @Autowired
+    private GarageSectorRepository garageSectorRepository;
+
+    @Autowired
+    private ParkingSpaceRepository parkingSpaceRepository;
+
+    @Autowired
+    private GarageStateLoader garageStateLoader;
+
+    @Autowired
+    private ActiveSessionIndex activeSessionIndex;
+
+    @Autowired
+    private SectorOccupancyTracker sectorOccupancyTracker;
+
+    @Autowired
+    private ParkingSpaceAllocator parkingSpaceAllocator;
+
+    @Autowired
+    private JdbcTemplate jdbcTemplate;
+
+    @Autowired
+    private EntityManagerFactory entityManagerFactory;
+
+    @Autowired
+    private ObjectMapper objectMapper;
+
+    @Test
+    @DisplayName("Deve confirmar em blocos os eventos ao redor de recusas no meio do bloco sem deixar rastros dos eventos recusados")
+    void shouldCommitChunkAroundRejectedEvents() throws IOException {
+        GarageSector sector = garageSectorRepository.save(
+                new GarageSector(SECTOR, 1000L, SPACES, 0, LocalTime.MIDNIGHT, LocalTime.of(23, 59), 1440));
+        List<ParkingSpace> spaces = new ArrayList<>();
+        for (int i = 1; i <= SPACES; i++) {
+            spaces.add(new ParkingSpace(null, sector, false, -23.57 + i * 0.001, -46.66 + i * 0.001));
+        }
+        parkingSpaceRepository.saveAll(spaces);
+        garageStateLoader.load();
+
+        LocalDateTime entryTime = LocalDateTime.now().plusMinutes(1);
+        Statistics statistics = entityManagerFactory.unwrap(SessionFactory.class).getStatistics();
+        statistics.clear();
+
+        WebhookBatchResponseDto response = webhookBatchService.process(ndjson(
+                new EntryEventDto("LOT-0001", entryTime),
+                new EntryEventDto("LOT-0002", entryTime),
+                new EntryEventDto("LOT-0001", entryTime.plusMinutes(1)),
+                new ExitEventDto("LOT-9999", entryTime.plusHours(1)),
+                new EntryEventDto("LOT-0003", entryTime)
+        ));
+
+        assertEquals(List.of(200, 200, 400, 404, 200), response.results().stream().map(WebhookBatchResultDto::status).toList());
+        assertEquals(2, statistics.getSuccessfulTransactionCount(),
+                "Os eventos aceitos deveriam ser confirmados em um bloco antes e outro depois das recusas.");
+
+        assertTrue(activeSessionIndex.contains("LOT-0001"));
+        assertTrue(activeSessionIndex.contains("LOT-0002"));
+        assertTrue(activeSessionIndex.contains("LOT-0003"));
+        assertFalse(activeSessionIndex.contains("LOT-9999"));
+        assertEquals(3, sectorOccupancyTracker.occupiedCount(SECTOR));
+        assertEquals(SPACES - 3, parkingSpaceAllocator.countFree(SECTOR));
+
+        assertEquals(3, jdbcTemplate.queryForObject("SELECT COUNT(*) FROM tb_parking_spaces WHERE is_occupied = TRUE", Integer.class));
+        assertEquals(3, jdbcTemplate.queryForObject("SELECT occupied_count FROM tb_garage_sectors WHERE sector = ?", Integer.class, SECTOR));
+        assertEquals(3, jdbcTemplate.queryForObject("SELECT COUNT(*) FROM tb_parking_records", Integer.class));
+        assertEquals(1, jdbcTemplate.queryForObject("SELECT COUNT(*) FROM tb_parking_records WHERE license_plate = 'LOT-0001'", Integer.class));
+    }
+
+    private ByteArrayInputStream ndjson(WebhookEvent... events) throws IOException {
+        StringBuilder body = new StringBuilder();
+        for (WebhookEvent event : events) {
+            body.append(objectMapper.writerFor(WebhookEvent.class).writeValueAsString(event)).append('\n');
+        }
+        return new ByteArrayInputStream(body.toString().getBytes(StandardCharsets.UTF_8));
+    }
+}
@@ -0,0 +1,259 @@
+package br.com.garage_management.service;
+
+import br.com.garage_management.domain.dto.EntryEventDto;
+import br.com.garage_management.domain.dto.ExitEventDto;
+import br.com.garage_management.domain.dto.ParkedEventDto;
+import br.com.garage_management.exception.BusinessException;
+import br.com.garage_management.metrics.WebhookMetrics;
+import br.com.garage_management.repository.ProcessedEventRepository;
+import br.com.garage_management.state.ActiveSession;
+import br.com.garage_management.state.ActiveSessionIndex;
+import br.com.garage_management.state.ProcessedEventIndex;
+import br.com.garage_management.util.TestFactoryUtil;
+import io.micrometer.core.instrument.simple.SimpleMeterRegistry;
+import org.junit.jupiter.api.AfterEach;
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.DisplayName;
+import org.junit.jupiter.api.Test;
+import org.junit.jupiter.api.extension.ExtendWith;
+import org.mockito.InOrder;
+import org.mockito.Mock;
+import org.mockito.junit.jupiter.MockitoExtension;
+import org.springframework.transaction.PlatformTransactionManager;
+
+import java.time.LocalDateTime;
+import java.util.ArrayList;
+import java.util.Collections;
+import java.util.List;
+import java.util.concurrent.CompletableFuture;
+import java.util.concurrent.CountDownLatch;
+import java.util.concurrent.TimeUnit;
+
+import static br.com.garage_management.util.ErrorConstantsEnum.DUPLICATE_LICENSE_PLATE;
+import static br.com.garage_management.util.ErrorConstantsEnum.GARAGE_WITHOUT_SPACES;
+import static br.com.garage_management.util.ErrorConstantsEnum.LICENSE_PLATE_NOT_FOUND;
+import static org.junit.jupiter.api.Assertions.assertEquals;
+import static org.junit.jupiter.api.Assertions.assertSame;
+import static org.junit.jupiter.api.Assertions.assertThrows;
+import static org.junit.jupiter.api.Assertions.assertTrue;
+import static org.mockito.ArgumentMatchers.any;
+import static org.mockito.Mockito.doAnswer;
+import static org.mockito.Mockito.doThrow;
+import static org.mockito.Mockito.inOrder;
+import static org.mockito.Mockito.mock;
+import static org.mockito.Mockito.times;
+import static org.mockito.Mockito.verify;
+import static org.mockito.Mockito.verifyNoInteractions;
+import static org.mockito.Mockito.when;
+
+@ExtendWith(MockitoExtension.class)
+class WebhookEventDispatcherTest {
+
+    @Mock
+    private ParkingService parkingService;
+
+    @Mock
+    private ProcessedEventRepository processedEventRepository;
+
+    private WebhookEventDispatcher dispatcher;
+
+    @BeforeEach
+    void setUp() {
+        dispatcher = new WebhookEventDispatcher(parkingService, TestFactoryUtil.createSectorOccupancyTracker("A", 100, 0), new ActiveSessionIndex(), mock(WebhookIdempotencyService.class), new WebhookMetrics(new SimpleMeterRegistry()), mock(PlatformTransactionManager.class), 4);
+    }
+
+    @AfterEach
+    void tearDown() throws InterruptedException {
+        dispatcher.shutdown();
+    }
+
+    @Test
+    @DisplayName("Deve aplicar os eventos de uma mesma placa na ordem em que foram recebidos")
+    void shouldApplyEventsOfSamePlateInOrder() {
+        List<String> applied = Collections.synchronizedList(new ArrayList<>());
+        doAnswer(invocation -> applied.add("ENTRY")).when(parkingService).processEntry(any());
+        doAnswer(invocation -> applied.add("PARKED")).when(parkingService).processParked(any());
+        doAnswer(invocation -> applied.add("EXIT")).when(parkingService).processExit(any());
+
+        EntryEventDto entry = TestFactoryUtil.createEntryEventDto("ABC-1234", LocalDateTime.now().plusMinutes(1));
+        ParkedEventDto parked = TestFactoryUtil.createParkedEventDto("ABC-1234");
+        ExitEventDto exit = TestFactoryUtil.createExitEventDto("ABC-1234", LocalDateTime.now().plusHours(1));
+
+        CompletableFuture.allOf(dispatcher.dispatch(entry), dispatcher.dispatch(parked), dispatcher.dispatch(exit)).join();
+
+        assertEquals(List.of("ENTRY", "PARKED", "EXIT"), applied);
+    }
+
+    @Test
+    @DisplayName("Deve processar placas diferentes em paralelo")
+    void shouldProcessDifferentPlatesInParallel() throws Exception {
+        CountDownLatch bothStarted = new CountDownLatch(2);
+        doAnswer(invocation -> {
+            bothStarted.countDown();
+            assertTrue(bothStarted.await(5, TimeUnit.SECONDS));
+            return null;
+        }).when(parkingService).processEntry(any());
+
+        String firstPlate = "AAA-0000";
+        String secondPlate = findPlateOnAnotherLane(firstPlate);
+
+        CompletableFuture<Void> first = dispatcher.dispatch(TestFactoryUtil.createEntryEventDto(firstPlate, LocalDateTime.now()));
+        CompletableFuture<Void> second = dispatcher.dispatch(TestFactoryUtil.createEntryEventDto(secondPlate, LocalDateTime.now()));
+
+        CompletableFuture.allOf(first, second).get(10, TimeUnit.SECONDS);
+    }
+
+    @Test
+    @DisplayName("Deve propagar a exceção de negócio ao aguardar o processamento")
+    void shouldPropagateBusinessExceptionWhenWaiting() {
+        ExitEventDto exit = TestFactoryUtil.createExitEventDto("ABC-1234", LocalDateTime.now());
+        doThrow(LICENSE_PLATE_NOT_FOUND.asException(exit.licensePlate())).when(parkingService).processExit(any());
+
+        var thrownException = assertThrows(BusinessException.class, () -> dispatcher.dispatchAndWait(exit));
+
+        assertEquals(LICENSE_PLATE_NOT_FOUND.getMessage(), thrownException.getMessage());
+    }
+
+    @Test
+    @DisplayName("Deve recusar a entrada com a garagem cheia sem acionar o serviço e com exceção pré-construída imutável")
+    void shouldFastRejectEntryWhenGarageIsFull() throws InterruptedException {
+        WebhookEventDispatcher fullGarageDispatcher =
+                new WebhookEventDispatcher(parkingService, TestFactoryUtil.createSectorOccupancyTracker("A", 1, 1), new ActiveSessionIndex(), mock(WebhookIdempotencyService.class), new WebhookMetrics(new SimpleMeterRegistry()), mock(PlatformTransactionManager.class), 1);
+        EntryEventDto entry = TestFactoryUtil.createEntryEventDto("ABC-1234", LocalDateTime.now().plusMinutes(1));
+
+        try {
+            var fromDispatch = assertThrows(BusinessException.class, () -> fullGarageDispatcher.dispatchAndWait(entry));
+            var fromApply = assertThrows(BusinessException.class, () -> fullGarageDispatcher.apply(entry));
+
+            assertSame(GARAGE_WITHOUT_SPACES.asPreconstructedException(), fromDispatch);
+            assertSame(fromDispatch, fromApply);
+            assertEquals(0, fromDispatch.getStackTrace().length);
+            assertThrows(UnsupportedOperationException.class, () -> fromDispatch.setDescription("alterada"));
+            assertThrows(UnsupportedOperationException.class, () -> fromDispatch.getOnlyBody().setDescription("alterada"));
+            assertEquals(GARAGE_WITHOUT_SPACES.getDescription(), fromDispatch.getOnlyBody().getDescription());
+            verifyNoInteractions(parkingService);
+        } finally {
+            fullGarageDispatcher.shutdown();
+        }
+    }
+
+    @Test
+    @DisplayName("Deve recusar como placa duplicada, e não como garagem cheia, a entrada repetida de um veículo estacionado")
+    void shouldReportDuplicatePlateBeforeFullGarage() throws InterruptedException {
+        ActiveSessionIndex activeSessionIndex = new ActiveSessionIndex();
+        activeSessionIndex.put(new ActiveSession(1L, "ABC-1234", 1L, "A", LocalDateTime.now(), 1000L));
+        WebhookEventDispatcher fullGarageDispatcher =
+                new WebhookEventDispatcher(parkingService, TestFactoryUtil.createSectorOccupancyTracker("A", 1, 1), activeSessionIndex, mock(WebhookIdempotencyService.class), new WebhookMetrics(new SimpleMeterRegistry()), mock(PlatformTransactionManager.class), 1);
+        EntryEventDto entry = TestFactoryUtil.createEntryEventDto("ABC-1234", LocalDateTime.now().plusMinutes(1));
+        doThrow(DUPLICATE_LICENSE_PLATE.asException(entry.licensePlate())).when(parkingService).processEntry(entry);
+
+        try {
+            var thrownException = assertThrows(BusinessException.class, () -> fullGarageDispatcher.dispatchAndWait(entry));
+
+            assertEquals(DUPLICATE_LICENSE_PLATE.getMessage(), thrownException.getMessage());
+            verify(parkingService).processEntry(entry);
+        } finally {
+            fullGarageDispatcher.shutdown();
+        }
+    }
+
+    @Test
+    @DisplayName("Deve continuar aplicando eventos de estacionamento e saída com a garagem cheia")
+    void shouldApplyNonEntryEventsWhenGarageIsFull() throws InterruptedException {
+        WebhookEventDispatcher fullGarageDispatcher =
+                new WebhookEventDispatcher(parkingService, TestFactoryUtil.createSectorOccupancyTracker("A", 1, 1), new ActiveSessionIndex(), mock(WebhookIdempotencyService.class), new WebhookMetrics(new SimpleMeterRegistry()), mock(PlatformTransactionManager.class), 1);
+        ExitEventDto exit = TestFactoryUtil.createExitEventDto("ABC-1234", LocalDateTime.now());
+
+        try {
+            fullGarageDispatcher.dispatchAndWait(exit);
+
+            verify(parkingService).processExit(exit);
+        } finally {
+            fullGarageDispatcher.shutdown();
+        }
+    }
+
+    @Test
+    @DisplayName("Deve confirmar eventos repetidos sem executar novamente o processamento")
+    void shouldAcknowledgeReplayedEventsWithoutReprocessing() throws InterruptedException {
+        WebhookIdempotencyService idempotencyService = new WebhookIdempotencyService(
+                processedEventRepository, new ProcessedEventIndex(100, 1000), 48);
+        WebhookEventDispatcher idempotentDispatcher = new WebhookEventDispatcher(
+                parkingService, TestFactoryUtil.createSectorOccupancyTracker("A", 1, 0), new ActiveSessionIndex(), idempotencyService, new WebhookMetrics(new SimpleMeterRegistry()), mock(PlatformTransactionManager.class), 1);
+        EntryEventDto entry = TestFactoryUtil.createEntryEventDto("ABC-1234", LocalDateTime.now().plusMinutes(1));
+        ExitEventDto exit = TestFactoryUtil.createExitEventDto("ABC-1234", LocalDateTime.now().plusHours(1));
+
+        try {
+            idempotentDispatcher.dispatchAndWait(entry);
+            idempotentDispatcher.dispatchAndWait(exit);
+            idempotentDispatcher.dispatchAndWait(exit);
+            idempotentDispatcher.dispatchAndWait(entry);
+
+            verify(parkingService, times(1)).processEntry(entry);
+            verify(parkingService, times(1)).processExit(exit);
+        } finally {
+            idempotentDispatcher.shutdown();
+        }
+    }
+
+    @Test
+    @DisplayName("Deve reprocessar o evento recusado por regra de negócio quando ele for reenviado")
+    void shouldReprocessRejectedEventWhenReplayed() throws InterruptedException {
+        WebhookIdempotencyService idempotencyService = new WebhookIdempotencyService(
+                processedEventRepository, new ProcessedEventIndex(100, 1000), 48);
+        WebhookEventDispatcher idempotentDispatcher = new WebhookEventDispatcher(
+                parkingService, TestFactoryUtil.createSectorOccupancyTracker("A", 1, 0), new ActiveSessionIndex(), idempotencyService, new WebhookMetrics(new SimpleMeterRegistry()), mock(PlatformTransactionManager.class), 1);
+        ExitEventDto exit = TestFactoryUtil.createExitEventDto("ABC-1234", LocalDateTime.now());
+        doThrow(LICENSE_PLATE_NOT_FOUND.asException(exit.licensePlate())).when(parkingService).processExit(any());
+
+        try {
+            assertThrows(BusinessException.class, () -> idempotentDispatcher.dispatchAndWait(exit));
+            assertThrows(BusinessException.class, () -> idempotentDispatcher.dispatchAndWait(exit));
+
+            verify(parkingService, times(2)).processExit(exit);
+        } finally {
+            idempotentDispatcher.shutdown();
+        }
+    }
+
+    @Test
+    @DisplayName("Deve registrar a chave do evento na mesma transação do processamento")
+    void shouldRecordEventKeyInsideBusinessTransaction() throws InterruptedException {
+        WebhookIdempotencyService idempotencyService = mock(WebhookIdempotencyService.class);
+        PlatformTransactionManager transactionManager = mock(PlatformTransactionManager.class);
+        WebhookEventDispatcher transactionalDispatcher = new WebhookEventDispatcher(
+                parkingService, TestFactoryUtil.createSectorOccupancyTracker("A", 1, 0), new ActiveSessionIndex(), idempotencyService, new WebhookMetrics(new SimpleMeterRegistry()), transactionManager, 1);
+        EntryEventDto entry = TestFactoryUtil.createEntryEventDto("ABC-1234", LocalDateTime.now().plusMinutes(1));
+        when(idempotencyService.keyOf(entry)).thenReturn("ENTRY|ABC-1234");
+
+        try {
+            transactionalDispatcher.dispatchAndWait(entry);
+
+            InOrder inOrder = inOrder(transactionManager, parkingService, idempotencyService);
+            inOrder.verify(transactionManager).getTransaction(any());
+            inOrder.verify(parkingService).processEntry(entry);
+            inOrder.verify(idempotencyService).record("ENTRY|ABC-1234");
+            inOrder.verify(transactionManager).commit(any());
+        } finally {
+            transactionalDispatcher.shutdown();
+        }
+    }
+
+    private String findPlateOnAnotherLane(String plate) throws Exception {
+        String firstLane = laneThreadName(plate);
+        for (int i = 1; i < 1_000; i++) {
+            String candidate = "AAA-" + String.format("%04d", i);
+            if (!laneThreadName(candidate).equals(firstLane)) {
+                return candidate;
+            }
+        }
+        throw new IllegalStateException("Nenhuma placa encontrada em outra fila.");
+    }
+
+    private String laneThreadName(String plate) throws Exception {
+        List<String> threadName = new ArrayList<>();
+        doAnswer(invocation -> threadName.add(Thread.currentThread().getName())).when(parkingService).processParked(any());
+        dispatcher.dispatch(TestFactoryUtil.createParkedEventDto(plate)).get(5, TimeUnit.SECONDS);
+        return threadName.get(0);
+    }
+}
@@ -0,0 +1,115 @@
+package br.com.garage_management.service;
+
+import br.com.garage_management.domain.dto.EntryEventDto;
+import br.com.garage_management.domain.dto.ParkedEventDto;
+import br.com.garage_management.repository.ProcessedEventRepository;
+import br.com.garage_management.state.ProcessedEventIndex;
+import br.com.garage_management.util.TestFactoryUtil;
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.DisplayName;
+import org.junit.jupiter.api.Test;
+import org.junit.jupiter.api.extension.ExtendWith;
+import org.mockito.Mock;
+import org.mockito.junit.jupiter.MockitoExtension;
+
+import java.time.LocalDateTime;
+import java.util.List;
+
+import static org.junit.jupiter.api.Assertions.assertEquals;
+import static org.junit.jupiter.api.Assertions.assertFalse;
+import static org.junit.jupiter.api.Assertions.assertNull;
+import static org.junit.jupiter.api.Assertions.assertTrue;
+import static org.mockito.ArgumentMatchers.any;
+import static org.mockito.ArgumentMatchers.anyString;
+import static org.mockito.ArgumentMatchers.eq;
+import static org.mockito.Mockito.never;
+import static org.mockito.Mockito.verify;
+import static org.mockito.Mockito.when;
+
+@ExtendWith(MockitoExtension.class)
+class WebhookIdempotencyServiceTest {
+
+    private static final LocalDateTime ENTRY_TIME = LocalDateTime.of(2025, 10, 15, 14, 0, 0);
+
+    @Mock
+    private ProcessedEventRepository processedEventRepository;
+
+    private ProcessedEventIndex processedEventIndex;
+    private WebhookIdempotencyService service;
+
+    @BeforeEach
+    void setUp() {
+        processedEventIndex = new ProcessedEventIndex(100, 1000);
+        service = new WebhookIdempotencyService(processedEventRepository, processedEventIndex, 48);
+    }
+
+    @Test
+    @DisplayName("Deve gerar a chave do evento a partir do tipo, da placa e do horário")
+    void shouldBuildKeyFromTypePlateAndTime() {
+        assertEquals("ENTRY|ABC-1234|2025-10-15T14:00",
+                service.keyOf(TestFactoryUtil.createEntryEventDto("ABC-1234", ENTRY_TIME)));
+        assertEquals("EXIT|ABC-1234|2025-10-15T16:00",
+                service.keyOf(TestFactoryUtil.createExitEventDto("ABC-1234", ENTRY_TIME.plusHours(2))));
+        assertNull(service.keyOf(new EntryEventDto("ABC-1234", null)));
+    }
+
+    @Test
+    @DisplayName("Deve gerar a chave do evento de estacionamento a partir da placa, do horário e da posição informados")
+    void shouldBuildParkedKeyFromEventFields() {
+        assertEquals("PARKED|ABC-1234|2025-10-15T14:05|-23.5|-46.6",
+                service.keyOf(new ParkedEventDto("ABC-1234", -23.5, -46.6, ENTRY_TIME.plusMinutes(5))));
+        assertNull(service.keyOf(new ParkedEventDto("ABC-1234", -23.5, -46.6, null)));
+    }
+
+    @Test
+    @DisplayName("Deve responder sem consultar o banco quando o filtro descarta o evento")
+    void shouldSkipDatabaseWhenFilterRejects() {
+        assertFalse(service.isProcessed("ENTRY|ABC-1234|2025-10-15T14:00"));
+
+        verify(processedEventRepository, never()).existsById(anyString());
+    }
+
+    @Test
+    @DisplayName("Deve reconhecer o evento recém-registrado sem consultar o banco")
+    void shouldRecognizeRecordedEventWithoutDatabase() {
+        service.record("ENTRY|ABC-1234|2025-10-15T14:00");
+
+        assertTrue(service.isProcessed("ENTRY|ABC-1234|2025-10-15T14:00"));
+        verify(processedEventRepository).insert(eq("ENTRY|ABC-1234|2025-10-15T14:00"), any());
+        verify(processedEventRepository, never()).existsById(anyString());
+    }
+
+    @Test
+    @DisplayName("Deve consultar o banco quando o evento pode ter sido processado antes da inicialização")
+    void shouldFallBackToDatabaseOnFilterHit() {
+        processedEventIndex.load(List.of("EXIT|ABC-1234|2025-10-15T16:00"));
+        when(processedEventRepository.existsById("EXIT|ABC-1234|2025-10-15T16:00")).thenReturn(true);
+
+        assertTrue(service.isProcessed("EXIT|ABC-1234|2025-10-15T16:00"));
+        assertTrue(service.isProcessed("EXIT|ABC-1234|2025-10-15T16:00"));
+
+        verify(processedEventRepository).existsById("EXIT|ABC-1234|2025-10-15T16:00");
+    }
+
+    @Test
+    @DisplayName("Deve remover os eventos expirados antes de carregar o índice")
+    void shouldPruneExpiredEventsBeforeLoading() {
+        when(processedEventRepository.deleteByProcessedAtBefore(any())).thenReturn(3);
+        when(processedEventRepository.findAllEventKeys()).thenReturn(List.of("ENTRY|ABC-1234|2025-10-15T14:00"));
+
+        assertEquals(1, service.load());
+        assertTrue(processedEventIndex.mightContain("ENTRY|ABC-1234|2025-10-15T14:00"));
+    }
+
+    @Test
+    @DisplayName("Deve remover os eventos expirados e reconstruir o filtro sem os descartados")
+    void shouldPruneExpiredEventsAndRebuildFilter() {
+        processedEventIndex.load(List.of("ENTRY|ABC-1234|2025-10-15T14:00", "EXIT|ABC-1234|2025-10-15T16:00"));
+        when(processedEventRepository.deleteByProcessedAtBefore(any())).thenReturn(1);
+        when(processedEventRepository.findAllEventKeys()).thenReturn(List.of("EXIT|ABC-1234|2025-10-15T16:00"));
+
+        assertEquals(1, service.prune());
+        assertFalse(processedEventIndex.mightContain("ENTRY|ABC-1234|2025-10-15T14:00"));
+        assertTrue(processedEventIndex.mightContain("EXIT|ABC-1234|2025-10-15T16:00"));
+    }
+}
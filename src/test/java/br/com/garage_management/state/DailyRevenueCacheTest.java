@@ -0,0 +1,77 @@
+package br.com.garage_management.state;
+
+import org.junit.jupiter.api.DisplayName;
+import org.junit.jupiter.api.Test;
+
+import java.time.LocalDate;
+import java.util.OptionalLong;
+
+import static org.junit.jupiter.api.Assertions.assertEquals;
+import static org.junit.jupiter.api.Assertions.assertTrue;
+
+class DailyRevenueCacheTest {
+
+    private static final LocalDate TARGET_DATE = LocalDate.of(2025, 10, 15);
+
+    @Test
+    @DisplayName("Deve limitar o número de entradas ao máximo configurado")
+    void shouldBoundNumberOfEntries() {
+        DailyRevenueCache cache = new DailyRevenueCache(2, Runnable::run);
+        cache.put("A", TARGET_DATE, 100L, cache.generation());
+        cache.put("B", TARGET_DATE, 1000L, cache.generation());
+
+        cache.put("C", TARGET_DATE, 0L, cache.generation());
+
+        assertEquals(2, cache.size());
+    }
+
+    @Test
+    @DisplayName("Deve ignorar valor lido antes de uma invalidação concorrente")
+    void shouldIgnoreValueReadBeforeInvalidation() {
+        DailyRevenueCache cache = new DailyRevenueCache(10);
+        long readGeneration = cache.generation();
+
+        cache.invalidate("A", TARGET_DATE);
+        cache.put("A", TARGET_DATE, 100L, readGeneration);
+
+        assertTrue(cache.get("A", TARGET_DATE).isEmpty());
+    }
+
+    @Test
+    @DisplayName("Deve aceitar valor lido antes da invalidação de outra entrada")
+    void shouldKeepValueReadBeforeInvalidationOfAnotherEntry() {
+        DailyRevenueCache cache = new DailyRevenueCache(10);
+        long readGeneration = cache.generation();
+
+        cache.invalidate("B", TARGET_DATE);
+        cache.invalidate("A", TARGET_DATE.minusDays(1));
+        cache.put("A", TARGET_DATE, 100L, readGeneration);
+
+        assertEquals(OptionalLong.of(100L), cache.get("A", TARGET_DATE));
+    }
+
+    @Test
+    @DisplayName("Deve ignorar valor lido antes de uma invalidação geral")
+    void shouldIgnoreValueReadBeforeInvalidateAll() {
+        DailyRevenueCache cache = new DailyRevenueCache(10);
+        long readGeneration = cache.generation();
+
+        cache.invalidateAll();
+        cache.put("A", TARGET_DATE, 100L, readGeneration);
+
+        assertTrue(cache.get("A", TARGET_DATE).isEmpty());
+    }
+
+    @Test
+    @DisplayName("Deve remover apenas a entrada invalidada")
+    void shouldInvalidateOnlyGivenEntry() {
+        DailyRevenueCache cache = new DailyRevenueCache(10);
+        cache.put("A", TARGET_DATE, 100L, cache.generation());
+        cache.put("A", TARGET_DATE.minusDays(1), 1000L, cache.generation());
+
+        cache.invalidate("A", TARGET_DATE);
+
+        assertTrue(cache.get("A", TARGET_DATE).isEmpty());
+        assertEquals(OptionalLong.of(1000L), cache.get("A", TARGET_DATE.minusDays(1)));
+    }
+}
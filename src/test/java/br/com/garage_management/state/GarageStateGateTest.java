@@ -0,0 +1,40 @@
+package br.com.garage_management.state;
+
+import br.com.garage_management.exception.BusinessException;
+import org.junit.jupiter.api.DisplayName;
+import org.junit.jupiter.api.Test;
+
+import java.util.concurrent.CompletableFuture;
+import java.util.concurrent.TimeUnit;
+
+import static br.com.garage_management.util.ErrorConstantsEnum.GARAGE_STATE_NOT_LOADED;
+import static org.junit.jupiter.api.Assertions.assertDoesNotThrow;
+import static org.junit.jupiter.api.Assertions.assertEquals;
+import static org.junit.jupiter.api.Assertions.assertFalse;
+import static org.junit.jupiter.api.Assertions.assertThrows;
+
+class GarageStateGateTest {
+
+    @Test
+    @DisplayName("Deve recusar com indisponibilidade quando o estado não é carregado dentro do tempo limite")
+    void shouldRejectWhenStateIsNotLoadedInTime() {
+        GarageStateGate gate = new GarageStateGate(0);
+
+        BusinessException exception = assertThrows(BusinessException.class, gate::await);
+
+        assertEquals(GARAGE_STATE_NOT_LOADED.getMessage(), exception.getMessage());
+        assertFalse(gate.isOpen());
+    }
+
+    @Test
+    @DisplayName("Deve liberar as requisições em espera quando o estado da garagem é carregado")
+    void shouldReleaseWaitingRequestsWhenStateIsLoaded() throws Exception {
+        GarageStateGate gate = new GarageStateGate(30);
+        CompletableFuture<Void> waiting = CompletableFuture.runAsync(gate::await);
+
+        gate.open();
+
+        assertDoesNotThrow(() -> waiting.get(5, TimeUnit.SECONDS));
+        assertDoesNotThrow(gate::await);
+    }
+}
@@ -0,0 +1,83 @@
+package br.com.garage_management.state;
+
+import br.com.garage_management.domain.enums.ParkingStatusEnum;
+import br.com.garage_management.domain.projection.ParkingSpaceStateProjection;
+import br.com.garage_management.repository.ParkingRecordRepository;
+import br.com.garage_management.repository.ParkingSpaceRepository;
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.DisplayName;
+import org.junit.jupiter.api.Test;
+import org.junit.jupiter.api.extension.ExtendWith;
+import org.mockito.Mock;
+import org.mockito.junit.jupiter.MockitoExtension;
+import org.springframework.transaction.PlatformTransactionManager;
+
+import java.time.LocalDateTime;
+import java.util.List;
+import java.util.Set;
+import java.util.concurrent.ConcurrentHashMap;
+import java.util.concurrent.CountDownLatch;
+import java.util.concurrent.TimeUnit;
+import java.util.stream.Stream;
+
+import static br.com.garage_management.util.TestFactoryUtil.createParkingSpaceState;
+import static org.junit.jupiter.api.Assertions.assertEquals;
+import static org.junit.jupiter.api.Assertions.assertThrows;
+import static org.junit.jupiter.api.Assertions.assertTrue;
+import static org.mockito.ArgumentMatchers.anyString;
+import static org.mockito.Mockito.doAnswer;
+import static org.mockito.Mockito.when;
+
+@ExtendWith(MockitoExtension.class)
+class GarageStateWarmupTest {
+
+    @Mock
+    private ParkingSpaceRepository parkingSpaceRepository;
+
+    @Mock
+    private ParkingRecordRepository parkingRecordRepository;
+
+    @Mock
+    private PlatformTransactionManager transactionManager;
+
+    private GarageStateWarmup warmup;
+
+    @BeforeEach
+    void setUp() {
+        warmup = new GarageStateWarmup(parkingSpaceRepository, parkingRecordRepository, transactionManager, 2);
+    }
+
+    @Test
+    @DisplayName("Deve carregar vagas e sessões ativas de cada setor em paralelo e combinar o resultado na ordem dos setores")
+    void shouldLoadSectorsInParallel() {
+        CountDownLatch bothStarted = new CountDownLatch(2);
+        Set<String> threads = ConcurrentHashMap.newKeySet();
+        doAnswer(invocation -> {
+            String sector = invocation.getArgument(0);
+            threads.add(Thread.currentThread().getName());
+            bothStarted.countDown();
+            assertTrue(bothStarted.await(5, TimeUnit.SECONDS));
+            long id = sector.equals("A") ? 1L : 2L;
+            return Stream.of(createParkingSpaceState(id, sector, sector.equals("B"), null, null));
+        }).when(parkingSpaceRepository).streamSpaceStatesBySector(anyString());
+        when(parkingRecordRepository.streamSessionsBySectorAndStatus("A", ParkingStatusEnum.PARKED)).thenReturn(Stream.empty());
+        when(parkingRecordRepository.streamSessionsBySectorAndStatus("B", ParkingStatusEnum.PARKED)).thenReturn(Stream.of(
+                new ActiveSession(10L, "ABC-1234", 2L, "B", LocalDateTime.of(2025, 10, 15, 14, 0), 1000L)));
+
+        GarageStateWarmup.Snapshot snapshot = warmup.load(List.of("A", "B"));
+
+        assertEquals(List.of(1L, 2L), snapshot.spaces().stream().map(ParkingSpaceStateProjection::getId).toList());
+        assertEquals(List.of("ABC-1234"), snapshot.sessions().stream().map(ActiveSession::licensePlate).toList());
+        assertEquals(2, threads.size());
+    }
+
+    @Test
+    @DisplayName("Deve propagar a falha de carregamento de um setor")
+    void shouldPropagateSectorFailure() {
+        when(parkingSpaceRepository.streamSpaceStatesBySector("A")).thenThrow(new IllegalStateException("falha"));
+
+        IllegalStateException exception = assertThrows(IllegalStateException.class, () -> warmup.load(List.of("A")));
+
+        assertEquals("falha", exception.getCause().getMessage());
+    }
+}
@@ -0,0 +1,66 @@
+package br.com.garage_management.state;
+
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.DisplayName;
+import org.junit.jupiter.api.Test;
+
+import java.util.List;
+import java.util.Optional;
+
+import static br.com.garage_management.util.TestFactoryUtil.createParkingSpaceState;
+import static org.junit.jupiter.api.Assertions.assertEquals;
+import static org.junit.jupiter.api.Assertions.assertFalse;
+import static org.junit.jupiter.api.Assertions.assertTrue;
+
+class ParkingSpaceAllocatorTest {
+
+    private ParkingSpaceAllocator allocator;
+
+    @BeforeEach
+    void setUp() {
+        allocator = new ParkingSpaceAllocator();
+        allocator.load(List.of(
+                createParkingSpaceState(1L, "A", false, null, null),
+                createParkingSpaceState(2L, "A", true, null, null),
+                createParkingSpaceState(3L, "A", false, null, null),
+                createParkingSpaceState(4L, "B", false, null, null)
+        ));
+    }
+
+    @Test
+    @DisplayName("Deve alocar apenas vagas livres do setor solicitado")
+    void shouldAllocateOnlyFreeSpacesOfRequestedSector() {
+        assertEquals(Optional.of(1L), allocator.allocate("A"));
+        assertEquals(Optional.of(3L), allocator.allocate("A"));
+        assertEquals(Optional.empty(), allocator.allocate("A"));
+        assertEquals(Optional.of(4L), allocator.allocate("B"));
+    }
+
+    @Test
+    @DisplayName("Deve retornar vazio para setor desconhecido")
+    void shouldReturnEmptyForUnknownSector() {
+        assertEquals(Optional.empty(), allocator.allocate("Z"));
+        assertEquals(0, allocator.countFree("Z"));
+    }
+
+    @Test
+    @DisplayName("Deve disponibilizar novamente a vaga liberada")
+    void shouldReallocateReleasedSpace() {
+        allocator.allocate("A");
+        allocator.allocate("A");
+
+        allocator.release(2L);
+
+        assertEquals(1, allocator.countFree("A"));
+        assertEquals(Optional.of(2L), allocator.allocate("A"));
+    }
+
+    @Test
+    @DisplayName("Deve ocupar uma vaga específica e informar se ela estava livre")
+    void shouldOccupySpecificSpace() {
+        assertTrue(allocator.occupy(3L));
+        assertFalse(allocator.occupy(3L));
+        assertFalse(allocator.occupy(99L));
+        assertEquals(1, allocator.countFree("A"));
+    }
+}
@@ -0,0 +1,47 @@
+package br.com.garage_management.state;
+
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.DisplayName;
+import org.junit.jupiter.api.Test;
+
+import java.util.List;
+import java.util.Optional;
+
+import static br.com.garage_management.util.TestFactoryUtil.createParkingSpaceState;
+import static org.junit.jupiter.api.Assertions.assertEquals;
+
+class ParkingSpaceSpatialIndexTest {
+
+    private ParkingSpaceSpatialIndex spatialIndex;
+
+    @BeforeEach
+    void setUp() {
+        spatialIndex = new ParkingSpaceSpatialIndex(0.0001);
+        spatialIndex.load(List.of(
+                createParkingSpaceState(1L, "A", false, -23.561684, -46.655981),
+                createParkingSpaceState(2L, "A", false, -23.561700, -46.655981),
+                createParkingSpaceState(3L, "B", false, -23.570000, -46.660000),
+                createParkingSpaceState(4L, "B", false, null, null)
+        ));
+    }
+
+    @Test
+    @DisplayName("Deve encontrar a vaga pelas coordenadas exatas")
+    void shouldFindSpaceByExactCoordinates() {
+        assertEquals(Optional.of(3L), spatialIndex.findNearest(-23.570000, -46.660000));
+    }
+
+    @Test
+    @DisplayName("Deve encontrar a vaga mais próxima dentro da tolerância mesmo com variação do GPS")
+    void shouldFindNearestSpaceWithinTolerance() {
+        assertEquals(Optional.of(1L), spatialIndex.findNearest(-23.561686, -46.655979));
+        assertEquals(Optional.of(2L), spatialIndex.findNearest(-23.561698, -46.655983));
+    }
+
+    @Test
+    @DisplayName("Deve retornar vazio quando nenhuma vaga estiver dentro da tolerância")
+    void shouldReturnEmptyWhenNoSpaceIsWithinTolerance() {
+        assertEquals(Optional.empty(), spatialIndex.findNearest(-23.565000, -46.655981));
+        assertEquals(Optional.empty(), spatialIndex.findNearest(null, -46.655981));
+    }
+}
@@ -0,0 +1,69 @@
+package br.com.garage_management.state;
+
+import org.junit.jupiter.api.DisplayName;
+import org.junit.jupiter.api.Test;
+
+import java.util.List;
+import java.util.stream.IntStream;
+
+import static org.junit.jupiter.api.Assertions.assertFalse;
+import static org.junit.jupiter.api.Assertions.assertTrue;
+
+class ProcessedEventIndexTest {
+
+    @Test
+    @DisplayName("Deve manter no filtro os eventos removidos da lista de recentes")
+    void shouldKeepEvictedEventsInFilter() {
+        ProcessedEventIndex index = new ProcessedEventIndex(2, 1000);
+
+        index.add("ENTRY|A");
+        index.add("ENTRY|B");
+        index.add("ENTRY|C");
+
+        assertFalse(index.isRecent("ENTRY|A"));
+        assertTrue(index.isRecent("ENTRY|C"));
+        assertTrue(index.mightContain("ENTRY|A"));
+    }
+
+    @Test
+    @DisplayName("Deve descartar os recentes e reconstruir o filtro ao carregar")
+    void shouldRebuildFilterOnLoad() {
+        ProcessedEventIndex index = new ProcessedEventIndex(10, 1000);
+        index.add("ENTRY|A");
+
+        index.load(List.of("EXIT|B"));
+
+        assertFalse(index.isRecent("ENTRY|A"));
+        assertFalse(index.mightContain("ENTRY|A"));
+        assertTrue(index.mightContain("EXIT|B"));
+    }
+
+    @Test
+    @DisplayName("Deve manter no filtro reconstruído os eventos registrados durante a reconstrução")
+    void shouldKeepEventsAddedDuringRebuild() {
+        ProcessedEventIndex index = new ProcessedEventIndex(10, 1000);
+        index.load(List.of("ENTRY|A", "EXIT|B"));
+
+        index.beginRebuild();
+        index.add("ENTRY|C");
+        index.completeRebuild(List.of("EXIT|B"));
+
+        assertFalse(index.mightContain("ENTRY|A"));
+        assertTrue(index.mightContain("EXIT|B"));
+        assertTrue(index.mightContain("ENTRY|C"));
+    }
+
+    @Test
+    @DisplayName("Deve manter a taxa de falsos positivos do filtro dentro do esperado")
+    void shouldKeepFalsePositiveRateLow() {
+        ProcessedEventIndex index = new ProcessedEventIndex(10, 10_000);
+        index.load(IntStream.range(0, 10_000).mapToObj(i -> "ENTRY|" + i).toList());
+
+        long falsePositives = IntStream.range(10_000, 20_000)
+                .filter(i -> index.mightContain("ENTRY|" + i))
+                .count();
+
+        assertTrue(IntStream.range(0, 10_000).allMatch(i -> index.mightContain("ENTRY|" + i)));
+        assertTrue(falsePositives < 300, "Falsos positivos: " + falsePositives);
+    }
+}
@@ -0,0 +1,103 @@
+package br.com.garage_management.state;
+
+import br.com.garage_management.domain.projection.SectorOccupancyProjection;
+import org.junit.jupiter.api.DisplayName;
+import org.junit.jupiter.api.Test;
+
+import java.util.ArrayList;
+import java.util.List;
+import java.util.Optional;
+import java.util.concurrent.Callable;
+import java.util.concurrent.ExecutorService;
+import java.util.concurrent.Executors;
+import java.util.concurrent.Future;
+
+import static org.junit.jupiter.api.Assertions.assertEquals;
+import static org.junit.jupiter.api.Assertions.assertFalse;
+import static org.junit.jupiter.api.Assertions.assertTrue;
+
+class SectorOccupancyTrackerTest {
+
+    @Test
+    @DisplayName("Deve admitir no primeiro setor com capacidade e informar a ocupação anterior")
+    void shouldAdmitIntoFirstSectorWithCapacity() {
+        SectorOccupancyTracker tracker = trackerWith(sector("A", 1, 1), sector("B", 2, 0));
+
+        Optional<SectorAdmission> admission = tracker.tryAdmit();
+
+        assertEquals(Optional.of(new SectorAdmission("B", 0, 2)), admission);
+        assertEquals(1, tracker.occupiedCount("B"));
+    }
+
+    @Test
+    @DisplayName("Deve recusar a admissão quando todos os setores estiverem cheios")
+    void shouldRejectWhenAllSectorsAreFull() {
+        SectorOccupancyTracker tracker = trackerWith(sector("A", 1, 1));
+
+        assertFalse(tracker.hasAvailableCapacity());
+        assertEquals(Optional.empty(), tracker.tryAdmit());
+
+        tracker.release("A");
+
+        assertTrue(tracker.hasAvailableCapacity());
+        assertTrue(tracker.tryAdmit().isPresent());
+    }
+
+    @Test
+    @DisplayName("Não deve ultrapassar a capacidade máxima com admissões concorrentes")
+    void shouldNeverExceedCapacityUnderConcurrentAdmissions() throws Exception {
+        SectorOccupancyTracker tracker = trackerWith(sector("A", 500, 0), sector("B", 300, 0));
+        List<Callable<Boolean>> attempts = new ArrayList<>();
+        for (int i = 0; i < 2_000; i++) {
+            attempts.add(() -> tracker.tryAdmit().isPresent());
+        }
+
+        int admitted = 0;
+        try (ExecutorService executor = Executors.newFixedThreadPool(16)) {
+            for (Future<Boolean> result : executor.invokeAll(attempts)) {
+                if (result.get()) {
+                    admitted++;
+                }
+            }
+        }
+
+        assertEquals(800, admitted);
+        assertEquals(500, tracker.occupiedCount("A"));
+        assertEquals(300, tracker.occupiedCount("B"));
+    }
+
+    @Test
+    @DisplayName("Não deve deixar a ocupação negativa ao liberar um setor vazio")
+    void shouldNotReleaseBelowZero() {
+        SectorOccupancyTracker tracker = trackerWith(sector("A", 1, 0));
+
+        tracker.release("A");
+
+        assertEquals(0, tracker.occupiedCount("A"));
+    }
+
+    private static SectorOccupancyTracker trackerWith(SectorOccupancyProjection... sectors) {
+        SectorOccupancyTracker tracker = new SectorOccupancyTracker();
+        tracker.load(List.of(sectors));
+        return tracker;
+    }
+
+    private static SectorOccupancyProjection sector(String name, int maxCapacity, int occupiedCount) {
+        return new SectorOccupancyProjection() {
+            @Override
+            public String getSector() {
+                return name;
+            }
+
+            @Override
+            public Integer getMaxCapacity() {
+                return maxCapacity;
+            }
+
+            @Override
+            public Integer getOccupiedCount() {
+                return occupiedCount;
+            }
+        };
+    }
+}
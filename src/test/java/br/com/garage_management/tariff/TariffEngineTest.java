@@ -0,0 +1,76 @@
+package br.com.garage_management.tariff;
+
+import br.com.garage_management.domain.model.SectorTariff;
+import br.com.garage_management.domain.model.TariffTier;
+import br.com.garage_management.exception.BusinessException;
+import br.com.garage_management.state.SectorAdmission;
+import org.junit.jupiter.api.DisplayName;
+import org.junit.jupiter.api.Test;
+import org.junit.jupiter.params.ParameterizedTest;
+import org.junit.jupiter.params.provider.CsvSource;
+
+import java.time.LocalDateTime;
+import java.util.List;
+
+import static br.com.garage_management.util.ErrorConstantsEnum.INVALID_TARIFF;
+import static org.junit.jupiter.api.Assertions.assertEquals;
+import static org.junit.jupiter.api.Assertions.assertThrows;
+
+class TariffEngineTest {
+
+    private static final LocalDateTime NOON = LocalDateTime.of(2025, 10, 15, 12, 0);
+
+    private final TariffEngine tariffEngine = new TariffEngine();
+
+    @ParameterizedTest
+    @CsvSource({"0, 100, 900", "24, 100, 900", "25, 100, 1000", "49, 100, 1000", "50, 100, 1100", "74, 100, 1100", "75, 100, 1250", "100, 100, 1250", "1, 3, 1000", "5, 0, 1250"})
+    @DisplayName("Deve aplicar as faixas de ocupação da tarifa padrão")
+    void shouldApplyDefaultOccupancyTiers(int occupiedBefore, int maxCapacity, long expectedPriceCents) {
+        assertEquals(expectedPriceCents,
+                tariffEngine.entryPriceCents(1000, new SectorAdmission("A", occupiedBefore, maxCapacity), NOON));
+    }
+
+    @ParameterizedTest
+    @CsvSource({"0, 0", "30, 0", "31, 1", "60, 1", "61, 2", "1439, 24", "1440, 24", "1441, 25", "2900, 49"})
+    @DisplayName("Deve cobrar horas iniciadas após a carência de 30 minutos na tarifa padrão")
+    void shouldBillStartedHoursAfterDefaultGrace(long minutesStayed, long expectedUnits) {
+        assertEquals(expectedUnits * 1000, tariffEngine.exitFeeCents("A", 1000, minutesStayed));
+    }
+
+    @Test
+    @DisplayName("Deve precificar setores de capacidades diferentes que compartilham a tarifa padrão")
+    void shouldPriceSectorsWithDifferentCapacitiesSharingDefaultTariff() {
+        for (int round = 0; round < 2; round++) {
+            assertEquals(1250, tariffEngine.entryPriceCents(1000, new SectorAdmission("A", 75, 100), NOON));
+            assertEquals(1000, tariffEngine.entryPriceCents(1000, new SectorAdmission("C", 75, 250), NOON));
+            assertEquals(1100, tariffEngine.entryPriceCents(1000, new SectorAdmission("D", 5, 10), NOON));
+        }
+    }
+
+    @Test
+    @DisplayName("Deve aplicar limite diário de unidades e tarifa noturna do setor")
+    void shouldApplySectorDailyCapAndNightRate() {
+        tariffEngine.load(List.of(new SectorTariff("B", 15, 60, 10, 22, 6, 50, List.of(new TariffTier(0, 100)))));
+
+        assertEquals(500, tariffEngine.entryPriceCents(1000, new SectorAdmission("B", 0, 10), NOON.withHour(23)));
+        assertEquals(500, tariffEngine.entryPriceCents(1000, new SectorAdmission("B", 0, 10), NOON.withHour(5)));
+        assertEquals(1000, tariffEngine.entryPriceCents(1000, new SectorAdmission("B", 0, 10), NOON.withHour(6)));
+        assertEquals(0, tariffEngine.exitFeeCents("B", 1000, 15));
+        assertEquals(10_000, tariffEngine.exitFeeCents("B", 1000, 16 * 60));
+        assertEquals(16_000, tariffEngine.exitFeeCents("B", 1000, 1440 + 5 * 60 + 1));
+        assertEquals(900, tariffEngine.entryPriceCents(1000, new SectorAdmission("A", 0, 10), NOON));
+    }
+
+    @Test
+    @DisplayName("Deve recusar faixas de ocupação que não começam em 0% ou não são crescentes")
+    void shouldRejectInvalidTiers() {
+        SectorTariff missingZero = new SectorTariff("A", 30, 60, null, null, null, null, List.of(new TariffTier(10, 100)));
+        SectorTariff unordered = new SectorTariff("A", 30, 60, null, null, null, null,
+                List.of(new TariffTier(0, 100), new TariffTier(50, 110), new TariffTier(50, 120)));
+
+        BusinessException exception = assertThrows(BusinessException.class, () -> CompiledTariff.compile(missingZero));
+        assertThrows(BusinessException.class, () -> CompiledTariff.compile(unordered));
+
+        assertEquals(INVALID_TARIFF.getMessage(), exception.getMessage());
+    }
+}
@@ -0,0 +1,34 @@
+package br.com.garage_management.util;
+
+import org.junit.jupiter.api.DisplayName;
+import org.junit.jupiter.api.Test;
+import org.junit.jupiter.params.ParameterizedTest;
+import org.junit.jupiter.params.provider.CsvSource;
+
+import java.math.BigDecimal;
+
+import static org.junit.jupiter.api.Assertions.assertEquals;
+
+class MoneyUtilTest {
+
+    @ParameterizedTest
+    @CsvSource({"10.0, 1000", "15.5, 1550", "0.1, 10", "19.995, 2000", "0.0, 0"})
+    @DisplayName("Deve converter valores decimais para centavos arredondando a metade para cima")
+    void shouldConvertAmountToCents(double amount, long expectedCents) {
+        assertEquals(expectedCents, MoneyUtil.toCents(amount));
+    }
+
+    @Test
+    @DisplayName("Deve converter centavos para valor com duas casas decimais")
+    void shouldConvertCentsToAmount() {
+        assertEquals(new BigDecimal("550.25"), MoneyUtil.toAmount(55025));
+        assertEquals(new BigDecimal("0.00"), MoneyUtil.toAmount(0));
+    }
+
+    @ParameterizedTest
+    @CsvSource({"1000, 9000, 900", "1000, 12500, 1250", "999, 11000, 1099", "5, 9000, 5", "999, 9000, 899", "1000, 9625, 963"})
+    @DisplayName("Deve aplicar pontos-base sobre centavos com arredondamento inteiro")
+    void shouldApplyBasisPointsToCents(long cents, int basisPoints, long expectedCents) {
+        assertEquals(expectedCents, MoneyUtil.basisPointsOf(cents, basisPoints));
+    }
+}
@@ -10,6 +10,10 @@ import br.com.garage_management.domain.dto.RevenueResponseDto;
 import br.com.garage_management.domain.model.GarageSector;
 import br.com.garage_management.domain.model.ParkingRecord;
 import br.com.garage_management.domain.model.ParkingSpace;
+import br.com.garage_management.domain.projection.ParkingSpaceStateProjection;
+import br.com.garage_management.domain.projection.SectorOccupancyProjection;
+import br.com.garage_management.state.ActiveSession;
+import br.com.garage_management.state.SectorOccupancyTracker;
 
 import java.math.BigDecimal;
 import java.time.LocalDateTime;
@@ -28,20 +32,15 @@ public final class TestFactoryUtil {
     }
 
     public static ParkedEventDto createParkedEventDto(String licensePlate) {
-        return new ParkedEventDto(licensePlate, 10.0, 20.0);
+        return new ParkedEventDto(licensePlate, 10.0, 20.0, LocalDateTime.now());
     }
 
     public static ExitEventDto createExitEventDto(String licensePlate, LocalDateTime exitTime) {
         return new ExitEventDto(licensePlate, exitTime);
     }
 
-    public static GarageSector createMockGarageSector(String sectorName, int occupiedCount, int maxCapacity, double basePrice) {
-        GarageSector sector = new GarageSector();
-        sector.setSector(sectorName);
-        sector.setOccupiedCount(occupiedCount);
-        sector.setMaxCapacity(maxCapacity);
-        sector.setBasePrice(basePrice);
-        return sector;
+    public static GarageSector createMockGarageSector(String sectorName, int occupiedCount, int maxCapacity, long basePriceCents) {
+        return new GarageSector(sectorName, basePriceCents, maxCapacity, occupiedCount, null, null, null);
     }
 
     public static ParkingSpace createMockParkingSpace(long id, boolean isOccupied, GarageSector sector) {
@@ -52,15 +51,78 @@ public final class TestFactoryUtil {
         return space;
     }
 
-    public static ParkingRecord createMockParkingRecord(LocalDateTime entryTime, double priceOnEntry, ParkingSpace space, GarageSector sector) {
+    public static ParkingRecord createMockParkingRecord(LocalDateTime entryTime, long priceOnEntryCents, ParkingSpace space, GarageSector sector) {
         ParkingRecord record = new ParkingRecord();
+        record.setId(1L);
+        record.setLicensePlate("ABC-1234");
         record.setEntryTime(entryTime);
-        record.setPriceAppliedOnEntry(priceOnEntry);
+        record.setPriceAppliedOnEntryCents(priceOnEntryCents);
         record.setParkingSpace(space);
         record.setGarageSector(sector);
         return record;
     }
 
+    public static ActiveSession createActiveSession(ParkingRecord record) {
+        return new ActiveSession(
+                record.getId(),
+                record.getLicensePlate(),
+                record.getParkingSpace().getId(),
+                record.getGarageSector().getSector(),
+                record.getEntryTime(),
+                record.getPriceAppliedOnEntryCents()
+        );
+    }
+
+    public static SectorOccupancyTracker createSectorOccupancyTracker(String sector, int maxCapacity, int occupiedCount) {
+        SectorOccupancyTracker tracker = new SectorOccupancyTracker();
+        tracker.load(List.of(new SectorOccupancyProjection() {
+            @Override
+            public String getSector() {
+                return sector;
+            }
+
+            @Override
+            public Integer getMaxCapacity() {
+                return maxCapacity;
+            }
+
+            @Override
+            public Integer getOccupiedCount() {
+                return occupiedCount;
+            }
+        }));
+        return tracker;
+    }
+
+    public static ParkingSpaceStateProjection createParkingSpaceState(long id, String sector, boolean occupied, Double lat, Double lng) {
+        return new ParkingSpaceStateProjection() {
+            @Override
+            public Long getId() {
+                return id;
+            }
+
+            @Override
+            public String getSector() {
+                return sector;
+            }
+
+            @Override
+            public Boolean getOccupied() {
+                return occupied;
+            }
+
+            @Override
+            public Double getLat() {
+                return lat;
+            }
+
+            @Override
+            public Double getLng() {
+                return lng;
+            }
+        };
+    }
+
     public static GarageConfigDto createValidGarageConfigDto() {
         var sectorDtoA = new GarageSectorDto("A", 10.0, 100, LocalTime.MIN, LocalTime.MAX, null);
         var sectorDtoB = new GarageSectorDto("B", 12.0, 50, LocalTime.MIN, LocalTime.MAX, null);